@@ -10,6 +10,8 @@ import io.dropwizard.Configuration;
 import io.dropwizard.ConfiguredBundle;
 import io.dropwizard.setup.Bootstrap;
 import io.dropwizard.setup.Environment;
+import org.eclipse.jetty.util.component.AbstractLifeCycle;
+import org.eclipse.jetty.util.component.LifeCycle;
 import ru.vyarus.dropwizard.guice.bundle.DefaultBundleLookup;
 import ru.vyarus.dropwizard.guice.bundle.GuiceyBundleLookup;
 import ru.vyarus.dropwizard.guice.bundle.lookup.VoidBundleLookup;
@@ -18,6 +20,7 @@ import ru.vyarus.dropwizard.guice.injector.InjectorFactory;
 import ru.vyarus.dropwizard.guice.injector.lookup.InjectorLookup;
 import ru.vyarus.dropwizard.guice.module.GuiceBootstrapModule;
 import ru.vyarus.dropwizard.guice.module.context.ConfigurationContext;
+import ru.vyarus.dropwizard.guice.module.context.ConfigurationInfo;
 import ru.vyarus.dropwizard.guice.module.context.debug.DiagnosticBundle;
 import ru.vyarus.dropwizard.guice.module.context.debug.report.diagnostic.DiagnosticConfig;
 import ru.vyarus.dropwizard.guice.module.context.debug.report.tree.ContextTreeConfig;
@@ -28,8 +31,10 @@ import ru.vyarus.dropwizard.guice.module.context.unique.EqualDuplicatesDetector;
 import ru.vyarus.dropwizard.guice.module.installer.*;
 import ru.vyarus.dropwizard.guice.module.installer.bundle.GuiceyBundle;
 import ru.vyarus.dropwizard.guice.module.installer.internal.CommandSupport;
+import ru.vyarus.dropwizard.guice.module.installer.scanner.ClasspathScanner;
 import ru.vyarus.dropwizard.guice.module.installer.internal.ModulesSupport;
 import ru.vyarus.dropwizard.guice.module.installer.util.BundleSupport;
+import ru.vyarus.dropwizard.guice.module.installer.util.ReflectionCache;
 import ru.vyarus.dropwizard.guice.module.jersey.debug.HK2DebugBundle;
 import ru.vyarus.dropwizard.guice.module.lifecycle.GuiceyLifecycleListener;
 import ru.vyarus.dropwizard.guice.module.lifecycle.debug.DebugGuiceyLifecycle;
@@ -100,6 +105,8 @@ public final class GuiceBundle<T extends Configuration> implements ConfiguredBun
     private final ConfigurationContext context = new ConfigurationContext();
     private InjectorFactory injectorFactory = new DefaultInjectorFactory();
     private GuiceyBundleLookup bundleLookup = new DefaultBundleLookup();
+    // preserved to release watched directories on shutdown
+    private ClasspathScanner scanner;
 
     GuiceBundle() {
         // Bundle should be instantiated only from builder
@@ -108,38 +115,53 @@ public final class GuiceBundle<T extends Configuration> implements ConfiguredBun
     @Override
     public void initialize(final Bootstrap bootstrap) {
         final Stopwatch timer = context.stat().timer(GuiceyTime);
-        context.initPhaseStarted(bootstrap);
-        final GuiceyInitializer starter = new GuiceyInitializer(bootstrap, context);
-
-        // resolve and init all guicey bundles
-        starter.initializeBundles(bundleLookup);
-
-        // when all manual configuration applied (from all bundles) performing classpath scan
-        // (on run phase extensions could be only disabled, but not added)
-
-        // scan for commands (if enabled)
-        starter.findCommands();
-        // scan for installers (if scan enabled) and installers initialization
-        starter.resolveInstallers();
-        // scan for extensions (if scan enabled) and validation of all registered extensions
-        starter.resolveExtensions();
-
-        starter.cleanup();
-        context.lifecycle().initialized();
+        // reflection metadata cached during initialization (released even if command never runs environment)
+        ReflectionCache.activate();
+        try {
+            context.initPhaseStarted(bootstrap);
+            final GuiceyInitializer starter = new GuiceyInitializer(bootstrap, context);
+
+            // resolve and init all guicey bundles
+            starter.initializeBundles(bundleLookup);
+
+            // when all manual configuration applied (from all bundles) performing classpath scan
+            // (on run phase extensions could be only disabled, but not added)
+
+            // scan for commands (if enabled)
+            starter.findCommands();
+            // scan for installers (if scan enabled) and installers initialization
+            starter.resolveInstallers();
+            // scan for extensions (if scan enabled) and validation of all registered extensions
+            starter.resolveExtensions();
+
+            starter.cleanup();
+            scanner = starter.getScanner();
+            context.initPhaseFinished();
+            context.lifecycle().initialized();
+        } finally {
+            ReflectionCache.release();
+        }
         timer.stop();
     }
 
     @Override
     public void run(final T configuration, final Environment environment) throws Exception {
         final Stopwatch timer = context.stat().timer(GuiceyTime);
-        context.runPhaseStarted(configuration, environment);
-        runBundles();
-        context.registerModules(new GuiceBootstrapModule(context));
-        context.finalizeConfiguration();
-        ModulesSupport.configureModules(context);
-        createInjector(environment);
-        afterInjectorCreation();
-        context.lifecycle().applicationRun();
+        // reflection metadata cached during run phase (jersey extensions installation activates it separately)
+        ReflectionCache.activate();
+        try {
+            context.runPhaseStarted(configuration, environment);
+            runBundles();
+            context.registerModules(new GuiceBootstrapModule(context));
+            context.finalizeConfiguration();
+            ModulesSupport.configureModules(context);
+            createInjector(environment);
+            afterInjectorCreation();
+            context.lifecycle().applicationRun();
+            listenStartup(environment);
+        } finally {
+            ReflectionCache.release();
+        }
         timer.stop();
     }
 
@@ -169,6 +191,39 @@ public final class GuiceBundle<T extends Configuration> implements ConfiguredBun
         timer.stop();
     }
 
+    /**
+     * Jersey extensions are installed on jetty start, so configuration info is frozen only
+     * after complete startup. Listener works for both guicey only test and normal app.
+     * Watched scan directories are released on application shutdown.
+     *
+     * @param environment environment
+     */
+    private void listenStartup(final Environment environment) {
+        environment.lifecycle().addLifeCycleListener(new AbstractLifeCycle.AbstractLifeCycleListener() {
+            @Override
+            public void lifeCycleStarted(final LifeCycle event) {
+                // configuration info could not change after startup
+                injector.getInstance(ConfigurationInfo.class).freeze();
+            }
+
+            @Override
+            public void lifeCycleFailure(final LifeCycle event, final Throwable cause) {
+                closeScanner();
+            }
+
+            @Override
+            public void lifeCycleStopped(final LifeCycle event) {
+                closeScanner();
+            }
+        });
+    }
+
+    private void closeScanner() {
+        if (scanner != null) {
+            scanner.close();
+        }
+    }
+
     @SuppressWarnings("unchecked")
     private void afterInjectorCreation() {
         CommandSupport.initCommands(context.getBootstrap().getCommands(), injector, context.stat());
@@ -356,7 +411,9 @@ public final class GuiceBundle<T extends Configuration> implements ConfiguredBun
          * bundles, but, if these bundles would be used together, then two instances of common bundle would be
          * registered, which is often not desired. To workaround such case, default duplicates detector implementation
          * consider only equal objects as duplicate, so if common bundle will correctly implement
-         * {@link Object#equals(Object)} method then duplicate bundle will not be registered.
+         * {@link Object#equals(Object)} method then duplicate bundle will not be registered. Implement
+         * {@link Object#hashCode()} too in order to check duplicates with hash lookup (important when many
+         * instances of the same type registered).
          * <p>
          * Custom duplicates detector implementation may be useful if you need to resolve duplicate objects
          * without proper equals method implementation (for example, registered by some existing 3rd party bundles).
@@ -443,6 +500,110 @@ public final class GuiceBundle<T extends Configuration> implements ConfiguredBun
             return option(SearchCommands, true);
         }
 
+        /**
+         * NOTE: affects only classpath scan (enabled with {@link #enableAutoConfig(String...)}).
+         * <p>
+         * Read class files instead of loading all classes in scanned packages. Only classes which could be
+         * recognized as commands (when {@link #searchCommands()} enabled), installers or extensions would be loaded.
+         * This way startup time and consumed memory depends on the count of extensions instead of the count
+         * of classes in scanned packages.
+         * <p>
+         * Custom installers should implement
+         * {@link ru.vyarus.dropwizard.guice.module.installer.scanner.MetadataMatcher}, otherwise all scanned
+         * classes would have to be loaded.
+         *
+         * @return builder instance for chained calls
+         * @see GuiceyOptions#AnalyzeClassFiles
+         */
+        public Builder<T> analyzeClassFiles() {
+            return option(AnalyzeClassFiles, true);
+        }
+
+        /**
+         * NOTE: affects only classpath scan (enabled with {@link #enableAutoConfig(String...)}).
+         * <p>
+         * Use all available processors for classpath scan and extensions recognition. Useful for large scan
+         * scopes (many packages or jars).
+         *
+         * @return builder instance for chained calls
+         * @see GuiceyOptions#ParallelScan
+         */
+        public Builder<T> parallelScan() {
+            return option(ParallelScan, true);
+        }
+
+        /**
+         * NOTE: affects only classpath scan (enabled with {@link #enableAutoConfig(String...)}).
+         * <p>
+         * Store classpath scan and extensions recognition results in file to avoid scan on next application start
+         * (when classpath is not changed). Useful for large scan scopes.
+         *
+         * @param file cache file path
+         * @return builder instance for chained calls
+         * @see GuiceyOptions#ScanCacheFile
+         */
+        public Builder<T> scanCache(final String file) {
+            return option(ScanCacheFile, file);
+        }
+
+        /**
+         * NOTE: affects only classpath scan (enabled with {@link #enableAutoConfig(String...)}).
+         * <p>
+         * Re-use classpath scan and extensions recognition results of other application with the same scan
+         * configuration, started in the same JVM. Use
+         * {@link ru.vyarus.dropwizard.guice.module.installer.scanner.SharedScanCache#invalidate()} to reset
+         * shared results.
+         *
+         * @return builder instance for chained calls
+         * @see GuiceyOptions#ShareScanResults
+         */
+        public Builder<T> shareScanResults() {
+            return option(ShareScanResults, true);
+        }
+
+        /**
+         * NOTE: affects only classpath scan (enabled with {@link #enableAutoConfig(String...)}).
+         * <p>
+         * Watch scanned package directories with file system watch service instead of traversing them on each
+         * start. Watchers are closed when the last application, using them, stops. Useful for development
+         * (together with {@link #shareScanResults()}, only changed classes are recognized on restart).
+         *
+         * @return builder instance for chained calls
+         * @see GuiceyOptions#WatchScanDirectories
+         */
+        public Builder<T> watchScanDirectories() {
+            return option(WatchScanDirectories, true);
+        }
+
+        /**
+         * NOTE: affects only classpath scan (enabled with {@link #enableAutoConfig(String...)}).
+         * <p>
+         * Limit scanned classes to classes matching provided patterns. Patterns are matched against full class
+         * name: {@code **} matches any characters, {@code *} matches characters inside one name segment
+         * (e.g. {@code com.foo.**.*Resource}). Pattern with "regex:" prefix is used as regular expression.
+         *
+         * @param patterns class name patterns
+         * @return builder instance for chained calls
+         * @see GuiceyOptions#ScanIncludes
+         */
+        public Builder<T> scanIncludes(final String... patterns) {
+            return option(ScanIncludes, patterns);
+        }
+
+        /**
+         * NOTE: affects only classpath scan (enabled with {@link #enableAutoConfig(String...)}).
+         * <p>
+         * Exclude classes matching provided patterns from classpath scan (e.g. {@code **.dto.**}). Excluded
+         * classes are never loaded. Pattern syntax is the same as in {@link #scanIncludes(String...)}.
+         *
+         * @param patterns class name patterns
+         * @return builder instance for chained calls
+         * @see GuiceyOptions#ScanExcludes
+         */
+        public Builder<T> scanExcludes(final String... patterns) {
+            return option(ScanExcludes, patterns);
+        }
+
         /**
          * Disables automatic {@link CoreInstallersBundle} and {@link WebInstallersBundle} registration
          * (no installers will be registered by default).
@@ -41,6 +41,96 @@ public enum GuiceyOptions implements Option {
      */
     SearchCommands(Boolean.class, false),
 
+    /**
+     * Read class files during classpath scan instead of loading all classes in scanned packages. Only class headers
+     * are read (super class, interfaces, class annotations and modifiers) and only classes accepted by commands
+     * search, installers search or registered installers are actually loaded. Installers must implement
+     * {@link ru.vyarus.dropwizard.guice.module.installer.scanner.MetadataMatcher} to be able to decline
+     * classes by metadata (all core installers do), otherwise all scanned classes will be loaded.
+     * Disabled by default.
+     *
+     * @see GuiceBundle.Builder#analyzeClassFiles()
+     */
+    AnalyzeClassFiles(Boolean.class, false),
+
+    /**
+     * Perform classpath scan in parallel: packages, jars and directories are traversed (and classes are loaded
+     * or class files are parsed) in {@link java.util.concurrent.ForkJoinPool} with workers count equal to
+     * available processors. Loaded classes are always initialized sequentially. Scanned classes are sorted by name
+     * so extensions registration order is the same on all environments. Extensions recognition (installers
+     * matching) is also performed in parallel, but extensions are registered sequentially, in scan order.
+     * Disabled by default.
+     *
+     * @see GuiceBundle.Builder#parallelScan()
+     */
+    ParallelScan(Boolean.class, false),
+
+    /**
+     * File to store classpath scan results between application starts: scanned class names and extensions
+     * recognition (installer used for each extension). When classpath is not changed (size and modification time of
+     * jars and class files in scanned packages are the same), packages are not traversed and installers matching
+     * is not performed. Cache file is re-written when classpath or installers change.
+     * Disabled by default.
+     *
+     * @see GuiceBundle.Builder#scanCache(String)
+     * @see ru.vyarus.dropwizard.guice.module.installer.scanner.ScanCache
+     */
+    ScanCacheFile(String.class, null),
+
+    /**
+     * Share classpath scan results between applications in the same JVM (with the same scan configuration and
+     * class loader). Only the first application performs actual scan and extensions recognition, other applications
+     * re-use results. Useful for tests or when multiple applications started in one JVM.
+     * Disabled by default.
+     *
+     * @see GuiceBundle.Builder#shareScanResults()
+     * @see ru.vyarus.dropwizard.guice.module.installer.scanner.SharedScanCache
+     */
+    ShareScanResults(Boolean.class, false),
+
+    /**
+     * Watch scanned package directories (exploded classes, not jars) with file system watch service: directory
+     * tree is traversed only once and then updated with file system events (class names are taken from the live
+     * index instead of scan caches). Index is shared by applications running in the same JVM and closed when the
+     * last of them stops. With {@link #ShareScanResults}, extensions recognition is performed only for changed
+     * classes (and classes depending on them). Intended for development.
+     * Disabled by default.
+     *
+     * @see GuiceBundle.Builder#watchScanDirectories()
+     * @see ru.vyarus.dropwizard.guice.module.installer.scanner.util.DirectoryWatchIndex
+     */
+    WatchScanDirectories(Boolean.class, false),
+
+    /**
+     * Class name patterns to include into classpath scan: when declared, only matching classes are scanned.
+     * Patterns are applied to class names before class loading. Glob syntax ({@code **.service.**}) or regex
+     * (with "regex:" prefix) could be used.
+     * Empty by default.
+     *
+     * @see GuiceBundle.Builder#scanIncludes(String...)
+     * @see ru.vyarus.dropwizard.guice.module.installer.scanner.ClassNameFilter
+     */
+    ScanIncludes(String[].class, new String[0]),
+
+    /**
+     * Class name patterns to exclude from classpath scan (e.g. {@code **.dto.**}). Patterns are applied to class
+     * names before class loading so excluded classes are never loaded. Glob syntax or regex (with "regex:" prefix)
+     * could be used.
+     * Empty by default.
+     *
+     * @see GuiceBundle.Builder#scanExcludes(String...)
+     * @see ru.vyarus.dropwizard.guice.module.installer.scanner.ClassNameFilter
+     */
+    ScanExcludes(String[].class, new String[0]),
+
+    /**
+     * Maximum threads count for bundles run phase execution. Only bundles implementing
+     * {@link ru.vyarus.dropwizard.guice.module.installer.bundle.ParallelRunBundle} are executed in parallel (other
+     * bundles are executed sequentially on the main thread). Pool is created only when such bundles registered.
+     * By default, equal to available processors.
+     */
+    BundlesRunThreads(Integer.class, Runtime.getRuntime().availableProcessors()),
+
     /**
      * Automatic {@linkplain ru.vyarus.dropwizard.guice.module.installer.CoreInstallersBundle core installers}
      * installation.
@@ -69,6 +159,79 @@ public enum GuiceyOptions implements Option {
      */
     BindConfigurationByPath(Boolean.class, true),
 
+    /**
+     * Bind only configuration paths, actually used for injection, instead of all introspected paths. Disabled
+     * by default. Useful for large configurations (thousands of paths) when only few paths are injected.
+     * <p>
+     * When enabled, guice modules are recorded once (as guice elements) before injector creation and all
+     * {@code @Config} injection points are collected from bindings (including dependencies of dependencies).
+     * Only used paths are introspected and bound. Unique sub configuration objects ({@code @Config SubConfig conf})
+     * require complete configuration introspection and so bound only when such injection points are found.
+     * {@link ru.vyarus.dropwizard.guice.module.yaml.ConfigurationTree} paths are resolved on first access (e.g. by
+     * configuration report or direct tree usage).
+     * <p>
+     * IMPORTANT: injection points in classes, not visible from bindings (e.g. instantiated only with direct
+     * {@code injector.getInstance(Type.class)} call or with {@code injector.injectMembers(obj)}), are not detected
+     * and so configuration values would not be bound for them. Declare such classes in module
+     * ({@code bind(Type.class)}) to make them visible.
+     * <p>
+     * Option is ignored when {@link #BindConfigurationByPath} is disabled.
+     *
+     * @see ru.vyarus.dropwizard.guice.module.yaml.bind.ConfigInjectionPoints
+     */
+    LazyConfigurationBindings(Boolean.class, false),
+
+    /**
+     * Introspect configuration sub objects in parallel: each custom type property is introspected in separate
+     * {@link java.util.concurrent.ForkJoinPool} task (with workers count equal to available processors). Resulting
+     * {@link ru.vyarus.dropwizard.guice.module.yaml.ConfigurationTree} is exactly the same as with sequential
+     * introspection. Useful for large configurations with many (deeply nested) sub configuration objects.
+     * Disabled by default.
+     * <p>
+     * Introspection time is available as {@link ru.vyarus.dropwizard.guice.module.context.stat.Stat#ConfigTreeTime}.
+     * <p>
+     * Option is ignored when {@link #BindConfigurationByPath} is disabled.
+     *
+     * @see ru.vyarus.dropwizard.guice.module.yaml.ConfigTreeBuilder
+     */
+    ParallelConfigIntrospection(Boolean.class, false),
+
+    /**
+     * File to store introspected configuration tree between application starts: paths with declared and value types
+     * (including generics), children and unique type paths. When configuration is not changed (the same
+     * configuration source content, the same configuration classes and object mapper settings), configuration is not
+     * introspected: tree is restored from stored snapshot (values are always read from actual configuration
+     * instance). Cache file is re-written when configuration changes. Disabled by default.
+     * <p>
+     * Configuration source provider is wrapped at the end of guice bundle initialization to record configuration
+     * source: if provider is changed after guice bundle registration, cache is not used.
+     * <p>
+     * Option is ignored when {@link #BindConfigurationByPath} is disabled.
+     *
+     * @see ru.vyarus.dropwizard.guice.module.yaml.ConfigTreeCache
+     */
+    ConfigTreeCacheFile(String.class, null),
+
+    /**
+     * Bind configuration values with providers, reading values from current configuration snapshot, so configuration
+     * could be reloaded without application restart (with
+     * {@link ru.vyarus.dropwizard.guice.module.yaml.reload.ReloadableConfiguration#reload()} or with admin task
+     * {@code POST /tasks/reload-configuration}). After reload, only changed paths are reported to reload listeners
+     * (registered with
+     * {@link ru.vyarus.dropwizard.guice.module.yaml.reload.ReloadableConfiguration#listen(
+     * ru.vyarus.dropwizard.guice.module.yaml.reload.ConfigurationReloadListener, String...)}).
+     * Disabled by default.
+     * <p>
+     * Only guice bindings are affected: dropwizard itself would still use initial configuration. Configuration
+     * values, injected directly into singletons, would not change (inject {@link com.google.inject.Provider}
+     * instead).
+     * <p>
+     * Option is ignored when {@link #BindConfigurationByPath} is disabled.
+     *
+     * @see ru.vyarus.dropwizard.guice.module.yaml.reload.ReloadableConfiguration
+     */
+    ReloadableConfigBindings(Boolean.class, false),
+
     /**
      * Guice injector stage used for injector creation.
      * Production by default.
@@ -72,6 +72,10 @@ public class GuiceBootstrapModule<T extends Configuration> extends DropwizardAwa
     private void bindEnvironment() {
         bind(Bootstrap.class).toInstance(bootstrap());
         bind(Environment.class).toInstance(environment());
-        install(new ConfigBindingModule(configuration(), configurationTree()));
+        if (!context.isLazyConfigurationBindings()) {
+            // in lazy mode configuration is bound after all modules analysis
+            install(new ConfigBindingModule(null, configuration(), configurationTree(), null,
+                    context.getReloadableConfiguration()));
+        }
     }
 }
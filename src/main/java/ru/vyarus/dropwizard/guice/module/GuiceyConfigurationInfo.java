@@ -1,6 +1,5 @@
 package ru.vyarus.dropwizard.guice.module;
 
-import com.google.common.collect.Sets;
 import com.google.inject.Module;
 import io.dropwizard.cli.Command;
 import ru.vyarus.dropwizard.guice.module.context.ConfigItem;
@@ -8,10 +7,8 @@ import ru.vyarus.dropwizard.guice.module.context.ConfigScope;
 import ru.vyarus.dropwizard.guice.module.context.ConfigurationInfo;
 import ru.vyarus.dropwizard.guice.module.context.Filters;
 import ru.vyarus.dropwizard.guice.module.context.info.BundleItemInfo;
-import ru.vyarus.dropwizard.guice.module.context.info.ExtensionItemInfo;
 import ru.vyarus.dropwizard.guice.module.context.info.ItemInfo;
 import ru.vyarus.dropwizard.guice.module.context.info.ModuleItemInfo;
-import ru.vyarus.dropwizard.guice.module.context.info.sign.DisableSupport;
 import ru.vyarus.dropwizard.guice.module.context.option.OptionsInfo;
 import ru.vyarus.dropwizard.guice.module.context.stat.StatsInfo;
 import ru.vyarus.dropwizard.guice.module.installer.FeatureInstaller;
@@ -30,6 +27,9 @@ import java.util.Set;
  * installers, extensions, disabled installers etc. Registered as guice bean and could be directly injected.
  * <p>
  * Could be used for configuration diagnostics or unit test checks.
+ * <p>
+ * After application startup, all queries (except custom {@link #getData()} queries) are served from indexes and
+ * return immutable lists (see {@link ConfigurationInfo#freeze()}).
  *
  * @author Vyacheslav Rusakov
  * @since 21.06.2016
@@ -113,7 +113,7 @@ public class GuiceyConfigurationInfo {
      * @see ConfigScope for the list of all special scopes
      */
     public List<Class<Object>> getItemsByScope(final Class<?> scope) {
-        return context.getItems(Filters.enabled().and(Filters.registeredBy(scope)));
+        return context.getItemsByScope(scope);
     }
 
     /**
@@ -131,15 +131,7 @@ public class GuiceyConfigurationInfo {
      * @see ItemInfo#getRegisteredBy() for more info about scopes
      */
     public Set<Class<?>> getActiveScopes(final boolean countDisables) {
-        final Set<Class<?>> res = Sets.newHashSet();
-        context.getItems(it -> {
-            res.addAll(it.getRegisteredBy());
-            if (countDisables && it instanceof DisableSupport) {
-                res.addAll(((DisableSupport) it).getDisabledBy());
-            }
-            return true;
-        });
-        return res;
+        return context.getActiveScopes(countDisables);
     }
 
     // --------------------------------------------------------------------------- COMMANDS
@@ -158,7 +150,7 @@ public class GuiceyConfigurationInfo {
      * @return types of all installed and enabled bundles (including lookup bundles) or empty list
      */
     public List<Class<GuiceyBundle>> getBundles() {
-        return context.getItems(ConfigItem.Bundle, Filters.enabled());
+        return context.getEnabledItems(ConfigItem.Bundle);
     }
 
     /**
@@ -181,7 +173,7 @@ public class GuiceyConfigurationInfo {
      * @return types of manually disabled bundles or empty list
      */
     public List<Class<GuiceyBundle>> getBundlesDisabled() {
-        return context.getItems(ConfigItem.Bundle, Filters.enabled().negate());
+        return context.getDisabledItems(ConfigItem.Bundle);
     }
 
     // --------------------------------------------------------------------------- MODULES
@@ -190,7 +182,7 @@ public class GuiceyConfigurationInfo {
      * @return types of all registered and enabled guice modules (including normal and overriding) or empty list
      */
     public List<Class<Module>> getModules() {
-        return context.getItems(ConfigItem.Module, Filters.enabled());
+        return context.getEnabledItems(ConfigItem.Module);
     }
 
     /**
@@ -215,7 +207,7 @@ public class GuiceyConfigurationInfo {
      * @return types of manually disabled modules or empty list
      */
     public List<Class<Module>> getModulesDisabled() {
-        return context.getItems(ConfigItem.Module, Filters.enabled().negate());
+        return context.getDisabledItems(ConfigItem.Module);
     }
 
     // --------------------------------------------------------------------------- INSTALLERS
@@ -224,21 +216,21 @@ public class GuiceyConfigurationInfo {
      * @return types of all registered installers (without disabled) or empty list
      */
     public List<Class<FeatureInstaller>> getInstallers() {
-        return context.getItems(ConfigItem.Installer, Filters.enabled());
+        return context.getEnabledItems(ConfigItem.Installer);
     }
 
     /**
      * @return installer types, resolved by classpath scan (without disabled) or empty list
      */
     public List<Class<FeatureInstaller>> getInstallersFromScan() {
-        return context.getItems(ConfigItem.Installer, Filters.enabled().and(Filters.fromScan()));
+        return context.getItemsFromScan(ConfigItem.Installer);
     }
 
     /**
      * @return types of manually disabled installers or empty list
      */
     public List<Class<FeatureInstaller>> getInstallersDisabled() {
-        return context.getItems(ConfigItem.Installer, Filters.enabled().negate());
+        return context.getDisabledItems(ConfigItem.Installer);
     }
 
     /**
@@ -258,7 +250,7 @@ public class GuiceyConfigurationInfo {
      * @return all registered and enabled extension types (including resolved with classpath scan) or empty list
      */
     public List<Class<Object>> getExtensions() {
-        return context.getItems(ConfigItem.Extension, Filters.enabled());
+        return context.getEnabledItems(ConfigItem.Extension);
     }
 
     /**
@@ -266,15 +258,14 @@ public class GuiceyConfigurationInfo {
      * @return list of extensions installed by provided installer or empty list
      */
     public List<Class<Object>> getExtensions(final Class<? extends FeatureInstaller> installer) {
-        return context.getItems(ConfigItem.Extension, Filters.installedBy(installer));
+        return context.getExtensionsInstalledBy(installer);
     }
 
     /**
      * @return enabled extension types, resolved by classpath scan or empty list
      */
     public List<Class<Object>> getExtensionsFromScan() {
-        return context.getItems(ConfigItem.Extension, Filters.<ExtensionItemInfo>enabled()
-                .and(Filters.fromScan()));
+        return context.getItemsFromScan(ConfigItem.Extension);
     }
 
     /**
@@ -296,7 +287,7 @@ public class GuiceyConfigurationInfo {
      * @return types of manually disabled extensions or empty list
      */
     public List<Class<Object>> getExtensionsDisabled() {
-        return context.getItems(ConfigItem.Extension, Filters.enabled().negate());
+        return context.getDisabledItems(ConfigItem.Extension);
     }
 
 }
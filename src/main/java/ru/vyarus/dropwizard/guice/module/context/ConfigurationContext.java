@@ -1,6 +1,7 @@
 package ru.vyarus.dropwizard.guice.module.context;
 
 import com.google.common.base.Preconditions;
+import com.google.common.base.Stopwatch;
 import com.google.common.collect.*;
 import com.google.inject.Module;
 import io.dropwizard.Configuration;
@@ -13,6 +14,7 @@ import ru.vyarus.dropwizard.guice.hook.ConfigurationHooksSupport;
 import ru.vyarus.dropwizard.guice.hook.GuiceyConfigurationHook;
 import ru.vyarus.dropwizard.guice.module.context.info.ItemInfo;
 import ru.vyarus.dropwizard.guice.module.context.info.ModuleItemInfo;
+import ru.vyarus.dropwizard.guice.module.context.info.impl.BundleItemInfoImpl;
 import ru.vyarus.dropwizard.guice.module.context.info.impl.ExtensionItemInfoImpl;
 import ru.vyarus.dropwizard.guice.module.context.info.impl.InstanceItemInfoImpl;
 import ru.vyarus.dropwizard.guice.module.context.info.impl.ItemInfoImpl;
@@ -24,19 +26,30 @@ import ru.vyarus.dropwizard.guice.module.context.option.internal.OptionsSupport;
 import ru.vyarus.dropwizard.guice.module.context.stat.StatsTracker;
 import ru.vyarus.dropwizard.guice.module.context.unique.DuplicateConfigDetector;
 import ru.vyarus.dropwizard.guice.module.context.unique.EqualDuplicatesDetector;
+import ru.vyarus.dropwizard.guice.module.context.unique.IndexedDuplicatesDetector;
 import ru.vyarus.dropwizard.guice.module.installer.FeatureInstaller;
 import ru.vyarus.dropwizard.guice.module.installer.bundle.GuiceyBundle;
 import ru.vyarus.dropwizard.guice.module.installer.internal.ExtensionsHolder;
 import ru.vyarus.dropwizard.guice.module.installer.scanner.ClasspathScanner;
 import ru.vyarus.dropwizard.guice.module.lifecycle.internal.LifecycleSupport;
 import ru.vyarus.dropwizard.guice.module.yaml.ConfigTreeBuilder;
+import ru.vyarus.dropwizard.guice.module.yaml.ConfigTreeCache;
+import ru.vyarus.dropwizard.guice.module.yaml.reload.ConfigurationPathRecorder;
+import ru.vyarus.dropwizard.guice.module.yaml.reload.ConfigurationReloadTask;
+import ru.vyarus.dropwizard.guice.module.yaml.reload.ReloadableConfiguration;
 import ru.vyarus.dropwizard.guice.module.yaml.ConfigurationTree;
 
+import java.io.File;
 import java.util.*;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import static ru.vyarus.dropwizard.guice.GuiceyOptions.BindConfigurationByPath;
+import static ru.vyarus.dropwizard.guice.GuiceyOptions.ConfigTreeCacheFile;
+import static ru.vyarus.dropwizard.guice.GuiceyOptions.LazyConfigurationBindings;
+import static ru.vyarus.dropwizard.guice.GuiceyOptions.ParallelConfigIntrospection;
+import static ru.vyarus.dropwizard.guice.GuiceyOptions.ReloadableConfigBindings;
+import static ru.vyarus.dropwizard.guice.module.context.stat.Stat.ConfigTreeTime;
 
 /**
  * Configuration context used internally to track all registered configuration items.
@@ -64,6 +77,9 @@ public final class ConfigurationContext {
     private ConfigurationTree configurationTree;
     private Environment environment;
     private ExtensionsHolder extensionsHolder;
+    private ReloadableConfiguration reloadableConfiguration;
+    // null when configuration tree cache disabled
+    private ConfigTreeCache configTreeCache;
 
 
     /**
@@ -77,6 +93,11 @@ public final class ConfigurationContext {
      * Preserve registration order.
      */
     private final Multimap<Class<?>, Object> instanceItemsIndex = LinkedHashMultimap.create();
+    /**
+     * Identity keys of registered instances by type (when {@link IndexedDuplicatesDetector} used).
+     * Built lazily on first duplicate check for type.
+     */
+    private final Map<Class<?>, Set<Object>> identityIndex = Maps.newHashMap();
     /**
      * Configuration details (stored mostly for diagnostics).
      */
@@ -89,6 +110,11 @@ public final class ConfigurationContext {
      * Holds disable source for disabled items.
      */
     private final Multimap<Class<?>, Class<?>> disabledByHolder = LinkedHashMultimap.create();
+    /**
+     * Enabled and disabled items views, maintained on items registration and disabling (to avoid items
+     * filtering on each access).
+     */
+    private final Map<ConfigItem, ItemsView> itemsViews = new EnumMap<>(ConfigItem.class);
     /**
      * Disable predicates listen for first item registration and could immediately disable it.
      */
@@ -119,6 +145,7 @@ public final class ConfigurationContext {
      */
     public void setDuplicatesDetector(final DuplicateConfigDetector detector) {
         this.duplicates = detector;
+        identityIndex.clear();
     }
 
 
@@ -184,8 +211,14 @@ public final class ConfigurationContext {
      * @param bundles bundles to register
      */
     public void registerBundles(final GuiceyBundle... bundles) {
+        // bundles graph
+        final BundleItemInfoImpl parent = ConfigScope.recognize(getScope()) == ConfigScope.GuiceyBundle
+                ? getInfo(getScope()) : null;
         for (GuiceyBundle bundle : bundles) {
             register(ConfigItem.Bundle, bundle);
+            if (parent != null) {
+                parent.getRegisteredBundles().add(bundle.getClass());
+            }
         }
     }
 
@@ -527,15 +560,51 @@ public final class ConfigurationContext {
         lifecycle().initializationStarted(bootstrap);
     }
 
+    /**
+     * Called at the end of initialization phase. When reloadable configuration mode enabled, configuration source
+     * provider is wrapped to remember configuration file path (for reload). When configuration tree cache enabled,
+     * configuration source provider is wrapped to record configuration source content (cache key).
+     */
+    @SuppressWarnings("unchecked")
+    public void initPhaseFinished() {
+        final boolean introspect = option(BindConfigurationByPath);
+        final boolean reloadable = option(ReloadableConfigBindings);
+        if (introspect && reloadable) {
+            reloadableConfiguration = new ReloadableConfiguration(bootstrap, option(ParallelConfigIntrospection));
+            bootstrap.setConfigurationSourceProvider(
+                    new ConfigurationPathRecorder(bootstrap.getConfigurationSourceProvider(), reloadableConfiguration));
+        }
+        final String cacheFile = option(ConfigTreeCacheFile);
+        if (introspect && cacheFile != null) {
+            configTreeCache = new ConfigTreeCache(new File(cacheFile));
+            // must be the last wrapper
+            bootstrap.setConfigurationSourceProvider(
+                    configTreeCache.recordSource(bootstrap.getConfigurationSourceProvider()));
+        }
+        if (reloadableConfiguration != null) {
+            // reload is possible only if provider would not be changed
+            reloadableConfiguration.setSourceProvider(bootstrap.getConfigurationSourceProvider());
+        }
+    }
+
     /**
      * @param configuration dropwizard configuration instance
      * @param environment   dropwizard environment instance
      */
     public void runPhaseStarted(final Configuration configuration, final Environment environment) {
         this.configuration = configuration;
-        this.configurationTree = ConfigTreeBuilder
-                .build(bootstrap, configuration, option(BindConfigurationByPath));
+        final Stopwatch timer = stat().timer(ConfigTreeTime);
+        final boolean parallel = option(ParallelConfigIntrospection);
+        this.configurationTree = isLazyConfigurationBindings()
+                ? ConfigTreeBuilder.buildLazy(bootstrap, configuration, parallel, configTreeCache)
+                : ConfigTreeBuilder.build(bootstrap, configuration, option(BindConfigurationByPath), parallel,
+                configTreeCache);
+        timer.stop();
         this.environment = environment;
+        if (reloadableConfiguration != null) {
+            reloadableConfiguration.init(configuration, configurationTree);
+            environment.admin().addTask(new ConfigurationReloadTask(reloadableConfiguration));
+        }
         lifecycle().runPhase(configuration, configurationTree, environment);
     }
 
@@ -627,6 +696,24 @@ public final class ConfigurationContext {
         return configurationTree;
     }
 
+    /**
+     * @return true if only injected configuration paths must be bound
+     * @see ru.vyarus.dropwizard.guice.GuiceyOptions#LazyConfigurationBindings
+     */
+    public boolean isLazyConfigurationBindings() {
+        final boolean introspect = option(BindConfigurationByPath);
+        final boolean lazy = option(LazyConfigurationBindings);
+        return introspect && lazy;
+    }
+
+    /**
+     * @return reloadable configuration or null if reloadable mode is not enabled
+     * @see ru.vyarus.dropwizard.guice.GuiceyOptions#ReloadableConfigBindings
+     */
+    public ReloadableConfiguration getReloadableConfiguration() {
+        return reloadableConfiguration;
+    }
+
     /**
      * @return dropwizard environment object
      */
@@ -658,10 +745,22 @@ public final class ConfigurationContext {
 
     private void registerDisable(final ConfigItem type, final Class<?> item) {
         // multimaps will filter duplicates automatically
-        disabledItemsHolder.put(type, item);
+        if (disabledItemsHolder.put(type, item)) {
+            getView(type).disable(item);
+        }
         disabledByHolder.put(item, getScope());
     }
 
+    private void addItem(final ConfigItem type, final Object item) {
+        if (itemsHolder.put(type, item)) {
+            getView(type).add(item, isEnabled(type, getType(item)));
+        }
+    }
+
+    private ItemsView getView(final ConfigItem type) {
+        return itemsViews.computeIfAbsent(type, t -> new ItemsView());
+    }
+
     private <T extends ItemInfoImpl> T register(final ConfigItem type, final Object item) {
         final T info = getOrCreateInfo(type, item);
         final Class<?> scope = getScope();
@@ -673,8 +772,8 @@ public final class ConfigurationContext {
                 ((InstanceItemInfoImpl) info).addRegisteredInstance(scope, item);
             } else {
                 // check if duplicate is allowed and register it
-                if (!duplicates.isDuplicate(info, instanceItemsIndex.get(info.getType()), item)) {
-                    itemsHolder.put(type, item);
+                if (!isDuplicate(info, item)) {
+                    addItem(type, item);
                     instanceItemsIndex.put(info.getType(), item);
                     ((InstanceItemInfoImpl) info).addRegisteredInstance(scope, item);
                     // when multiple instances of the same type registered all scopes must be preserved
@@ -700,6 +799,31 @@ public final class ConfigurationContext {
         return info;
     }
 
+    /**
+     * When {@link IndexedDuplicatesDetector} provides identity key, duplicate is checked with hash lookup.
+     * Otherwise, detector is called with all registered instances of the same type.
+     *
+     * @param info item descriptor
+     * @param item new item
+     * @return true if item is duplicate, false to register item
+     */
+    private boolean isDuplicate(final ItemInfo info, final Object item) {
+        final Collection<Object> registered = instanceItemsIndex.get(info.getType());
+        if (duplicates instanceof IndexedDuplicatesDetector) {
+            final IndexedDuplicatesDetector detector = (IndexedDuplicatesDetector) duplicates;
+            final Object key = detector.getIdentityKey(info, item);
+            if (key != null) {
+                final Set<Object> keys = identityIndex.computeIfAbsent(info.getType(), type -> registered.stream()
+                        .map(reg -> detector.getIdentityKey(info, reg)).collect(Collectors.toSet()));
+                // key is remembered for not duplicate item (it will be registered)
+                return !keys.add(key);
+            }
+            // index could not be maintained for not indexed items
+            identityIndex.remove(info.getType());
+        }
+        return duplicates.isDuplicate(info, registered, item);
+    }
+
     private void fireRegistration(final ItemInfo item) {
         // fire event only for initial registration and for items which could be disabled
         if (item instanceof DisableSupport && item.getRegistrationAttempts() == 1) {
@@ -733,7 +857,7 @@ public final class ConfigurationContext {
             info = (T) detailsHolder.get(itemType);
         } else {
             // initial registration
-            itemsHolder.put(type, item);
+            addItem(type, item);
             info = type.newContainer(itemType);
             detailsHolder.put(itemType, info);
             if (type.isInstanceConfig()) {
@@ -747,22 +871,66 @@ public final class ConfigurationContext {
         return item instanceof Class ? (Class) item : item.getClass();
     }
 
+    @SuppressWarnings("unchecked")
     private <T> List<T> getDisabledItems(final ConfigItem type) {
-        final Collection<Class<?>> disabled = disabledItemsHolder.get(type);
-        return disabled.isEmpty()
-                ? Collections.emptyList() : getItems(type, item -> disabled.contains(getType(item)));
+        final ItemsView view = itemsViews.get(type);
+        return view == null ? Collections.emptyList() : (List<T>) view.getDisabled(itemsHolder.get(type));
     }
 
+    @SuppressWarnings("unchecked")
     private <T> List<T> getEnabledItems(final ConfigItem type) {
-        final Collection<Class<?>> disabled = disabledItemsHolder.get(type);
-        return disabled.isEmpty()
-                ? getItems(type) : getItems(type, item -> !disabled.contains(getType(item)));
+        final ItemsView view = itemsViews.get(type);
+        return view == null ? Collections.emptyList() : (List<T>) view.getEnabled();
     }
 
     private boolean isEnabled(final ConfigItem type, final Class itemType) {
         return !disabledItemsHolder.get(type).contains(itemType);
     }
 
+    /**
+     * Enabled and disabled items of one type. Enabled items are maintained incrementally (in registration order)
+     * and disabled items (rare case) are selected from all registered items. Returned lists are immutable
+     * snapshots, re-created only after items change.
+     */
+    private class ItemsView {
+        private final Set<Object> enabled = new LinkedHashSet<>();
+        private final Set<Class<?>> disabledTypes = new HashSet<>();
+        private List<Object> enabledSnapshot;
+        private List<Object> disabledSnapshot;
+
+        public void add(final Object item, final boolean isEnabled) {
+            if (isEnabled) {
+                enabled.add(item);
+                enabledSnapshot = null;
+            } else {
+                disabledSnapshot = null;
+            }
+        }
+
+        public void disable(final Class<?> type) {
+            disabledTypes.add(type);
+            if (enabled.removeIf(item -> getType(item) == type)) {
+                enabledSnapshot = null;
+                disabledSnapshot = null;
+            }
+        }
+
+        public List<Object> getEnabled() {
+            if (enabledSnapshot == null) {
+                enabledSnapshot = ImmutableList.copyOf(enabled);
+            }
+            return enabledSnapshot;
+        }
+
+        public List<Object> getDisabled(final Collection<Object> items) {
+            if (disabledSnapshot == null) {
+                disabledSnapshot = ImmutableList.copyOf(Collections2
+                        .filter(items, item -> disabledTypes.contains(getType(item))));
+            }
+            return disabledSnapshot;
+        }
+    }
+
     /**
      * Wraps registered disable predicate on registration to remember it's scope and mark all actually disabled
      * items as disabled by that scope.
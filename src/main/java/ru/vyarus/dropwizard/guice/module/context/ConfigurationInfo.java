@@ -1,15 +1,24 @@
 package ru.vyarus.dropwizard.guice.module.context;
 
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableListMultimap;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.LinkedHashMultimap;
+import com.google.common.collect.ListMultimap;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Multimap;
+import ru.vyarus.dropwizard.guice.module.context.info.ExtensionItemInfo;
 import ru.vyarus.dropwizard.guice.module.context.info.ItemInfo;
+import ru.vyarus.dropwizard.guice.module.context.info.sign.DisableSupport;
+import ru.vyarus.dropwizard.guice.module.installer.FeatureInstaller;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -23,6 +32,11 @@ import java.util.stream.Collectors;
  * Configuration items are stored in registration order. Information querying is implemented with help of java 8
  * {@link java.util.function.Predicate}.
  * <p>
+ * Configuration is frozen after application startup ({@link #freeze()}): items info is not changing anymore, so
+ * indexes are built for the most common queries (enabled items, items by scope, extensions by installer etc.).
+ * After that, returned lists are immutable. Before freeze (e.g. in reports, rendered during startup) all queries
+ * are performed by items filtering.
+ * <p>
  * Available for direct injection, but prefer accessing from
  * {@link ru.vyarus.dropwizard.guice.module.GuiceyConfigurationInfo#getData()}.
  *
@@ -31,11 +45,13 @@ import java.util.stream.Collectors;
  * @see ConfigItem for the list of available confiugration items
  * @since 06.07.2016
  */
+@SuppressWarnings("PMD.TooManyMethods")
 public final class ConfigurationInfo {
 
     // required structure to preserve registration order
     private final Multimap<ConfigItem, Class<?>> itemsHolder = LinkedHashMultimap.create();
     private final Map<Class<?>, ItemInfo> detailsHolder = Maps.newHashMap();
+    private volatile Index index;
 
     public ConfigurationInfo(final ConfigurationContext context) {
         // convert all objects into types (more suitable for analysis)
@@ -48,6 +64,23 @@ public final class ConfigurationInfo {
         }
     }
 
+    /**
+     * Called after application startup, when configuration items info could not change anymore. Builds indexes
+     * for common queries. Does nothing if already frozen.
+     */
+    public void freeze() {
+        if (index == null) {
+            index = new Index();
+        }
+    }
+
+    /**
+     * @return true if configuration is frozen (queries are indexed), false otherwise
+     */
+    public boolean isFrozen() {
+        return index != null;
+    }
+
     /**
      * Pay attention that disabled (or disabled and never registered) items are also returned.
      *
@@ -57,6 +90,9 @@ public final class ConfigurationInfo {
      */
     @SuppressWarnings("unchecked")
     public <T> List<Class<T>> getItems(final ConfigItem type) {
+        if (index != null) {
+            return (List) index.items.get(type);
+        }
         final Collection res = itemsHolder.get(type);
         return res.isEmpty() ? Collections.<Class<T>>emptyList() : (List<Class<T>>) Lists.newArrayList(res);
     }
@@ -74,9 +110,9 @@ public final class ConfigurationInfo {
      * @param <K>    expected info container class
      * @return registered item classes in registration order, filtered with provided filter or empty list
      */
+    @SuppressWarnings("unchecked")
     public <T, K extends ItemInfo> List<Class<T>> getItems(final ConfigItem type, final Predicate<K> filter) {
-        final List<Class<T>> items = getItems(type);
-        return filter(items, filter);
+        return filter((Collection) itemsHolder.get(type), filter);
     }
 
     /**
@@ -92,8 +128,92 @@ public final class ConfigurationInfo {
      */
     @SuppressWarnings("unchecked")
     public List<Class<Object>> getItems(final Predicate<ItemInfo> filter) {
-        final List<Class<Object>> items = (List) Lists.newArrayList(itemsHolder.values());
-        return filter(items, filter);
+        return filter((Collection) itemsHolder.values(), filter);
+    }
+
+    /**
+     * Indexed equivalent of {@code getItems(type, Filters.enabled())}.
+     *
+     * @param type configuration item type
+     * @param <T>  expected class
+     * @return enabled items of type in registration order or empty list
+     */
+    @SuppressWarnings("unchecked")
+    public <T> List<Class<T>> getEnabledItems(final ConfigItem type) {
+        return index != null ? (List) index.enabled.get(type) : getItems(type, Filters.enabled());
+    }
+
+    /**
+     * Indexed equivalent of {@code getItems(type, Filters.enabled().negate())}.
+     *
+     * @param type configuration item type
+     * @param <T>  expected class
+     * @return disabled items of type in registration order or empty list
+     */
+    @SuppressWarnings("unchecked")
+    public <T> List<Class<T>> getDisabledItems(final ConfigItem type) {
+        return index != null ? (List) index.disabled.get(type) : getItems(type, Filters.enabled().negate());
+    }
+
+    /**
+     * Indexed equivalent of {@code getItems(type, Filters.enabled().and(Filters.fromScan()))}.
+     *
+     * @param type configuration item type
+     * @param <T>  expected class
+     * @return enabled items of type, resolved by classpath scan, or empty list
+     */
+    @SuppressWarnings("unchecked")
+    public <T> List<Class<T>> getItemsFromScan(final ConfigItem type) {
+        return index != null ? (List) index.fromScan.get(type)
+                : getItems(type, Filters.enabled().and(Filters.fromScan()));
+    }
+
+    /**
+     * Indexed equivalent of {@code getItems(Filters.enabled().and(Filters.registeredBy(scope)))}.
+     *
+     * @param scope scope class
+     * @return all enabled items registered in scope or empty list
+     * @see ConfigScope for the list of all special scopes
+     */
+    @SuppressWarnings("unchecked")
+    public List<Class<Object>> getItemsByScope(final Class<?> scope) {
+        return index != null ? (List) index.byScope.get(scope)
+                : getItems(Filters.enabled().and(Filters.registeredBy(scope)));
+    }
+
+    /**
+     * Indexed equivalent of {@code getItems(Filters.disabledBy(scope))}.
+     *
+     * @param scope scope class
+     * @return all items disabled in scope or empty list
+     */
+    @SuppressWarnings("unchecked")
+    public List<Class<Object>> getItemsDisabledBy(final Class<?> scope) {
+        return index != null ? (List) index.disabledBy.get(scope) : getItems(Filters.disabledBy(scope));
+    }
+
+    /**
+     * Indexed equivalent of {@code getItems(ConfigItem.Extension, Filters.installedBy(installer))}.
+     *
+     * @param installer installer type
+     * @return extensions installed by installer or empty list
+     */
+    @SuppressWarnings("unchecked")
+    public List<Class<Object>> getExtensionsInstalledBy(final Class<? extends FeatureInstaller> installer) {
+        return index != null ? (List) index.byInstaller.get(installer)
+                : getItems(ConfigItem.Extension, Filters.installedBy(installer));
+    }
+
+    /**
+     * @param countDisables include scopes with disables only
+     * @return all scopes, registered (or disabled) items, or empty collection
+     * @see ItemInfo#getRegisteredBy()
+     */
+    public Set<Class<?>> getActiveScopes(final boolean countDisables) {
+        if (index != null) {
+            return countDisables ? index.scopesWithDisables : index.scopes;
+        }
+        return collectScopes(countDisables);
     }
 
     /**
@@ -110,7 +230,75 @@ public final class ConfigurationInfo {
         return item instanceof Class ? (Class) item : item.getClass();
     }
 
-    private <T, K extends ItemInfo> List<Class<T>> filter(final List<Class<T>> items, final Predicate<K> filter) {
+    private <T, K extends ItemInfo> List<Class<T>> filter(final Collection<Class<T>> items,
+                                                           final Predicate<K> filter) {
         return items.stream().filter(it -> filter.test(getInfo(it))).collect(Collectors.toList());
     }
+
+    private Set<Class<?>> collectScopes(final boolean countDisables) {
+        final Set<Class<?>> res = new LinkedHashSet<>();
+        for (ItemInfo info : detailsHolder.values()) {
+            res.addAll(info.getRegisteredBy());
+            if (countDisables && info instanceof DisableSupport) {
+                res.addAll(((DisableSupport) info).getDisabledBy());
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Immutable indexes, built from frozen configuration. All lists preserve registration order.
+     */
+    private class Index {
+        private final ListMultimap<ConfigItem, Class<?>> items;
+        private final ListMultimap<ConfigItem, Class<?>> enabled;
+        private final ListMultimap<ConfigItem, Class<?>> disabled;
+        private final ListMultimap<ConfigItem, Class<?>> fromScan;
+        private final ListMultimap<Class<?>, Class<?>> byScope;
+        private final ListMultimap<Class<?>, Class<?>> disabledBy;
+        private final ListMultimap<Class<?>, Class<?>> byInstaller;
+        private final Set<Class<?>> scopes;
+        private final Set<Class<?>> scopesWithDisables;
+
+        Index() {
+            final ImmutableListMultimap.Builder<ConfigItem, Class<?>> items = ImmutableListMultimap.builder();
+            final ImmutableListMultimap.Builder<ConfigItem, Class<?>> enabled = ImmutableListMultimap.builder();
+            final ImmutableListMultimap.Builder<ConfigItem, Class<?>> disabled = ImmutableListMultimap.builder();
+            final ImmutableListMultimap.Builder<ConfigItem, Class<?>> fromScan = ImmutableListMultimap.builder();
+            final ImmutableListMultimap.Builder<Class<?>, Class<?>> byScope = ImmutableListMultimap.builder();
+            final ImmutableListMultimap.Builder<Class<?>, Class<?>> disabledBy = ImmutableListMultimap.builder();
+            final ImmutableListMultimap.Builder<Class<?>, Class<?>> byInstaller = ImmutableListMultimap.builder();
+            for (Map.Entry<ConfigItem, Class<?>> entry : itemsHolder.entries()) {
+                final ConfigItem type = entry.getKey();
+                final Class<?> item = entry.getValue();
+                final ItemInfo info = getInfo(item);
+                items.put(type, item);
+                if (info instanceof DisableSupport) {
+                    disabledBy.putAll(item, ((DisableSupport) info).getDisabledBy());
+                }
+                if (Filters.enabled().test(info)) {
+                    enabled.put(type, item);
+                    byScope.putAll(item, info.getRegisteredBy());
+                    if (Filters.fromScan().test(info)) {
+                        fromScan.put(type, item);
+                    }
+                } else {
+                    disabled.put(type, item);
+                }
+                if (info instanceof ExtensionItemInfo && ((ExtensionItemInfo) info).getInstalledBy() != null) {
+                    byInstaller.put(((ExtensionItemInfo) info).getInstalledBy(), item);
+                }
+            }
+            this.items = items.build();
+            this.enabled = enabled.build();
+            this.disabled = disabled.build();
+            this.fromScan = fromScan.build();
+            // item -> scopes multimaps inverted, preserving items registration order for each scope
+            this.byScope = byScope.build().inverse();
+            this.disabledBy = disabledBy.build().inverse();
+            this.byInstaller = byInstaller.build();
+            this.scopes = ImmutableSet.copyOf(collectScopes(false));
+            this.scopesWithDisables = ImmutableSet.copyOf(collectScopes(true));
+        }
+    }
 }
@@ -8,6 +8,7 @@ import ru.vyarus.dropwizard.guice.module.context.debug.report.ReportRenderer;
 import ru.vyarus.dropwizard.guice.module.context.debug.util.TreeNode;
 import ru.vyarus.dropwizard.guice.module.context.info.ExtensionItemInfo;
 import ru.vyarus.dropwizard.guice.module.installer.install.JerseyInstaller;
+import ru.vyarus.dropwizard.guice.module.yaml.ConfigurationTree;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -54,6 +55,7 @@ public class StatsRenderer implements ReportRenderer<Boolean> {
         long remaining = info.getStats().time(GuiceyTime);
         final double percent = remaining / 100d;
         remaining -= renderClasspathScanInfo(root, hideTiny, percent);
+        remaining -= renderConfigurationIntrospection(root, hideTiny, percent);
         remaining -= renderBundlesProcessing(root, hideTiny, percent);
         remaining -= renderCommandsRegistration(root, hideTiny, percent);
         remaining -= renderInstallersRegistration(root, hideTiny, percent);
@@ -72,6 +74,20 @@ public class StatsRenderer implements ReportRenderer<Boolean> {
                     scan / percent, info.getStats().humanTime(ScanTime));
             final int classes = info.getStats().count(ScanClassesCount);
             node.child("scanned %s classes", classes);
+            final int skipped = info.getStats().count(ScanSkippedClassesCount);
+            if (skipped > 0) {
+                node.child("skipped %s classes by name filters", skipped);
+            }
+            final int loaded = info.getStats().count(ScanLoadedClassesCount);
+            if (loaded != classes) {
+                // class files analysis mode
+                node.child("loaded %s classes", loaded);
+            }
+            final int workers = info.getStats().count(ScanWorkersCount);
+            if (workers > 0) {
+                node.child("parallel scan with %s workers in %s",
+                        workers, info.getStats().humanTime(ScanParallelTime));
+            }
             final int recognized = info.getData().getItems(Filters.fromScan()).size();
             node.child("recognized %s classes (%.2g%% of scanned)",
                     recognized, recognized / (classes / 100f));
@@ -79,6 +95,23 @@ public class StatsRenderer implements ReportRenderer<Boolean> {
         return scan;
     }
 
+    private long renderConfigurationIntrospection(final TreeNode root, final boolean hideTiny,
+                                                  final double percent) {
+        final long tree = info.getStats().time(ConfigTreeTime);
+        if (show(hideTiny, tree)) {
+            final TreeNode node = root.child("[%.2g%%] CONFIGURATION introspected in %s",
+                    tree / percent, info.getStats().humanTime(ConfigTreeTime));
+            final ConfigurationTree config = info.getConfigurationTree();
+            // lazy tree must not be resolved by report
+            if (config.isResolved()) {
+                node.child("%s paths resolved", config.getPaths().size());
+            } else {
+                node.child("paths resolved on demand");
+            }
+        }
+        return tree;
+    }
+
     private long renderBundlesProcessing(final TreeNode root, final boolean hideTiny, final double percent) {
         final long bundle = info.getStats().time(BundleTime);
         if (show(hideTiny, bundle)) {
@@ -121,7 +121,7 @@ public class ContextTreeRenderer implements ReportRenderer<ContextTreeConfig> {
         }
 
         if (!config.isHideDisables()) {
-            final List<Class<Object>> disabled = service.getData().getItems(Filters.disabledBy(scope));
+            final List<Class<Object>> disabled = service.getData().getItemsDisabledBy(scope);
             for (Class<?> item : disabled) {
                 renderLeaf(root, "-disable", item, null);
             }
@@ -1,6 +1,9 @@
 package ru.vyarus.dropwizard.guice.module.context.info;
 
 import ru.vyarus.dropwizard.guice.module.context.info.sign.DisableSupport;
+import ru.vyarus.dropwizard.guice.module.installer.bundle.GuiceyBundle;
+
+import java.util.Set;
 
 /**
  * Bundle configuration information.
@@ -29,4 +32,12 @@ public interface BundleItemInfo extends InstanceItemInfo, DisableSupport {
      * @return true when bundle was registered only by some other bundle (and never directly)
      */
     boolean isTransitive();
+
+    /**
+     * Bundles graph: bundles registered by this bundle (including rejected duplicates and disabled bundles).
+     * Reverse relation is available with {@link #getRegisteredBy()}.
+     *
+     * @return types of bundles registered by this bundle (in registration order) or empty set
+     */
+    Set<Class<? extends GuiceyBundle>> getRegisteredBundles();
 }
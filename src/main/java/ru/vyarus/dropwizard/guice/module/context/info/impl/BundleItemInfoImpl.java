@@ -4,6 +4,7 @@ import com.google.common.collect.Sets;
 import ru.vyarus.dropwizard.guice.module.context.ConfigItem;
 import ru.vyarus.dropwizard.guice.module.context.ConfigScope;
 import ru.vyarus.dropwizard.guice.module.context.info.BundleItemInfo;
+import ru.vyarus.dropwizard.guice.module.installer.bundle.GuiceyBundle;
 
 import java.util.Set;
 
@@ -15,6 +16,7 @@ import java.util.Set;
  */
 public class BundleItemInfoImpl extends InstanceItemInfoImpl implements BundleItemInfo {
     private final Set<Class<?>> disabledBy = Sets.newLinkedHashSet();
+    private final Set<Class<? extends GuiceyBundle>> registeredBundles = Sets.newLinkedHashSet();
 
     public BundleItemInfoImpl(final Class<?> type) {
         super(ConfigItem.Bundle, type);
@@ -40,4 +42,9 @@ public class BundleItemInfoImpl extends InstanceItemInfoImpl implements BundleIt
         return getRegisteredBy().stream()
                 .noneMatch(type -> ConfigScope.recognize(type) != ConfigScope.GuiceyBundle);
     }
+
+    @Override
+    public Set<Class<? extends GuiceyBundle>> getRegisteredBundles() {
+        return registeredBundles;
+    }
 }
@@ -1,12 +1,12 @@
 package ru.vyarus.dropwizard.guice.module.context.option.internal;
 
 import com.google.common.base.Preconditions;
-import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import ru.vyarus.dropwizard.guice.module.context.option.Option;
 
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Options support logic. Holds configured options and controls option correctness.
@@ -23,7 +23,8 @@ import java.util.Set;
 @SuppressWarnings("unchecked")
 public final class OptionsSupport<T extends Enum & Option> {
 
-    private final Map<T, OptionHolder> options = Maps.newHashMap();
+    // concurrent map because options could be read from bundles running in parallel
+    private final Map<T, OptionHolder> options = new ConcurrentHashMap<>();
 
     /**
      * @param option option enum
@@ -75,11 +76,6 @@ public final class OptionsSupport<T extends Enum & Option> {
     }
 
     private OptionHolder getOrCreateHolder(final T option) {
-        OptionHolder holder = options.get(option);
-        if (holder == null) {
-            holder = new OptionHolder(option);
-            options.put(option, holder);
-        }
-        return holder;
+        return options.computeIfAbsent(option, OptionHolder::new);
     }
 }
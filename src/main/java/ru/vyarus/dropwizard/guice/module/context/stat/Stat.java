@@ -24,9 +24,40 @@ public enum Stat {
      */
     ScanTime(true),
     /**
-     * Count of classes loaded during classpath scan.
+     * Count of classes found during classpath scan. All these classes are loaded, unless
+     * {@link ru.vyarus.dropwizard.guice.GuiceyOptions#AnalyzeClassFiles} enabled.
      */
     ScanClassesCount(false),
+    /**
+     * Count of scanned classes actually loaded. Differs from {@link #ScanClassesCount} only when
+     * {@link ru.vyarus.dropwizard.guice.GuiceyOptions#AnalyzeClassFiles} enabled (only classes accepted by
+     * commands search, installers search and installers are loaded).
+     */
+    ScanLoadedClassesCount(false),
+    /**
+     * Parallel part of classpath scan (packages traversal and classes loading or class files parsing) time.
+     * Recorded only when {@link ru.vyarus.dropwizard.guice.GuiceyOptions#ParallelScan} enabled.
+     * Part of {@link #ScanTime}.
+     */
+    ScanParallelTime(true),
+    /**
+     * Count of parallel classpath scan workers. Recorded only when
+     * {@link ru.vyarus.dropwizard.guice.GuiceyOptions#ParallelScan} enabled.
+     */
+    ScanWorkersCount(false),
+    /**
+     * Count of classes in scanned packages, skipped by class name filters (not loaded and not parsed). Recorded
+     * only when {@link ru.vyarus.dropwizard.guice.GuiceyOptions#ScanIncludes} or
+     * {@link ru.vyarus.dropwizard.guice.GuiceyOptions#ScanExcludes} declared. Skipped classes are not counted in
+     * {@link #ScanClassesCount}.
+     */
+    ScanSkippedClassesCount(false),
+    /**
+     * Configuration introspection time ({@link ru.vyarus.dropwizard.guice.module.yaml.ConfigurationTree} building).
+     * When {@link ru.vyarus.dropwizard.guice.GuiceyOptions#LazyConfigurationBindings} enabled, contains only
+     * root configuration types resolution (paths are introspected on demand).
+     */
+    ConfigTreeTime(true),
     /**
      * Bundles resolution, creation and starting time (combined from both configuration and run phases).
      */
@@ -61,4 +61,18 @@ public final class StatsInfo {
         final Integer value = tracker.getCounters().get(name);
         return value == null ? 0 : value;
     }
+
+    /**
+     * Bundle run phase time (see {@link #time(Stat)} notes about 0 values). For multiple instances of the same
+     * bundle type, time is summed. Note that bundles implementing
+     * {@link ru.vyarus.dropwizard.guice.module.installer.bundle.ParallelRunBundle} could run concurrently and so
+     * sum of all bundle times could be greater then {@link Stat#BundleTime}.
+     *
+     * @param bundle bundle type
+     * @return bundle run time in milliseconds or 0 (if bundle was not run)
+     */
+    public long bundleRunTime(final Class<?> bundle) {
+        final Long value = tracker.getBundleRunTimes().get(bundle);
+        return value == null ? 0 : TimeUnit.NANOSECONDS.toMillis(value);
+    }
 }
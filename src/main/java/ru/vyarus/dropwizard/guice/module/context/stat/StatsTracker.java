@@ -19,6 +19,7 @@ import static ru.vyarus.dropwizard.guice.module.context.stat.Stat.JerseyTime;
 public final class StatsTracker {
     private final Map<Stat, Stopwatch> timers = Maps.newEnumMap(Stat.class);
     private final Map<Stat, Integer> counters = Maps.newEnumMap(Stat.class);
+    private final Map<Class<?>, Long> bundleRunTimes = Maps.newLinkedHashMap();
 
     /**
      * If measured first time, returns new instance. For second and following measures returns the same instance
@@ -47,6 +48,17 @@ public final class StatsTracker {
         counters.put(name, value);
     }
 
+    /**
+     * Records bundle run phase time (sums time for multiple bundle instances). Time is measured by bundle
+     * execution thread, but must be recorded from the main thread.
+     *
+     * @param bundle bundle type
+     * @param nanos  run time in nanoseconds
+     */
+    public void bundleRunTime(final Class<?> bundle, final long nanos) {
+        bundleRunTimes.merge(bundle, nanos, Long::sum);
+    }
+
     /**
      * Special methods for tracking time in jersey scope.
      * Such complication used to avoid using 3 different trackers in code.
@@ -88,4 +100,11 @@ public final class StatsTracker {
     public Map<Stat, Integer> getCounters() {
         return counters;
     }
+
+    /**
+     * @return bundles run phase times in nanoseconds (in bundles run order)
+     */
+    public Map<Class<?>, Long> getBundleRunTimes() {
+        return bundleRunTimes;
+    }
 }
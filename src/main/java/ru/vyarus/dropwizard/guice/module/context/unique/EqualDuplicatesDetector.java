@@ -3,6 +3,8 @@ package ru.vyarus.dropwizard.guice.module.context.unique;
 import ru.vyarus.dropwizard.guice.module.context.info.ItemInfo;
 
 import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Default configuration duplicates detector. Only equal instances are considered duplicate, so in order to grant
@@ -10,11 +12,17 @@ import java.util.Collection;
  * <p>
  * By default, only the same instances, registered multiple times will be considered duplicate (due to default equals
  * implementation).
+ * <p>
+ * Instance itself is used as identity key (hash index lookup) when its class does not override equals or
+ * overrides both equals and hash code. When only equals is overridden, instances are compared with equals
+ * one by one.
  *
  * @author Vyacheslav Rusakov
  * @since 03.07.2019
  */
-public class EqualDuplicatesDetector implements DuplicateConfigDetector {
+public class EqualDuplicatesDetector implements IndexedDuplicatesDetector {
+
+    private final Map<Class<?>, Boolean> indexable = new ConcurrentHashMap<>();
 
     @Override
     public boolean isDuplicate(final ItemInfo info,
@@ -28,4 +36,23 @@ public class EqualDuplicatesDetector implements DuplicateConfigDetector {
         }
         return false;
     }
+
+    @Override
+    public Object getIdentityKey(final ItemInfo info, final Object item) {
+        return indexable.computeIfAbsent(item.getClass(), EqualDuplicatesDetector::isHashConsistent) ? item : null;
+    }
+
+    /**
+     * @param type instance type
+     * @return true if hash code could be used together with equals
+     */
+    private static boolean isHashConsistent(final Class<?> type) {
+        try {
+            final Class<?> equalsType = type.getMethod("equals", Object.class).getDeclaringClass();
+            final Class<?> hashType = type.getMethod("hashCode").getDeclaringClass();
+            return Object.class == equalsType || Object.class != hashType && equalsType.isAssignableFrom(hashType);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("Failed to resolve equals method of " + type.getName(), e);
+        }
+    }
 }
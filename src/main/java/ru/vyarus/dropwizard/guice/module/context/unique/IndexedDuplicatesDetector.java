@@ -0,0 +1,28 @@
+package ru.vyarus.dropwizard.guice.module.context.unique;
+
+import ru.vyarus.dropwizard.guice.module.context.info.ItemInfo;
+
+/**
+ * Duplicates detector, which could express instances uniqueness with identity key: instances with equal keys
+ * are duplicates. Configuration context keeps hash index of keys for each item type, so duplicates check does not
+ * depend on count of already registered instances (important when hundreds of instances of the same bundle or
+ * module type are registered).
+ * <p>
+ * When key could not be provided (e.g. instance class does not implement hash code consistently with equals),
+ * return null: {@link #isDuplicate(ItemInfo, java.util.Collection, Object)} will be called as usual. Key
+ * availability must be the same for all instances of type.
+ *
+ * @author Vyacheslav Rusakov
+ * @see EqualDuplicatesDetector as default implementation
+ * @since 17.10.2026
+ */
+public interface IndexedDuplicatesDetector extends DuplicateConfigDetector {
+
+    /**
+     * @param info item descriptor
+     * @param item configured object (guicey bundle or guice module)
+     * @return identity key (must implement hash code and equals) or null to use
+     * {@link #isDuplicate(ItemInfo, java.util.Collection, Object)} check instead
+     */
+    Object getIdentityKey(ItemInfo info, Object item);
+}
@@ -26,6 +26,10 @@ package ru.vyarus.dropwizard.guice.module.installer;
  * {@link ru.vyarus.dropwizard.guice.module.installer.option.InstallerOptionsSupport}) to use options in installer
  * (see {@link ru.vyarus.dropwizard.guice.module.context.option.Option} for more info).
  * <p>
+ * Implement {@link ru.vyarus.dropwizard.guice.module.installer.scanner.DeclarativeMatcher} to declare extension
+ * match criteria (super types, annotations) instead of checking each class in {@link #matches(Class)} (faster
+ * recognition).
+ * <p>
  * All installer are ordered according to {@link ru.vyarus.dropwizard.guice.module.installer.order.Order} annotation.
  *
  * @param <T> expected extension type (or Object when no super type (e.g. for annotated beans))
@@ -2,6 +2,7 @@ package ru.vyarus.dropwizard.guice.module.installer;
 
 import com.google.common.base.Preconditions;
 import com.google.common.base.Stopwatch;
+import com.google.common.base.Throwables;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import io.dropwizard.cli.Command;
@@ -16,18 +17,33 @@ import ru.vyarus.dropwizard.guice.module.context.stat.Stat;
 import ru.vyarus.dropwizard.guice.module.installer.install.binding.LazyBinding;
 import ru.vyarus.dropwizard.guice.module.installer.internal.CommandSupport;
 import ru.vyarus.dropwizard.guice.module.installer.internal.ExtensionsHolder;
+import ru.vyarus.dropwizard.guice.module.installer.internal.InstallerMatchIndex;
 import ru.vyarus.dropwizard.guice.module.installer.option.WithOptions;
 import ru.vyarus.dropwizard.guice.module.installer.order.OrderComparator;
+import ru.vyarus.dropwizard.guice.module.installer.scanner.ClassMetadata;
+import ru.vyarus.dropwizard.guice.module.installer.scanner.ClassNameFilter;
 import ru.vyarus.dropwizard.guice.module.installer.scanner.ClassVisitor;
 import ru.vyarus.dropwizard.guice.module.installer.scanner.ClasspathScanner;
+import ru.vyarus.dropwizard.guice.module.installer.scanner.ScanCache;
+import ru.vyarus.dropwizard.guice.module.installer.scanner.SharedScanCache;
 import ru.vyarus.dropwizard.guice.module.installer.util.BundleSupport;
 import ru.vyarus.dropwizard.guice.module.installer.util.FeatureUtils;
 import ru.vyarus.dropwizard.guice.module.installer.util.JerseyBinding;
 
+import java.io.File;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static ru.vyarus.dropwizard.guice.GuiceyOptions.*;
 import static ru.vyarus.dropwizard.guice.module.context.stat.Stat.*;
@@ -56,14 +72,30 @@ public class GuiceyInitializer {
     private final Bootstrap bootstrap;
     private final ConfigurationContext context;
     private final ClasspathScanner scanner;
+    private final ScanCache cache;
+    private final SharedScanCache.Entry shared;
+    private InstallerMatchIndex matchIndex;
 
     public GuiceyInitializer(final Bootstrap bootstrap, final ConfigurationContext context) {
         this.bootstrap = bootstrap;
         this.context = context;
         final String[] packages = context.option(ScanPackages);
+        final String cacheFile = context.option(ScanCacheFile);
+        final boolean analyzeClassFiles = context.option(AnalyzeClassFiles);
+        final boolean parallel = context.option(ParallelScan);
+        final boolean shareResults = context.option(ShareScanResults);
+        final Set<String> scanPackages = Sets.newHashSet(Arrays.asList(packages));
+        final ClassNameFilter filter = new ClassNameFilter(context.option(ScanIncludes), context.option(ScanExcludes));
+        this.cache = packages.length > 0 && cacheFile != null
+                ? new ScanCache(new File(cacheFile), scanPackages, analyzeClassFiles + ";" + filter.getKey()) : null;
+        this.shared = packages.length > 0 && shareResults
+                ? SharedScanCache.get(Thread.currentThread().getContextClassLoader(),
+                scanPackages, analyzeClassFiles, parallel, filter.getKey()) : null;
         // classpath scan performed immediately (if required)
         this.scanner = packages.length > 0
-                ? new ClasspathScanner(Sets.newHashSet(Arrays.asList(packages)), context.stat()) : null;
+                ? new ClasspathScanner(scanPackages, analyzeClassFiles, parallel, cache, shared, filter,
+                context.option(WatchScanDirectories), context.stat())
+                : null;
     }
 
     /**
@@ -118,28 +150,28 @@ public class GuiceyInitializer {
         final ExtensionsHolder holder = context.getExtensionsHolder();
         final boolean guiceFirstMode = context.option(JerseyExtensionsManagedByGuice);
         final List<Class<?>> manual = context.getEnabledExtensions();
+        matchIndex = new InstallerMatchIndex(holder.getInstallers());
         for (Class<?> type : manual) {
-            if (!processType(type, holder, guiceFirstMode, false)) {
+            if (processType(type, matchIndex.findInstaller(type), guiceFirstMode, false) == null) {
                 throw new IllegalStateException("No installer found for extension " + type.getName()
                         + ". Available installers: " + holder.getInstallerTypes()
                         .stream().map(FeatureUtils::getInstallerExtName).collect(Collectors.joining(", ")));
             }
         }
         if (scanner != null) {
-            scanner.scan(type -> {
-                if (manual.contains(type)) {
-                    // avoid duplicate extension installation, but register it's appearance in auto scan scope
-                    context.getOrRegisterExtension(type, true);
-                } else {
-                    // if matching installer found - extension recognized, otherwise - not an extension
-                    processType(type, holder, guiceFirstMode, true);
-                }
-            });
+            scanExtensions(holder, manual, guiceFirstMode);
         }
         context.lifecycle().extensionsResolved(context.getEnabledExtensions(), context.getDisabledExtensions());
         timer.stop();
     }
 
+    /**
+     * @return classpath scanner or null if classpath scan is not enabled
+     */
+    public ClasspathScanner getScanner() {
+        return scanner;
+    }
+
     /**
      * Flush classpath scan cache.
      */
@@ -160,6 +192,11 @@ public class GuiceyInitializer {
         if (scanner != null) {
             final List<Class<? extends FeatureInstaller>> installers = Lists.newArrayList();
             scanner.scan(new ClassVisitor() {
+                @Override
+                public boolean accept(final ClassMetadata type) {
+                    return type.is(FeatureInstaller.class);
+                }
+
                 @Override
                 public void visit(final Class<?> type) {
                     if (FeatureUtils.is(type, FeatureInstaller.class)) {
@@ -171,13 +208,129 @@ public class GuiceyInitializer {
             installers.sort(Comparator.comparing(Class::getName));
             context.registerInstallersFromScan(installers);
         }
-        final List<Class<? extends FeatureInstaller>> installers = context.getEnabledInstallers();
+        final List<Class<? extends FeatureInstaller>> installers =
+                Lists.newArrayList(context.getEnabledInstallers());
         installers.sort(COMPARATOR);
         logger.debug("Found {} installers", installers.size());
         return installers;
     }
 
 
+    /**
+     * Recognize extensions from classpath scan. When cached recognition results are available (shared or file
+     * cache), installers matching is not performed (with watched scan directories only changed classes
+     * are matched).
+     * <p>
+     * Recognition is performed in two steps: installers matching (pure reflection, performed in parallel when
+     * {@link ru.vyarus.dropwizard.guice.GuiceyOptions#ParallelScan} enabled) and extensions registration
+     * (always sequential, in scan order, so registration order does not depend on threads timing).
+     *
+     * @param holder         extensions holder bean
+     * @param manual         manually registered extensions
+     * @param guiceFirstMode jersey extensions guice management mode
+     */
+    private void scanExtensions(final ExtensionsHolder holder, final List<Class<?>> manual,
+                                final boolean guiceFirstMode) {
+        final Set<String> manualNames = manual.stream().map(Class::getName).collect(Collectors.toSet());
+        final CachedRecognition cached = getCachedRecognition(holder);
+        // extension class name -> installer class name
+        final Map<String, String> recognized = new HashMap<>();
+        final List<Class<?>> types = new ArrayList<>();
+        scanner.scan(new ClassVisitor() {
+            @Override
+            public boolean accept(final ClassMetadata type) {
+                return manualNames.contains(type.getName()) || (cached.isKnown(type.getName())
+                        ? cached.getInstaller(type.getName()) != null : matchIndex.isCandidate(type));
+            }
+
+            @Override
+            public void visit(final Class<?> type) {
+                types.add(type);
+            }
+        });
+        // manual extensions are not matched (already registered)
+        final FeatureInstaller[] matched = matchInstallers(types, type -> manualNames.contains(type.getName())
+                ? null : findInstaller(type, holder, cached));
+        for (int i = 0; i < matched.length; i++) {
+            final Class<?> type = types.get(i);
+            final FeatureInstaller installer;
+            if (manualNames.contains(type.getName())) {
+                // avoid duplicate extension installation, but register it's appearance in auto scan scope
+                installer = context.getOrRegisterExtension(type, true).getInstaller();
+            } else {
+                // if matching installer found - extension recognized, otherwise - not an extension
+                installer = processType(type, matched[i], guiceFirstMode, true);
+            }
+            if (installer != null) {
+                recognized.put(type.getName(), installer.getClass().getName());
+            }
+        }
+        if (shared != null && !cached.isSharedActual()) {
+            shared.setRecognition(holder.getInstallerTypes(), recognized, scanner.getRevision());
+        }
+        if (cache != null) {
+            recognized.forEach(cache::setInstaller);
+            cache.save();
+        }
+    }
+
+    /**
+     * Installers matching is a pure reflection, so it could be safely performed in parallel (classes are already
+     * loaded and initialized by scanner). Installers and matching index are stateless.
+     *
+     * @param types   classes to match
+     * @param matcher installer resolution function
+     * @return matched installers (in the same order as types, null for not recognized classes)
+     */
+    private FeatureInstaller[] matchInstallers(final List<Class<?>> types,
+                                               final Function<Class<?>, FeatureInstaller> matcher) {
+        final FeatureInstaller[] res = new FeatureInstaller[types.size()];
+        if (context.option(ParallelScan)) {
+            final ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+            try {
+                pool.submit(() -> IntStream.range(0, res.length).parallel()
+                        .forEach(i -> res[i] = matcher.apply(types.get(i)))).get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Extensions recognition interrupted", e);
+            } catch (ExecutionException e) {
+                Throwables.throwIfUnchecked(e.getCause());
+                throw new IllegalStateException("Extensions recognition failed", e.getCause());
+            } finally {
+                pool.shutdown();
+            }
+        } else {
+            for (int i = 0; i < res.length; i++) {
+                res[i] = matcher.apply(types.get(i));
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Cached recognition could be used only if exactly the same installers used. Shared recognition results
+     * could be partially used when scanned classes changed after previous recognition (watched scan
+     * directories).
+     *
+     * @param holder extensions holder bean
+     * @return cached recognition results (never null)
+     */
+    private CachedRecognition getCachedRecognition(final ExtensionsHolder holder) {
+        final List<Class<? extends FeatureInstaller>> installers = holder.getInstallerTypes();
+        // file cache check must be always performed to remember used installers
+        final boolean fileCacheValid = cache != null && cache.isRecognitionValid(installers);
+        final Map<String, String> sharedResult = shared == null ? null : shared.getRecognition(installers);
+        final Set<String> changed = sharedResult == null ? null
+                : scanner.getChangedSince(shared.getRecognitionRevision(installers));
+        CachedRecognition res = CachedRecognition.NONE;
+        if (changed != null) {
+            res = new CachedRecognition(sharedResult::get, changed, true);
+        } else if (fileCacheValid) {
+            res = new CachedRecognition(cache::getInstaller, Collections.emptySet(), false);
+        }
+        return res;
+    }
+
     /**
      * Instantiate all found installers using default constructor.
      *
@@ -204,35 +357,93 @@ public class GuiceyInitializer {
     }
 
 
-    private boolean processType(final Class<?> type, final ExtensionsHolder holder,
-                                final boolean guiceFirstMode, final boolean fromScan) {
-        final FeatureInstaller installer = findInstaller(type, holder);
-        final boolean recognized = installer != null;
-        if (recognized) {
+    private FeatureInstaller processType(final Class<?> type, final FeatureInstaller installer,
+                                         final boolean guiceFirstMode, final boolean fromScan) {
+        if (installer != null) {
             // important to force config creation for extension from scan to allow disabling by matcher
             final ExtensionItemInfoImpl info = context.getOrRegisterExtension(type, fromScan);
             info.setLazy(type.isAnnotationPresent(LazyBinding.class));
             info.setJerseyManaged(JerseyBinding.isJerseyManaged(type, guiceFirstMode));
             info.setInstaller(installer);
         }
-        return recognized;
+        return installer;
     }
 
     /**
-     * Search for matching installer. Extension may match multiple installer, but only one will be actually
-     * used (note that installers are ordered)
-     *
      * @param type   extension type
      * @param holder extensions holder bean
+     * @param cached cached recognition results
      * @return matching installer or null if no matching installer found
      */
-    @SuppressWarnings("unchecked")
-    private FeatureInstaller findInstaller(final Class<?> type, final ExtensionsHolder holder) {
+    private FeatureInstaller findInstaller(final Class<?> type, final ExtensionsHolder holder,
+                                           final CachedRecognition cached) {
+        return cached.isKnown(type.getName())
+                ? findCachedInstaller(type, holder, cached) : matchIndex.findInstaller(type);
+    }
+
+    /**
+     * Used when cached recognition result is valid (see {@link ScanCache} and {@link SharedScanCache}).
+     * Class, not recognized as extension before, is never recognized now (installers are the same). If cached
+     * installer is not found (normally impossible), usual installer search performed.
+     *
+     * @param type   extension type
+     * @param holder extensions holder bean
+     * @param cached cached recognition results
+     * @return cached installer or null if class was not recognized as extension
+     */
+    private FeatureInstaller findCachedInstaller(final Class<?> type, final ExtensionsHolder holder,
+                                                 final CachedRecognition cached) {
+        final String name = cached.getInstaller(type.getName());
+        if (name == null) {
+            return null;
+        }
         for (FeatureInstaller installer : holder.getInstallers()) {
-            if (installer.matches(type)) {
+            if (installer.getClass().getName().equals(name)) {
                 return installer;
             }
         }
-        return null;
+        return matchIndex.findInstaller(type);
+    }
+
+    /**
+     * Cached recognition results.
+     */
+    private static final class CachedRecognition {
+        private static final CachedRecognition NONE = new CachedRecognition(null, null, false);
+
+        // extension class name -> installer class name
+        private final Function<String, String> installers;
+        private final Set<String> changed;
+        private final boolean shared;
+
+        CachedRecognition(final Function<String, String> installers, final Set<String> changed,
+                          final boolean shared) {
+            this.installers = installers;
+            this.changed = changed;
+            this.shared = shared;
+        }
+
+        /**
+         * @param name class name
+         * @return true if class recognition result is known (and class was not changed after recognition)
+         */
+        boolean isKnown(final String name) {
+            return installers != null && !changed.contains(name);
+        }
+
+        /**
+         * @param name class name
+         * @return installer class name or null if class is not extension
+         */
+        String getInstaller(final String name) {
+            return installers.apply(name);
+        }
+
+        /**
+         * @return true if shared results used and no classes changed
+         */
+        boolean isSharedActual() {
+            return shared && changed.isEmpty();
+        }
     }
 }
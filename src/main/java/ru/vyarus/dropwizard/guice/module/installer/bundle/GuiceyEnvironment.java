@@ -10,6 +10,7 @@ import ru.vyarus.dropwizard.guice.module.context.option.Option;
 import ru.vyarus.dropwizard.guice.module.yaml.ConfigTreeBuilder;
 import ru.vyarus.dropwizard.guice.module.yaml.ConfigurationTree;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -18,6 +19,9 @@ import java.util.List;
  * environment objects.
  * <p>
  * As it is called on run phase, it does not allow to install or disable new bundles and installers.
+ * <p>
+ * When bundles run in parallel ({@link ParallelRunBundle}), registrations of all bundles are delayed: they are
+ * applied after all bundles run with {@link #applyDelayedRegistrations()}, in bundles registration order.
  *
  * @author Vyacheslav Rusakov
  * @since 13.06.2019
@@ -25,9 +29,20 @@ import java.util.List;
 public class GuiceyEnvironment {
 
     private final ConfigurationContext context;
+    // registrations of bundle running in parallel (null for direct registration)
+    private final List<Runnable> delayed;
 
     public GuiceyEnvironment(final ConfigurationContext context) {
+        this(context, false);
+    }
+
+    /**
+     * @param context            configuration context
+     * @param delayRegistrations true to delay registrations until {@link #applyDelayedRegistrations()} call
+     */
+    public GuiceyEnvironment(final ConfigurationContext context, final boolean delayRegistrations) {
         this.context = context;
+        this.delayed = delayRegistrations ? new ArrayList<>() : null;
     }
 
     /**
@@ -178,7 +193,7 @@ public class GuiceyEnvironment {
      */
     public GuiceyEnvironment modules(final Module... modules) {
         Preconditions.checkState(modules.length > 0, "Specify at least one module");
-        context.registerModules(modules);
+        apply(() -> context.registerModules(modules));
         return this;
     }
 
@@ -190,7 +205,7 @@ public class GuiceyEnvironment {
      * @see ru.vyarus.dropwizard.guice.GuiceBundle.Builder#modulesOverride(Module...)
      */
     public GuiceyEnvironment modulesOverride(final Module... modules) {
-        context.registerModulesOverride(modules);
+        apply(() -> context.registerModulesOverride(modules));
         return this;
     }
 
@@ -200,7 +215,7 @@ public class GuiceyEnvironment {
      * @see ru.vyarus.dropwizard.guice.GuiceBundle.Builder#disableExtensions(Class[])
      */
     public final GuiceyEnvironment disableExtensions(final Class<?>... extensions) {
-        context.disableExtensions(extensions);
+        apply(() -> context.disableExtensions(extensions));
         return this;
     }
 
@@ -213,7 +228,7 @@ public class GuiceyEnvironment {
      */
     @SafeVarargs
     public final GuiceyEnvironment disableModules(final Class<? extends Module>... modules) {
-        context.disableModules(modules);
+        apply(() -> context.disableModules(modules));
         return this;
     }
 
@@ -225,9 +240,11 @@ public class GuiceyEnvironment {
      * @return environment instance for chained calls
      */
     public GuiceyEnvironment register(Object... items) {
-        for (Object item : items) {
-            environment().jersey().register(item);
-        }
+        apply(() -> {
+            for (Object item : items) {
+                environment().jersey().register(item);
+            }
+        });
         return this;
     }
 
@@ -239,9 +256,30 @@ public class GuiceyEnvironment {
      * @return environment instance for chained calls
      */
     public GuiceyEnvironment register(Class<?>... items) {
-        for (Class<?> item : items) {
-            environment().jersey().register(item);
-        }
+        apply(() -> {
+            for (Class<?> item : items) {
+                environment().jersey().register(item);
+            }
+        });
         return this;
     }
+
+    /**
+     * Applies registrations, delayed for bundle running in parallel. Called after all bundles run.
+     * Does nothing for not delayed environment.
+     */
+    public void applyDelayedRegistrations() {
+        if (delayed != null) {
+            delayed.forEach(Runnable::run);
+            delayed.clear();
+        }
+    }
+
+    private void apply(final Runnable registration) {
+        if (delayed == null) {
+            registration.run();
+        } else {
+            delayed.add(registration);
+        }
+    }
 }
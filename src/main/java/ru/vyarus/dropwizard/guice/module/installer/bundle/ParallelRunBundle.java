@@ -0,0 +1,34 @@
+package ru.vyarus.dropwizard.guice.module.installer.bundle;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Guicey bundle, which run phase ({@link #run(GuiceyEnvironment)}) could be executed concurrently with other
+ * bundles. Useful for bundles performing expensive independent work on run (e.g. pools warm up or
+ * lookup tables loading). Bundles, not implementing this interface, are executed sequentially (in registration
+ * order) on the main thread, as usual.
+ * <p>
+ * Bundle could declare bundle types which must complete run phase before it
+ * ({@link #getRunDependencies()}). Dependency on not registered (or disabled) bundle is ignored. Dependencies
+ * cycle is an error.
+ * <p>
+ * Registrations, performed through {@link GuiceyEnvironment} (modules, disables, jersey extensions), are
+ * applied only after all bundles run (in bundles registration order), so registration order does not depend on
+ * threads timing. Direct {@link GuiceyEnvironment#environment()} usage is not synchronized: bundle is
+ * responsible for thread safety of such calls.
+ * <p>
+ * Threads count is limited with {@link ru.vyarus.dropwizard.guice.GuiceyOptions#BundlesRunThreads} option.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 17.10.2026
+ */
+public interface ParallelRunBundle extends GuiceyBundle {
+
+    /**
+     * @return bundle types which must complete run phase before this bundle or empty list
+     */
+    default List<Class<? extends GuiceyBundle>> getRunDependencies() {
+        return Collections.emptyList();
+    }
+}
@@ -6,6 +6,10 @@ import ru.vyarus.dropwizard.guice.module.installer.FeatureInstaller;
 import ru.vyarus.dropwizard.guice.module.installer.install.InstanceInstaller;
 import ru.vyarus.dropwizard.guice.module.installer.order.Order;
 import ru.vyarus.dropwizard.guice.module.installer.order.Ordered;
+import ru.vyarus.dropwizard.guice.module.installer.scanner.ClassMetadata;
+import ru.vyarus.dropwizard.guice.module.installer.scanner.DeclarativeMatcher;
+import ru.vyarus.dropwizard.guice.module.installer.scanner.MatchCriteria;
+import ru.vyarus.dropwizard.guice.module.installer.scanner.MetadataMatcher;
 import ru.vyarus.dropwizard.guice.module.installer.util.FeatureUtils;
 import ru.vyarus.dropwizard.guice.module.installer.util.Reporter;
 
@@ -18,7 +22,7 @@ import ru.vyarus.dropwizard.guice.module.installer.util.Reporter;
  */
 @Order(20)
 public class ManagedInstaller implements
-        FeatureInstaller<Managed>, InstanceInstaller<Managed>, Ordered {
+        FeatureInstaller<Managed>, InstanceInstaller<Managed>, Ordered, MetadataMatcher, DeclarativeMatcher {
 
     private final Reporter reporter = new Reporter(ManagedInstaller.class, "managed =");
 
@@ -27,6 +31,16 @@ public class ManagedInstaller implements
         return FeatureUtils.is(type, Managed.class);
     }
 
+    @Override
+    public boolean matchesMetadata(final ClassMetadata type) {
+        return type.is(Managed.class);
+    }
+
+    @Override
+    public MatchCriteria getMatchCriteria() {
+        return MatchCriteria.builder().subtypeOf(Managed.class).build();
+    }
+
     @Override
     public void install(final Environment environment, final Managed instance) {
         reporter.line("(%s)", FeatureUtils.getInstanceClass(instance).getName());
@@ -5,6 +5,10 @@ import io.dropwizard.setup.Environment;
 import ru.vyarus.dropwizard.guice.module.installer.FeatureInstaller;
 import ru.vyarus.dropwizard.guice.module.installer.install.InstanceInstaller;
 import ru.vyarus.dropwizard.guice.module.installer.order.Order;
+import ru.vyarus.dropwizard.guice.module.installer.scanner.ClassMetadata;
+import ru.vyarus.dropwizard.guice.module.installer.scanner.DeclarativeMatcher;
+import ru.vyarus.dropwizard.guice.module.installer.scanner.MatchCriteria;
+import ru.vyarus.dropwizard.guice.module.installer.scanner.MetadataMatcher;
 import ru.vyarus.dropwizard.guice.module.installer.util.FeatureUtils;
 
 /**
@@ -15,13 +19,24 @@ import ru.vyarus.dropwizard.guice.module.installer.util.FeatureUtils;
  * @since 01.09.2014
  */
 @Order(70)
-public class TaskInstaller implements FeatureInstaller<Task>, InstanceInstaller<Task> {
+public class TaskInstaller implements FeatureInstaller<Task>, InstanceInstaller<Task>, MetadataMatcher,
+        DeclarativeMatcher {
 
     @Override
     public boolean matches(final Class<?> type) {
         return FeatureUtils.is(type, Task.class);
     }
 
+    @Override
+    public boolean matchesMetadata(final ClassMetadata type) {
+        return type.is(Task.class);
+    }
+
+    @Override
+    public MatchCriteria getMatchCriteria() {
+        return MatchCriteria.builder().subtypeOf(Task.class).build();
+    }
+
     @Override
     public void install(final Environment environment, final Task instance) {
         environment.admin().addTask(instance);
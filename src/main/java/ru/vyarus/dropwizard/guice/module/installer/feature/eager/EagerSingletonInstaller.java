@@ -6,6 +6,10 @@ import com.google.inject.Binder;
 import ru.vyarus.dropwizard.guice.module.installer.FeatureInstaller;
 import ru.vyarus.dropwizard.guice.module.installer.install.binding.BindingInstaller;
 import ru.vyarus.dropwizard.guice.module.installer.order.Order;
+import ru.vyarus.dropwizard.guice.module.installer.scanner.ClassMetadata;
+import ru.vyarus.dropwizard.guice.module.installer.scanner.DeclarativeMatcher;
+import ru.vyarus.dropwizard.guice.module.installer.scanner.MatchCriteria;
+import ru.vyarus.dropwizard.guice.module.installer.scanner.MetadataMatcher;
 import ru.vyarus.dropwizard.guice.module.installer.util.FeatureUtils;
 import ru.vyarus.dropwizard.guice.module.installer.util.Reporter;
 
@@ -21,7 +25,8 @@ import ru.vyarus.dropwizard.guice.module.installer.util.Reporter;
  * @since 01.09.2014
  */
 @Order(50)
-public class EagerSingletonInstaller implements FeatureInstaller<Object>, BindingInstaller {
+public class EagerSingletonInstaller implements FeatureInstaller<Object>, BindingInstaller, MetadataMatcher,
+        DeclarativeMatcher {
     private final Reporter reporter = new Reporter(EagerSingletonInstaller.class, "eager singletons =");
 
     @Override
@@ -29,6 +34,16 @@ public class EagerSingletonInstaller implements FeatureInstaller<Object>, Bindin
         return FeatureUtils.hasAnnotation(type, EagerSingleton.class);
     }
 
+    @Override
+    public boolean matchesMetadata(final ClassMetadata type) {
+        return type.hasAnnotation(EagerSingleton.class);
+    }
+
+    @Override
+    public MatchCriteria getMatchCriteria() {
+        return MatchCriteria.builder().annotatedWith(EagerSingleton.class).build();
+    }
+
     @Override
     public <T> void install(final Binder binder, final Class<? extends T> type, final boolean lazy) {
         Preconditions.checkArgument(!lazy, "Eager bean can't be annotated as lazy: %s", type.getName());
@@ -4,6 +4,10 @@ import io.dropwizard.setup.Environment;
 import ru.vyarus.dropwizard.guice.module.installer.FeatureInstaller;
 import ru.vyarus.dropwizard.guice.module.installer.install.InstanceInstaller;
 import ru.vyarus.dropwizard.guice.module.installer.order.Order;
+import ru.vyarus.dropwizard.guice.module.installer.scanner.ClassMetadata;
+import ru.vyarus.dropwizard.guice.module.installer.scanner.DeclarativeMatcher;
+import ru.vyarus.dropwizard.guice.module.installer.scanner.MatchCriteria;
+import ru.vyarus.dropwizard.guice.module.installer.scanner.MetadataMatcher;
 import ru.vyarus.dropwizard.guice.module.installer.util.FeatureUtils;
 import ru.vyarus.dropwizard.guice.module.installer.util.Reporter;
 
@@ -18,7 +22,7 @@ import ru.vyarus.dropwizard.guice.module.installer.util.Reporter;
  */
 @Order(60)
 public class HealthCheckInstaller implements FeatureInstaller<NamedHealthCheck>,
-        InstanceInstaller<NamedHealthCheck> {
+        InstanceInstaller<NamedHealthCheck>, MetadataMatcher, DeclarativeMatcher {
 
     private final Reporter reporter = new Reporter(HealthCheckInstaller.class, "health checks =");
 
@@ -27,6 +31,16 @@ public class HealthCheckInstaller implements FeatureInstaller<NamedHealthCheck>,
         return FeatureUtils.is(type, NamedHealthCheck.class);
     }
 
+    @Override
+    public boolean matchesMetadata(final ClassMetadata type) {
+        return type.is(NamedHealthCheck.class);
+    }
+
+    @Override
+    public MatchCriteria getMatchCriteria() {
+        return MatchCriteria.builder().subtypeOf(NamedHealthCheck.class).build();
+    }
+
     @Override
     public void install(final Environment environment, final NamedHealthCheck instance) {
         environment.healthChecks().register(instance.getName(), instance);
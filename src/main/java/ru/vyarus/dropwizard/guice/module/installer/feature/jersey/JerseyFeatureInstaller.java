@@ -4,6 +4,10 @@ import io.dropwizard.setup.Environment;
 import ru.vyarus.dropwizard.guice.module.installer.FeatureInstaller;
 import ru.vyarus.dropwizard.guice.module.installer.install.InstanceInstaller;
 import ru.vyarus.dropwizard.guice.module.installer.order.Order;
+import ru.vyarus.dropwizard.guice.module.installer.scanner.ClassMetadata;
+import ru.vyarus.dropwizard.guice.module.installer.scanner.DeclarativeMatcher;
+import ru.vyarus.dropwizard.guice.module.installer.scanner.MatchCriteria;
+import ru.vyarus.dropwizard.guice.module.installer.scanner.MetadataMatcher;
 import ru.vyarus.dropwizard.guice.module.installer.util.FeatureUtils;
 import ru.vyarus.dropwizard.guice.module.installer.util.Reporter;
 
@@ -20,7 +24,7 @@ import javax.ws.rs.core.Feature;
  */
 @Order(30)
 public class JerseyFeatureInstaller implements
-        FeatureInstaller<Feature>, InstanceInstaller<Feature> {
+        FeatureInstaller<Feature>, InstanceInstaller<Feature>, MetadataMatcher, DeclarativeMatcher {
 
     private final Reporter reporter = new Reporter(JerseyFeatureInstaller.class, "features =");
 
@@ -29,6 +33,16 @@ public class JerseyFeatureInstaller implements
         return FeatureUtils.is(type, Feature.class);
     }
 
+    @Override
+    public boolean matchesMetadata(final ClassMetadata type) {
+        return type.is(Feature.class);
+    }
+
+    @Override
+    public MatchCriteria getMatchCriteria() {
+        return MatchCriteria.builder().subtypeOf(Feature.class).build();
+    }
+
     @Override
     public void report() {
         reporter.report();
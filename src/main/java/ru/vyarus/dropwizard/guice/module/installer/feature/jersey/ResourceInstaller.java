@@ -8,6 +8,8 @@ import org.glassfish.jersey.internal.inject.AbstractBinder;
 import ru.vyarus.dropwizard.guice.module.installer.install.TypeInstaller;
 import ru.vyarus.dropwizard.guice.module.installer.install.binding.BindingInstaller;
 import ru.vyarus.dropwizard.guice.module.installer.order.Order;
+import ru.vyarus.dropwizard.guice.module.installer.scanner.ClassMetadata;
+import ru.vyarus.dropwizard.guice.module.installer.scanner.MetadataMatcher;
 import ru.vyarus.dropwizard.guice.module.installer.util.FeatureUtils;
 import ru.vyarus.dropwizard.guice.module.installer.util.JerseyBinding;
 
@@ -33,7 +35,7 @@ import javax.ws.rs.Path;
 @Order(40)
 public class ResourceInstaller extends AbstractJerseyInstaller<Object> implements
         BindingInstaller,
-        TypeInstaller<Object> {
+        TypeInstaller<Object>, MetadataMatcher {
 
     @Override
     public boolean matches(final Class<?> type) {
@@ -41,6 +43,12 @@ public class ResourceInstaller extends AbstractJerseyInstaller<Object> implement
                 && (FeatureUtils.hasAnnotation(type, Path.class) || hasMatchedInterfaces(type));
     }
 
+    @Override
+    public boolean matchesMetadata(final ClassMetadata type) {
+        return !type.isInterface()
+                && (type.hasAnnotation(Path.class) || type.hasAnnotatedInterface(Path.class));
+    }
+
     @Override
     public <T> void install(final Binder binder, final Class<? extends T> type, final boolean lazyMarker) {
         final boolean jerseyManaged = isJerseyExtension(type);
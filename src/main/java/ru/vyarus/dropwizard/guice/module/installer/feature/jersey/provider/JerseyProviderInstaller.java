@@ -12,8 +12,12 @@ import ru.vyarus.dropwizard.guice.module.installer.feature.jersey.AbstractJersey
 import ru.vyarus.dropwizard.guice.module.installer.feature.jersey.JerseyManaged;
 import ru.vyarus.dropwizard.guice.module.installer.install.binding.BindingInstaller;
 import ru.vyarus.dropwizard.guice.module.installer.order.Order;
+import ru.vyarus.dropwizard.guice.module.installer.scanner.ClassMetadata;
+import ru.vyarus.dropwizard.guice.module.installer.scanner.DeclarativeMatcher;
+import ru.vyarus.dropwizard.guice.module.installer.scanner.MatchCriteria;
+import ru.vyarus.dropwizard.guice.module.installer.scanner.MetadataMatcher;
 import ru.vyarus.dropwizard.guice.module.installer.util.FeatureUtils;
-import ru.vyarus.java.generics.resolver.GenericsResolver;
+import ru.vyarus.dropwizard.guice.module.installer.util.ReflectionCache;
 
 import javax.ws.rs.container.ContainerRequestFilter;
 import javax.ws.rs.container.ContainerResponseFilter;
@@ -48,7 +52,7 @@ import static ru.vyarus.dropwizard.guice.module.installer.util.JerseyBinding.*;
  */
 @Order(30)
 public class JerseyProviderInstaller extends AbstractJerseyInstaller<Object> implements
-        BindingInstaller {
+        BindingInstaller, MetadataMatcher, DeclarativeMatcher {
 
     private static final Set<Class<?>> EXTENSION_TYPES = ImmutableSet.<Class<?>>of(
             ExceptionMapper.class,
@@ -73,6 +77,16 @@ public class JerseyProviderInstaller extends AbstractJerseyInstaller<Object> imp
         return FeatureUtils.hasAnnotation(type, Provider.class);
     }
 
+    @Override
+    public boolean matchesMetadata(final ClassMetadata type) {
+        return type.hasAnnotation(Provider.class);
+    }
+
+    @Override
+    public MatchCriteria getMatchCriteria() {
+        return MatchCriteria.builder().annotatedWith(Provider.class).build();
+    }
+
     @Override
     public <T> void install(final Binder binder, final Class<? extends T> type, final boolean lazyMarker) {
         final boolean hkManaged = isJerseyExtension(type);
@@ -96,7 +110,7 @@ public class JerseyProviderInstaller extends AbstractJerseyInstaller<Object> imp
         } else {
             // support multiple extension interfaces on one type
             final Set<Class<?>> extensions = Sets.intersection(EXTENSION_TYPES,
-                    GenericsResolver.resolve(type).getGenericsInfo().getComposingTypes());
+                    ReflectionCache.get(type).getGenerics().getGenericsInfo().getComposingTypes());
             if (!extensions.isEmpty()) {
                 for (Class<?> ext : extensions) {
                     bindSpecificComponent(binder, injector, type, ext, hkExtension, forceSingleton);
@@ -6,8 +6,8 @@ import com.google.common.collect.Multimap;
 import org.glassfish.jersey.internal.inject.InjectionResolver;
 import org.glassfish.jersey.server.monitoring.ApplicationEventListener;
 import org.glassfish.jersey.server.spi.internal.ValueParamProvider;
+import ru.vyarus.dropwizard.guice.module.installer.util.ReflectionCache;
 import ru.vyarus.dropwizard.guice.module.installer.util.Reporter;
-import ru.vyarus.java.generics.resolver.GenericsResolver;
 import ru.vyarus.java.generics.resolver.context.GenericsContext;
 
 import javax.ws.rs.container.ContainerRequestFilter;
@@ -88,7 +88,7 @@ public class ProviderReporter extends Reporter {
                               final boolean isHkManaged, final boolean isLazy) {
         final Object[] params = new Object[1 + desc.generics];
         int pos = 0;
-        final GenericsContext generics = GenericsResolver.resolve(provider).type(ext);
+        final GenericsContext generics = ReflectionCache.get(provider).getGenerics().type(ext);
         while (pos < desc.generics) {
             params[pos] = generics.genericAsString(pos++);
         }
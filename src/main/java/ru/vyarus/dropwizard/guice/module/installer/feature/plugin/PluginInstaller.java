@@ -7,6 +7,10 @@ import com.google.inject.multibindings.Multibinder;
 import ru.vyarus.dropwizard.guice.module.installer.FeatureInstaller;
 import ru.vyarus.dropwizard.guice.module.installer.install.binding.BindingInstaller;
 import ru.vyarus.dropwizard.guice.module.installer.order.Order;
+import ru.vyarus.dropwizard.guice.module.installer.scanner.ClassMetadata;
+import ru.vyarus.dropwizard.guice.module.installer.scanner.DeclarativeMatcher;
+import ru.vyarus.dropwizard.guice.module.installer.scanner.MatchCriteria;
+import ru.vyarus.dropwizard.guice.module.installer.scanner.MetadataMatcher;
 import ru.vyarus.dropwizard.guice.module.installer.util.FeatureUtils;
 
 import java.lang.annotation.Annotation;
@@ -25,7 +29,8 @@ import java.lang.reflect.Method;
  * @since 08.10.2014
  */
 @Order(80)
-public class PluginInstaller implements FeatureInstaller<Object>, BindingInstaller {
+public class PluginInstaller implements FeatureInstaller<Object>, BindingInstaller, MetadataMatcher,
+        DeclarativeMatcher {
 
     private final PluginReporter reporter = new PluginReporter();
 
@@ -35,6 +40,17 @@ public class PluginInstaller implements FeatureInstaller<Object>, BindingInstall
                 || FeatureUtils.hasAnnotatedAnnotation(type, Plugin.class);
     }
 
+    @Override
+    public boolean matchesMetadata(final ClassMetadata type) {
+        return type.hasAnnotation(Plugin.class)
+                || type.hasAnnotatedAnnotation(Plugin.class);
+    }
+
+    @Override
+    public MatchCriteria getMatchCriteria() {
+        return MatchCriteria.builder().annotatedWith(Plugin.class).metaAnnotatedWith(Plugin.class).build();
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public <T> void install(final Binder binder, final Class<? extends T> type, final boolean lazy) {
@@ -9,6 +9,10 @@ import ru.vyarus.dropwizard.guice.module.installer.feature.web.util.WebUtils;
 import ru.vyarus.dropwizard.guice.module.installer.install.InstanceInstaller;
 import ru.vyarus.dropwizard.guice.module.installer.order.Order;
 import ru.vyarus.dropwizard.guice.module.installer.order.Ordered;
+import ru.vyarus.dropwizard.guice.module.installer.scanner.ClassMetadata;
+import ru.vyarus.dropwizard.guice.module.installer.scanner.DeclarativeMatcher;
+import ru.vyarus.dropwizard.guice.module.installer.scanner.MatchCriteria;
+import ru.vyarus.dropwizard.guice.module.installer.scanner.MetadataMatcher;
 import ru.vyarus.dropwizard.guice.module.installer.util.FeatureUtils;
 import ru.vyarus.dropwizard.guice.module.installer.util.Reporter;
 
@@ -44,7 +48,7 @@ import java.util.EnumSet;
  */
 @Order(100)
 public class WebFilterInstaller implements FeatureInstaller<Filter>,
-        InstanceInstaller<Filter>, Ordered {
+        InstanceInstaller<Filter>, Ordered, MetadataMatcher, DeclarativeMatcher {
 
     private final Reporter reporter = new Reporter(WebFilterInstaller.class, "filters =");
 
@@ -54,6 +58,17 @@ public class WebFilterInstaller implements FeatureInstaller<Filter>,
                 && FeatureUtils.hasAnnotation(type, WebFilter.class);
     }
 
+    @Override
+    public boolean matchesMetadata(final ClassMetadata type) {
+        return type.is(Filter.class)
+                && type.hasAnnotation(WebFilter.class);
+    }
+
+    @Override
+    public MatchCriteria getMatchCriteria() {
+        return MatchCriteria.builder().subtypeOf(Filter.class).annotatedWith(WebFilter.class).build();
+    }
+
     @Override
     public void install(final Environment environment, final Filter instance) {
         final Class<? extends Filter> extType = FeatureUtils.getInstanceClass(instance);
@@ -12,6 +12,10 @@ import ru.vyarus.dropwizard.guice.module.installer.install.InstanceInstaller;
 import ru.vyarus.dropwizard.guice.module.installer.option.InstallerOptionsSupport;
 import ru.vyarus.dropwizard.guice.module.installer.order.Order;
 import ru.vyarus.dropwizard.guice.module.installer.order.Ordered;
+import ru.vyarus.dropwizard.guice.module.installer.scanner.ClassMetadata;
+import ru.vyarus.dropwizard.guice.module.installer.scanner.DeclarativeMatcher;
+import ru.vyarus.dropwizard.guice.module.installer.scanner.MatchCriteria;
+import ru.vyarus.dropwizard.guice.module.installer.scanner.MetadataMatcher;
 import ru.vyarus.dropwizard.guice.module.installer.util.FeatureUtils;
 import ru.vyarus.dropwizard.guice.module.installer.util.Reporter;
 
@@ -51,7 +55,8 @@ import static ru.vyarus.dropwizard.guice.module.installer.InstallersOptions.Deny
  */
 @Order(90)
 public class WebServletInstaller extends InstallerOptionsSupport
-        implements FeatureInstaller<HttpServlet>, InstanceInstaller<HttpServlet>, Ordered {
+        implements FeatureInstaller<HttpServlet>, InstanceInstaller<HttpServlet>, Ordered, MetadataMatcher,
+        DeclarativeMatcher {
 
     private final Logger logger = LoggerFactory.getLogger(WebServletInstaller.class);
     private final Reporter reporter = new Reporter(WebServletInstaller.class, "servlets =");
@@ -62,6 +67,17 @@ public class WebServletInstaller extends InstallerOptionsSupport
                 && FeatureUtils.hasAnnotation(type, WebServlet.class);
     }
 
+    @Override
+    public boolean matchesMetadata(final ClassMetadata type) {
+        return type.is(HttpServlet.class)
+                && type.hasAnnotation(WebServlet.class);
+    }
+
+    @Override
+    public MatchCriteria getMatchCriteria() {
+        return MatchCriteria.builder().subtypeOf(HttpServlet.class).annotatedWith(WebServlet.class).build();
+    }
+
     @Override
     public void install(final Environment environment, final HttpServlet instance) {
         final Class<? extends HttpServlet> extType = FeatureUtils.getInstanceClass(instance);
@@ -10,6 +10,8 @@ import ru.vyarus.dropwizard.guice.module.installer.install.InstanceInstaller;
 import ru.vyarus.dropwizard.guice.module.installer.option.InstallerOptionsSupport;
 import ru.vyarus.dropwizard.guice.module.installer.order.Order;
 import ru.vyarus.dropwizard.guice.module.installer.order.Ordered;
+import ru.vyarus.dropwizard.guice.module.installer.scanner.ClassMetadata;
+import ru.vyarus.dropwizard.guice.module.installer.scanner.MetadataMatcher;
 import ru.vyarus.dropwizard.guice.module.installer.util.FeatureUtils;
 
 import javax.servlet.ServletContextAttributeListener;
@@ -51,7 +53,7 @@ import static ru.vyarus.dropwizard.guice.module.installer.InstallersOptions.Deny
  */
 @Order(110)
 public class WebListenerInstaller extends InstallerOptionsSupport
-        implements FeatureInstaller<EventListener>, InstanceInstaller<EventListener>, Ordered {
+        implements FeatureInstaller<EventListener>, InstanceInstaller<EventListener>, Ordered, MetadataMatcher {
 
     private static final List<Class<? extends EventListener>> CONTEXT_LISTENERS = ImmutableList.of(
             ServletContextListener.class,
@@ -84,6 +86,13 @@ public class WebListenerInstaller extends InstallerOptionsSupport
                 && hasMatch(type, SUPPORTED);
     }
 
+    @Override
+    public boolean matchesMetadata(final ClassMetadata type) {
+        // supported listener types are checked only after class loading
+        return type.is(EventListener.class)
+                && type.hasAnnotation(WebListener.class);
+    }
+
     @Override
     public void install(final Environment environment, final EventListener instance) {
         final Class<? extends EventListener> extType = FeatureUtils.getInstanceClass(instance);
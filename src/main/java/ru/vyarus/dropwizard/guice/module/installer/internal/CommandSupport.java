@@ -10,6 +10,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import ru.vyarus.dropwizard.guice.module.context.ConfigurationContext;
 import ru.vyarus.dropwizard.guice.module.context.stat.StatsTracker;
+import ru.vyarus.dropwizard.guice.module.installer.scanner.ClassMetadata;
 import ru.vyarus.dropwizard.guice.module.installer.scanner.ClassVisitor;
 import ru.vyarus.dropwizard.guice.module.installer.scanner.ClasspathScanner;
 import ru.vyarus.dropwizard.guice.module.installer.util.FeatureUtils;
@@ -87,6 +88,11 @@ public final class CommandSupport {
             this.bootstrap = bootstrap;
         }
 
+        @Override
+        public boolean accept(final ClassMetadata type) {
+            return type.is(Command.class);
+        }
+
         @Override
         @SuppressWarnings("unchecked")
         public void visit(final Class<?> type) {
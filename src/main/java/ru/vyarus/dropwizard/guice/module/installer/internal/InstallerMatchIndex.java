@@ -0,0 +1,195 @@
+package ru.vyarus.dropwizard.guice.module.installer.internal;
+
+import ru.vyarus.dropwizard.guice.module.installer.FeatureInstaller;
+import ru.vyarus.dropwizard.guice.module.installer.scanner.ClassMetadata;
+import ru.vyarus.dropwizard.guice.module.installer.scanner.DeclarativeMatcher;
+import ru.vyarus.dropwizard.guice.module.installer.scanner.MatchCriteria;
+import ru.vyarus.dropwizard.guice.module.installer.scanner.MetadataMatcher;
+import ru.vyarus.dropwizard.guice.module.installer.util.ReflectionCache;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Installers dispatch index, built from {@link DeclarativeMatcher} criteria of ordered installers. Class is
+ * resolved with single hierarchy walk: each super type, annotation and meta annotation is looked up in index
+ * (hash lookup) to find installers with satisfied conditions. {@link FeatureInstaller#matches(Class)} is called
+ * only for installers without declared criteria. Criteria are not used when installer class overrides
+ * {@link FeatureInstaller#matches(Class)} (declared not in the same class as criteria): for example, core installer
+ * extended to change recognition. As before, first matched installer (in installers order) wins.
+ * <p>
+ * Index is immutable and thread-safe.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 17.10.2026
+ */
+public class InstallerMatchIndex {
+
+    private final List<FeatureInstaller> installers;
+    private final MatchCriteria[] criteria;
+    // installers without declared criteria
+    private final BitSet plain = new BitSet();
+    // installers with metadata matching consistent with matches method
+    private final BitSet metadataAware = new BitSet();
+    // installers with criteria, but without super type or annotation conditions
+    private final BitSet anyType = new BitSet();
+    private final BitSet anyAnnotation = new BitSet();
+    private final Map<Class<?>, BitSet> byType = new HashMap<>();
+    private final Map<Class<?>, BitSet> byAnnotation = new HashMap<>();
+    private final Map<Class<?>, BitSet> byMetaAnnotation = new HashMap<>();
+
+    /**
+     * @param installers ordered installers
+     */
+    public InstallerMatchIndex(final List<FeatureInstaller> installers) {
+        this.installers = installers;
+        this.criteria = new MatchCriteria[installers.size()];
+        for (int i = 0; i < installers.size(); i++) {
+            final FeatureInstaller<?> installer = installers.get(i);
+            if (installer instanceof MetadataMatcher
+                    && isDeclaredWithMatches(installer, "matchesMetadata", ClassMetadata.class)) {
+                metadataAware.set(i);
+            }
+            if (installer instanceof DeclarativeMatcher && isDeclaredWithMatches(installer, "getMatchCriteria")) {
+                final MatchCriteria match = ((DeclarativeMatcher) installer).getMatchCriteria();
+                criteria[i] = match;
+                register(byType, match.getSupertypes(), i);
+                register(byAnnotation, match.getAnnotations(), i);
+                register(byMetaAnnotation, match.getMetaAnnotations(), i);
+                if (match.getSupertypes().isEmpty()) {
+                    anyType.set(i);
+                }
+                if (!match.hasAnnotationConditions()) {
+                    anyAnnotation.set(i);
+                }
+            } else {
+                plain.set(i);
+            }
+        }
+    }
+
+    /**
+     * @param type extension type
+     * @return matching installer or null if no matching installer found
+     */
+    public FeatureInstaller findInstaller(final Class<?> type) {
+        final BitSet candidates = (BitSet) plain.clone();
+        if (!Modifier.isAbstract(type.getModifiers()) && plain.cardinality() < installers.size()) {
+            candidates.or(matchCriteria(type));
+        }
+        for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+            final FeatureInstaller<?> installer = installers.get(i);
+            if (!plain.get(i) || installer.matches(type)) {
+                return installer;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Used only with class files analysis to avoid loading classes which could not be extensions.
+     * Installers, not implementing {@link MetadataMatcher} or {@link DeclarativeMatcher} (or overriding
+     * {@link FeatureInstaller#matches(Class)} in subclass), accept all classes.
+     *
+     * @param type class metadata
+     * @return true if class could be recognized as extension by at least one installer
+     */
+    public boolean isCandidate(final ClassMetadata type) {
+        for (int i = 0; i < installers.size(); i++) {
+            final boolean res;
+            if (metadataAware.get(i)) {
+                res = ((MetadataMatcher) installers.get(i)).matchesMetadata(type);
+            } else {
+                res = criteria[i] == null || criteria[i].matchesMetadata(type);
+            }
+            if (res) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private BitSet matchCriteria(final Class<?> type) {
+        final BitSet types = (BitSet) anyType.clone();
+        if (!byType.isEmpty()) {
+            for (Class<?> supertype : collectSupertypes(type)) {
+                lookup(byType, supertype, types);
+            }
+        }
+        final BitSet annotations = (BitSet) anyAnnotation.clone();
+        if (!byAnnotation.isEmpty() || !byMetaAnnotation.isEmpty()) {
+            // the same as FeatureUtils: annotations searched only on class and super classes
+            for (Annotation ann : ReflectionCache.get(type).getHierarchyAnnotations()) {
+                lookup(byAnnotation, ann.annotationType(), annotations);
+                if (!byMetaAnnotation.isEmpty()) {
+                    for (Annotation meta : ann.annotationType().getAnnotations()) {
+                        lookup(byMetaAnnotation, meta.annotationType(), annotations);
+                    }
+                }
+            }
+        }
+        types.and(annotations);
+        return types;
+    }
+
+    /**
+     * Declared criteria (or metadata matching) could be trusted only if {@link FeatureInstaller#matches(Class)}
+     * is declared in the same class. Otherwise, installer subclass could change recognition logic and so matches
+     * method must be called directly.
+     *
+     * @param installer  installer
+     * @param method     criteria method name
+     * @param parameters criteria method parameters
+     * @return true if criteria method could be used instead of matches method
+     */
+    private static boolean isDeclaredWithMatches(final FeatureInstaller<?> installer,
+                                                 final String method,
+                                                 final Class<?>... parameters) {
+        final Class<?> type = installer.getClass();
+        try {
+            return type.getMethod("matches", Class.class).getDeclaringClass()
+                    .equals(type.getMethod(method, parameters).getDeclaringClass());
+        } catch (NoSuchMethodException ex) {
+            throw new IllegalStateException("Failed to resolve installer " + type.getName() + " methods", ex);
+        }
+    }
+
+    private static Set<Class<?>> collectSupertypes(final Class<?> type) {
+        final Set<Class<?>> res = new HashSet<>();
+        final Deque<Class<?>> queue = new ArrayDeque<>();
+        queue.add(type);
+        while (!queue.isEmpty()) {
+            final Class<?> current = queue.poll();
+            if (res.add(current)) {
+                if (current.getSuperclass() != null) {
+                    queue.add(current.getSuperclass());
+                }
+                Collections.addAll(queue, current.getInterfaces());
+            }
+        }
+        return res;
+    }
+
+    private static void register(final Map<Class<?>, BitSet> index, final List<? extends Class<?>> types,
+                                 final int position) {
+        for (Class<?> type : types) {
+            index.computeIfAbsent(type, k -> new BitSet()).set(position);
+        }
+    }
+
+    private static void lookup(final Map<Class<?>, BitSet> index, final Class<?> type, final BitSet res) {
+        final BitSet match = index.get(type);
+        if (match != null) {
+            res.or(match);
+        }
+    }
+}
@@ -1,14 +1,23 @@
 package ru.vyarus.dropwizard.guice.module.installer.internal;
 
+import com.google.inject.Key;
 import com.google.inject.Module;
+import com.google.inject.Stage;
+import com.google.inject.spi.Element;
+import com.google.inject.spi.Elements;
 import com.google.inject.util.Modules;
+import ru.vyarus.dropwizard.guice.GuiceyOptions;
 import ru.vyarus.dropwizard.guice.module.context.ConfigurationContext;
 import ru.vyarus.dropwizard.guice.module.context.option.Options;
 import ru.vyarus.dropwizard.guice.module.support.*;
+import ru.vyarus.dropwizard.guice.module.yaml.bind.ConfigBindingModule;
+import ru.vyarus.dropwizard.guice.module.yaml.bind.ConfigInjectionPoints;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Helper class for guice modules processing.
@@ -49,19 +58,35 @@ public final class ModulesSupport {
     }
 
     /**
-     * Prepares modules to use for injector creation (applies module overrides).
+     * Prepares modules to use for injector creation (applies module overrides). In lazy configuration bindings mode
+     * modules are recorded in order to bind only injected configuration paths
+     * (see {@link GuiceyOptions#LazyConfigurationBindings}).
      *
      * @param context configuration context
      * @return modules for injector creation
      */
     public static Iterable<Module> prepareModules(final ConfigurationContext context) {
-        final List<Module> normalModules = context.getNormalModules();
-        final List<Module> overridingModules = context.getOverridingModules();
+        List<Module> normalModules = context.getNormalModules();
+        List<Module> overridingModules = context.getOverridingModules();
         // use different lists to avoid possible side effects from listeners (not allowed to exclude or modify order)
         context.lifecycle().injectorCreation(
                 new ArrayList<>(normalModules),
                 new ArrayList<>(overridingModules),
                 context.getDisabledModules());
+        if (context.isLazyConfigurationBindings()) {
+            // modules are configured only once: injector created from recorded elements
+            final Stage stage = context.option(GuiceyOptions.InjectorStage);
+            final List<Element> normal = Elements.getElements(stage, normalModules);
+            final List<Element> overriding = Elements.getElements(stage, overridingModules);
+            // extensions could be created by guice just-in-time (without bindings in modules)
+            final Set<Key<?>> configKeys = ConfigInjectionPoints.collect(normal, context.getEnabledExtensions());
+            configKeys.addAll(ConfigInjectionPoints.collect(overriding));
+            normalModules = Arrays.asList(Elements.getModule(normal), new ConfigBindingModule(
+                    context.getBootstrap(), context.getConfiguration(), context.getConfigurationTree(), configKeys,
+                    context.getReloadableConfiguration()));
+            overridingModules = overriding.isEmpty() ? Collections.emptyList()
+                    : Collections.singletonList(Elements.getModule(overriding));
+        }
         return overridingModules.isEmpty() ? normalModules
                 : Collections.singletonList(Modules.override(normalModules).with(overridingModules));
     }
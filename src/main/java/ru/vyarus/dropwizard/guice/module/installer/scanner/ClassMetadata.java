@@ -0,0 +1,310 @@
+package ru.vyarus.dropwizard.guice.module.installer.scanner;
+
+import ru.vyarus.dropwizard.guice.module.installer.scanner.util.ClassMetadataReader;
+
+import java.lang.annotation.Annotation;
+import java.lang.annotation.Inherited;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Class header information, read directly from class file (without class loading). Used by classpath scanner
+ * when {@link ru.vyarus.dropwizard.guice.GuiceyOptions#AnalyzeClassFiles} enabled in order to load only classes,
+ * which could be actually used.
+ * <p>
+ * Check methods mirror {@link ru.vyarus.dropwizard.guice.module.installer.util.FeatureUtils} methods. All checks
+ * are conservative: when some class in hierarchy could not be read, check assumes positive result (class will
+ * be loaded and checked with reflection).
+ *
+ * @author Vyacheslav Rusakov
+ * @see MetadataMatcher
+ * @since 16.10.2026
+ */
+@SuppressWarnings("PMD.TooManyMethods")
+public final class ClassMetadata {
+    private static final String OBJECT = Object.class.getName();
+
+    private final ClassMetadataReader reader;
+    private final String name;
+    private final int access;
+    private final String superName;
+    private final List<String> interfaces;
+    private final List<String> annotations;
+    private final boolean inner;
+
+    // lazy hierarchy closure
+    private volatile Set<String> supertypes;
+    private volatile boolean incompleteHierarchy;
+
+    @SuppressWarnings("checkstyle:ParameterNumber")
+    public ClassMetadata(final ClassMetadataReader reader,
+                         final String name,
+                         final int access,
+                         final String superName,
+                         final List<String> interfaces,
+                         final List<String> annotations,
+                         final boolean inner) {
+        this.reader = reader;
+        this.name = name;
+        this.access = access;
+        this.superName = superName;
+        this.interfaces = interfaces;
+        this.annotations = annotations;
+        this.inner = inner;
+    }
+
+    /**
+     * @return class name (the same as {@link Class#getName()})
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return super class name or null for {@link Object} and interfaces
+     */
+    public String getSuperclassName() {
+        return OBJECT.equals(superName) ? null : superName;
+    }
+
+    /**
+     * @return directly implemented interface names
+     */
+    public List<String> getInterfaceNames() {
+        return interfaces;
+    }
+
+    /**
+     * @return names of runtime visible annotations, declared directly on class
+     */
+    public List<String> getAnnotationNames() {
+        return annotations;
+    }
+
+    /**
+     * @return super class metadata or null if class has no super class or super class could not be read
+     */
+    public ClassMetadata getSuperclass() {
+        final String sup = getSuperclassName();
+        return sup == null ? null : reader.read(sup);
+    }
+
+    /**
+     * @return true for abstract classes and interfaces
+     */
+    public boolean isAbstract() {
+        return Modifier.isAbstract(access);
+    }
+
+    /**
+     * @return true if interface (or annotation)
+     */
+    public boolean isInterface() {
+        return Modifier.isInterface(access);
+    }
+
+    /**
+     * @return true for non static inner classes (including anonymous and local classes)
+     */
+    public boolean isInner() {
+        return inner;
+    }
+
+    /**
+     * Conservative check: if some type in hierarchy is not readable, true returned.
+     *
+     * @param type type to check
+     * @return true if class is the same or sub type of provided type
+     */
+    public boolean isAssignableTo(final Class<?> type) {
+        return Object.class == type || name.equals(type.getName())
+                || getSupertypes().contains(type.getName()) || incompleteHierarchy;
+    }
+
+    /**
+     * Metadata analog of {@link ru.vyarus.dropwizard.guice.module.installer.util.FeatureUtils#is(Class, Class)}.
+     *
+     * @param required required marker superclass or interface
+     * @return true if type implements interface or extends required type and type is not abstract
+     */
+    public boolean is(final Class<?> required) {
+        return !isAbstract() && isAssignableTo(required);
+    }
+
+    /**
+     * Metadata analog of
+     * {@link ru.vyarus.dropwizard.guice.module.installer.util.FeatureUtils#hasAnnotation(Class, Class)}.
+     *
+     * @param annotation annotation to find
+     * @return true if annotation found on class or super class and type is not abstract, false otherwise
+     */
+    public boolean hasAnnotation(final Class<? extends Annotation> annotation) {
+        return !isAbstract() && findInHierarchy(annotation, true);
+    }
+
+    /**
+     * Metadata analog of
+     * {@link ru.vyarus.dropwizard.guice.module.installer.util.FeatureUtils#hasAnnotatedAnnotation(Class, Class)}.
+     *
+     * @param annotation annotation which must be found on target annotation
+     * @return true if annotation found on one of class or super class annotations and type is not abstract,
+     * false otherwise
+     */
+    public boolean hasAnnotatedAnnotation(final Class<? extends Annotation> annotation) {
+        return !isAbstract() && walkHierarchy(true, type -> {
+            boolean res = false;
+            for (String ann : type.annotations) {
+                final ClassMetadata annType = reader.read(ann);
+                // not readable annotation may be an annotated annotation
+                if (annType == null || annType.annotations.contains(annotation.getName())) {
+                    res = true;
+                    break;
+                }
+            }
+            return res;
+        });
+    }
+
+    /**
+     * Analog of {@link Class#isAnnotationPresent(Class)} (counting {@link Inherited} annotations). Abstract
+     * classes are not excluded.
+     *
+     * @param annotation annotation to check
+     * @return true if annotation present on class (or inherited annotation could be declared on not readable
+     * super class)
+     * @see #isSuperclassHierarchyIncomplete()
+     */
+    public boolean isAnnotationPresent(final Class<? extends Annotation> annotation) {
+        return annotations.contains(annotation.getName())
+                || annotation.isAnnotationPresent(Inherited.class) && findInHierarchy(annotation, false);
+    }
+
+    /**
+     * Checks are conservative and assume positive result for not readable super class. For exclusion checks (like
+     * {@link #isAnnotationPresent(Class)} for {@link InvisibleForScanner}) such result is not reliable and class
+     * must be checked with reflection.
+     *
+     * @return true if some super class could not be read (super classes annotations are unknown)
+     */
+    public boolean isSuperclassHierarchyIncomplete() {
+        ClassMetadata current = this;
+        while (current.getSuperclassName() != null) {
+            current = current.getSuperclass();
+            if (current == null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks only directly implemented interfaces (without hierarchy). Interface which could not be read
+     * is assumed to be annotated.
+     *
+     * @param annotation annotation to check
+     * @return true if annotation present on any directly implemented interface
+     */
+    public boolean hasAnnotatedInterface(final Class<? extends Annotation> annotation) {
+        boolean res = false;
+        for (String iface : interfaces) {
+            final ClassMetadata meta = reader.read(iface);
+            if (meta == null || meta.annotations.contains(annotation.getName())) {
+                res = true;
+                break;
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Class recognition depends on class hierarchy and annotations, so when one of these types is changed,
+     * class must be recognized again.
+     *
+     * @return names of all super types, annotations of class and super types and annotations of these annotations
+     */
+    public Set<String> getDependencies() {
+        final Set<String> res = new HashSet<>(getSupertypes());
+        final List<ClassMetadata> types = new ArrayList<>();
+        types.add(this);
+        for (String type : getSupertypes()) {
+            final ClassMetadata meta = reader.read(type);
+            if (meta != null) {
+                types.add(meta);
+            }
+        }
+        for (ClassMetadata type : types) {
+            for (String ann : type.annotations) {
+                final ClassMetadata annType = res.add(ann) ? reader.read(ann) : null;
+                if (annType != null) {
+                    res.addAll(annType.annotations);
+                }
+            }
+        }
+        return res;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    private boolean findInHierarchy(final Class<? extends Annotation> annotation, final boolean includeSelf) {
+        return walkHierarchy(includeSelf, type -> type.annotations.contains(annotation.getName()));
+    }
+
+    /**
+     * Checks class and all super classes (excluding {@link Object}) with provided predicate. When super class
+     * could not be read, true returned.
+     *
+     * @param includeSelf true to check current class, false to start from super class
+     * @param check       check to apply
+     * @return true if check succeed on any class in hierarchy or hierarchy could not be fully read
+     */
+    private boolean walkHierarchy(final boolean includeSelf, final Predicate<ClassMetadata> check) {
+        boolean res = includeSelf && check.test(this);
+        ClassMetadata current = this;
+        while (!res && current.getSuperclassName() != null) {
+            current = current.getSuperclass();
+            res = current == null || check.test(current);
+        }
+        return res;
+    }
+
+    private Set<String> getSupertypes() {
+        if (supertypes == null) {
+            synchronized (this) {
+                if (supertypes == null) {
+                    final Set<String> res = new HashSet<>();
+                    boolean incomplete = false;
+                    if (superName != null) {
+                        incomplete = collect(superName, res);
+                    }
+                    for (String iface : interfaces) {
+                        incomplete |= collect(iface, res);
+                    }
+                    incompleteHierarchy = incomplete;
+                    supertypes = res;
+                }
+            }
+        }
+        return supertypes;
+    }
+
+    private boolean collect(final String type, final Set<String> res) {
+        boolean incomplete = false;
+        if (res.add(type) && !OBJECT.equals(type)) {
+            final ClassMetadata meta = reader.read(type);
+            if (meta == null) {
+                incomplete = true;
+            } else {
+                res.addAll(meta.getSupertypes());
+                incomplete = meta.incompleteHierarchy;
+            }
+        }
+        return incomplete;
+    }
+}
@@ -0,0 +1,126 @@
+package ru.vyarus.dropwizard.guice.module.installer.scanner;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * Class name filter, applied to scanned class names before class loading (see
+ * {@link ru.vyarus.dropwizard.guice.GuiceyOptions#ScanIncludes} and
+ * {@link ru.vyarus.dropwizard.guice.GuiceyOptions#ScanExcludes}). Class is accepted when it matches at least one
+ * include pattern (or no includes declared) and does not match any exclude pattern.
+ * <p>
+ * Patterns are matched against full class name (e.g. "com.foo.dto.Bean"). Glob syntax:
+ * <ul>
+ * <li>{@code **} - any characters (including package separator): {@code **.dto.**} matches all classes in all
+ * "dto" packages</li>
+ * <li>{@code *} - any characters inside one name segment: {@code **.*Test*} matches classes containing "Test"
+ * in simple name</li>
+ * <li>{@code ?} - one character inside name segment</li>
+ * </ul>
+ * Pattern with "regex:" prefix is used as regular expression (e.g. {@code regex:.*\.proto\.[A-Z].*}).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 17.10.2026
+ */
+public class ClassNameFilter implements Predicate<String> {
+    private static final String REGEX_PREFIX = "regex:";
+
+    private final List<Pattern> includes;
+    private final List<Pattern> excludes;
+    private final String key;
+
+    /**
+     * @param includes include patterns (may be empty)
+     * @param excludes exclude patterns (may be empty)
+     */
+    public ClassNameFilter(final String[] includes, final String[] excludes) {
+        this.includes = compile(includes);
+        this.excludes = compile(excludes);
+        this.key = String.join(",", includes) + ";" + String.join(",", excludes);
+    }
+
+    /**
+     * @return true if filter has at least one pattern
+     */
+    public boolean isActive() {
+        return !includes.isEmpty() || !excludes.isEmpty();
+    }
+
+    /**
+     * Scan caches store recognition results for filtered classes, so filter must be a part of cache key.
+     *
+     * @return filter patterns identity (empty string for inactive filter)
+     */
+    public String getKey() {
+        return isActive() ? key : "";
+    }
+
+    @Override
+    public boolean test(final String className) {
+        return (includes.isEmpty() || matches(includes, className)) && !matches(excludes, className);
+    }
+
+    /**
+     * @param names class names
+     * @return accepted class names (in the same order)
+     */
+    public List<String> filter(final List<String> names) {
+        final List<String> res = new ArrayList<>(names.size());
+        for (String name : names) {
+            if (test(name)) {
+                res.add(name);
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Converts glob pattern into regex.
+     *
+     * @param pattern glob or regex pattern (with "regex:" prefix)
+     * @return compiled pattern
+     */
+    public static Pattern compile(final String pattern) {
+        if (pattern.startsWith(REGEX_PREFIX)) {
+            return Pattern.compile(pattern.substring(REGEX_PREFIX.length()));
+        }
+        final StringBuilder res = new StringBuilder();
+        int i = 0;
+        while (i < pattern.length()) {
+            final char c = pattern.charAt(i);
+            if (c == '*') {
+                if (i + 1 < pattern.length() && pattern.charAt(i + 1) == '*') {
+                    res.append(".*");
+                    i++;
+                } else {
+                    res.append("[^.]*");
+                }
+            } else if (c == '?') {
+                res.append("[^.]");
+            } else {
+                res.append(Pattern.quote(String.valueOf(c)));
+            }
+            i++;
+        }
+        return Pattern.compile(res.toString());
+    }
+
+    private static List<Pattern> compile(final String[] patterns) {
+        final List<Pattern> res = new ArrayList<>(patterns.length);
+        for (String pattern : patterns) {
+            res.add(compile(pattern));
+        }
+        return res;
+    }
+
+    private static boolean matches(final List<Pattern> patterns, final String className) {
+        for (Pattern pattern : patterns) {
+            if (pattern.matcher(className).matches()) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -8,6 +8,18 @@ package ru.vyarus.dropwizard.guice.module.installer.scanner;
  */
 public interface ClassVisitor {
 
+    /**
+     * Called before class loading when {@link ru.vyarus.dropwizard.guice.GuiceyOptions#AnalyzeClassFiles}
+     * enabled. Only accepted classes would be loaded and passed into {@link #visit(Class)}. Not called when
+     * class files analysis is disabled (all classes are loaded in this case).
+     *
+     * @param type class metadata, read from class file
+     * @return true to load and visit class, false to skip class
+     */
+    default boolean accept(final ClassMetadata type) {
+        return true;
+    }
+
     /**
      * Called for every class found by classpath scanner (but avoiding classes annotated with
      * {@code @InvisibleForScanner}).
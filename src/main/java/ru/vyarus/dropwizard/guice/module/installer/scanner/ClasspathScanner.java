@@ -4,19 +4,33 @@ import com.google.common.base.Joiner;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Stopwatch;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import ru.vyarus.dropwizard.guice.module.context.stat.StatsTracker;
+import ru.vyarus.dropwizard.guice.module.installer.scanner.util.ClassMetadataReader;
+import ru.vyarus.dropwizard.guice.module.installer.scanner.util.DirectoryWatchIndex;
+import ru.vyarus.dropwizard.guice.module.installer.scanner.util.JarIndex;
 import ru.vyarus.dropwizard.guice.module.installer.scanner.util.OReflectionHelper;
+import ru.vyarus.dropwizard.guice.module.installer.scanner.util.ParallelClassFinder;
 
+import java.io.File;
+import java.io.IOException;
 import java.lang.reflect.Modifier;
+import java.net.URL;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static ru.vyarus.dropwizard.guice.module.context.stat.Stat.ScanClassesCount;
+import static ru.vyarus.dropwizard.guice.module.context.stat.Stat.ScanLoadedClassesCount;
+import static ru.vyarus.dropwizard.guice.module.context.stat.Stat.ScanParallelTime;
+import static ru.vyarus.dropwizard.guice.module.context.stat.Stat.ScanSkippedClassesCount;
 import static ru.vyarus.dropwizard.guice.module.context.stat.Stat.ScanTime;
+import static ru.vyarus.dropwizard.guice.module.context.stat.Stat.ScanWorkersCount;
 
 /**
  * Classpath scanner, reduced to provided packages.
@@ -24,6 +38,30 @@ import static ru.vyarus.dropwizard.guice.module.context.stat.Stat.ScanTime;
  * <p>
  * Actual scan is performed only on first {@link #scan(ClassVisitor)} call. Later scans used cached classes.
  * {@link #cleanup()} must be used to clear cache.
+ * <p>
+ * When class files analysis enabled ({@link ru.vyarus.dropwizard.guice.GuiceyOptions#AnalyzeClassFiles}),
+ * scanner only resolves class names and reads class headers directly from class files. Class is loaded only
+ * when it is accepted by visitor ({@link ClassVisitor#accept(ClassMetadata)}). Loaded classes are cached between
+ * scans.
+ * <p>
+ * When parallel scan enabled ({@link ru.vyarus.dropwizard.guice.GuiceyOptions#ParallelScan}), packages are
+ * traversed and classes are loaded (or class files are parsed) with {@link ParallelClassFinder}. Found classes
+ * are sorted by name.
+ * <p>
+ * When scan cache used ({@link ru.vyarus.dropwizard.guice.GuiceyOptions#ScanCacheFile}), class names are taken
+ * from cache (if classpath was not changed) instead of packages traversal. Shared cache
+ * ({@link ru.vyarus.dropwizard.guice.GuiceyOptions#ShareScanResults}) is checked first: when some application
+ * already performed the same scan in current JVM, its results are used.
+ * <p>
+ * Class name filters ({@link ru.vyarus.dropwizard.guice.GuiceyOptions#ScanIncludes} and
+ * {@link ru.vyarus.dropwizard.guice.GuiceyOptions#ScanExcludes}) are applied to resolved class names (after
+ * cache) so filtered classes are never loaded or parsed.
+ * <p>
+ * When directories watch enabled ({@link ru.vyarus.dropwizard.guice.GuiceyOptions#WatchScanDirectories}), package
+ * directories are indexed with {@link DirectoryWatchIndex}: directory tree is traversed only once (per JVM) and
+ * then updated with file system events. Scan caches are not used in this case (live index is already a cache).
+ * Changed classes could be resolved with {@link #getChangedSince(long)}. Watched indexes must be released with
+ * {@link #close()} (on application shutdown).
  *
  * @author Vyacheslav Rusakov
  * @since 31.08.2014
@@ -36,7 +74,22 @@ public class ClasspathScanner {
     private final StatsTracker tracker;
 
     private final Set<String> packages;
+    private final boolean analyzeClassFiles;
+    private final boolean parallel;
+    private final ScanCache cache;
+    private final SharedScanCache.Entry shared;
+    private final ClassNameFilter filter;
+    private final boolean watch;
     private List<Class> scanned;
+    // class files analysis mode state
+    private List<String> scannedNames;
+    private ClassMetadataReader reader;
+    private Map<String, Class<?>> loaded;
+    // count of classes skipped by name filter (during last scan)
+    private int skipped;
+    // directories watch mode state
+    private List<DirectoryWatchIndex> watched;
+    private long revision;
 
     public ClasspathScanner(final Set<String> packages) {
         // for backwards compatibility allow using without tracker
@@ -44,7 +97,41 @@ public class ClasspathScanner {
     }
 
     public ClasspathScanner(final Set<String> packages, final StatsTracker tracker) {
+        this(packages, false, false, tracker);
+    }
+
+    /**
+     * @param packages          packages to scan
+     * @param analyzeClassFiles true to read class files instead of loading all classes
+     * @param parallel          true to use parallel scan
+     * @param tracker           stats tracker (may be null)
+     */
+    public ClasspathScanner(final Set<String> packages, final boolean analyzeClassFiles,
+                            final boolean parallel, final StatsTracker tracker) {
+        this(packages, analyzeClassFiles, parallel, null, null, null, false, tracker);
+    }
+
+    /**
+     * @param packages          packages to scan
+     * @param analyzeClassFiles true to read class files instead of loading all classes
+     * @param parallel          true to use parallel scan
+     * @param cache             scan cache (may be null)
+     * @param shared            shared scan cache entry (may be null)
+     * @param filter            class name filter (may be null)
+     * @param watch             true to use live directories index
+     * @param tracker           stats tracker (may be null)
+     */
+    @SuppressWarnings("checkstyle:ParameterNumber")
+    public ClasspathScanner(final Set<String> packages, final boolean analyzeClassFiles,
+                            final boolean parallel, final ScanCache cache, final SharedScanCache.Entry shared,
+                            final ClassNameFilter filter, final boolean watch, final StatsTracker tracker) {
         this.packages = validate(packages);
+        this.analyzeClassFiles = analyzeClassFiles;
+        this.parallel = parallel;
+        this.cache = cache;
+        this.shared = shared;
+        this.filter = filter == null || !filter.isActive() ? null : filter;
+        this.watch = watch;
         this.tracker = tracker;
         // perform scan before to fill cache and get accurate traversing stats
         performScan();
@@ -56,12 +143,49 @@ public class ClasspathScanner {
      * @param visitor visitor to investigate found classes
      */
     public void scan(final ClassVisitor visitor) {
-        if (scanned == null) {
-            performScan();
+        if (analyzeClassFiles) {
+            scanClassFiles(visitor);
+        } else {
+            if (scanned == null) {
+                performScan();
+            }
+            for (Class<?> cls : scanned) {
+                visitor.visit(cls);
+            }
         }
-        for (Class<?> cls : scanned) {
-            visitor.visit(cls);
+    }
+
+    /**
+     * Revision is used only with live directories index.
+     *
+     * @return revision of directory changes at the moment of last scan
+     * @see DirectoryWatchIndex#collectClassNames(List, List)
+     */
+    public long getRevision() {
+        return revision;
+    }
+
+    /**
+     * Could be used to re-use results of previous scan (only changed classes must be processed). Scanned classes,
+     * extending, implementing or annotated with changed classes (see {@link ClassMetadata#getDependencies()}),
+     * are also considered changed.
+     *
+     * @param since revision of some previous scan
+     * @return names of classes changed after revision (empty set if directories are not watched) or null if
+     * changes are unknown
+     */
+    public Set<String> getChangedSince(final long since) {
+        final Set<String> res = new HashSet<>();
+        if (watched != null) {
+            for (DirectoryWatchIndex index : watched) {
+                final Set<String> changed = index.getChangedSince(since);
+                if (changed == null) {
+                    return null;
+                }
+                res.addAll(changed);
+            }
         }
+        return res.isEmpty() ? res : addDependents(res);
     }
 
     /**
@@ -69,6 +193,20 @@ public class ClasspathScanner {
      */
     public void cleanup() {
         scanned = null;
+        scannedNames = null;
+        reader = null;
+        loaded = null;
+    }
+
+    /**
+     * Releases watched directories indexes (see {@link DirectoryWatchIndex#release(List)}). Must be called on
+     * application shutdown.
+     */
+    public void close() {
+        if (watched != null) {
+            DirectoryWatchIndex.release(watched);
+            watched = null;
+        }
     }
 
     /**
@@ -100,31 +238,248 @@ public class ClasspathScanner {
     @SuppressWarnings("PMD.PrematureDeclaration")
     private void performScan() {
         final Stopwatch timer = tracker == null ? null : tracker.timer(ScanTime);
-        int count = 0;
+        final int count;
+        if (parallel) {
+            count = parallelScan();
+        } else if (analyzeClassFiles) {
+            count = resolveClassNames();
+        } else {
+            count = loadClasses();
+        }
+        if (!analyzeClassFiles && count > SCAN_THRESHOLD) {
+            logger.warn("{} classes were loaded while scanning '{}' packages. Reduce packages to scan "
+                    + "to increase efficiency.", count, Joiner.on(',').join(packages));
+        }
+        if (timer != null) {
+            timer.stop();
+            tracker.count(ScanClassesCount, count);
+            if (!analyzeClassFiles) {
+                tracker.count(ScanLoadedClassesCount, count);
+            }
+            if (filter != null) {
+                tracker.count(ScanSkippedClassesCount, skipped);
+            }
+        }
+    }
+
+    private int loadClasses() {
+        final List<String> names = applyFilter(findClassNames());
         scanned = Lists.newArrayList();
+        for (String name : names) {
+            final Class<?> cls = loadClass(name);
+            if (isVisible(cls)) {
+                scanned.add(cls);
+            }
+        }
+        return names.size();
+    }
+
+    private int parallelScan() {
+        final int workers = Runtime.getRuntime().availableProcessors();
+        final Stopwatch timer = tracker == null ? null : tracker.timer(ScanParallelTime);
+        try (ParallelClassFinder finder = new ParallelClassFinder(workers)) {
+            List<String> names = watch ? findWatchedClassNames() : getCachedNames();
+            if (names == null) {
+                names = finder.findClassNames(packages, getLoader());
+                cacheNames(names);
+            }
+            names = applyFilter(names);
+            if (analyzeClassFiles) {
+                initClassFilesMode(names);
+                finder.readMetadata(names, reader);
+            } else {
+                scanned = Lists.newArrayList();
+                for (Class<?> cls : finder.loadClasses(names, getLoader())) {
+                    if (isVisible(cls)) {
+                        scanned.add(cls);
+                    }
+                }
+            }
+            return names.size();
+        } finally {
+            if (timer != null) {
+                timer.stop();
+                tracker.count(ScanWorkersCount, workers);
+            }
+        }
+    }
+
+    private void initClassFilesMode(final List<String> names) {
+        scannedNames = names;
+        reader = new ClassMetadataReader(getLoader());
+        loaded = Maps.newHashMap();
+    }
+
+    private int resolveClassNames() {
+        initClassFilesMode(applyFilter(findClassNames()));
+        return scannedNames.size();
+    }
+
+    private List<String> findClassNames() {
+        if (watch) {
+            return findWatchedClassNames();
+        }
+        final List<String> cached = getCachedNames();
+        if (cached != null) {
+            return cached;
+        }
+        final List<String> res = Lists.newArrayList();
+        // each jar is indexed just once
+        final Map<String, JarIndex> jarIndexes = Maps.newHashMap();
         for (String pkg : packages) {
-            final List<Class<?>> found;
             try {
-                found = OReflectionHelper.getClassesFor(pkg, Thread.currentThread().getContextClassLoader());
+                res.addAll(OReflectionHelper.getClassNamesFor(pkg, getLoader(), jarIndexes));
             } catch (ClassNotFoundException e) {
                 throw new IllegalStateException("Failed to scan classpath", e);
             }
-            count += found.size();
-            for (Class<?> cls : found) {
-                // only static inner classes are allowed because guice will not be able to instantiate inner class
-                final boolean isInner = cls.getEnclosingClass() != null && !Modifier.isStatic(cls.getModifiers());
-                if (!isInner && !cls.isAnnotationPresent(InvisibleForScanner.class)) {
-                    scanned.add(cls);
+        }
+        cacheNames(res);
+        return res;
+    }
+
+    /**
+     * Jars are indexed as usual and directories are resolved from live index. Directory indexes are acquired only
+     * on first scan.
+     *
+     * @return class names
+     */
+    private List<String> findWatchedClassNames() {
+        final List<String> names = Lists.newArrayList();
+        final Map<String, JarIndex> jarIndexes = Maps.newHashMap();
+        final boolean acquire = watched == null;
+        if (acquire) {
+            watched = Lists.newArrayList();
+        }
+        try {
+            for (String pkg : packages) {
+                for (URL res : OReflectionHelper.getPackageResources(pkg, getLoader())) {
+                    if (OReflectionHelper.isJar(res)) {
+                        names.addAll(OReflectionHelper.findJarClasses(res, pkg, jarIndexes));
+                    } else if (acquire) {
+                        final File directory = OReflectionHelper.toDirectory(res);
+                        OReflectionHelper.checkDirectory(directory, pkg);
+                        watched.add(DirectoryWatchIndex.get(directory, pkg));
+                    }
                 }
             }
+        } catch (ClassNotFoundException | IOException e) {
+            throw new IllegalStateException("Failed to scan classpath", e);
         }
-        if (count > SCAN_THRESHOLD) {
-            logger.warn("{} classes were loaded while scanning '{}' packages. Reduce packages to scan "
-                    + "to increase efficiency.", count, Joiner.on(',').join(packages));
+        revision = DirectoryWatchIndex.collectClassNames(watched, names);
+        return names;
+    }
+
+    /**
+     * Reads headers of scanned classes to find classes depending on changed classes.
+     *
+     * @param changed changed classes
+     * @return changed classes with dependent classes or null if scanned classes are unknown
+     */
+    private Set<String> addDependents(final Set<String> changed) {
+        final List<String> names;
+        if (scannedNames != null) {
+            names = scannedNames;
+        } else if (scanned != null) {
+            names = Lists.transform(scanned, Class::getName);
+        } else {
+            return null;
         }
-        if (timer != null) {
-            timer.stop();
-            tracker.count(ScanClassesCount, count);
+        final ClassMetadataReader meta = reader == null ? new ClassMetadataReader(getLoader()) : reader;
+        final Set<String> res = new HashSet<>(changed);
+        for (String name : names) {
+            final ClassMetadata type = meta.read(name);
+            // unreadable class considered changed
+            if (!res.contains(name) && (type == null || !Collections.disjoint(type.getDependencies(), changed))) {
+                res.add(name);
+            }
         }
+        return res;
+    }
+
+    /**
+     * Filter is applied after cache: cached class names are always complete, but caches are still keyed by filter
+     * patterns because stored recognition results cover only filtered classes.
+     *
+     * @param names resolved class names
+     * @return names, accepted by filter
+     */
+    private List<String> applyFilter(final List<String> names) {
+        List<String> res = names;
+        if (filter != null) {
+            res = filter.filter(names);
+            skipped = names.size() - res.size();
+        }
+        return res;
+    }
+
+    private List<String> getCachedNames() {
+        // when shared results used, file cache is not touched at all
+        List<String> res = shared == null ? null : shared.getClassNames();
+        if (res == null && cache != null && cache.load(getLoader())) {
+            res = cache.getClassNames();
+            if (shared != null) {
+                shared.setClassNames(res);
+            }
+        }
+        return res;
+    }
+
+    private void cacheNames(final List<String> names) {
+        if (cache != null) {
+            cache.setClassNames(names);
+        }
+        if (shared != null) {
+            shared.setClassNames(names);
+        }
+    }
+
+    private void scanClassFiles(final ClassVisitor visitor) {
+        if (scannedNames == null) {
+            performScan();
+        }
+        final int loadedBefore = loaded.size();
+        for (String name : scannedNames) {
+            Class<?> cls = loaded.get(name);
+            if (cls == null) {
+                final ClassMetadata meta = reader.read(name);
+                // when class file (or super class file) could not be read, fallback to usual class check
+                final boolean reflectiveCheck = meta == null || meta.isSuperclassHierarchyIncomplete();
+                final boolean accepted = meta == null || !meta.isInner()
+                        && (reflectiveCheck || !meta.isAnnotationPresent(InvisibleForScanner.class))
+                        && visitor.accept(meta);
+                if (accepted) {
+                    cls = loadClass(name);
+                    if (reflectiveCheck && !isVisible(cls)) {
+                        cls = null;
+                    } else {
+                        loaded.put(name, cls);
+                    }
+                }
+            }
+            if (cls != null) {
+                visitor.visit(cls);
+            }
+        }
+        if (tracker != null) {
+            tracker.count(ScanLoadedClassesCount, loaded.size() - loadedBefore);
+        }
+    }
+
+    private Class<?> loadClass(final String name) {
+        try {
+            return Class.forName(name, true, getLoader());
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("Failed to scan classpath", e);
+        }
+    }
+
+    private boolean isVisible(final Class<?> cls) {
+        // only static inner classes are allowed because guice will not be able to instantiate inner class
+        final boolean isInner = cls.getEnclosingClass() != null && !Modifier.isStatic(cls.getModifiers());
+        return !isInner && !cls.isAnnotationPresent(InvisibleForScanner.class);
+    }
+
+    private ClassLoader getLoader() {
+        return Thread.currentThread().getContextClassLoader();
     }
 }
@@ -0,0 +1,29 @@
+package ru.vyarus.dropwizard.guice.module.installer.scanner;
+
+/**
+ * Optional installer interface. Allows installer to declare extension match criteria (super types, annotations,
+ * meta annotations) instead of checking each class in
+ * {@link ru.vyarus.dropwizard.guice.module.installer.FeatureInstaller#matches(Class)}. Declared criteria of all
+ * installers are combined into single dispatch index, so each class is resolved with one hierarchy walk and hash
+ * lookups (recognition time does not grow with installers count). {@code matches} method is not called for such
+ * installers during extensions recognition.
+ * <p>
+ * Criteria must be consistent with installer's {@code matches} method (it is still used for direct checks).
+ * When installer does not implement this interface (or matching logic could not be expressed with criteria),
+ * {@code matches} is called as usual.
+ * <p>
+ * In class files analysis mode ({@link ru.vyarus.dropwizard.guice.GuiceyOptions#AnalyzeClassFiles}) criteria is
+ * also used for metadata check when installer does not implement {@link MetadataMatcher}.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 17.10.2026
+ */
+public interface DeclarativeMatcher {
+
+    /**
+     * Called once per application startup.
+     *
+     * @return extension match criteria
+     */
+    MatchCriteria getMatchCriteria();
+}
@@ -0,0 +1,176 @@
+package ru.vyarus.dropwizard.guice.module.installer.scanner;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import ru.vyarus.dropwizard.guice.module.installer.util.FeatureUtils;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Declarative extension match criteria (see {@link DeclarativeMatcher}). Class matches when it is not abstract and:
+ * <ul>
+ * <li>implements (extends) at least one of declared super types (if super types declared)</li>
+ * <li>annotated (on class or super class) with at least one of declared annotations or with annotation,
+ * annotated with one of declared meta annotations (if annotations or meta annotations declared)</li>
+ * </ul>
+ * For example, {@code MatchCriteria.builder().subtypeOf(Filter.class).annotatedWith(WebFilter.class).build()}
+ * is the same as {@code FeatureUtils.is(type, Filter.class) && FeatureUtils.hasAnnotation(type, WebFilter.class)}.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 17.10.2026
+ */
+public final class MatchCriteria {
+    private final List<Class<?>> supertypes;
+    private final List<Class<? extends Annotation>> annotations;
+    private final List<Class<? extends Annotation>> metaAnnotations;
+
+    private MatchCriteria(final List<Class<?>> supertypes,
+                          final List<Class<? extends Annotation>> annotations,
+                          final List<Class<? extends Annotation>> metaAnnotations) {
+        this.supertypes = supertypes;
+        this.annotations = annotations;
+        this.metaAnnotations = metaAnnotations;
+    }
+
+    /**
+     * @return criteria builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return super types (any of)
+     */
+    public List<Class<?>> getSupertypes() {
+        return supertypes;
+    }
+
+    /**
+     * @return annotations (any of)
+     */
+    public List<Class<? extends Annotation>> getAnnotations() {
+        return annotations;
+    }
+
+    /**
+     * @return meta annotations (any of)
+     */
+    public List<Class<? extends Annotation>> getMetaAnnotations() {
+        return metaAnnotations;
+    }
+
+    /**
+     * @return true if criteria contains annotation conditions
+     */
+    public boolean hasAnnotationConditions() {
+        return !annotations.isEmpty() || !metaAnnotations.isEmpty();
+    }
+
+    /**
+     * Direct check (without index). Equivalent to {@link FeatureUtils} checks.
+     *
+     * @param type type to check
+     * @return true if type matches criteria
+     */
+    public boolean matches(final Class<?> type) {
+        if (Modifier.isAbstract(type.getModifiers())) {
+            return false;
+        }
+        boolean res = supertypes.isEmpty();
+        for (Class<?> supertype : supertypes) {
+            if (FeatureUtils.is(type, supertype)) {
+                res = true;
+                break;
+            }
+        }
+        if (res && hasAnnotationConditions()) {
+            res = annotations.stream().anyMatch(ann -> FeatureUtils.hasAnnotation(type, ann))
+                    || metaAnnotations.stream().anyMatch(ann -> FeatureUtils.hasAnnotatedAnnotation(type, ann));
+        }
+        return res;
+    }
+
+    /**
+     * Metadata check (used in class files analysis mode for installers, not implementing
+     * {@link MetadataMatcher}).
+     *
+     * @param type class metadata
+     * @return true if type may match criteria
+     */
+    public boolean matchesMetadata(final ClassMetadata type) {
+        if (type.isAbstract()) {
+            return false;
+        }
+        boolean res = supertypes.isEmpty() || supertypes.stream().anyMatch(type::is);
+        if (res && hasAnnotationConditions()) {
+            res = annotations.stream().anyMatch(type::hasAnnotation)
+                    || metaAnnotations.stream().anyMatch(type::hasAnnotatedAnnotation);
+        }
+        return res;
+    }
+
+    @Override
+    public String toString() {
+        return "subtypeOf=" + supertypes + ", annotatedWith=" + annotations
+                + ", metaAnnotatedWith=" + metaAnnotations;
+    }
+
+    /**
+     * Criteria builder.
+     */
+    public static class Builder {
+        private final ImmutableList.Builder<Class<?>> supertypes = ImmutableList.builder();
+        private final ImmutableList.Builder<Class<? extends Annotation>> annotations = ImmutableList.builder();
+        private final ImmutableList.Builder<Class<? extends Annotation>> metaAnnotations = ImmutableList.builder();
+
+        /**
+         * @param types super types (class must extend or implement at least one)
+         * @return builder instance for chained calls
+         */
+        public Builder subtypeOf(final Class<?>... types) {
+            supertypes.addAll(Arrays.asList(types));
+            return this;
+        }
+
+        /**
+         * @param types annotations (class or its super class must be annotated with at least one)
+         * @return builder instance for chained calls
+         */
+        @SafeVarargs
+        public final Builder annotatedWith(final Class<? extends Annotation>... types) {
+            for (Class<? extends Annotation> type : types) {
+                annotations.add(type);
+            }
+            return this;
+        }
+
+        /**
+         * @param types meta annotations (class or its super class must be annotated with annotation, annotated
+         *              with at least one of them)
+         * @return builder instance for chained calls
+         */
+        @SafeVarargs
+        public final Builder metaAnnotatedWith(final Class<? extends Annotation>... types) {
+            for (Class<? extends Annotation> type : types) {
+                metaAnnotations.add(type);
+            }
+            return this;
+        }
+
+        /**
+         * @return criteria instance
+         * @throws IllegalStateException if no conditions declared
+         */
+        public MatchCriteria build() {
+            final MatchCriteria res = new MatchCriteria(supertypes.build(), annotations.build(),
+                    metaAnnotations.build());
+            Preconditions.checkState(!res.supertypes.isEmpty() || res.hasAnnotationConditions(),
+                    "No match conditions declared");
+            return res;
+        }
+    }
+}
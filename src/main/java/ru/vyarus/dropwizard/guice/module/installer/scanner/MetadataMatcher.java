@@ -0,0 +1,27 @@
+package ru.vyarus.dropwizard.guice.module.installer.scanner;
+
+/**
+ * Optional installer interface. Allows installer to recognize extension candidates by class file metadata
+ * (without class loading). Used only when {@link ru.vyarus.dropwizard.guice.GuiceyOptions#AnalyzeClassFiles}
+ * enabled: only classes accepted by at least one installer are loaded and passed to
+ * {@link ru.vyarus.dropwizard.guice.module.installer.FeatureInstaller#matches(Class)}.
+ * <p>
+ * Check must be consistent with installer's {@code matches} method: it may accept more classes (false positive
+ * just leads to class loading), but must never decline class which installer could accept. When installer does
+ * not implement this interface, all scanned classes will be loaded (just like without class files analysis).
+ * <p>
+ * {@link ClassMetadata} provides the same check methods as
+ * {@link ru.vyarus.dropwizard.guice.module.installer.util.FeatureUtils} so in most cases matching logic could be
+ * simply duplicated.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 16.10.2026
+ */
+public interface MetadataMatcher {
+
+    /**
+     * @param type scanned class metadata
+     * @return true if class may be an extension, false if class definitely not an extension
+     */
+    boolean matchesMetadata(ClassMetadata type);
+}
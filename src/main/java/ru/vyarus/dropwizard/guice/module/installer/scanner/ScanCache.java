@@ -0,0 +1,248 @@
+package ru.vyarus.dropwizard.guice.module.installer.scanner;
+
+import com.google.common.base.Joiner;
+import com.google.common.base.Splitter;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ru.vyarus.dropwizard.guice.module.installer.FeatureInstaller;
+import ru.vyarus.dropwizard.guice.module.installer.scanner.util.OReflectionHelper;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.CodeSource;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Persistent classpath scan cache (enabled with {@link ru.vyarus.dropwizard.guice.GuiceyOptions#ScanCacheFile}).
+ * Stores scanned class names and extensions recognition results (installer, recognized each extension) so
+ * application restart with the same classpath could skip packages traversal and installers matching.
+ * <p>
+ * Scan result is valid when classpath fingerprint is the same. Fingerprint is computed from size and modification
+ * time of all jars and files in directories, containing scanned packages (plus scan packages, scan mode and
+ * class name filter patterns, because recognition results are stored only for filtered classes).
+ * Recognition result is valid only when the same installers are used (the same classes in the same order,
+ * loaded from the same jars).
+ * <p>
+ * Cache file is written only when stored data is not valid. Cache read or write errors are not critical: scan is
+ * performed as usual.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 17.10.2026
+ */
+public class ScanCache {
+    private static final String FINGERPRINT = "fingerprint";
+    private static final String CLASSES = "classes";
+    private static final String INSTALLERS = "installers";
+    private static final String EXTENSION = "extension.";
+    private static final String JAR_SEPARATOR = "!/";
+
+    private final Logger logger = LoggerFactory.getLogger(ScanCache.class);
+
+    private final File file;
+    private final Set<String> packages;
+    private final String settings;
+    private final Properties stored = new Properties();
+    private final Properties current = new Properties();
+
+    private boolean loaded;
+    private boolean classesValid;
+    private boolean recognitionValid;
+
+    /**
+     * @param file     cache file
+     * @param packages scan packages
+     * @param settings scanner settings affecting scan result
+     */
+    public ScanCache(final File file, final Set<String> packages, final String settings) {
+        this.file = file;
+        this.packages = new TreeSet<>(packages);
+        this.settings = settings;
+    }
+
+    /**
+     * Computes classpath fingerprint and loads cache file (only on first call).
+     *
+     * @param loader class loader
+     * @return true if cached scan result is valid for current classpath
+     */
+    public boolean load(final ClassLoader loader) {
+        if (!loaded) {
+            loaded = true;
+            final String fingerprint = fingerprint(loader);
+            current.setProperty(FINGERPRINT, fingerprint);
+            if (file.exists()) {
+                try (InputStream in = Files.newInputStream(file.toPath())) {
+                    stored.load(in);
+                } catch (IOException ex) {
+                    logger.warn("Failed to read scan cache file " + file.getAbsolutePath(), ex);
+                }
+                classesValid = fingerprint.equals(stored.getProperty(FINGERPRINT))
+                        && stored.getProperty(CLASSES) != null;
+            }
+            if (classesValid) {
+                // keep valid scan result in case of recognition result update
+                current.setProperty(CLASSES, stored.getProperty(CLASSES));
+            }
+            logger.debug("Scan cache {} is {}", file.getAbsolutePath(), classesValid ? "valid" : "outdated");
+        }
+        return classesValid;
+    }
+
+    /**
+     * @return cached scanned classes (only when cache is valid)
+     */
+    public List<String> getClassNames() {
+        final String classes = stored.getProperty(CLASSES);
+        return classes.isEmpty() ? new ArrayList<>()
+                : new ArrayList<>(Splitter.on(',').splitToList(classes));
+    }
+
+    /**
+     * @param names scanned classes
+     */
+    public void setClassNames(final List<String> names) {
+        current.setProperty(CLASSES, Joiner.on(',').join(names));
+    }
+
+    /**
+     * @param installers installers used for extensions recognition
+     * @return true if cached recognition result could be used
+     */
+    public boolean isRecognitionValid(final List<Class<? extends FeatureInstaller>> installers) {
+        final String key = installersKey(installers);
+        current.setProperty(INSTALLERS, key);
+        recognitionValid = classesValid && key.equals(stored.getProperty(INSTALLERS));
+        return recognitionValid;
+    }
+
+    /**
+     * @param className scanned class name
+     * @return recognized extension installer class name or null if class is not an extension
+     */
+    public String getInstaller(final String className) {
+        return stored.getProperty(EXTENSION + className);
+    }
+
+    /**
+     * @param extension recognized extension class name
+     * @param installer installer class name, recognized extension
+     */
+    public void setInstaller(final String extension, final String installer) {
+        current.setProperty(EXTENSION + extension, installer);
+    }
+
+    /**
+     * Writes cache file, if stored data is not valid. Cache is not written if it was not loaded (scan results were
+     * obtained from other source).
+     */
+    public void save() {
+        if (!loaded || classesValid && recognitionValid) {
+            return;
+        }
+        try {
+            final File dir = file.getAbsoluteFile().getParentFile();
+            if (dir != null) {
+                Files.createDirectories(dir.toPath());
+            }
+            final File tmp = new File(dir, file.getName() + ".tmp");
+            try (OutputStream out = Files.newOutputStream(tmp.toPath())) {
+                current.store(out, "guicey classpath scan cache");
+            }
+            Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            logger.debug("Scan cache stored in {}", file.getAbsolutePath());
+        } catch (IOException ex) {
+            logger.warn("Failed to write scan cache file " + file.getAbsolutePath(), ex);
+        }
+    }
+
+    private String fingerprint(final ClassLoader loader) {
+        final Hasher hasher = Hashing.sha256().newHasher()
+                .putString(settings, StandardCharsets.UTF_8);
+        for (String pkg : packages) {
+            hasher.putString(pkg, StandardCharsets.UTF_8);
+            try {
+                for (URL res : OReflectionHelper.getPackageResources(pkg, loader)) {
+                    hasher.putString(res.toString(), StandardCharsets.UTF_8);
+                    if (OReflectionHelper.isJar(res)) {
+                        hashFile(hasher, toFile(res.getFile()));
+                    } else {
+                        hashDirectory(hasher, OReflectionHelper.toDirectory(res));
+                    }
+                }
+            } catch (ClassNotFoundException | IOException ex) {
+                // scan will fail with more precise error
+                hasher.putString(ex.toString(), StandardCharsets.UTF_8);
+            }
+        }
+        return hasher.hash().toString();
+    }
+
+    private String installersKey(final List<Class<? extends FeatureInstaller>> installers) {
+        final Hasher hasher = Hashing.sha256().newHasher();
+        for (Class<? extends FeatureInstaller> installer : installers) {
+            hasher.putString(installer.getName(), StandardCharsets.UTF_8);
+            final CodeSource source = installer.getProtectionDomain().getCodeSource();
+            if (source != null && source.getLocation() != null) {
+                hashFile(hasher, toFile(source.getLocation().toString()));
+            }
+        }
+        return hasher.hash().toString();
+    }
+
+    private void hashDirectory(final Hasher hasher, final File dir) {
+        final File[] files = dir.listFiles();
+        if (files != null) {
+            // sort to not depend on file system order
+            final List<File> sorted = new ArrayList<>();
+            Collections.addAll(sorted, files);
+            sorted.sort(null);
+            for (File child : sorted) {
+                hasher.putString(child.getName(), StandardCharsets.UTF_8);
+                if (child.isDirectory()) {
+                    hashDirectory(hasher, child);
+                } else {
+                    hashFile(hasher, child);
+                }
+            }
+        }
+    }
+
+    private void hashFile(final Hasher hasher, final File file) {
+        if (file != null) {
+            hasher.putLong(file.length()).putLong(file.lastModified());
+        }
+    }
+
+    /**
+     * @param location file url or jar url path (file:/some.jar!/pkg)
+     * @return file or null if location is not a file
+     */
+    private File toFile(final String location) {
+        final String path = location.contains(JAR_SEPARATOR)
+                ? location.substring(0, location.indexOf(JAR_SEPARATOR)) : location;
+        File res = null;
+        if (path.startsWith("file:")) {
+            try {
+                res = new File(new URL(path).toURI());
+            } catch (IOException | URISyntaxException | IllegalArgumentException ignored) {
+                // not a local file
+                res = null;
+            }
+        }
+        return res;
+    }
+}
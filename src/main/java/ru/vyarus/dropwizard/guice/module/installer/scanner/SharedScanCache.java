@@ -0,0 +1,162 @@
+package ru.vyarus.dropwizard.guice.module.installer.scanner;
+
+import com.google.common.base.Joiner;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import ru.vyarus.dropwizard.guice.module.installer.FeatureInstaller;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
+
+/**
+ * JVM-wide classpath scan results cache (enabled with
+ * {@link ru.vyarus.dropwizard.guice.GuiceyOptions#ShareScanResults}). Useful when multiple applications with the
+ * same scan configuration are started in one JVM (e.g. in tests): only the first application performs actual
+ * packages traversal and extensions recognition.
+ * <p>
+ * Results are grouped by class loader (class loader is referenced weakly, so it could be unloaded) and then by
+ * scan configuration (packages, scan mode and class name filter patterns). Only class names are stored, so cache
+ * never holds loaded classes. Recognition results are stored per installers set (installers could be different
+ * for the same scan). With watched scan directories, recognition results are updated incrementally: only classes
+ * changed since stored results revision are matched (see {@link ClasspathScanner#getChangedSince(long)}).
+ * <p>
+ * Cache is thread-safe. Use {@link #invalidate()} or {@link #invalidate(ClassLoader)} to clear stored results
+ * (e.g. when classes in scanned packages were changed at runtime).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 17.10.2026
+ */
+public final class SharedScanCache {
+    private static final Cache<ClassLoader, ConcurrentMap<String, Entry>> CACHE =
+            CacheBuilder.newBuilder().weakKeys().build();
+
+    private SharedScanCache() {
+    }
+
+    /**
+     * @param loader            class loader
+     * @param packages          scan packages
+     * @param analyzeClassFiles class files analysis mode
+     * @param parallel          parallel scan mode
+     * @return cache entry for scan configuration (never null)
+     */
+    public static Entry get(final ClassLoader loader, final Set<String> packages,
+                            final boolean analyzeClassFiles, final boolean parallel) {
+        return get(loader, packages, analyzeClassFiles, parallel, "");
+    }
+
+    /**
+     * @param loader            class loader
+     * @param packages          scan packages
+     * @param analyzeClassFiles class files analysis mode
+     * @param parallel          parallel scan mode
+     * @param filter            class name filter key (see {@link ClassNameFilter#getKey()})
+     * @return cache entry for scan configuration (never null)
+     */
+    public static Entry get(final ClassLoader loader, final Set<String> packages,
+                            final boolean analyzeClassFiles, final boolean parallel, final String filter) {
+        final String key = Joiner.on(',').join(new TreeSet<>(packages)) + ';' + analyzeClassFiles + ';' + parallel
+                + ';' + filter;
+        try {
+            return CACHE.get(loader, ConcurrentHashMap::new).computeIfAbsent(key, k -> new Entry());
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Failed to access shared scan cache", e);
+        }
+    }
+
+    /**
+     * Clear all cached results.
+     */
+    public static void invalidate() {
+        CACHE.invalidateAll();
+    }
+
+    /**
+     * Clear cached results for class loader.
+     *
+     * @param loader class loader
+     */
+    public static void invalidate(final ClassLoader loader) {
+        CACHE.invalidate(loader);
+    }
+
+    /**
+     * Scan results for exact scan configuration.
+     */
+    public static class Entry {
+        private volatile List<String> classNames;
+        private final ConcurrentMap<String, Recognition> recognition = new ConcurrentHashMap<>();
+
+        /**
+         * @return scanned class names or null if scan was not performed yet
+         */
+        public List<String> getClassNames() {
+            return classNames;
+        }
+
+        /**
+         * @param names scanned class names
+         */
+        public void setClassNames(final List<String> names) {
+            this.classNames = ImmutableList.copyOf(names);
+        }
+
+        /**
+         * @param installers installers used for recognition
+         * @return recognized extensions (class name to installer class name) or null if recognition was not
+         * performed with the same installers
+         */
+        public Map<String, String> getRecognition(final List<Class<? extends FeatureInstaller>> installers) {
+            final Recognition res = recognition.get(key(installers));
+            return res == null ? null : res.extensions;
+        }
+
+        /**
+         * @param installers installers used for recognition
+         * @return scan revision of stored recognition results (0 if scan revision not used)
+         * @see ClasspathScanner#getRevision()
+         */
+        public long getRecognitionRevision(final List<Class<? extends FeatureInstaller>> installers) {
+            final Recognition res = recognition.get(key(installers));
+            return res == null ? 0 : res.revision;
+        }
+
+        /**
+         * Replace stored results (if any).
+         *
+         * @param installers installers used for recognition
+         * @param extensions recognized extensions (class name to installer class name)
+         * @param revision   scan revision (see {@link ClasspathScanner#getRevision()})
+         */
+        public void setRecognition(final List<Class<? extends FeatureInstaller>> installers,
+                                   final Map<String, String> extensions,
+                                   final long revision) {
+            recognition.put(key(installers), new Recognition(ImmutableMap.copyOf(extensions), revision));
+        }
+
+        private String key(final List<Class<? extends FeatureInstaller>> installers) {
+            return installers.stream().map(Class::getName).collect(Collectors.joining(","));
+        }
+    }
+
+    /**
+     * Recognition results.
+     */
+    private static class Recognition {
+        private final Map<String, String> extensions;
+        private final long revision;
+
+        Recognition(final Map<String, String> extensions, final long revision) {
+            this.extensions = extensions;
+            this.revision = revision;
+        }
+    }
+}
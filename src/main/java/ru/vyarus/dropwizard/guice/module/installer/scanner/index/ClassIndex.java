@@ -0,0 +1,280 @@
+package ru.vyarus.dropwizard.guice.module.installer.scanner.index;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.WeakHashMap;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.zip.CRC32;
+
+/**
+ * Build-time class index, generated by {@code ClassIndexProcessor} (separate artifact with {@code processor}
+ * classifier). Index contains names of all classes compiled into jar (except non static inner classes;
+ * classes annotated with {@link ru.vyarus.dropwizard.guice.module.installer.scanner.InvisibleForScanner} are
+ * marked), so classpath scanner could avoid jar entries traversal for each scanned package.
+ * <p>
+ * Index records indexed packages (all packages when empty) and fingerprint (count and checksum) of all top-level
+ * classes in these packages. Index is used only for packages it covers and only when jar classes in indexed
+ * packages exactly match fingerprint (so classes added after indexing are not missed). Verification requires
+ * one jar entries traversal, performed once per jar file. Exploded class directories are always traversed (it's
+ * cheap and directories are usually compiled incrementally).
+ * <p>
+ * Note that when fat jar is assembled from multiple indexed jars, index files must be merged (appended): each
+ * module section is verified separately. Non-indexed classes in indexed packages disable index usage.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 16.10.2026
+ */
+public final class ClassIndex {
+
+    /**
+     * Index file location (inside jar).
+     */
+    public static final String LOCATION = "META-INF/guicey/classes.idx";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ClassIndex.class);
+    private static final String COMMENT = "#";
+    private static final String PACKAGES = "#packages=";
+    private static final String FINGERPRINT = "#fingerprint=";
+    private static final String INVISIBLE = "!";
+    private static final String CLASS_EXTENSION = ".class";
+    private static final String META_INF = "META-INF/";
+    private static final List<String> SPECIAL = Arrays.asList("package-info", "module-info");
+
+    // verified indexes (jar files are cached by url connection)
+    private static final Map<JarFile, Index> INDEXES = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private ClassIndex() {
+    }
+
+    /**
+     * @param jar         jar file
+     * @param packageName package name
+     * @return indexed class names in package or null if jar is not indexed, package not covered by index or index
+     * is not matching jar content
+     * @throws IOException on index read error
+     */
+    public static List<String> read(final JarFile jar, final String packageName) throws IOException {
+        Index index = INDEXES.get(jar);
+        if (index == null) {
+            final JarEntry entry = jar.getJarEntry(LOCATION);
+            if (entry == null) {
+                return null;
+            }
+            try (InputStream in = jar.getInputStream(entry)) {
+                index = verify(jar, parse(in));
+            }
+            INDEXES.put(jar, index);
+        }
+        return index.find(packageName);
+    }
+
+    /**
+     * Merged index (from multiple jars) contains multiple sections.
+     *
+     * @param in index content
+     * @return index sections
+     * @throws IOException on read error
+     */
+    public static List<Section> parse(final InputStream in) throws IOException {
+        final List<Section> res = new ArrayList<>();
+        Section section = null;
+        final BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            line = line.trim();
+            if (line.isEmpty() || (line.startsWith(COMMENT) && !line.startsWith(PACKAGES)
+                    && !line.startsWith(FINGERPRINT))) {
+                continue;
+            }
+            if (line.startsWith(PACKAGES) || section == null) {
+                section = new Section();
+                res.add(section);
+            }
+            if (line.startsWith(PACKAGES)) {
+                for (String pkg : line.substring(PACKAGES.length()).split(",")) {
+                    if (!pkg.trim().isEmpty()) {
+                        section.packages.add(pkg.trim());
+                    }
+                }
+            } else if (line.startsWith(FINGERPRINT)) {
+                section.fingerprint = line.substring(FINGERPRINT.length());
+            } else if (line.startsWith(INVISIBLE)) {
+                section.invisible.add(line.substring(1));
+            } else {
+                section.classes.add(line);
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Must be the same as in {@code ClassIndexProcessor}.
+     *
+     * @param names class names
+     * @return fingerprint of top-level class names
+     */
+    public static String fingerprint(final Collection<String> names) {
+        final CRC32 crc = new CRC32();
+        int count = 0;
+        for (String name : new TreeSet<>(names)) {
+            if (!name.contains("$")) {
+                crc.update((name + '\n').getBytes(StandardCharsets.UTF_8));
+                count++;
+            }
+        }
+        return count + ":" + Long.toHexString(crc.getValue());
+    }
+
+    /**
+     * Each section is compared with jar classes in section packages (except classes recorded in other sections).
+     *
+     * @param jar      jar file
+     * @param sections index sections
+     * @return verified index
+     */
+    private static Index verify(final JarFile jar, final List<Section> sections) {
+        final Set<String> recorded = new HashSet<>();
+        for (Section section : sections) {
+            recorded.addAll(section.classes);
+            recorded.addAll(section.invisible);
+        }
+        final List<String> jarClasses = listClasses(jar);
+        for (Section section : sections) {
+            final List<String> actual = new ArrayList<>();
+            for (String name : jarClasses) {
+                if (section.covers(name) && (!recorded.contains(name)
+                        || section.classes.contains(name) || section.invisible.contains(name))) {
+                    actual.add(name);
+                }
+            }
+            final List<String> indexed = new ArrayList<>(section.classes);
+            indexed.addAll(section.invisible);
+            if (section.fingerprint == null || !section.fingerprint.equals(fingerprint(actual))
+                    || !fingerprint(indexed).equals(section.fingerprint)) {
+                LOGGER.warn("Class index of jar {} does not match jar content (packages {}), using jar "
+                        + "traversal instead", jar.getName(), section.packages);
+                return new Index(null);
+            }
+        }
+        return new Index(sections);
+    }
+
+    private static List<String> listClasses(final JarFile jar) {
+        final List<String> res = new ArrayList<>();
+        for (JarEntry entry : Collections.list(jar.entries())) {
+            final String name = entry.getName();
+            if (name.endsWith(CLASS_EXTENSION) && !name.contains("$") && !name.startsWith(META_INF)) {
+                final String cls = name.substring(0, name.length() - CLASS_EXTENSION.length()).replace('/', '.');
+                if (!SPECIAL.contains(cls.substring(cls.lastIndexOf('.') + 1))) {
+                    res.add(cls);
+                }
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Index section (one section per indexed module).
+     */
+    public static final class Section {
+        private final List<String> packages = new ArrayList<>();
+        private final Set<String> classes = new TreeSet<>();
+        private final Set<String> invisible = new TreeSet<>();
+        private String fingerprint;
+
+        /**
+         * @return indexed packages (empty for all packages)
+         */
+        public List<String> getPackages() {
+            return packages;
+        }
+
+        /**
+         * @return indexed classes (visible for scanner)
+         */
+        public Set<String> getClasses() {
+            return classes;
+        }
+
+        /**
+         * @return indexed classes, annotated with
+         * {@link ru.vyarus.dropwizard.guice.module.installer.scanner.InvisibleForScanner}
+         */
+        public Set<String> getInvisible() {
+            return invisible;
+        }
+
+        /**
+         * @return fingerprint of indexed top-level classes or null for old index format
+         */
+        public String getFingerprint() {
+            return fingerprint;
+        }
+
+        /**
+         * @param name class name or package name with trailing dot
+         * @return true if name is in indexed packages
+         */
+        boolean covers(final String name) {
+            boolean res = packages.isEmpty();
+            for (String pkg : packages) {
+                if (name.startsWith(pkg + '.')) {
+                    res = true;
+                    break;
+                }
+            }
+            return res;
+        }
+    }
+
+    /**
+     * Verified jar index.
+     */
+    private static final class Index {
+        // null when index can't be used
+        private final List<Section> sections;
+
+        Index(final List<Section> sections) {
+            this.sections = sections;
+        }
+
+        List<String> find(final String packageName) {
+            if (sections == null) {
+                return null;
+            }
+            final String prefix = packageName + '.';
+            boolean covered = false;
+            for (Section section : sections) {
+                covered |= section.covers(prefix);
+            }
+            if (!covered) {
+                return null;
+            }
+            final List<String> res = new ArrayList<>();
+            for (Section section : sections) {
+                for (String name : section.classes) {
+                    if (name.startsWith(prefix)) {
+                        res.add(name);
+                    }
+                }
+            }
+            return res;
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package ru.vyarus.dropwizard.guice.module.installer.scanner.util;
+
+import ru.vyarus.dropwizard.guice.module.installer.scanner.ClassMetadata;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reads class headers directly from class files (without class loading). Only information required for
+ * extensions recognition is extracted: access flags, super class, interfaces, runtime visible class annotations
+ * and inner class marker. Fields, methods and other attributes are skipped.
+ * <p>
+ * Class files are resolved as class loader resources so the same reader could resolve both scanned classes and
+ * their super types (including jdk classes). Parsed metadata is cached (reader instance must not outlive scan).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 16.10.2026
+ */
+public class ClassMetadataReader {
+    private static final String CLASS_EXTENSION = ".class";
+    private static final int MAGIC = 0xCAFEBABE;
+    private static final String ANNOTATIONS_ATTRIBUTE = "RuntimeVisibleAnnotations";
+    private static final String INNER_CLASSES_ATTRIBUTE = "InnerClasses";
+    private static final int ACC_STATIC = 0x0008;
+
+    // used to cache not resolvable classes (concurrent map can't hold nulls)
+    private static final ClassMetadata UNKNOWN = new ClassMetadata(null, null, 0, null,
+            Collections.emptyList(), Collections.emptyList(), false);
+
+    private final ClassLoader loader;
+    private final Map<String, ClassMetadata> cache = new ConcurrentHashMap<>();
+
+    public ClassMetadataReader(final ClassLoader loader) {
+        this.loader = loader;
+    }
+
+    /**
+     * @param className class name (as returned by {@link Class#getName()})
+     * @return class metadata or null if class file can't be found or read
+     */
+    public ClassMetadata read(final String className) {
+        final ClassMetadata res = cache.computeIfAbsent(className, this::load);
+        return res == UNKNOWN ? null : res;
+    }
+
+    private ClassMetadata load(final String className) {
+        ClassMetadata res = UNKNOWN;
+        try (InputStream in = loader.getResourceAsStream(className.replace('.', '/') + CLASS_EXTENSION)) {
+            if (in != null) {
+                res = parse(new DataInputStream(new BufferedInputStream(in)));
+            }
+        } catch (IOException | RuntimeException ignored) {
+            // unreadable class file: caller will fall back to class loading
+            res = UNKNOWN;
+        }
+        return res;
+    }
+
+    @SuppressWarnings({"checkstyle:CyclomaticComplexity", "PMD.AvoidUsingShortType"})
+    private ClassMetadata parse(final DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a class file");
+        }
+        // minor and major versions
+        in.skipBytes(4);
+        final Object[] pool = readConstantPool(in);
+        final int access = in.readUnsignedShort();
+        final String name = className(pool, in.readUnsignedShort());
+        final int superIdx = in.readUnsignedShort();
+        final String superName = superIdx == 0 ? null : className(pool, superIdx);
+        final int ifaceCount = in.readUnsignedShort();
+        final List<String> interfaces = new ArrayList<>(ifaceCount);
+        for (int i = 0; i < ifaceCount; i++) {
+            interfaces.add(className(pool, in.readUnsignedShort()));
+        }
+        // fields and methods
+        skipMembers(in);
+        skipMembers(in);
+
+        List<String> annotations = Collections.emptyList();
+        boolean inner = false;
+        final int attrCount = in.readUnsignedShort();
+        for (int i = 0; i < attrCount; i++) {
+            final String attr = (String) pool[in.readUnsignedShort()];
+            final int length = in.readInt();
+            if (ANNOTATIONS_ATTRIBUTE.equals(attr)) {
+                annotations = readAnnotations(in, pool);
+            } else if (INNER_CLASSES_ATTRIBUTE.equals(attr)) {
+                inner = isInner(in, pool, name);
+            } else {
+                skip(in, length);
+            }
+        }
+        return new ClassMetadata(this, name, access, superName, interfaces, annotations, inner);
+    }
+
+    @SuppressWarnings({"checkstyle:CyclomaticComplexity", "checkstyle:MagicNumber"})
+    private Object[] readConstantPool(final DataInputStream in) throws IOException {
+        final int count = in.readUnsignedShort();
+        final Object[] pool = new Object[count];
+        for (int i = 1; i < count; i++) {
+            final int tag = in.readUnsignedByte();
+            switch (tag) {
+                case 1:
+                    // utf8
+                    pool[i] = in.readUTF();
+                    break;
+                case 7:
+                    // class: store utf8 reference
+                    pool[i] = in.readUnsignedShort();
+                    break;
+                case 8:
+                case 16:
+                case 19:
+                case 20:
+                    // string, method type, module, package
+                    in.skipBytes(2);
+                    break;
+                case 15:
+                    // method handle
+                    in.skipBytes(3);
+                    break;
+                case 3:
+                case 4:
+                case 9:
+                case 10:
+                case 11:
+                case 12:
+                case 17:
+                case 18:
+                    // int, float, refs, name and type, dynamic, invoke dynamic
+                    in.skipBytes(4);
+                    break;
+                case 5:
+                case 6:
+                    // long and double take two slots
+                    in.skipBytes(8);
+                    i++;
+                    break;
+                default:
+                    throw new IOException("Unknown constant pool tag " + tag);
+            }
+        }
+        return pool;
+    }
+
+    private void skipMembers(final DataInputStream in) throws IOException {
+        final int count = in.readUnsignedShort();
+        for (int i = 0; i < count; i++) {
+            // access, name, descriptor
+            in.skipBytes(6);
+            final int attrCount = in.readUnsignedShort();
+            for (int j = 0; j < attrCount; j++) {
+                in.skipBytes(2);
+                skip(in, in.readInt());
+            }
+        }
+    }
+
+    private List<String> readAnnotations(final DataInputStream in, final Object[] pool) throws IOException {
+        final int count = in.readUnsignedShort();
+        final List<String> res = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            res.add(descriptorToName((String) pool[in.readUnsignedShort()]));
+            skipAnnotationValues(in);
+        }
+        return res;
+    }
+
+    private void skipAnnotationValues(final DataInputStream in) throws IOException {
+        final int pairs = in.readUnsignedShort();
+        for (int i = 0; i < pairs; i++) {
+            in.skipBytes(2);
+            skipElementValue(in);
+        }
+    }
+
+    private void skipElementValue(final DataInputStream in) throws IOException {
+        final int tag = in.readUnsignedByte();
+        switch (tag) {
+            case 'e':
+                in.skipBytes(4);
+                break;
+            case '@':
+                in.skipBytes(2);
+                skipAnnotationValues(in);
+                break;
+            case '[':
+                final int count = in.readUnsignedShort();
+                for (int i = 0; i < count; i++) {
+                    skipElementValue(in);
+                }
+                break;
+            default:
+                // primitives, string and class
+                in.skipBytes(2);
+        }
+    }
+
+    private boolean isInner(final DataInputStream in, final Object[] pool, final String name) throws IOException {
+        final int count = in.readUnsignedShort();
+        boolean res = false;
+        for (int i = 0; i < count; i++) {
+            final int innerIdx = in.readUnsignedShort();
+            // outer class and inner name
+            in.skipBytes(4);
+            final int flags = in.readUnsignedShort();
+            if (innerIdx != 0 && name.equals(className(pool, innerIdx))) {
+                // the same as Class.getEnclosingClass() != null && !Modifier.isStatic(cls.getModifiers())
+                res = (flags & ACC_STATIC) == 0;
+            }
+        }
+        return res;
+    }
+
+    private void skip(final DataInputStream in, final int length) throws IOException {
+        int remaining = length;
+        while (remaining > 0) {
+            final int skipped = in.skipBytes(remaining);
+            if (skipped <= 0) {
+                throw new IOException("Unexpected end of class file");
+            }
+            remaining -= skipped;
+        }
+    }
+
+    private String className(final Object[] pool, final int classIdx) {
+        return ((String) pool[(Integer) pool[classIdx]]).replace('/', '.');
+    }
+
+    private String descriptorToName(final String descriptor) {
+        // Lcom/foo/Bar; -> com.foo.Bar
+        return descriptor.substring(1, descriptor.length() - 1).replace('/', '.');
+    }
+}
@@ -0,0 +1,302 @@
+package ru.vyarus.dropwizard.guice.module.installer.scanner.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Live index of classes in package directory. Directory tree is traversed only once and then all sub directories
+ * are watched with {@link WatchService}. Watch events are processed on index access (no background threads), so
+ * index access after class files change applies only the changes (without full tree walk).
+ * <p>
+ * Indexes are JVM-wide (one index per package directory) in order to be re-used by applications, running in the
+ * same JVM. Index is acquired with {@link #get(File, String)} and must be released with {@link #release(List)}
+ * (on application shutdown): watch service is closed when index is not used anymore.
+ * <p>
+ * Each class file change is marked with global revision so it is possible to know what classes changed since
+ * some previous scan ({@link #getChangedSince(long)}). When changes could not be tracked (watch service events
+ * overflow), index is rebuilt and all classes considered changed.
+ * <p>
+ * Directory traversal rules are the same as in {@link OReflectionHelper}. Used only when enabled with
+ * {@link ru.vyarus.dropwizard.guice.GuiceyOptions#WatchScanDirectories}.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 17.10.2026
+ */
+public final class DirectoryWatchIndex {
+    private static final String CLASS_EXTENSION = ".class";
+    private static final AtomicLong REVISION = new AtomicLong();
+    private static final Map<String, DirectoryWatchIndex> INDEXES = new ConcurrentHashMap<>();
+    // all indexes updated under global lock to be able to get consistent state of multiple indexes
+    private static final Object LOCK = new Object();
+
+    private final String key;
+    private final Path root;
+    private final String pkg;
+    private final WatchService watcher;
+    private final Map<WatchKey, Path> keys = new HashMap<>();
+    private final Set<Path> directories = new HashSet<>();
+    private final Set<String> names = new TreeSet<>();
+    // class name -> revision of last change
+    private final Map<String, Long> changes = new HashMap<>();
+    // changes before this revision are unknown
+    private long resetRevision;
+    // count of index users (applications)
+    private int users;
+
+    private DirectoryWatchIndex(final String key, final Path root, final String pkg) throws IOException {
+        this.key = key;
+        this.root = root;
+        this.pkg = pkg;
+        this.watcher = root.getFileSystem().newWatchService();
+        rebuild();
+    }
+
+    /**
+     * Acquired index must be released with {@link #release(List)}.
+     *
+     * @param directory package directory
+     * @param pkg       package name
+     * @return directory index (existing or new one)
+     * @throws IOException if directory watch could not be registered
+     */
+    public static DirectoryWatchIndex get(final File directory, final String pkg) throws IOException {
+        final String key = directory.getAbsolutePath() + '|' + pkg;
+        synchronized (LOCK) {
+            DirectoryWatchIndex index = INDEXES.get(key);
+            if (index == null) {
+                index = new DirectoryWatchIndex(key, directory.getAbsoluteFile().toPath(), pkg);
+                INDEXES.put(key, index);
+            }
+            index.users++;
+            return index;
+        }
+    }
+
+    /**
+     * Indexes, not used anymore, are closed and removed.
+     *
+     * @param indexes acquired indexes
+     */
+    public static void release(final List<DirectoryWatchIndex> indexes) {
+        synchronized (LOCK) {
+            for (DirectoryWatchIndex index : indexes) {
+                if (--index.users <= 0) {
+                    INDEXES.remove(index.key, index);
+                    index.close();
+                }
+            }
+        }
+    }
+
+    /**
+     * @return count of active indexes
+     */
+    public static int getActiveCount() {
+        return INDEXES.size();
+    }
+
+    /**
+     * Stop watching all directories and remove all indexes (even if they are still used).
+     */
+    public static void closeAll() {
+        synchronized (LOCK) {
+            for (DirectoryWatchIndex index : INDEXES.values()) {
+                index.close();
+            }
+            INDEXES.clear();
+        }
+    }
+
+    /**
+     * Applies detected class files changes in all indexes and collects classes. Returned revision could be used
+     * to detect classes changed after this moment ({@link #getChangedSince(long)}).
+     *
+     * @param indexes indexes to collect classes from
+     * @param names   list to collect class names into
+     * @return changes revision, corresponding to collected classes
+     */
+    public static long collectClassNames(final List<DirectoryWatchIndex> indexes, final List<String> names) {
+        synchronized (LOCK) {
+            for (DirectoryWatchIndex index : indexes) {
+                index.update();
+                names.addAll(index.names);
+            }
+            return REVISION.get();
+        }
+    }
+
+    /**
+     * Applies detected class files changes.
+     *
+     * @return names of all classes in package directory (including sub packages)
+     */
+    public List<String> getClassNames() {
+        synchronized (LOCK) {
+            update();
+            return new ArrayList<>(names);
+        }
+    }
+
+    /**
+     * @param revision revision of previous scan
+     * @return names of classes changed (added, modified or removed) after revision or null if changes are unknown
+     */
+    public Set<String> getChangedSince(final long revision) {
+        synchronized (LOCK) {
+            update();
+            if (resetRevision > revision) {
+                return null;
+            }
+            final Set<String> res = new HashSet<>();
+            for (Map.Entry<String, Long> entry : changes.entrySet()) {
+                if (entry.getValue() > revision) {
+                    res.add(entry.getKey());
+                }
+            }
+            return res;
+        }
+    }
+
+    private void update() {
+        WatchKey key = watcher.poll();
+        while (key != null) {
+            final Path dir = keys.get(key);
+            for (WatchEvent<?> event : key.pollEvents()) {
+                if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                    rebuild();
+                    return;
+                }
+                if (dir != null) {
+                    processEvent(event.kind(), dir.resolve((Path) event.context()));
+                }
+            }
+            if (!key.reset()) {
+                directories.remove(keys.remove(key));
+            }
+            key = watcher.poll();
+        }
+    }
+
+    private void processEvent(final WatchEvent.Kind<?> kind, final Path file) {
+        final boolean create = kind == StandardWatchEventKinds.ENTRY_CREATE;
+        if (create && Files.isDirectory(file)) {
+            if (isVisible(file)) {
+                walk(file, true);
+            }
+        } else if (kind == StandardWatchEventKinds.ENTRY_DELETE && directories.contains(file)) {
+            removeDirectory(file);
+        } else if (file.getFileName().toString().endsWith(CLASS_EXTENSION)) {
+            final String name = toClassName(file);
+            if (kind == StandardWatchEventKinds.ENTRY_DELETE) {
+                names.remove(name);
+            } else {
+                names.add(name);
+            }
+            markChanged(name);
+        }
+    }
+
+    private void removeDirectory(final Path dir) {
+        final String prefix = toPackage(dir) + '.';
+        final Iterator<String> it = names.iterator();
+        while (it.hasNext()) {
+            final String name = it.next();
+            if (name.startsWith(prefix)) {
+                it.remove();
+                markChanged(name);
+            }
+        }
+        directories.removeIf(path -> path.startsWith(dir));
+    }
+
+    private void rebuild() {
+        for (WatchKey key : keys.keySet()) {
+            key.cancel();
+        }
+        keys.clear();
+        directories.clear();
+        names.clear();
+        changes.clear();
+        resetRevision = REVISION.incrementAndGet();
+        walk(root, false);
+    }
+
+    private void walk(final Path dir, final boolean markChanged) {
+        try {
+            keys.put(dir.register(watcher, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_DELETE, StandardWatchEventKinds.ENTRY_MODIFY), dir);
+            directories.add(dir);
+        } catch (IOException | ClosedWatchServiceException ex) {
+            throw new IllegalStateException("Failed to watch directory " + dir, ex);
+        }
+        final File[] files = dir.toFile().listFiles();
+        if (files != null) {
+            for (File file : files) {
+                final Path path = file.toPath();
+                if (file.isDirectory()) {
+                    if (isVisible(path)) {
+                        walk(path, markChanged);
+                    }
+                } else if (file.getName().endsWith(CLASS_EXTENSION)) {
+                    final String name = toClassName(path);
+                    names.add(name);
+                    if (markChanged) {
+                        markChanged(name);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * The same as in {@link OReflectionHelper}: dotted directories are ignored below package root.
+     *
+     * @param dir directory
+     * @return true if directory must be indexed
+     */
+    private boolean isVisible(final Path dir) {
+        return root.equals(dir.getParent()) || !dir.getFileName().toString().contains(".");
+    }
+
+    private void markChanged(final String name) {
+        changes.put(name, REVISION.incrementAndGet());
+    }
+
+    private String toClassName(final Path file) {
+        final String path = toPackage(file);
+        return path.substring(0, path.length() - CLASS_EXTENSION.length());
+    }
+
+    private String toPackage(final Path path) {
+        final StringBuilder res = new StringBuilder(pkg);
+        for (Path segment : root.relativize(path)) {
+            res.append('.').append(segment.toString());
+        }
+        return res.toString();
+    }
+
+    private void close() {
+        try {
+            watcher.close();
+        } catch (IOException ignored) {
+            // nothing to do
+        }
+    }
+}
@@ -0,0 +1,272 @@
+package ru.vyarus.dropwizard.guice.module.installer.scanner.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Jar entries index, built from zip central directory (jar entries are not read). Jar file is memory mapped so
+ * only central directory pages are actually read. Entry names are stored as prefix tree (by path segments) so
+ * package classes lookup does not depend on jar size.
+ * <p>
+ * Nested jars (e.g. spring-boot fat jars: {@code app.jar!/BOOT-INF/lib/lib.jar}) are supported: stored (not
+ * compressed) nested jar is indexed directly from outer jar buffer, compressed jar is inflated into heap.
+ * <p>
+ * Zip64 archives are not supported ({@link IOException} thrown so caller could fall back to usual jar traversal).
+ * Index is assumed to be used only during classpath scan (mapped buffer is released by garbage collector).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 17.10.2026
+ */
+public final class JarIndex {
+    private static final String CLASS_EXTENSION = ".class";
+    private static final String JAR_EXTENSION = ".jar";
+    private static final char SEPARATOR = '/';
+
+    private static final int EOCD_SIGNATURE = 0x06054b50;
+    private static final int EOCD_SIZE = 22;
+    private static final int MAX_COMMENT = 0xFFFF;
+    private static final int CEN_SIGNATURE = 0x02014b50;
+    private static final int CEN_SIZE = 46;
+    private static final int LOC_SIGNATURE = 0x04034b50;
+    private static final int LOC_SIZE = 30;
+    private static final int STORED = 0;
+    private static final int DEFLATED = 8;
+    private static final int ZIP64_MARKER = 0xFFFFFFFF;
+
+    private final ByteBuffer buffer;
+    private final Node root = new Node();
+    // nested jar entries (to be able to index them)
+    private final Map<String, Entry> jars = new HashMap<>();
+
+    private JarIndex(final ByteBuffer buffer) throws IOException {
+        this.buffer = buffer.order(ByteOrder.LITTLE_ENDIAN);
+        readCentralDirectory();
+    }
+
+    /**
+     * @param file jar file
+     * @return jar index
+     * @throws IOException if file could not be read or it is not supported zip file
+     */
+    public static JarIndex open(final File file) throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r");
+             FileChannel channel = raf.getChannel()) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Jar is too big for indexing: " + file.getAbsolutePath());
+            }
+            // mapping remains valid after channel close
+            return new JarIndex(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * @param path entry path (e.g. "com/foo/Bar.class" or "META-INF/")
+     * @return true if entry exists in jar
+     */
+    public boolean contains(final String path) {
+        return find(path) != null;
+    }
+
+    /**
+     * Inner classes (containing '$') are ignored, the same way as in {@link OReflectionHelper}.
+     *
+     * @param pkg package name
+     * @return names of all classes in package (including sub packages)
+     */
+    public List<String> findClasses(final String pkg) {
+        final List<String> res = new ArrayList<>();
+        final Node node = find(pkg.replace('.', SEPARATOR));
+        if (node != null) {
+            collectClasses(node, pkg, res);
+        }
+        return res;
+    }
+
+    /**
+     * @param entry nested jar entry name
+     * @return nested jar index
+     * @throws IOException if entry not found or nested jar could not be read
+     */
+    public JarIndex nested(final String entry) throws IOException {
+        final Entry jar = jars.get(entry);
+        if (jar == null) {
+            throw new IOException("Nested jar not found: " + entry);
+        }
+        if (buffer.getInt(jar.offset) != LOC_SIGNATURE) {
+            throw new IOException("Bad local header for nested jar " + entry);
+        }
+        final int data = jar.offset + LOC_SIZE + unsignedShort(jar.offset + 26) + unsignedShort(jar.offset + 28);
+        final ByteBuffer content;
+        if (jar.method == STORED) {
+            final ByteBuffer dup = buffer.duplicate();
+            dup.position(data);
+            dup.limit(data + jar.compressedSize);
+            content = dup.slice();
+        } else if (jar.method == DEFLATED) {
+            content = inflate(data, jar);
+        } else {
+            throw new IOException("Unsupported compression method for nested jar " + entry);
+        }
+        return new JarIndex(content);
+    }
+
+    private void readCentralDirectory() throws IOException {
+        final int eocd = findEndOfCentralDirectory();
+        final int count = unsignedShort(eocd + 10);
+        final int size = buffer.getInt(eocd + 12);
+        if (size == ZIP64_MARKER || buffer.getInt(eocd + 16) == ZIP64_MARKER) {
+            throw new IOException("Zip64 is not supported");
+        }
+        // offset computed from the end to support jars with prepended data (e.g. executable jars)
+        int pos = eocd - size;
+        for (int i = 0; i < count; i++) {
+            if (pos < 0 || buffer.getInt(pos) != CEN_SIGNATURE) {
+                throw new IOException("Bad central directory");
+            }
+            final int method = unsignedShort(pos + 10);
+            final int compressed = buffer.getInt(pos + 20);
+            final int uncompressed = buffer.getInt(pos + 24);
+            final int nameLength = unsignedShort(pos + 28);
+            final int extraLength = unsignedShort(pos + 30);
+            final int commentLength = unsignedShort(pos + 32);
+            final int offset = buffer.getInt(pos + 42) + (eocd - size - buffer.getInt(eocd + 16));
+            final String name = readName(pos + CEN_SIZE, nameLength);
+            add(name);
+            if (name.endsWith(JAR_EXTENSION)) {
+                jars.put(name, new Entry(method, compressed, uncompressed, offset));
+            }
+            pos += CEN_SIZE + nameLength + extraLength + commentLength;
+        }
+    }
+
+    private int findEndOfCentralDirectory() throws IOException {
+        final int min = Math.max(0, buffer.limit() - EOCD_SIZE - MAX_COMMENT);
+        for (int pos = buffer.limit() - EOCD_SIZE; pos >= min; pos--) {
+            if (buffer.getInt(pos) == EOCD_SIGNATURE) {
+                return pos;
+            }
+        }
+        throw new IOException("Not a zip file");
+    }
+
+    private String readName(final int pos, final int length) {
+        final byte[] name = new byte[length];
+        final ByteBuffer dup = buffer.duplicate();
+        dup.position(pos);
+        dup.get(name);
+        return new String(name, StandardCharsets.UTF_8);
+    }
+
+    private ByteBuffer inflate(final int data, final Entry jar) throws IOException {
+        final byte[] input = new byte[jar.compressedSize];
+        final ByteBuffer dup = buffer.duplicate();
+        dup.position(data);
+        dup.get(input);
+        final byte[] output = new byte[jar.uncompressedSize];
+        final Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(input);
+            int pos = 0;
+            while (!inflater.finished()) {
+                final int read = inflater.inflate(output, pos, output.length - pos);
+                if (read == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IOException("Truncated nested jar");
+                }
+                pos += read;
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("Failed to inflate nested jar", e);
+        } finally {
+            inflater.end();
+        }
+        return ByteBuffer.wrap(output);
+    }
+
+    private int unsignedShort(final int pos) {
+        return buffer.getShort(pos) & 0xFFFF;
+    }
+
+    private void add(final String name) {
+        Node node = root;
+        int start = 0;
+        while (start < name.length()) {
+            int end = name.indexOf(SEPARATOR, start);
+            if (end < 0) {
+                end = name.length();
+            }
+            if (end > start) {
+                node = node.child(name.substring(start, end));
+            }
+            start = end + 1;
+        }
+    }
+
+    private Node find(final String path) {
+        Node node = root;
+        for (String segment : path.split(String.valueOf(SEPARATOR))) {
+            if (!segment.isEmpty()) {
+                node = node.children == null ? null : node.children.get(segment);
+                if (node == null) {
+                    break;
+                }
+            }
+        }
+        return node;
+    }
+
+    private void collectClasses(final Node node, final String pkg, final List<String> res) {
+        if (node.children != null) {
+            for (Map.Entry<String, Node> child : node.children.entrySet()) {
+                final String name = child.getKey();
+                if (child.getValue().children != null) {
+                    collectClasses(child.getValue(), pkg + '.' + name, res);
+                } else if (name.endsWith(CLASS_EXTENSION) && name.indexOf('$') < 0) {
+                    res.add(pkg + '.' + name.substring(0, name.length() - CLASS_EXTENSION.length()));
+                }
+            }
+        }
+    }
+
+    /**
+     * Prefix tree node. Children are stored in jar order.
+     */
+    private static class Node {
+        private Map<String, Node> children;
+
+        Node child(final String name) {
+            if (children == null) {
+                children = new LinkedHashMap<>();
+            }
+            return children.computeIfAbsent(name, k -> new Node());
+        }
+    }
+
+    /**
+     * Nested jar entry descriptor.
+     */
+    private static class Entry {
+        private final int method;
+        private final int compressedSize;
+        private final int uncompressedSize;
+        private final int offset;
+
+        Entry(final int method, final int compressedSize, final int uncompressedSize, final int offset) {
+            this.method = method;
+            this.compressedSize = compressedSize;
+            this.uncompressedSize = uncompressedSize;
+            this.offset = offset;
+        }
+    }
+}
@@ -1,21 +1,27 @@
 package ru.vyarus.dropwizard.guice.module.installer.scanner.util;
 
+import ru.vyarus.dropwizard.guice.module.installer.scanner.index.ClassIndex;
+
 import java.io.File;
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.net.JarURLConnection;
+import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.URLDecoder;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 
 /**
  * Reflection utility taken from orientdb (http://orientechnologies.com).
  * Helper class to browse .class files.
+ * Jars with build-time class index ({@link ClassIndex}) are not traversed.
  *
  * @author Antony Stubbs
  */
@@ -29,40 +35,51 @@ public final class OReflectionHelper {
 
     public static List<Class<?>> getClassesFor(final String iPackageName,
                                                final ClassLoader iClassLoader) throws ClassNotFoundException {
+        final List<Class<?>> classes = new ArrayList<Class<?>>();
+        for (String className : getClassNamesFor(iPackageName, iClassLoader)) {
+            classes.add(Class.forName(className, true, iClassLoader));
+        }
+        return classes;
+    }
+
+    /**
+     * Resolves names of all classes in package (including sub packages) without loading them.
+     *
+     * @param iPackageName package name
+     * @param iClassLoader class loader to search package resources with
+     * @return class names in package
+     * @throws ClassNotFoundException if package can't be browsed
+     */
+    public static List<String> getClassNamesFor(final String iPackageName,
+                                                final ClassLoader iClassLoader) throws ClassNotFoundException {
+        return getClassNamesFor(iPackageName, iClassLoader, new HashMap<String, JarIndex>());
+    }
+
+    /**
+     * Resolves names of all classes in package (including sub packages) without loading them.
+     * Jar indexes cache should be shared between calls in order to read each jar just once.
+     *
+     * @param iPackageName package name
+     * @param iClassLoader class loader to search package resources with
+     * @param jarIndexes   jar indexes cache
+     * @return class names in package
+     * @throws ClassNotFoundException if package can't be browsed
+     */
+    public static List<String> getClassNamesFor(final String iPackageName,
+                                                final ClassLoader iClassLoader,
+                                                final Map<String, JarIndex> jarIndexes) throws ClassNotFoundException {
         // This will hold a list of directories matching the pckgname.
         // There may be more than one if a package is split over multiple jars/paths
-        final List<Class<?>> classes = new ArrayList<Class<?>>();
+        final List<String> classes = new ArrayList<String>();
         final ArrayList<File> directories = new ArrayList<File>();
         try {
-            // Ask for all resources for the path
-            final String packageUrl = iPackageName.replace('.', '/');
-            Enumeration<URL> resources = iClassLoader.getResources(packageUrl);
-            if (!resources.hasMoreElements()) {
-                resources = iClassLoader.getResources(packageUrl + CLASS_EXTENSION);
-                if (resources.hasMoreElements()) {
-                    throw new IllegalArgumentException(iPackageName + " does not appear to be a valid package but a class");
-                }
-            } else {
-                while (resources.hasMoreElements()) {
-                    final URL res = resources.nextElement();
-                    if ("jar".equalsIgnoreCase(res.getProtocol())) {
-                        final JarURLConnection conn = (JarURLConnection) res.openConnection();
-                        final JarFile jar = conn.getJarFile();
-                        for (JarEntry e : Collections.list(jar.entries())) {
-
-                            if (e.getName().startsWith(iPackageName.replace('.', '/')) && e.getName().endsWith(CLASS_EXTENSION)
-                                    && !e.getName().contains("$")) {
-                                final String className = e.getName().replace("/", ".").substring(0, e.getName().length() - 6);
-                                classes.add(Class.forName(className, true, iClassLoader));
-                            }
-                        }
-                    } else {
-                        directories.add(new File(URLDecoder.decode(res.getPath(), "UTF-8")));
-                    }
+            for (URL res : getPackageResources(iPackageName, iClassLoader)) {
+                if (isJar(res)) {
+                    classes.addAll(findJarClasses(res, iPackageName, jarIndexes));
+                } else {
+                    directories.add(toDirectory(res));
                 }
             }
-        } catch (NullPointerException x) {
-            throw new ClassNotFoundException(iPackageName + " does not appear to be " + "a valid package (Null pointer exception)");
         } catch (UnsupportedEncodingException encex) {
             throw new ClassNotFoundException(iPackageName + " does not appear to be " + "a valid package (Unsupported encoding)");
         } catch (IOException ioex) {
@@ -71,40 +88,178 @@ public final class OReflectionHelper {
 
         // For every directory identified capture all the .class files
         for (File directory : directories) {
-            if (directory.exists()) {
-                // Get the list of the files contained in the package
-                final File[] files = directory.listFiles();
-                if (files != null) {
-                    for (File file : files) {
-                        if (file.isDirectory()) {
-                            classes.addAll(findClasses(file, iPackageName, iClassLoader));
-                        } else {
-                            String className;
-                            if (file.getName().endsWith(CLASS_EXTENSION)) {
-                                className = file.getName().substring(0, file.getName().length() - CLASS_EXTENSION.length());
-                                classes.add(Class.forName(iPackageName + '.' + className, true, iClassLoader));
-                            }
+            checkDirectory(directory, iPackageName);
+            // Get the list of the files contained in the package
+            final File[] files = directory.listFiles();
+            if (files != null) {
+                for (File file : files) {
+                    if (file.isDirectory()) {
+                        classes.addAll(findClasses(file, iPackageName));
+                    } else {
+                        String className;
+                        if (file.getName().endsWith(CLASS_EXTENSION)) {
+                            className = file.getName().substring(0, file.getName().length() - CLASS_EXTENSION.length());
+                            classes.add(iPackageName + '.' + className);
                         }
                     }
                 }
-            } else {
-                throw new ClassNotFoundException(iPackageName + " (" + directory.getPath() + ") does not appear to be a valid package");
             }
         }
         return classes;
     }
 
+    /**
+     * There may be more than one resource if a package is split over multiple jars/paths.
+     *
+     * @param iPackageName package name
+     * @param iClassLoader class loader to search package resources with
+     * @return package roots (jar or directory urls)
+     * @throws ClassNotFoundException if package can't be browsed
+     */
+    public static List<URL> getPackageResources(final String iPackageName,
+                                                final ClassLoader iClassLoader) throws ClassNotFoundException {
+        try {
+            // Ask for all resources for the path
+            final String packageUrl = iPackageName.replace('.', '/');
+            final Enumeration<URL> resources = iClassLoader.getResources(packageUrl);
+            if (!resources.hasMoreElements()
+                    && iClassLoader.getResources(packageUrl + CLASS_EXTENSION).hasMoreElements()) {
+                throw new IllegalArgumentException(iPackageName + " does not appear to be a valid package but a class");
+            }
+            return Collections.list(resources);
+        } catch (NullPointerException x) {
+            throw new ClassNotFoundException(iPackageName + " does not appear to be " + "a valid package (Null pointer exception)");
+        } catch (IOException ioex) {
+            throw new ClassNotFoundException("IOException was thrown when trying " + "to get all resources for " + iPackageName);
+        }
+    }
+
+    /**
+     * @param res package resource
+     * @return true if package is located in jar, false for directory
+     */
+    public static boolean isJar(final URL res) {
+        return "jar".equalsIgnoreCase(res.getProtocol());
+    }
+
+    /**
+     * Package classes are resolved with {@link JarIndex} (built from jar central directory just once and cached).
+     * If jar can't be indexed, jar entries traversal is used. Jars with build-time index ({@link ClassIndex})
+     * are not traversed.
+     *
+     * @param res          package resource inside jar
+     * @param iPackageName package name
+     * @param jarIndexes   jar indexes cache
+     * @return names of package classes (without inner classes)
+     * @throws IOException on jar read error
+     */
+    public static List<String> findJarClasses(final URL res, final String iPackageName,
+                                              final Map<String, JarIndex> jarIndexes) throws IOException {
+        final JarIndex index = getJarIndex(res, jarIndexes);
+        if (index == null || index.contains(ClassIndex.LOCATION)) {
+            return findJarClasses(res, iPackageName);
+        }
+        return index.findClasses(iPackageName);
+    }
+
+    /**
+     * Jars with build-time index are not traversed (when index covers package and matches jar content).
+     *
+     * @param res          package resource inside jar
+     * @param iPackageName package name
+     * @return names of package classes (without inner classes)
+     * @throws IOException on jar read error
+     */
+    public static List<String> findJarClasses(final URL res, final String iPackageName) throws IOException {
+        final List<String> classes = new ArrayList<String>();
+        final JarURLConnection conn = (JarURLConnection) res.openConnection();
+        final JarFile jar = conn.getJarFile();
+        // build-time index avoids jar entries traversal
+        final List<String> indexed = ClassIndex.read(jar, iPackageName);
+        if (indexed != null) {
+            for (String name : indexed) {
+                if (!name.contains("$")) {
+                    classes.add(name);
+                }
+            }
+        } else {
+            for (JarEntry e : Collections.list(jar.entries())) {
+
+                if (e.getName().startsWith(iPackageName.replace('.', '/') + '/') && e.getName().endsWith(CLASS_EXTENSION)
+                        && !e.getName().contains("$")) {
+                    classes.add(e.getName().replace("/", ".").substring(0, e.getName().length() - 6));
+                }
+            }
+        }
+        return classes;
+    }
+
+    /**
+     * Jar url could point to nested jar (e.g. {@code jar:file:/app.jar!/BOOT-INF/lib/lib.jar!/com/foo}),
+     * in this case all jars in path are indexed.
+     *
+     * @param res        package resource inside jar
+     * @param jarIndexes jar indexes cache
+     * @return jar index or null if jar could not be indexed
+     */
+    private static JarIndex getJarIndex(final URL res, final Map<String, JarIndex> jarIndexes) {
+        final String[] parts = res.getFile().split("!/");
+        if (parts.length < 2 || !parts[0].startsWith("file:")) {
+            return null;
+        }
+        String key = parts[0];
+        JarIndex index = jarIndexes.get(key);
+        try {
+            if (index == null) {
+                index = JarIndex.open(new File(new URL(parts[0]).toURI()));
+                jarIndexes.put(key, index);
+            }
+            // last part is package path
+            for (int i = 1; i < parts.length - 1; i++) {
+                key += "!/" + parts[i];
+                JarIndex nested = jarIndexes.get(key);
+                if (nested == null) {
+                    nested = index.nested(parts[i]);
+                    jarIndexes.put(key, nested);
+                }
+                index = nested;
+            }
+        } catch (IOException | URISyntaxException | RuntimeException ex) {
+            // not supported jar format: fallback to usual jar traversal
+            index = null;
+        }
+        return index;
+    }
+
+    /**
+     * @param res package resource
+     * @return package directory
+     * @throws UnsupportedEncodingException if path can't be decoded
+     */
+    public static File toDirectory(final URL res) throws UnsupportedEncodingException {
+        return new File(URLDecoder.decode(res.getPath(), "UTF-8"));
+    }
+
+    /**
+     * @param directory    package directory
+     * @param iPackageName package name
+     * @throws ClassNotFoundException if directory does not exists
+     */
+    public static void checkDirectory(final File directory, final String iPackageName) throws ClassNotFoundException {
+        if (!directory.exists()) {
+            throw new ClassNotFoundException(iPackageName + " (" + directory.getPath() + ") does not appear to be a valid package");
+        }
+    }
+
     /**
      * Recursive method used to find all classes in a given directory and subdirs.
      *
      * @param iDirectory   The base directory
      * @param iPackageName The package name for classes found inside the base directory
-     * @return The classes
-     * @throws ClassNotFoundException
+     * @return The class names
      */
-    private static List<Class<?>> findClasses(final File iDirectory, String iPackageName,
-                                              ClassLoader iClassLoader) throws ClassNotFoundException {
-        final List<Class<?>> classes = new ArrayList<Class<?>>();
+    private static List<String> findClasses(final File iDirectory, String iPackageName) {
+        final List<String> classes = new ArrayList<String>();
         if (!iDirectory.exists()) {
             return classes;
         }
@@ -119,10 +274,10 @@ public final class OReflectionHelper {
                     if (file.getName().contains(".")) {
                         continue;
                     }
-                    classes.addAll(findClasses(file, iPackageName, iClassLoader));
+                    classes.addAll(findClasses(file, iPackageName));
                 } else if (file.getName().endsWith(CLASS_EXTENSION)) {
                     className = file.getName().substring(0, file.getName().length() - CLASS_EXTENSION.length());
-                    classes.add(Class.forName(iPackageName + '.' + className, true, iClassLoader));
+                    classes.add(iPackageName + '.' + className);
                 }
             }
         }
@@ -0,0 +1,255 @@
+package ru.vyarus.dropwizard.guice.module.installer.scanner.util;
+
+import com.google.common.collect.Lists;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Consumer;
+
+/**
+ * Parallel analog of {@link OReflectionHelper}. Work is split by scanned package, package root (jar or directory)
+ * and directory sub tree and executed in dedicated {@link ForkJoinPool}. Results are merged in sorted order, so
+ * scan result does not depend on threads timing (or file system order).
+ * <p>
+ * Classes could also be loaded in parallel: {@link #loadClasses(List, ClassLoader)} loads classes without
+ * initialization in parallel and then initialize them sequentially (in scan order), so static initializers are
+ * never called concurrently.
+ * <p>
+ * Finder instance must be closed after usage to release pool threads.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 17.10.2026
+ */
+public class ParallelClassFinder implements AutoCloseable {
+    private static final String CLASS_EXTENSION = ".class";
+
+    private final ForkJoinPool pool;
+
+    /**
+     * @param parallelism workers count
+     */
+    public ParallelClassFinder(final int parallelism) {
+        this.pool = new ForkJoinPool(parallelism);
+    }
+
+    /**
+     * @return count of pool workers
+     */
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    /**
+     * @param packages packages to scan
+     * @param loader   class loader
+     * @return sorted names of all classes in packages (including sub packages)
+     */
+    public List<String> findClassNames(final Collection<String> packages, final ClassLoader loader) {
+        return pool.invoke(new RecursiveTask<List<String>>() {
+            private static final long serialVersionUID = 0;
+
+            @Override
+            protected List<String> compute() {
+                final List<ForkJoinTask<List<String>>> tasks = new ArrayList<>();
+                // jar indexes shared between packages
+                final Map<String, JarIndex> jarIndexes = new ConcurrentHashMap<>();
+                for (String pkg : packages) {
+                    tasks.add(new PackageTask(pkg, loader, jarIndexes).fork());
+                }
+                final Set<String> res = new TreeSet<>();
+                for (ForkJoinTask<List<String>> task : tasks) {
+                    res.addAll(task.join());
+                }
+                return Lists.newArrayList(res);
+            }
+        });
+    }
+
+    /**
+     * Classes are loaded in parallel (without initialization) and then initialized sequentially in provided
+     * order.
+     *
+     * @param names  class names
+     * @param loader class loader
+     * @return loaded classes (in the same order)
+     */
+    public List<Class<?>> loadClasses(final List<String> names, final ClassLoader loader) {
+        pool.invoke(new ChunkAction(names, name -> load(name, loader, false)));
+        final List<Class<?>> res = new ArrayList<>(names.size());
+        for (String name : names) {
+            res.add(load(name, loader, true));
+        }
+        return res;
+    }
+
+    /**
+     * Parse class headers in parallel to fill reader cache.
+     *
+     * @param names  class names
+     * @param reader metadata reader
+     */
+    public void readMetadata(final List<String> names, final ClassMetadataReader reader) {
+        pool.invoke(new ChunkAction(names, reader::read));
+    }
+
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    private static Class<?> load(final String name, final ClassLoader loader, final boolean initialize) {
+        try {
+            return Class.forName(name, initialize, loader);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("Failed to scan classpath", e);
+        }
+    }
+
+    /**
+     * Resolves package roots and fork root processing.
+     */
+    private static class PackageTask extends RecursiveTask<List<String>> {
+        private static final long serialVersionUID = 0;
+
+        private final String pkg;
+        private final ClassLoader loader;
+        private final Map<String, JarIndex> jarIndexes;
+
+        PackageTask(final String pkg, final ClassLoader loader, final Map<String, JarIndex> jarIndexes) {
+            this.pkg = pkg;
+            this.loader = loader;
+            this.jarIndexes = jarIndexes;
+        }
+
+        @Override
+        protected List<String> compute() {
+            final List<ForkJoinTask<List<String>>> tasks = new ArrayList<>();
+            try {
+                for (URL res : OReflectionHelper.getPackageResources(pkg, loader)) {
+                    if (OReflectionHelper.isJar(res)) {
+                        tasks.add(new JarTask(res, pkg, jarIndexes).fork());
+                    } else {
+                        final File directory = OReflectionHelper.toDirectory(res);
+                        OReflectionHelper.checkDirectory(directory, pkg);
+                        tasks.add(new DirectoryTask(directory, pkg, true).fork());
+                    }
+                }
+            } catch (ClassNotFoundException | IOException e) {
+                throw new IllegalStateException("Failed to scan classpath", e);
+            }
+            final List<String> res = new ArrayList<>();
+            for (ForkJoinTask<List<String>> task : tasks) {
+                res.addAll(task.join());
+            }
+            return res;
+        }
+    }
+
+    /**
+     * Jar classes resolution (jar index is built once and shared by all packages).
+     */
+    private static class JarTask extends RecursiveTask<List<String>> {
+        private static final long serialVersionUID = 0;
+
+        private final URL jar;
+        private final String pkg;
+        private final Map<String, JarIndex> jarIndexes;
+
+        JarTask(final URL jar, final String pkg, final Map<String, JarIndex> jarIndexes) {
+            this.jar = jar;
+            this.pkg = pkg;
+            this.jarIndexes = jarIndexes;
+        }
+
+        @Override
+        protected List<String> compute() {
+            try {
+                return OReflectionHelper.findJarClasses(jar, pkg, jarIndexes);
+            } catch (IOException e) {
+                throw new IllegalStateException("Failed to scan classpath", e);
+            }
+        }
+    }
+
+    /**
+     * Directory traversal: each sub directory processed with separate task.
+     */
+    private static class DirectoryTask extends RecursiveTask<List<String>> {
+        private static final long serialVersionUID = 0;
+
+        private final File directory;
+        private final String pkg;
+        private final boolean root;
+
+        DirectoryTask(final File directory, final String pkg, final boolean root) {
+            this.directory = directory;
+            this.pkg = pkg;
+            this.root = root;
+        }
+
+        @Override
+        protected List<String> compute() {
+            final List<String> res = new ArrayList<>();
+            final List<ForkJoinTask<List<String>>> tasks = new ArrayList<>();
+            final File[] files = directory.listFiles();
+            if (files != null) {
+                for (File file : files) {
+                    final String name = file.getName();
+                    if (file.isDirectory()) {
+                        // the same as in OReflectionHelper: dotted directories are ignored below package root
+                        if (root || !name.contains(".")) {
+                            tasks.add(new DirectoryTask(file, pkg + '.' + name, false).fork());
+                        }
+                    } else if (name.endsWith(CLASS_EXTENSION)) {
+                        res.add(pkg + '.' + name.substring(0, name.length() - CLASS_EXTENSION.length()));
+                    }
+                }
+            }
+            for (ForkJoinTask<List<String>> task : tasks) {
+                res.addAll(task.join());
+            }
+            return res;
+        }
+    }
+
+    /**
+     * Applies action to each name, splitting list in halves until chunk is small enough.
+     */
+    private static class ChunkAction extends RecursiveAction {
+        private static final long serialVersionUID = 0;
+        private static final int THRESHOLD = 32;
+
+        private final List<String> names;
+        private final Consumer<String> action;
+
+        ChunkAction(final List<String> names, final Consumer<String> action) {
+            this.names = names;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute() {
+            if (names.size() <= THRESHOLD) {
+                for (String name : names) {
+                    action.accept(name);
+                }
+            } else {
+                final int middle = names.size() / 2;
+                invokeAll(new ChunkAction(names.subList(0, middle), action),
+                        new ChunkAction(names.subList(middle, names.size()), action));
+            }
+        }
+    }
+}
@@ -1,18 +1,19 @@
 package ru.vyarus.dropwizard.guice.module.installer.util;
 
 import com.google.common.base.MoreObjects;
-import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
 import io.dropwizard.setup.Bootstrap;
 import ru.vyarus.dropwizard.guice.module.context.ConfigurationContext;
 import ru.vyarus.dropwizard.guice.module.installer.bundle.GuiceyBootstrap;
 import ru.vyarus.dropwizard.guice.module.installer.bundle.GuiceyBundle;
 import ru.vyarus.dropwizard.guice.module.installer.bundle.GuiceyEnvironment;
+import ru.vyarus.dropwizard.guice.module.installer.bundle.ParallelRunBundle;
 
 import java.lang.reflect.Field;
 import java.util.Collections;
-import java.util.Iterator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Utility class to work with registered {@link io.dropwizard.ConfiguredBundle} objects within dropwizard
@@ -35,51 +36,68 @@ public final class BundleSupport {
      * <li>Execute registered bundles and repeat from previous step until no new bundles registered</li>
      * </ul>
      * Bundles duplicates are checked by type: only one bundle instance may be registered.
+     * <p>
+     * Bundles are processed as worklist: bundles, registered by processed bundle, are appended to the end of the
+     * list, so initialization order is the same as with processing by levels (all initial bundles, then all
+     * bundles registered by them, etc.).
      *
      * @param context bundles context
      */
     public static void initBundles(final ConfigurationContext context) {
-        final List<GuiceyBundle> bundles = context.getEnabledBundles();
-        final List<Class<? extends GuiceyBundle>> installedBundles = Lists.newArrayList();
+        final List<GuiceyBundle> bundles = Lists.newArrayList(context.getEnabledBundles());
+        final Set<Class<? extends GuiceyBundle>> processedBundles = new HashSet<>();
         final GuiceyBootstrap guiceyBootstrap = new GuiceyBootstrap(context, bundles);
 
-        // iterating while no new bundles registered
-        while (!bundles.isEmpty()) {
-            final List<GuiceyBundle> processingBundles = Lists.newArrayList(removeDuplicates(bundles));
-            bundles.clear();
-            for (GuiceyBundle bundle : removeTypes(processingBundles, installedBundles)) {
-
-                final Class<? extends GuiceyBundle> bundleType = bundle.getClass();
-                Preconditions.checkState(!installedBundles.contains(bundleType),
-                        "State error: duplicate bundle '%s' registration", bundleType.getName());
-
-                // disabled bundles are not processed (so nothing will be registered from it)
-                // important to check here because transitive bundles may appear to be disabled
-                if (context.isBundleEnabled(bundleType)) {
-                    context.setScope(bundleType);
-                    bundle.initialize(guiceyBootstrap);
-                    context.closeScope();
-                }
-
-                installedBundles.add(bundleType);
+        // list grows during iteration (bundles registered by bundles)
+        for (int i = 0; i < bundles.size(); i++) {
+            final GuiceyBundle bundle = bundles.get(i);
+            // release processed bundle reference
+            bundles.set(i, null);
+            final Class<? extends GuiceyBundle> bundleType = bundle.getClass();
+            // only first bundle instance of type is processed
+            // disabled bundles are not processed (so nothing will be registered from it)
+            // important to check here because transitive bundles may appear to be disabled
+            if (processedBundles.add(bundleType) && context.isBundleEnabled(bundleType)) {
+                context.setScope(bundleType);
+                bundle.initialize(guiceyBootstrap);
+                context.closeScope();
             }
         }
         context.lifecycle().bundlesInitialized(context.getEnabledBundles(), context.getDisabledBundles());
     }
 
     /**
-     * Run all enabled bundles.
+     * Run all enabled bundles. Bundles implementing {@link ParallelRunBundle} are executed concurrently, other
+     * bundles are executed sequentially in registration order. When parallel bundles used, registrations of all
+     * bundles are delayed and applied in bundles registration order.
      *
      * @param context bundles context
      */
     public static void runBundles(final ConfigurationContext context) {
-        final GuiceyEnvironment env = new GuiceyEnvironment(context);
-        for (GuiceyBundle bundle : context.getEnabledBundles()) {
-            bundle.run(env);
+        final List<GuiceyBundle> bundles = context.getEnabledBundles();
+        final int parallel = (int) bundles.stream().filter(ParallelRunBundle.class::isInstance).count();
+        if (parallel > 0) {
+            new ParallelBundlesRunner(context, bundles).run(parallel);
+        } else {
+            final GuiceyEnvironment env = new GuiceyEnvironment(context);
+            for (GuiceyBundle bundle : bundles) {
+                context.stat().bundleRunTime(bundle.getClass(), runBundle(bundle, env));
+            }
         }
         context.lifecycle().bundlesStarted(context.getEnabledBundles());
     }
 
+    /**
+     * @param bundle      bundle to run
+     * @param environment guicey environment
+     * @return bundle run time in nanoseconds
+     */
+    static long runBundle(final GuiceyBundle bundle, final GuiceyEnvironment environment) {
+        final long start = System.nanoTime();
+        bundle.run(environment);
+        return System.nanoTime() - start;
+    }
+
     /**
      * Remove duplicates in list by rule: only one instance of type must be present in list.
      *
@@ -88,16 +106,8 @@ public final class BundleSupport {
      * @return list cleared from duplicates
      */
     public static <T> List<T> removeDuplicates(final List<T> list) {
-        final List<Class> registered = Lists.newArrayList();
-        final Iterator it = list.iterator();
-        while (it.hasNext()) {
-            final Class type = it.next().getClass();
-            if (registered.contains(type)) {
-                it.remove();
-            } else {
-                registered.add(type);
-            }
-        }
+        final Set<Class> registered = new HashSet<>();
+        list.removeIf(item -> !registered.add(item.getClass()));
         return list;
     }
 
@@ -110,13 +120,8 @@ public final class BundleSupport {
      * @return filtered list
      */
     public static <T> List<T> removeTypes(final List<T> list, final List<Class<? extends T>> filter) {
-        final Iterator it = list.iterator();
-        while (it.hasNext()) {
-            final Class type = it.next().getClass();
-            if (filter.contains(type)) {
-                it.remove();
-            }
-        }
+        final Set<Class<? extends T>> types = new HashSet<>(filter);
+        list.removeIf(item -> types.contains(item.getClass()));
         return list;
     }
 
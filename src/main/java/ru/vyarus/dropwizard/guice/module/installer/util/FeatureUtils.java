@@ -8,7 +8,7 @@ import java.lang.reflect.Modifier;
 import java.util.Arrays;
 
 /**
- * Utility methods to simplify checks for feature installers.
+ * Utility methods to simplify checks for feature installers. Annotation lookups use {@link ReflectionCache}.
  *
  * @author Vyacheslav Rusakov
  * @since 01.09.2014
@@ -44,18 +44,8 @@ public final class FeatureUtils {
      * @return found annotation or null
      */
     public static <T extends Annotation> T getAnnotation(final Class<?> type, final Class<T> annotation) {
-        T res = null;
-        if (!Modifier.isAbstract(type.getModifiers())) {
-            Class<?> supertype = type;
-            while (supertype != null && Object.class != supertype) {
-                if (supertype.isAnnotationPresent(annotation)) {
-                    res = supertype.getAnnotation(annotation);
-                    break;
-                }
-                supertype = supertype.getSuperclass();
-            }
-        }
-        return res;
+        final ReflectionCache.TypeInfo info = ReflectionCache.get(type);
+        return info.isAbstract() ? null : info.getAnnotation(annotation);
     }
 
     /**
@@ -66,23 +56,8 @@ public final class FeatureUtils {
      */
     public static <T extends Annotation> Annotation getAnnotatedAnnotation(
             final Class<?> type, final Class<T> annotation) {
-        Annotation res = null;
-        if (!Modifier.isAbstract(type.getModifiers())) {
-            Class<?> supertype = type;
-            while (supertype != null && Object.class != supertype) {
-                for (Annotation ann : supertype.getAnnotations()) {
-                    if (ann.annotationType().isAnnotationPresent(annotation)) {
-                        res = ann;
-                        break;
-                    }
-                }
-                if (res != null) {
-                    break;
-                }
-                supertype = supertype.getSuperclass();
-            }
-        }
-        return res;
+        final ReflectionCache.TypeInfo info = ReflectionCache.get(type);
+        return info.isAbstract() ? null : info.getAnnotatedAnnotation(annotation);
     }
 
     /**
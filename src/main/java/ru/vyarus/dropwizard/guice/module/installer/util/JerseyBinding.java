@@ -10,7 +10,6 @@ import ru.vyarus.dropwizard.guice.module.installer.feature.jersey.JerseyManaged;
 import ru.vyarus.dropwizard.guice.module.jersey.support.GuiceComponentFactory;
 import ru.vyarus.dropwizard.guice.module.jersey.support.JerseyComponentProvider;
 import ru.vyarus.dropwizard.guice.module.jersey.support.LazyGuiceFactory;
-import ru.vyarus.java.generics.resolver.GenericsResolver;
 import ru.vyarus.java.generics.resolver.context.GenericsContext;
 import ru.vyarus.java.generics.resolver.context.container.ParameterizedTypeImpl;
 
@@ -111,7 +110,7 @@ public final class JerseyBinding {
     public static <T> void bindFactory(final AbstractBinder binder, final Injector injector, final Class<?> type,
                                        final boolean jerseyManaged, final boolean singleton) {
         // resolve Factory<T> actual type to bind properly
-        final Class<T> res = (Class<T>) GenericsResolver.resolve(type).type(Supplier.class).generic(0);
+        final Class<T> res = (Class<T>) ReflectionCache.get(type).getGenerics().type(Supplier.class).generic(0);
         if (jerseyManaged) {
             optionalSingleton(singleton
                             ? binder.bindFactory((Class<Supplier<T>>) type, Singleton.class).to(type).to(res)
@@ -146,7 +145,7 @@ public final class JerseyBinding {
                                              final boolean jerseyManaged,
                                              final boolean singleton) {
         // resolve generics of specific type
-        final GenericsContext context = GenericsResolver.resolve(type).type(specificType);
+        final GenericsContext context = ReflectionCache.get(type).getGenerics().type(specificType);
         final List<Type> genericTypes = context.genericTypes();
         final Type[] generics = genericTypes.toArray(new Type[0]);
         final Type bindingType = generics.length > 0 ? new ParameterizedTypeImpl(specificType, generics)
@@ -0,0 +1,151 @@
+package ru.vyarus.dropwizard.guice.module.installer.util;
+
+import com.google.common.base.Throwables;
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.ListMultimap;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import ru.vyarus.dropwizard.guice.module.context.ConfigurationContext;
+import ru.vyarus.dropwizard.guice.module.installer.bundle.GuiceyBundle;
+import ru.vyarus.dropwizard.guice.module.installer.bundle.GuiceyEnvironment;
+import ru.vyarus.dropwizard.guice.module.installer.bundle.ParallelRunBundle;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import static ru.vyarus.dropwizard.guice.GuiceyOptions.BundlesRunThreads;
+
+/**
+ * Bundles run phase execution with {@link ParallelRunBundle} support. Parallel bundles are submitted into bounded
+ * thread pool (each bundle waits for its dependencies) and all other bundles are executed sequentially, in
+ * registration order, on the current thread. Registrations of all bundles (including sequential) are delayed and
+ * applied after all bundles run, in bundles registration order: so resulting modules and extensions order is
+ * exactly the same as with sequential run.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 17.10.2026
+ */
+final class ParallelBundlesRunner {
+
+    private final ConfigurationContext context;
+    private final List<GuiceyBundle> bundles;
+    // bundle run time in nanoseconds (same indexes as bundles)
+    private final List<CompletableFuture<Long>> results = new ArrayList<>();
+    private final ListMultimap<Class<?>, CompletableFuture<Long>> resultsByType = ArrayListMultimap.create();
+    private final List<GuiceyEnvironment> environments = new ArrayList<>();
+
+    ParallelBundlesRunner(final ConfigurationContext context, final List<GuiceyBundle> bundles) {
+        this.context = context;
+        this.bundles = bundles;
+        for (GuiceyBundle bundle : bundles) {
+            final CompletableFuture<Long> result = new CompletableFuture<>();
+            results.add(result);
+            resultsByType.put(bundle.getClass(), result);
+        }
+    }
+
+    /**
+     * Run all bundles.
+     *
+     * @param parallelCount count of parallel bundles
+     */
+    public void run(final int parallelCount) {
+        checkCycles();
+        final Integer maxThreads = context.option(BundlesRunThreads);
+        final int threads = Math.max(1, Math.min(maxThreads, parallelCount));
+        final ExecutorService executor = Executors.newFixedThreadPool(threads,
+                new ThreadFactoryBuilder().setNameFormat("guicey-bundles-run-%d").setDaemon(true).build());
+        try {
+            for (int i = 0; i < bundles.size(); i++) {
+                final GuiceyBundle bundle = bundles.get(i);
+                if (bundle instanceof ParallelRunBundle) {
+                    environments.add(submit(executor, (ParallelRunBundle) bundle, results.get(i)));
+                } else {
+                    // sequential bundle registrations also delayed to preserve bundles order
+                    final GuiceyEnvironment env = new GuiceyEnvironment(context, true);
+                    environments.add(env);
+                    results.get(i).complete(BundleSupport.runBundle(bundle, env));
+                }
+            }
+            for (int i = 0; i < bundles.size(); i++) {
+                context.stat().bundleRunTime(bundles.get(i).getClass(), await(i));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        // registrations applied in bundles order
+        for (GuiceyEnvironment env : environments) {
+            env.applyDelayedRegistrations();
+        }
+    }
+
+    private GuiceyEnvironment submit(final ExecutorService executor,
+                                     final ParallelRunBundle bundle,
+                                     final CompletableFuture<Long> result) {
+        final GuiceyEnvironment env = new GuiceyEnvironment(context, true);
+        final CompletableFuture<?>[] dependencies = bundle.getRunDependencies().stream()
+                .flatMap(type -> resultsByType.get(type).stream())
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(dependencies)
+                .thenRunAsync(() -> result.complete(BundleSupport.runBundle(bundle, env)), executor)
+                .exceptionally(ex -> {
+                    result.completeExceptionally(ex);
+                    return null;
+                });
+        return env;
+    }
+
+    private long await(final int index) {
+        try {
+            return results.get(index).join();
+        } catch (CompletionException ex) {
+            // unwrapping to actual bundle error (could be wrapped multiple times for dependent bundles)
+            Throwable cause = ex;
+            while (cause instanceof CompletionException && cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            Throwables.throwIfUnchecked(cause);
+            throw new IllegalStateException("Failed to run bundle " + bundles.get(index).getClass().getName(),
+                    cause);
+        }
+    }
+
+    /**
+     * Parallel bundles dependencies cycle would lead to infinite waiting and so must be detected before run.
+     * Sequential bundles could be ignored because they never wait for other bundles.
+     */
+    private void checkCycles() {
+        final Set<Class<?>> checked = new HashSet<>();
+        for (GuiceyBundle bundle : bundles) {
+            if (bundle instanceof ParallelRunBundle) {
+                checkCycles(bundle.getClass(), new LinkedHashSet<>(), checked);
+            }
+        }
+    }
+
+    private void checkCycles(final Class<?> type, final Set<Class<?>> path, final Set<Class<?>> checked) {
+        if (!path.add(type)) {
+            throw new IllegalStateException("Bundles run dependencies cycle detected: "
+                    + path.stream().map(Class::getSimpleName).collect(Collectors.joining(" -> "))
+                    + " -> " + type.getSimpleName());
+        }
+        if (checked.add(type)) {
+            // dependencies could be declared only by parallel bundles (all instances of type)
+            for (GuiceyBundle bundle : bundles) {
+                if (bundle.getClass() == type && bundle instanceof ParallelRunBundle) {
+                    for (Class<? extends GuiceyBundle> dep : ((ParallelRunBundle) bundle).getRunDependencies()) {
+                        checkCycles(dep, path, checked);
+                    }
+                }
+            }
+        }
+        path.remove(type);
+    }
+}
@@ -0,0 +1,198 @@
+package ru.vyarus.dropwizard.guice.module.installer.util;
+
+import com.google.inject.ScopeAnnotation;
+import ru.vyarus.dropwizard.guice.module.installer.order.Order;
+import ru.vyarus.java.generics.resolver.GenericsResolver;
+import ru.vyarus.java.generics.resolver.context.GenericsContext;
+
+import javax.inject.Scope;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Startup-scoped reflection metadata cache. The same reflective questions (hierarchy annotations, order,
+ * scope annotations, generics) are asked many times during application startup, so class metadata is computed
+ * once per class ({@link TypeInfo}) and re-used by {@link FeatureUtils},
+ * {@link ru.vyarus.dropwizard.guice.module.installer.order.OrderComparator}, jersey installers and
+ * configuration introspection.
+ * <p>
+ * Cache is activated by {@link ru.vyarus.dropwizard.guice.GuiceBundle} for initialization and run phases and
+ * by jersey extensions installation and released at the end of each phase (so cache is never left active, even
+ * for commands which never start environment). Activations are counted: cache is dropped only when all
+ * activations are released (nested phases or multiple applications, starting in the same jvm). Cache is
+ * {@link ClassValue}-backed: metadata is attached to class itself, so cache never prevents class loader unloading.
+ * When cache is not active, metadata is computed on each call (no caching).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 17.10.2026
+ */
+public final class ReflectionCache {
+
+    private static volatile ClassValue<TypeInfo> cache;
+    // active cache users (guarded by class lock)
+    private static int users;
+
+    private ReflectionCache() {
+    }
+
+    /**
+     * Activate cache (if not active). Each activation must be followed by {@link #release()}.
+     */
+    public static synchronized void activate() {
+        if (users++ == 0) {
+            cache = new ClassValue<TypeInfo>() {
+                @Override
+                protected TypeInfo computeValue(final Class<?> type) {
+                    return new TypeInfo(type);
+                }
+            };
+        }
+    }
+
+    /**
+     * Release cache activation. Cache is dropped when all activations are released (metadata computed after
+     * that is not cached).
+     */
+    public static synchronized void release() {
+        if (users > 0 && --users == 0) {
+            cache = null;
+        }
+    }
+
+    /**
+     * @return true if cache is active
+     */
+    public static boolean isActive() {
+        return cache != null;
+    }
+
+    /**
+     * @param type class
+     * @return class metadata (cached if cache is active)
+     */
+    public static TypeInfo get(final Class<?> type) {
+        final ClassValue<TypeInfo> value = cache;
+        return value == null ? new TypeInfo(type) : value.get(type);
+    }
+
+    /**
+     * Lazily computed class metadata. Thread safe.
+     */
+    public static final class TypeInfo {
+        private final Class<?> type;
+        private volatile List<Annotation> annotations;
+        private volatile Map<Class<? extends Annotation>, Annotation> effectiveAnnotations;
+        private volatile Integer order;
+        private volatile Boolean scoped;
+        private volatile Boolean guiceScoped;
+        private volatile GenericsContext generics;
+
+        TypeInfo(final Class<?> type) {
+            this.type = type;
+        }
+
+        /**
+         * @return true if type is abstract (or interface)
+         */
+        public boolean isAbstract() {
+            return Modifier.isAbstract(type.getModifiers());
+        }
+
+        /**
+         * @return annotations of class and all super classes (in hierarchy order, starting from class)
+         */
+        public List<Annotation> getHierarchyAnnotations() {
+            if (annotations == null) {
+                final List<Annotation> res = new ArrayList<>();
+                Class<?> supertype = type;
+                while (supertype != null && Object.class != supertype) {
+                    Collections.addAll(res, supertype.getAnnotations());
+                    supertype = supertype.getSuperclass();
+                }
+                annotations = Collections.unmodifiableList(res);
+            }
+            return annotations;
+        }
+
+        /**
+         * Abstract classes are not excluded.
+         *
+         * @param annotation annotation type
+         * @param <T>        annotation type
+         * @return annotation found on class or closest super class or null
+         */
+        @SuppressWarnings("unchecked")
+        public <T extends Annotation> T getAnnotation(final Class<T> annotation) {
+            if (effectiveAnnotations == null) {
+                final Map<Class<? extends Annotation>, Annotation> res = new HashMap<>();
+                for (Annotation ann : getHierarchyAnnotations()) {
+                    res.putIfAbsent(ann.annotationType(), ann);
+                }
+                effectiveAnnotations = res;
+            }
+            return (T) effectiveAnnotations.get(annotation);
+        }
+
+        /**
+         * Abstract classes are not excluded.
+         *
+         * @param annotation annotation which must be found on target annotation
+         * @return annotation (on class or closest super class) annotated with provided annotation or null
+         */
+        public Annotation getAnnotatedAnnotation(final Class<? extends Annotation> annotation) {
+            for (Annotation ann : getHierarchyAnnotations()) {
+                if (ann.annotationType().isAnnotationPresent(annotation)) {
+                    return ann;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * @return {@link Order} annotation value or {@link Integer#MAX_VALUE} if annotation not declared
+         */
+        public int getOrder() {
+            if (order == null) {
+                final Order ann = isAbstract() ? null : getAnnotation(Order.class);
+                order = ann != null ? ann.value() : Integer.MAX_VALUE;
+            }
+            return order;
+        }
+
+        /**
+         * Checks scope annotation presence directly on class (scope is not inheritable).
+         *
+         * @param guice true to also count guice specific scope annotations ({@link ScopeAnnotation})
+         * @return true if scope annotation found, false otherwise
+         */
+        public boolean hasScopeAnnotation(final boolean guice) {
+            if (scoped == null) {
+                boolean javax = false;
+                boolean guiceOnly = false;
+                for (Annotation ann : type.getAnnotations()) {
+                    final Class<? extends Annotation> annType = ann.annotationType();
+                    javax = javax || annType.isAnnotationPresent(Scope.class);
+                    guiceOnly = guiceOnly || annType.isAnnotationPresent(ScopeAnnotation.class);
+                }
+                guiceScoped = guiceOnly;
+                scoped = javax;
+            }
+            return scoped || guice && guiceScoped;
+        }
+
+        /**
+         * @return generics context of class
+         */
+        public GenericsContext getGenerics() {
+            if (generics == null) {
+                generics = GenericsResolver.resolve(type);
+            }
+            return generics;
+        }
+    }
+}
@@ -6,6 +6,7 @@ import ru.vyarus.dropwizard.guice.module.context.stat.StatsTracker;
 import ru.vyarus.dropwizard.guice.module.installer.FeatureInstaller;
 import ru.vyarus.dropwizard.guice.module.installer.install.JerseyInstaller;
 import ru.vyarus.dropwizard.guice.module.installer.internal.ExtensionsHolder;
+import ru.vyarus.dropwizard.guice.module.installer.util.ReflectionCache;
 import ru.vyarus.dropwizard.guice.module.lifecycle.internal.LifecycleSupport;
 
 import java.util.ArrayList;
@@ -40,22 +41,27 @@ public class InstallerBinder extends AbstractBinder {
     @SuppressWarnings("unchecked")
     protected void configure() {
         tracker.startJerseyTimer(JerseyInstallerTime);
-        final ExtensionsHolder holder = injector.getInstance(ExtensionsHolder.class);
-        final List<Class<?>> allInstalled = new ArrayList<>();
-        for (FeatureInstaller installer : holder.getInstallers()) {
-            if (installer instanceof JerseyInstaller) {
-                final List<Class<?>> features = holder.getExtensions(installer.getClass());
-                if (features != null) {
-                    for (Class<?> type : features) {
-                        ((JerseyInstaller) installer).install(this, injector, type);
+        ReflectionCache.activate();
+        try {
+            final ExtensionsHolder holder = injector.getInstance(ExtensionsHolder.class);
+            final List<Class<?>> allInstalled = new ArrayList<>();
+            for (FeatureInstaller installer : holder.getInstallers()) {
+                if (installer instanceof JerseyInstaller) {
+                    final List<Class<?>> features = holder.getExtensions(installer.getClass());
+                    if (features != null) {
+                        for (Class<?> type : features) {
+                            ((JerseyInstaller) installer).install(this, injector, type);
+                        }
+                        allInstalled.addAll(features);
                     }
-                    allInstalled.addAll(features);
+                    installer.report();
+                    lifecycle.jerseyExtensionsInstalled(installer.getClass(), features);
                 }
-                installer.report();
-                lifecycle.jerseyExtensionsInstalled(installer.getClass(), features);
             }
+            lifecycle.jerseyExtensionsInstalled(allInstalled);
+        } finally {
+            ReflectionCache.release();
         }
-        lifecycle.jerseyExtensionsInstalled(allInstalled);
         tracker.stopJerseyTimer(JerseyInstallerTime);
     }
 }
@@ -1,12 +1,19 @@
 package ru.vyarus.dropwizard.guice.module.jersey.support;
 
+import com.google.inject.Binding;
 import com.google.inject.Injector;
+import com.google.inject.Provider;
+import com.google.inject.Scopes;
+import com.google.inject.util.Providers;
 
 import java.util.function.Supplier;
 
 /**
  * Factory simply delegates object resolution to guice context. This allows to respect scopes.
  * But, more importantly, such "bridge" allows to bind guice type lazily.
+ * <p>
+ * Guice provider is resolved on first call and used directly after that (avoiding injector key lookup on each
+ * call). Instance of singleton scoped binding is also resolved once.
  *
  * @param <T> injection type
  */
@@ -14,6 +21,7 @@ public class GuiceComponentFactory<T> implements Supplier<T> {
 
     private final Injector injector;
     private final Class<T> type;
+    private volatile Provider<T> provider;
 
     public GuiceComponentFactory(final Injector injector, final Class<T> type) {
         this.injector = injector;
@@ -22,11 +30,24 @@ public class GuiceComponentFactory<T> implements Supplier<T> {
 
     @Override
     public T get() {
-        return injector.getInstance(type);
+        Provider<T> res = provider;
+        if (res == null) {
+            // concurrent resolution is harmless: the same binding will be resolved
+            res = resolveProvider();
+            provider = res;
+        }
+        return res.get();
     }
 
     @Override
     public String toString() {
         return "GuiceComponentFactory for " + type;
     }
+
+    private Provider<T> resolveProvider() {
+        final Binding<T> binding = injector.getBinding(type);
+        return Scopes.isSingleton(binding)
+                ? Providers.of(binding.getProvider().get())
+                : binding.getProvider();
+    }
 }
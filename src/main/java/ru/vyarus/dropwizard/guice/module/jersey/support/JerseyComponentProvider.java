@@ -1,7 +1,11 @@
 package ru.vyarus.dropwizard.guice.module.jersey.support;
 
 import com.google.inject.Injector;
+import org.glassfish.hk2.api.ActiveDescriptor;
+import org.glassfish.hk2.api.Context;
 import org.glassfish.hk2.api.ProxyCtl;
+import org.glassfish.hk2.api.ServiceLocator;
+import org.glassfish.hk2.utilities.BuilderHelper;
 import org.glassfish.jersey.internal.inject.InjectionManager;
 
 import javax.inject.Provider;
@@ -11,6 +15,10 @@ import javax.inject.Provider;
  * so such lazy binding is the only way to register types properly.
  * <p>Provider used on stage when HK2 context is not started and guice context is gust starting,
  * so both injectors resolved lazily.</p>
+ * <p>
+ * Jersey {@link InjectionManager}, HK2 service descriptor for type and its scope context are resolved on first call
+ * and used directly after that (avoiding guice and HK2 lookups for each instance). Instance is obtained directly
+ * from scope context and so HK2 proxy is not created at all.
  *
  * @param <T> injection type
  * @see ru.vyarus.dropwizard.guice.injector.lookup.InjectorProvider
@@ -19,6 +27,7 @@ public class JerseyComponentProvider<T> implements Provider<T> {
 
     private final Provider<Injector> injector;
     private final Class<T> type;
+    private volatile Lookup<T> lookup;
 
     public JerseyComponentProvider(final Provider<Injector> injector, final Class<T> type) {
         this.injector = injector;
@@ -28,16 +37,63 @@ public class JerseyComponentProvider<T> implements Provider<T> {
     @Override
     @SuppressWarnings("unchecked")
     public T get() {
+        Lookup<T> res = lookup;
+        if (res == null) {
+            // concurrent resolution is harmless: the same descriptor will be resolved
+            res = new Lookup<>(injector.get().getInstance(InjectionManager.class), type);
+            lookup = res;
+        }
         // HK2 by default proxy instances to delay actual instance creation, which could harm guice scopes logic
         // for example: if guice request scope transfer used ServletScopes.transferRequest and we try to obtain
         // it will try to use proxy instance in separate thread which will perform HK2 checks for request scope
         // and fail. Instead, we always resolve actual instance and let guice properly control scoping
-        final T res = injector.get().getInstance(InjectionManager.class).getInstance(type);
-        return res instanceof ProxyCtl ? (T) ((ProxyCtl) res).__make() : res;
+        final T instance = res.getInstance();
+        return instance instanceof ProxyCtl ? (T) ((ProxyCtl) instance).__make() : instance;
     }
 
     @Override
     public String toString() {
         return "JerseyComponentProvider for " + type;
     }
+
+    /**
+     * Resolved jersey instance lookup. When HK2 descriptor for type or its scope context could not be resolved
+     * (not HK2 based injection manager or type is not bound), instance is requested from injection manager each
+     * time.
+     *
+     * @param <T> injection type
+     */
+    private static class Lookup<T> {
+        private final InjectionManager manager;
+        private final Class<T> type;
+        private final ActiveDescriptor<T> descriptor;
+        private final Context<?> context;
+
+        @SuppressWarnings("unchecked")
+        Lookup(final InjectionManager manager, final Class<T> type) {
+            this.manager = manager;
+            this.type = type;
+            final ServiceLocator locator = manager.getInstance(ServiceLocator.class);
+            final ActiveDescriptor<?> desc = locator == null ? null
+                    : locator.getBestDescriptor(BuilderHelper.createContractFilter(type.getName()));
+            this.descriptor = desc == null ? null : (ActiveDescriptor<T>) locator.reifyDescriptor(desc);
+            this.context = descriptor == null ? null : findContext(locator, descriptor.getScopeAnnotation());
+        }
+
+        public T getInstance() {
+            // the same as HK2 does for direct lookup, but without proxy creation
+            return context == null ? manager.getInstance(type) : context.findOrCreate(descriptor, null);
+        }
+
+        private static Context<?> findContext(final ServiceLocator locator, final Class<?> scope) {
+            // scope contexts are registered as services
+            for (Object candidate : locator.getAllServices(Context.class)) {
+                final Context<?> context = (Context<?>) candidate;
+                if (context.getScope().equals(scope)) {
+                    return context;
+                }
+            }
+            return null;
+        }
+    }
 }
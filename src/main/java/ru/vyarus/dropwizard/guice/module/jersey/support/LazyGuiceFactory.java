@@ -9,22 +9,24 @@ import java.util.function.Supplier;
  * For example, if HK2 context is just starting and referenced guice bean depends on some HK2 bean,
  * we can't instantiate guice bean. This moves guice bean creation into HK2 init phase (when HK2 pre-init some
  * factories) or even further (first usage).
+ * <p>
+ * Factory bean is obtained through {@link GuiceComponentFactory} (so guice provider is resolved only once).
  *
  * @param <T> injection type
  */
 public class LazyGuiceFactory<T> implements Supplier<T> {
 
-    private final Injector injector;
     private final Class<Supplier<T>> type;
+    private final GuiceComponentFactory<Supplier<T>> factory;
 
     public LazyGuiceFactory(final Injector injector, final Class<Supplier<T>> type) {
-        this.injector = injector;
         this.type = type;
+        this.factory = new GuiceComponentFactory<>(injector, type);
     }
 
     @Override
     public T get() {
-        return injector.getInstance(type).get();
+        return factory.get().get();
     }
 
     @Override
@@ -0,0 +1,259 @@
+package ru.vyarus.dropwizard.guice.module.yaml;
+
+import com.fasterxml.jackson.databind.AnnotationIntrospector;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.introspect.AnnotatedField;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMethod;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.google.common.collect.ImmutableList;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cached configuration types introspection. Jackson serialization introspection is performed only once for
+ * each configuration type: visible properties with declared (generic) types and accessors (compiled to
+ * {@link MethodHandle}) are stored, so repeated introspection of the same type (e.g. in many applications, started
+ * in one JVM) only reads values.
+ * <p>
+ * Cache is {@link ClassValue}-backed: metadata is attached to class itself, so cache never prevents class loader
+ * unloading. Properties are cached per jackson introspection settings (annotation introspectors, visibility,
+ * naming strategy, mapper features and type mix-in), so different object mapper configurations would not clash.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 17.10.2026
+ */
+public final class ConfigIntrospector {
+
+    private static volatile ClassValue<Map<String, TypeProperties>> cache = createCache();
+
+    private final SerializationConfig config;
+    private final String configKey;
+
+    /**
+     * @param config jackson serialization config
+     */
+    public ConfigIntrospector(final SerializationConfig config) {
+        this.config = config;
+        this.configKey = configKey(config);
+    }
+
+    /**
+     * @param type configuration type
+     * @return visible (serializable) properties of type
+     */
+    public List<Property> getProperties(final Class<?> type) {
+        return getTypeProperties(type).list;
+    }
+
+    /**
+     * @param type configuration type
+     * @param name property name
+     * @return visible property with exact name or null if not found
+     */
+    public Property getProperty(final Class<?> type, final String name) {
+        return getTypeProperties(type).byName.get(name);
+    }
+
+    /**
+     * @return key, identifying jackson introspection settings
+     */
+    public String getConfigKey() {
+        return configKey;
+    }
+
+    /**
+     * Clear all cached properties.
+     */
+    public static void clearCache() {
+        cache = createCache();
+    }
+
+    private TypeProperties getTypeProperties(final Class<?> type) {
+        final Class<?> mixin = config.findMixInClassFor(type);
+        final String key = mixin == null ? configKey : configKey + mixin.getName();
+        return cache.get(type).computeIfAbsent(key, k -> introspect(type));
+    }
+
+    private TypeProperties introspect(final Class<?> type) {
+        final List<Property> res = new ArrayList<>();
+        for (BeanPropertyDefinition prop : config.introspect(config.constructType(type)).findProperties()) {
+            // ignore write-only or groovy special property
+            if (prop.couldSerialize() && !prop.getName().equals("metaClass")) {
+                res.add(new Property(prop));
+            }
+        }
+        return new TypeProperties(res);
+    }
+
+    private static ClassValue<Map<String, TypeProperties>> createCache() {
+        return new ClassValue<Map<String, TypeProperties>>() {
+            @Override
+            protected Map<String, TypeProperties> computeValue(final Class<?> type) {
+                return new ConcurrentHashMap<>();
+            }
+        };
+    }
+
+    /**
+     * @param config jackson serialization config
+     * @return key, identifying introspection-related configuration
+     */
+    private static String configKey(final SerializationConfig config) {
+        final StringBuilder res = new StringBuilder();
+        for (AnnotationIntrospector introspector : config.getAnnotationIntrospector().allIntrospectors()) {
+            res.append(introspector.getClass().getName()).append(',');
+        }
+        res.append(config.getDefaultVisibilityChecker()).append(';')
+                .append(config.getPropertyNamingStrategy() == null
+                        ? null : config.getPropertyNamingStrategy().getClass().getName()).append(';');
+        for (MapperFeature feature : MapperFeature.values()) {
+            res.append(config.isEnabled(feature) ? '1' : '0');
+        }
+        return res.append(';').toString();
+    }
+
+    /**
+     * Type properties in declaration order with index by name.
+     */
+    private static final class TypeProperties {
+        private final List<Property> list;
+        private final Map<String, Property> byName;
+
+        TypeProperties(final List<Property> properties) {
+            this.list = ImmutableList.copyOf(properties);
+            final Map<String, Property> index = new HashMap<>();
+            for (Property prop : properties) {
+                index.putIfAbsent(prop.getName(), prop);
+            }
+            this.byName = index;
+        }
+    }
+
+    /**
+     * Configuration property descriptor.
+     */
+    public static final class Property {
+        private final String name;
+        private final Class<?> declaringClass;
+        private final Method getter;
+        private final Field field;
+        private final Type type;
+        private final MethodHandle accessor;
+        // accessor creation error (thrown on each value read)
+        private final Exception failure;
+
+        private Property(final BeanPropertyDefinition prop) {
+            this.name = prop.getName();
+            final AnnotatedMember member = prop.getAccessor();
+            this.declaringClass = member.getDeclaringClass();
+            this.getter = prop.getGetter() != null ? prop.getGetter().getAnnotated() : null;
+            this.field = getter == null ? prop.getField().getAnnotated() : null;
+            // need generified type to resolve generics manually because jackson's generics resolution
+            // couldn't handle all required cases
+            this.type = getter != null ? getter.getGenericReturnType() : field.getGenericType();
+            MethodHandle handle = null;
+            Exception error = null;
+            try {
+                handle = compileAccessor(member);
+            } catch (Exception ex) {
+                error = ex;
+            }
+            this.accessor = handle;
+            this.failure = error;
+        }
+
+        /**
+         * @return property name
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return class declaring property accessor
+         */
+        public Class<?> getDeclaringClass() {
+            return declaringClass;
+        }
+
+        /**
+         * @return property getter or null if property accessed with field
+         */
+        public Method getGetter() {
+            return getter;
+        }
+
+        /**
+         * @return property field or null if property accessed with getter
+         */
+        public Field getField() {
+            return field;
+        }
+
+        /**
+         * @return declared property type (with generics)
+         */
+        public Type getType() {
+            return type;
+        }
+
+        /**
+         * @param instance object to read property from (may be null)
+         * @return property value or null if instance is null
+         * @throws Exception on value access error
+         */
+        @SuppressWarnings({"checkstyle:IllegalCatch", "PMD.AvoidCatchingThrowable"})
+        public Object getValue(final Object instance) throws Exception {
+            if (instance == null) {
+                return null;
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            try {
+                return accessor.invokeExact(instance);
+            } catch (Exception | Error ex) {
+                throw ex;
+            } catch (Throwable ex) {
+                throw new IllegalStateException("Failed to read property " + name, ex);
+            }
+        }
+
+        /**
+         * Accessor compiled from own reflection object copy to avoid affecting accessibility of jackson objects.
+         *
+         * @param member jackson accessor
+         * @return compiled accessor with {@code (Object)Object} signature
+         * @throws ReflectiveOperationException if accessor could not be created
+         */
+        private static MethodHandle compileAccessor(final AnnotatedMember member)
+                throws ReflectiveOperationException {
+            final MethodHandles.Lookup lookup = MethodHandles.lookup();
+            final MethodHandle res;
+            if (member instanceof AnnotatedMethod) {
+                final Method method = ((AnnotatedMethod) member).getAnnotated();
+                final Method copy = method.getDeclaringClass().getDeclaredMethod(method.getName());
+                copy.setAccessible(true);
+                res = lookup.unreflect(copy);
+            } else {
+                final Field field = ((AnnotatedField) member).getAnnotated();
+                final Field copy = field.getDeclaringClass().getDeclaredField(field.getName());
+                copy.setAccessible(true);
+                res = lookup.unreflectGetter(copy);
+            }
+            return res.asType(MethodType.methodType(Object.class, Object.class));
+        }
+    }
+}
@@ -1,11 +1,14 @@
 package ru.vyarus.dropwizard.guice.module.yaml;
 
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 import ru.vyarus.java.generics.resolver.context.container.ParameterizedTypeImpl;
 import ru.vyarus.java.generics.resolver.util.GenericsUtils;
 import ru.vyarus.java.generics.resolver.util.TypeToStringUtils;
 
 import java.lang.reflect.Type;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -22,6 +25,11 @@ import java.util.stream.Collectors;
  * because otherwise there will be no binding available in both cases).
  * <p>
  * Item contains root and child references and might be traversed like a tree.
+ * <p>
+ * As configuration tree is kept for application lifetime, item is stored in compact form: only last path segment
+ * is stored (interned) and full path is rebuilt on demand from root, generics lists are immutable and shared
+ * between all items (canonical instances), children are stored in array. Only path hash is kept (so items could
+ * be used in hash structures without path rebuild); equality check compares segments up to root.
  *
  * @author Vyacheslav Rusakov
  * @since 04.05.2018
@@ -29,9 +37,13 @@ import java.util.stream.Collectors;
 public class ConfigPath {
 
     private static final String QUOTE = "\"";
+    private static final ConfigPath[] NO_CHILDREN = new ConfigPath[0];
+    // canonical generics lists (the same generics are very common, e.g. [String] or [String, Object])
+    private static final Interner<List<Type>> GENERICS = Interners.newWeakInterner();
 
     private final ConfigPath root;
-    private final List<ConfigPath> children = new ArrayList<>();
+    // assigned once by tree builder (after all children resolution)
+    private ConfigPath[] children = NO_CHILDREN;
     // configuration class where it was declared (may be sub object class)
     private final Class declarationClass;
     // class declaration (except Object case, when type could be resolved from instance)
@@ -40,7 +52,11 @@ public class ConfigPath {
     private final Class valueType;
     private final List<Type> declaredTypeGenerics;
     private final List<Type> valueTypeGenerics;
-    private final String path;
+    // last path segment when path is relative to root path, otherwise full path
+    private final String segment;
+    private final boolean relativePath;
+    // full path hash (path is rebuilt on each access)
+    private final int hash;
     private final Object value;
     private final boolean customType;
     private final boolean objectDeclaration;
@@ -60,9 +76,13 @@ public class ConfigPath {
         this.declarationClass = declarationClass;
         this.declaredType = declaredType;
         this.valueType = valueType;
-        this.declaredTypeGenerics = declaredTypeGenerics;
-        this.valueTypeGenerics = valueTypeGenerics;
-        this.path = path;
+        this.declaredTypeGenerics = compact(declaredTypeGenerics);
+        this.valueTypeGenerics = valueTypeGenerics.equals(declaredTypeGenerics)
+                ? this.declaredTypeGenerics : compact(valueTypeGenerics);
+        final int idx = path.lastIndexOf('.');
+        this.relativePath = root != null && idx > 0 && root.isPath(path, idx);
+        this.segment = (relativePath ? path.substring(idx + 1) : path).intern();
+        this.hash = path.hashCode();
         this.value = value;
         this.customType = customType;
         this.objectDeclaration = objectDeclaration;
@@ -82,10 +102,11 @@ public class ConfigPath {
      * For example, if current path is "sub" then returned items would be next level paths: "sub.val1", "sub.val2" etc.
      * Useful for manual config analysis.
      *
-     * @return list of child properties
+     * @return list of child properties (immutable)
      */
     public List<ConfigPath> getChildren() {
-        return children;
+        return children.length == 0 ? Collections.emptyList()
+                : Collections.unmodifiableList(Arrays.asList(children));
     }
 
     /**
@@ -154,7 +175,7 @@ public class ConfigPath {
      * @return full yaml path of property
      */
     public String getPath() {
-        return path;
+        return relativePath ? root.getPath() + '.' + segment : segment;
     }
 
     /**
@@ -242,8 +263,11 @@ public class ConfigPath {
      * @return last path element (e.g. for "some.long.path" return "path")
      */
     public String getLastPathLevel() {
-        final int idx = path.lastIndexOf('.');
-        return idx < 0 ? path : path.substring(idx + 1);
+        if (relativePath) {
+            return segment;
+        }
+        final int idx = segment.lastIndexOf('.');
+        return idx < 0 ? segment : segment.substring(idx + 1);
     }
 
     /**
@@ -273,7 +297,7 @@ public class ConfigPath {
     public String toString() {
         final StringBuilder res = new StringBuilder(100)
                 .append('[').append(getRootDeclarationClass().getSimpleName()).append("] ")
-                .append(path).append(" (").append(toStringDeclaredType());
+                .append(getPath()).append(" (").append(toStringDeclaredType());
         // indicate Object declaration in class (should never occur in sane configurations)
         if (isObjectDeclaration() && declaredType != Object.class) {
             res.append('*');
@@ -297,13 +321,47 @@ public class ConfigPath {
 
         final ConfigPath that = (ConfigPath) o;
         // dropwizard application always use only one configuration object so only path is meaningful
-        return path.equals(that.path);
+        return hash == that.hash && (relativePath && that.relativePath
+                ? segment.equals(that.segment) && root.equals(that.root)
+                : getPath().equals(that.getPath()));
     }
 
     @Override
     public int hashCode() {
         // dropwizard application always use only one configuration object so only path is meaningful
-        return path.hashCode();
+        return hash;
+    }
+
+    /**
+     * Used by tree builder to set sorted children paths.
+     *
+     * @param children child paths
+     */
+    void setChildren(final List<ConfigPath> children) {
+        this.children = children.isEmpty() ? NO_CHILDREN : children.toArray(NO_CHILDREN);
+    }
+
+    /**
+     * Checks path equality without path string building.
+     *
+     * @param path path to compare with
+     * @param end  compared path length (from path start)
+     * @return true if current path is equal to path substring
+     */
+    private boolean isPath(final String path, final int end) {
+        final int start = end - segment.length();
+        final boolean res;
+        if (relativePath) {
+            res = start > 0 && path.charAt(start - 1) == '.'
+                    && path.regionMatches(start, segment, 0, segment.length()) && root.isPath(path, start - 1);
+        } else {
+            res = start == 0 && path.startsWith(segment);
+        }
+        return res;
+    }
+
+    private static List<Type> compact(final List<Type> generics) {
+        return generics.isEmpty() ? Collections.emptyList() : GENERICS.intern(ImmutableList.copyOf(generics));
     }
 
     private List<Class> getClasses(final List<Type> generics) {
@@ -1,9 +1,5 @@
 package ru.vyarus.dropwizard.guice.module.yaml;
 
-import com.fasterxml.jackson.databind.SerializationConfig;
-import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
-import com.fasterxml.jackson.databind.introspect.BasicBeanDescription;
-import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
 import com.google.common.base.MoreObjects;
 import com.google.common.base.Optional;
 import com.google.common.collect.ImmutableSet;
@@ -15,20 +11,23 @@ import io.dropwizard.util.DataSize;
 import io.dropwizard.util.Duration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import ru.vyarus.dropwizard.guice.module.installer.util.ReflectionCache;
 import ru.vyarus.java.generics.resolver.GenericsResolver;
 import ru.vyarus.java.generics.resolver.context.GenericsContext;
 
-import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Type;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
 
 /**
  * Analyzes configuration instance, prepared by dropwizard, in order to be able to use configuration
  * values directly (e.g. by path).
  * <p>
  * Use jackson serialization api for configuration introspection. This way everything that is accessible for
- * jackson serialization will be extracted. Jackson will perform all required reflection work and cache it
- * during configuration mapping, so performance should not be harmed at all.
+ * jackson serialization will be extracted. Introspected types model (properties with compiled accessors) is
+ * cached with {@link ConfigIntrospector} so each type is introspected by jackson only once.
  * <p>
  * Extra generics information is extracted with {@link GenericsResolver} to use all possibly available types
  * information in bindings.
@@ -71,6 +70,16 @@ public final class ConfigTreeBuilder {
             List.class, Set.class, Map.class, Multimap.class
     );
 
+    /**
+     * Cached custom type flags (see {@link #isCustomType(Class)}).
+     */
+    private static final ClassValue<Boolean> CUSTOM_TYPES = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(final Class<?> type) {
+            return isCustomType(type);
+        }
+    };
+
     private ConfigTreeBuilder() {
     }
 
@@ -98,22 +107,163 @@ public final class ConfigTreeBuilder {
     public static ConfigurationTree build(final Bootstrap bootstrap,
                                           final Configuration configuration,
                                           final boolean introspect) {
+        return build(bootstrap, configuration, introspect, false);
+    }
+
+    /**
+     * Analyze configuration object to extract bindable parts. In parallel mode, sub configuration objects are
+     * introspected in {@link ForkJoinPool} (task per custom type property), but resulting tree is the same as
+     * with sequential introspection.
+     *
+     * @param bootstrap     bootstrap instance
+     * @param configuration configuration instance
+     * @param introspect    true to introspect configuration object and extract values by path and unique
+     *                      sub configurations
+     * @param parallel      true to introspect sub configuration objects in parallel
+     * @return parsed configuration info
+     * @see ru.vyarus.dropwizard.guice.GuiceyOptions#ParallelConfigIntrospection
+     */
+    public static ConfigurationTree build(final Bootstrap bootstrap,
+                                          final Configuration configuration,
+                                          final boolean introspect,
+                                          final boolean parallel) {
+        return build(bootstrap, configuration, introspect, parallel, null);
+    }
+
+    /**
+     * Analyze configuration object to extract bindable parts. When cache provided, tree is restored from cached
+     * snapshot (if valid) and introspected tree is stored in cache otherwise.
+     *
+     * @param bootstrap     bootstrap instance
+     * @param configuration configuration instance
+     * @param introspect    true to introspect configuration object and extract values by path and unique
+     *                      sub configurations
+     * @param parallel      true to introspect sub configuration objects in parallel
+     * @param cache         configuration tree cache (may be null)
+     * @return parsed configuration info
+     * @see ru.vyarus.dropwizard.guice.GuiceyOptions#ConfigTreeCacheFile
+     */
+    public static ConfigurationTree build(final Bootstrap bootstrap,
+                                          final Configuration configuration,
+                                          final boolean introspect,
+                                          final boolean parallel,
+                                          final ConfigTreeCache cache) {
         final List<Class> roots = resolveRootTypes(new ArrayList<>(), configuration.getClass());
+        if (introspect && cache != null) {
+            final ConfigurationTree cached = cache.load(bootstrap, configuration, roots);
+            if (cached != null) {
+                return cached;
+            }
+        }
         if (introspect) {
-            final List<ConfigPath> content = resolvePaths(
-                    bootstrap.getObjectMapper().getSerializationConfig(),
-                    null,
-                    new ArrayList<>(),
-                    configuration.getClass(),
-                    configuration,
-                    GenericsResolver.resolve(configuration.getClass()));
+            final ConfigIntrospector introspector =
+                    new ConfigIntrospector(bootstrap.getObjectMapper().getSerializationConfig());
+            final GenericsContext genericsContext = ReflectionCache.get(configuration.getClass()).getGenerics();
+            final List<ConfigPath> content;
+            if (parallel) {
+                final ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+                try {
+                    content = pool.invoke(new PathsTask(introspector, null, configuration.getClass(),
+                            configuration, genericsContext));
+                } finally {
+                    pool.shutdown();
+                }
+            } else {
+                content = resolvePaths(introspector, null, new ArrayList<>(), configuration.getClass(),
+                        configuration, genericsContext);
+            }
             final List<ConfigPath> uniqueContent = resolveUniqueTypePaths(content);
-            return new ConfigurationTree(roots, content, uniqueContent);
+            final ConfigurationTree res = new ConfigurationTree(roots, content, uniqueContent);
+            if (cache != null) {
+                cache.save(res);
+            }
+            return res;
         } else {
             return new ConfigurationTree(roots);
         }
     }
 
+    /**
+     * Lazy configuration analysis: only root types are resolved immediately and configuration paths would be
+     * introspected on first tree paths access.
+     *
+     * @param bootstrap     bootstrap instance
+     * @param configuration configuration instance
+     * @param parallel      true to introspect sub configuration objects in parallel
+     * @return lazy configuration info
+     * @see ru.vyarus.dropwizard.guice.GuiceyOptions#LazyConfigurationBindings
+     */
+    public static ConfigurationTree buildLazy(final Bootstrap bootstrap,
+                                              final Configuration configuration,
+                                              final boolean parallel) {
+        return buildLazy(bootstrap, configuration, parallel, null);
+    }
+
+    /**
+     * Lazy configuration analysis with configuration tree cache (used on first tree paths access).
+     *
+     * @param bootstrap     bootstrap instance
+     * @param configuration configuration instance
+     * @param parallel      true to introspect sub configuration objects in parallel
+     * @param cache         configuration tree cache (may be null)
+     * @return lazy configuration info
+     * @see ru.vyarus.dropwizard.guice.GuiceyOptions#ConfigTreeCacheFile
+     */
+    public static ConfigurationTree buildLazy(final Bootstrap bootstrap,
+                                              final Configuration configuration,
+                                              final boolean parallel,
+                                              final ConfigTreeCache cache) {
+        return new ConfigurationTree(resolveRootTypes(new ArrayList<>(), configuration.getClass()),
+                () -> build(bootstrap, configuration, true, parallel, cache));
+    }
+
+    /**
+     * Introspect only one configuration path (without complete configuration introspection). Resolved path
+     * descriptor is the same as in complete tree ({@link ConfigurationTree#findByPath(String)}), except that
+     * root and children paths are not linked.
+     *
+     * @param bootstrap     bootstrap instance
+     * @param configuration configuration instance
+     * @param path          yaml path (case sensitive)
+     * @return path descriptor or null if path not found
+     */
+    public static ConfigPath resolvePath(final Bootstrap bootstrap,
+                                         final Configuration configuration,
+                                         final String path) {
+        final ConfigIntrospector introspector =
+                new ConfigIntrospector(bootstrap.getObjectMapper().getSerializationConfig());
+        ConfigPath res = null;
+        Class type = configuration.getClass();
+        Object object = configuration;
+        GenericsContext genericsContext = ReflectionCache.get(type).getGenerics();
+        for (String name : path.split("\\.", -1)) {
+            if (res != null) {
+                if (!res.isCustomType()) {
+                    return null;
+                }
+                type = res.getValueType();
+                object = res.getValue();
+            }
+            final ConfigIntrospector.Property prop = introspector.getProperty(type, name);
+            if (prop == null) {
+                return null;
+            }
+            final Object value;
+            try {
+                value = prop.getValue(object);
+            } catch (Exception ex) {
+                logReadFailure(res, prop, ex);
+                return null;
+            }
+            final ConfigPath item = createItem(res, prop, value, genericsContext);
+            if (item.isCustomType()) {
+                genericsContext = subContext(prop, item, genericsContext);
+            }
+            res = item;
+        }
+        return res;
+    }
+
     /**
      * Analyze configuration class structure to extract all classes in hierarchy with all custom
      * interfaces (ignoring, for example Serializable or something like this).
@@ -146,61 +296,89 @@ public final class ConfigTreeBuilder {
      * Still, bindings may vary: for example, bound implementations may differ (best example is dropwizard server type),
      * as a consequences, parsed type may be different and so different properties paths could be recognized.
      *
-     * @param config  jackson serialization config
-     * @param content currently parsed paths
-     * @param type    analyzed part type
-     * @param object  analyzed part instance (may be null)
+     * @param introspector configuration types introspector
+     * @param content      currently parsed paths
+     * @param type         analyzed part type
+     * @param object       analyzed part instance (may be null)
      * @return all configuration paths values
      */
-    private static List<ConfigPath> resolvePaths(final SerializationConfig config,
+    private static List<ConfigPath> resolvePaths(final ConfigIntrospector introspector,
                                                  final ConfigPath root,
                                                  final List<ConfigPath> content,
                                                  final Class type,
                                                  final Object object,
                                                  final GenericsContext genericsContext) {
-        final BasicBeanDescription description = config.introspect(
-                config.constructType(type)
-        );
-
-        for (BeanPropertyDefinition prop : description.findProperties()) {
-            // ignore write-only or groovy special property
-            if (!prop.couldSerialize() || prop.getName().equals("metaClass")) {
-                continue;
+        for (PropertyPath prop : resolveProperties(introspector, root, type, object, genericsContext)) {
+            content.add(prop.item);
+            if (prop.subContext != null) {
+                resolvePaths(introspector, prop.item, content, prop.item.getValueType(),
+                        prop.item.getValue(), prop.subContext);
             }
+        }
+        return content;
+    }
+
+    /**
+     * Introspect direct object properties (without going deeper).
+     *
+     * @param introspector    configuration types introspector
+     * @param root            analyzed part path (null for configuration object)
+     * @param type            analyzed part type
+     * @param object          analyzed part instance (may be null)
+     * @param genericsContext generics context
+     * @return direct properties paths in declaration order
+     */
+    private static List<PropertyPath> resolveProperties(final ConfigIntrospector introspector,
+                                                        final ConfigPath root,
+                                                        final Class type,
+                                                        final Object object,
+                                                        final GenericsContext genericsContext) {
+        final List<PropertyPath> res = new ArrayList<>();
+        for (ConfigIntrospector.Property prop : introspector.getProperties(type)) {
             final Object value;
             // if configuration doesn't expect serialization and throws error on access
             // (like netflix dynamic properties) it should not break app startup
             try {
-                value = readValue(prop.getAccessor(), object);
+                value = prop.getValue(object);
             } catch (Exception ex) {
-                LOGGER.warn("Can't bind configuration path '{}' due to {}: {}. Enable debug logs to see "
-                                + "complete stack trace or use @JsonIgnore on property getter.",
-                        fullPath(root, prop), ex.getClass().getSimpleName(), ex.getMessage());
-                LOGGER.debug("Complete error: ", ex);
+                logReadFailure(root, prop, ex);
                 continue;
             }
 
             final ConfigPath item = createItem(root, prop, value, genericsContext);
-            content.add(item);
-            if (root != null) {
-                root.getChildren().add(item);
-            }
-
-            if (item.isCustomType()) {
-                // build generics context for actual value type (if not null)
-                final GenericsContext subContext = prop.getGetter() != null
-                        ? genericsContext.method(prop.getGetter().getAnnotated()).returnTypeAs(item.getValueType())
-                        : genericsContext.fieldTypeAs(prop.getField().getAnnotated(), item.getValueType());
-
-                resolvePaths(config, item, content, item.getValueType(),
-                        item.getValue(), subContext);
-            }
+            res.add(new PropertyPath(item, item.isCustomType() ? subContext(prop, item, genericsContext) : null));
         }
         if (root != null) {
+            final List<ConfigPath> children = new ArrayList<>(res.size());
+            res.forEach(prop -> children.add(prop.item));
             // simple properties goes up and composite objects go lower (both groups sorted alphabetically)
-            root.getChildren().sort(Comparator.comparing(o -> (o.isCustomType() ? 'b' : 'a') + o.getPath()));
+            children.sort(Comparator.comparing(o -> (o.isCustomType() ? 'b' : 'a') + o.getLastPathLevel()));
+            root.setChildren(children);
         }
-        return content;
+        return res;
+    }
+
+    private static void logReadFailure(final ConfigPath root,
+                                       final ConfigIntrospector.Property prop,
+                                       final Exception ex) {
+        LOGGER.warn("Can't bind configuration path '{}' due to {}: {}. Enable debug logs to see "
+                        + "complete stack trace or use @JsonIgnore on property getter.",
+                fullPath(root, prop), ex.getClass().getSimpleName(), ex.getMessage());
+        LOGGER.debug("Complete error: ", ex);
+    }
+
+    /**
+     * @param prop            custom type property
+     * @param item            property path item
+     * @param genericsContext generics context of property declaration
+     * @return generics context for actual value type (if not null)
+     */
+    private static GenericsContext subContext(final ConfigIntrospector.Property prop,
+                                              final ConfigPath item,
+                                              final GenericsContext genericsContext) {
+        return prop.getGetter() != null
+                ? genericsContext.method(prop.getGetter()).returnTypeAs(item.getValueType())
+                : genericsContext.fieldTypeAs(prop.getField(), item.getValueType());
     }
 
     /**
@@ -214,26 +392,22 @@ public final class ConfigTreeBuilder {
      * </ul>
      *
      * @param root            root property (containing), may be null for roots
-     * @param prop            jackson property descriptor
+     * @param prop            property descriptor
      * @param value           property value, may be null
      * @param genericsContext generics context
      * @return path item object
      */
     private static ConfigPath createItem(final ConfigPath root,
-                                         final BeanPropertyDefinition prop,
+                                         final ConfigIntrospector.Property prop,
                                          final Object value,
                                          final GenericsContext genericsContext) {
-        // need generified type to resolve generics manually because jackson's generics resolution
-        // couldn't handle all required cases
-        final Type type = prop.getGetter() != null
-                ? prop.getGetter().getAnnotated().getGenericReturnType()
-                : prop.getField().getAnnotated().getGenericType();
+        final Type type = prop.getType();
         final Class typeClass = Primitives.wrap(genericsContext.resolveClass(type));
 
         // upper possible known type (for introspection): ideally type of actually used configuration value
         // note that even when value is null upper type could be different from lower type due to collection projection
         final Class upperType = value == null ? typeClass : value.getClass();
-        final boolean customType = isCustomType(upperType);
+        final boolean customType = CUSTOM_TYPES.get(upperType);
         // either class declaration or value type (in both cases could be projected to collection interface)
         final boolean objectDeclared = Object.class.equals(typeClass);
         final Class lowerType = correctValueType(objectDeclared ? upperType : typeClass, customType);
@@ -245,7 +419,7 @@ public final class ConfigTreeBuilder {
 
         return new ConfigPath(
                 root,
-                prop.getAccessor().getDeclaringClass(),
+                prop.getDeclaringClass(),
                 lowerType,
                 // as an example, enum constant type could lead to anonymous class
                 upperType.isAnonymousClass() ? lowerType : upperType,
@@ -418,28 +592,66 @@ public final class ConfigTreeBuilder {
         return res;
     }
 
-    private static Object readValue(final AnnotatedMember member, final Object object) {
-        if (object == null) {
-            return null;
-        }
-        final Object res;
-        final AccessibleObject accessor = (AccessibleObject) member.getMember();
-        // case: private field
-        if (!accessor.isAccessible()) {
-            accessor.setAccessible(true);
-            try {
-                res = member.getValue(object);
-            } finally {
-                accessor.setAccessible(false);
-            }
-        } else {
-            // public access (most likely getter)
-            res = member.getValue(object);
+    private static String fullPath(final ConfigPath root, final ConfigIntrospector.Property prop) {
+        return (root == null ? "" : root.getPath() + ".") + prop.getName();
+    }
+
+    /**
+     * Introspected property path with generics context for sub properties resolution (only for custom types).
+     */
+    private static class PropertyPath {
+        private final ConfigPath item;
+        private final GenericsContext subContext;
+
+        PropertyPath(final ConfigPath item, final GenericsContext subContext) {
+            this.item = item;
+            this.subContext = subContext;
         }
-        return res;
     }
 
-    private static String fullPath(final ConfigPath root, final BeanPropertyDefinition prop) {
-        return (root == null ? "" : root.getPath() + ".") + prop.getName();
+    /**
+     * Parallel introspection: direct properties are resolved in current task and each custom type property
+     * is introspected in separate task. Results are merged in properties order, so resulting paths order is the
+     * same as in sequential introspection.
+     */
+    private static class PathsTask extends RecursiveTask<List<ConfigPath>> {
+        private static final long serialVersionUID = 0;
+
+        private final ConfigIntrospector introspector;
+        private final ConfigPath root;
+        private final Class type;
+        private final Object object;
+        private final GenericsContext genericsContext;
+
+        PathsTask(final ConfigIntrospector introspector,
+                  final ConfigPath root,
+                  final Class type,
+                  final Object object,
+                  final GenericsContext genericsContext) {
+            this.introspector = introspector;
+            this.root = root;
+            this.type = type;
+            this.object = object;
+            this.genericsContext = genericsContext;
+        }
+
+        @Override
+        protected List<ConfigPath> compute() {
+            final List<PropertyPath> props = resolveProperties(introspector, root, type, object, genericsContext);
+            final List<ForkJoinTask<List<ConfigPath>>> tasks = new ArrayList<>(props.size());
+            for (PropertyPath prop : props) {
+                tasks.add(prop.subContext == null ? null : new PathsTask(introspector, prop.item,
+                        prop.item.getValueType(), prop.item.getValue(), prop.subContext).fork());
+            }
+            final List<ConfigPath> res = new ArrayList<>();
+            for (int i = 0; i < props.size(); i++) {
+                res.add(props.get(i).item);
+                final ForkJoinTask<List<ConfigPath>> task = tasks.get(i);
+                if (task != null) {
+                    res.addAll(task.join());
+                }
+            }
+            return res;
+        }
     }
 }
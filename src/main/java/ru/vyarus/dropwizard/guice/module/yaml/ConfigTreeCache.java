@@ -0,0 +1,641 @@
+package ru.vyarus.dropwizard.guice.module.yaml;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.io.ByteStreams;
+import com.google.common.primitives.Primitives;
+import io.dropwizard.Configuration;
+import io.dropwizard.configuration.ConfigurationSourceProvider;
+import io.dropwizard.setup.Bootstrap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ru.vyarus.java.generics.resolver.context.container.GenericArrayTypeImpl;
+import ru.vyarus.java.generics.resolver.context.container.ParameterizedTypeImpl;
+import ru.vyarus.java.generics.resolver.context.container.WildcardTypeImpl;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.CodeSource;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Persistent configuration tree cache (enabled with
+ * {@link ru.vyarus.dropwizard.guice.GuiceyOptions#ConfigTreeCacheFile}). Stores introspected configuration tree
+ * metadata (paths, declared and value types with generics, children and unique type paths) in binary file, so
+ * application restart with the same configuration could skip configuration introspection.
+ * <p>
+ * Snapshot is valid when configuration fingerprint is the same. Fingerprint is computed from configuration
+ * source content (recorded with {@link #recordSource(ConfigurationSourceProvider)} wrapper, when configuration
+ * is read), configuration overrides with system properties, configuration class and object mapper introspection
+ * settings. Also, each class referenced in snapshot must be loadable and must be the same: for classes from jars,
+ * jar size and modification time are compared (once per jar), for classes from directories, class structure is
+ * compared (declared fields and getters with annotations; computed with reflection). When configuration
+ * source provider is replaced or wrapped after recorder installation, actual source is unknown and cache is not
+ * used. Configuration without source recorder is assumed to be created without source (default configuration).
+ * <p>
+ * Values are not stored: paths values are always read from actual configuration instance with stored accessors
+ * (getter or field), so valid snapshot is restored without jackson introspection. If any value could not be read,
+ * its type differs from cached or value nullness changed (null values are not introspected), snapshot is
+ * considered outdated.
+ * <p>
+ * Cache file is written only when stored snapshot is not valid. Cache read or write errors are not critical:
+ * configuration is introspected as usual.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 17.10.2026
+ */
+public class ConfigTreeCache {
+    private static final int VERSION = 2;
+    // dropwizard configuration overrides prefix
+    private static final String OVERRIDES_PREFIX = "dw.";
+
+    private static final byte CLASS = 0;
+    private static final byte PARAMETERIZED = 1;
+    private static final byte ARRAY = 2;
+    private static final byte WILDCARD = 3;
+    // indicates not readable value or changed value type
+    private static final Object NOT_VALID = new Object();
+
+    private final Logger logger = LoggerFactory.getLogger(ConfigTreeCache.class);
+
+    private final File file;
+    private SourceRecorder recorder;
+    private ConfigIntrospector introspector;
+    private Configuration loadedConfiguration;
+    private String fingerprint;
+    private boolean loaded;
+    private boolean valid;
+
+    /**
+     * @param file cache file
+     */
+    public ConfigTreeCache(final File file) {
+        this.file = file;
+    }
+
+    /**
+     * Wraps configuration source provider to record configuration source content. Must be the last wrapper
+     * (otherwise cache would not be used).
+     *
+     * @param provider configuration source provider
+     * @return recording provider
+     */
+    public ConfigurationSourceProvider recordSource(final ConfigurationSourceProvider provider) {
+        recorder = new SourceRecorder(provider);
+        return recorder;
+    }
+
+    /**
+     * Computes configuration fingerprint and restores configuration tree from stored snapshot (if valid).
+     *
+     * @param bootstrap     bootstrap instance
+     * @param configuration configuration instance
+     * @param rootTypes     configuration class hierarchy
+     * @return restored configuration tree or null if no valid snapshot available
+     */
+    public ConfigurationTree load(final Bootstrap bootstrap,
+                                  final Configuration configuration,
+                                  final List<Class> rootTypes) {
+        loaded = true;
+        introspector = new ConfigIntrospector(bootstrap.getObjectMapper().getSerializationConfig());
+        loadedConfiguration = configuration;
+        fingerprint = computeFingerprint(bootstrap);
+        if (fingerprint == null) {
+            logger.debug("Configuration tree cache could not be used because configuration source provider was "
+                    + "changed after guice bundle initialization");
+            return null;
+        }
+        ConfigurationTree res = null;
+        if (file.exists()) {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+                res = read(in, configuration, rootTypes);
+            } catch (IOException | ClassNotFoundException | RuntimeException ex) {
+                logger.warn("Failed to read configuration tree cache file " + file.getAbsolutePath(), ex);
+            }
+        }
+        valid = res != null;
+        logger.debug("Configuration tree cache {} is {}", file.getAbsolutePath(), valid ? "valid" : "outdated");
+        return res;
+    }
+
+    /**
+     * @param bootstrap bootstrap instance
+     * @return configuration fingerprint or null if configuration source is unknown
+     */
+    private String computeFingerprint(final Bootstrap bootstrap) {
+        if (recorder != null && bootstrap.getConfigurationSourceProvider() != recorder) {
+            return null;
+        }
+        final Hasher hasher = Hashing.murmur3_128().newHasher()
+                .putString(loadedConfiguration.getClass().getName(), StandardCharsets.UTF_8)
+                .putString(introspector.getConfigKey(), StandardCharsets.UTF_8)
+                .putString(recorder == null || recorder.source == null ? "" : recorder.source,
+                        StandardCharsets.UTF_8);
+        final Set<String> overrides = new TreeSet<>();
+        for (String name : System.getProperties().stringPropertyNames()) {
+            if (name.startsWith(OVERRIDES_PREFIX)) {
+                overrides.add(name + '=' + System.getProperty(name));
+            }
+        }
+        for (String override : overrides) {
+            hasher.putString(override, StandardCharsets.UTF_8);
+        }
+        return hasher.hash().toString();
+    }
+
+    /**
+     * Writes cache file, if stored snapshot is not valid. Cache is not written if it was not loaded,
+     * configuration fingerprint could not be computed or some configuration value could not be read.
+     *
+     * @param tree introspected configuration tree
+     */
+    public void save(final ConfigurationTree tree) {
+        if (!loaded || valid || fingerprint == null) {
+            return;
+        }
+        if (!isReadable(tree)) {
+            logger.debug("Configuration tree cache could not be used for configuration {} because not all "
+                    + "values could be read", loadedConfiguration.getClass().getName());
+            return;
+        }
+        try {
+            final Path target = file.getAbsoluteFile().toPath();
+            Files.createDirectories(target.getParent());
+            // unique temp file: concurrently started applications could write the same cache
+            final Path tmp = Files.createTempFile(target.getParent(), file.getName(), ".tmp");
+            try {
+                try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tmp))) {
+                    write(new DataOutputStream(out), tree);
+                }
+                move(tmp, target);
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+            valid = true;
+            logger.debug("Configuration tree cache stored in {}", file.getAbsolutePath());
+        } catch (IOException | RuntimeException ex) {
+            logger.warn("Failed to write configuration tree cache file " + file.getAbsolutePath(), ex);
+        }
+    }
+
+    private void move(final Path source, final Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException ex) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Properties with failed getters are not included into tree (and would not be restored from cache even if
+     * getter would work next time).
+     *
+     * @param tree introspected configuration tree
+     * @return true if all configuration properties could be read
+     */
+    private boolean isReadable(final ConfigurationTree tree) {
+        boolean res = isReadable(loadedConfiguration.getClass(), loadedConfiguration);
+        for (ConfigPath path : tree.getPaths()) {
+            if (res && path.isCustomType() && path.getValue() != null) {
+                res = isReadable(path.getValueType(), path.getValue());
+            }
+        }
+        return res;
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private boolean isReadable(final Class type, final Object instance) {
+        try {
+            for (ConfigIntrospector.Property prop : introspector.getProperties(type)) {
+                prop.getValue(instance);
+            }
+            return true;
+        } catch (Exception ex) {
+            return false;
+        }
+    }
+
+    private void write(final DataOutputStream out, final ConfigurationTree tree) throws IOException {
+        final Map<Class, Integer> classes = new LinkedHashMap<>();
+        final Map<ConfigPath, Integer> positions = new IdentityHashMap<>();
+        final ByteArrayOutputStream content = new ByteArrayOutputStream();
+        final DataOutputStream body = new DataOutputStream(content);
+        final List<ConfigPath> paths = tree.getPaths();
+        body.writeInt(paths.size());
+        for (ConfigPath path : paths) {
+            positions.put(path, positions.size());
+            body.writeInt(path.getRoot() == null ? -1 : position(positions, path.getRoot()));
+            body.writeInt(classIndex(classes, path.getDeclarationClass()));
+            body.writeInt(classIndex(classes, path.getDeclaredType()));
+            body.writeInt(classIndex(classes, path.getValueType()));
+            writeTypes(body, path.getDeclaredTypeGenerics(), classes);
+            writeTypes(body, path.getValueTypeGenerics(), classes);
+            body.writeUTF(path.getPath());
+            body.writeBoolean(path.isCustomType());
+            body.writeBoolean(path.isObjectDeclaration());
+            body.writeBoolean(path.getValue() == null);
+            writeAccessor(body, path, classes);
+        }
+        for (ConfigPath path : paths) {
+            final List<ConfigPath> children = path.getChildren();
+            body.writeInt(children.size());
+            for (ConfigPath child : children) {
+                body.writeInt(position(positions, child));
+            }
+        }
+        final List<ConfigPath> unique = tree.getUniqueTypePaths();
+        body.writeInt(unique.size());
+        for (ConfigPath path : unique) {
+            body.writeInt(position(positions, path));
+        }
+        body.flush();
+
+        out.writeInt(VERSION);
+        out.writeUTF(fingerprint);
+        out.writeInt(classes.size());
+        final Map<URL, Long> sources = new HashMap<>();
+        for (Class type : classes.keySet()) {
+            out.writeUTF(type.getName());
+            out.writeLong(classFingerprint(type, sources));
+        }
+        content.writeTo(out);
+        out.flush();
+    }
+
+    /**
+     * Writes property accessor (getter or field) to avoid configuration introspection on cache read.
+     *
+     * @param out     output
+     * @param path    configuration path
+     * @param classes classes index
+     * @throws IOException on write error
+     */
+    private void writeAccessor(final DataOutputStream out,
+                               final ConfigPath path,
+                               final Map<Class, Integer> classes) throws IOException {
+        final ConfigIntrospector.Property prop = introspector.getProperty(
+                path.getRoot() == null ? loadedConfiguration.getClass() : path.getRoot().getValueType(),
+                path.getPath().substring(path.getPath().lastIndexOf('.') + 1));
+        if (prop == null) {
+            throw new IllegalStateException("Property accessor not found for path " + path.getPath());
+        }
+        out.writeInt(classIndex(classes, prop.getDeclaringClass()));
+        out.writeBoolean(prop.getGetter() == null);
+        out.writeUTF(prop.getGetter() == null ? prop.getField().getName() : prop.getGetter().getName());
+    }
+
+    @SuppressWarnings({"checkstyle:CyclomaticComplexity", "PMD.CyclomaticComplexity"})
+    private ConfigurationTree read(final DataInputStream in,
+                                   final Configuration configuration,
+                                   final List<Class> rootTypes)
+            throws IOException, ClassNotFoundException {
+        if (in.readInt() != VERSION || !fingerprint.equals(in.readUTF())) {
+            return null;
+        }
+        final ClassLoader loader = configuration.getClass().getClassLoader();
+        final Map<URL, Long> sources = new HashMap<>();
+        final Class<?>[] classes = new Class<?>[in.readInt()];
+        for (int i = 0; i < classes.length; i++) {
+            classes[i] = loadClass(in.readUTF(), loader);
+            if (classFingerprint(classes[i], sources) != in.readLong()) {
+                return null;
+            }
+        }
+        final Map<String, AccessibleObject> accessors = new HashMap<>();
+        final ConfigPath[] paths = new ConfigPath[in.readInt()];
+        for (int i = 0; i < paths.length; i++) {
+            final int rootIdx = in.readInt();
+            if (rootIdx >= i) {
+                throw new IllegalStateException("Root path must be declared before sub path");
+            }
+            final ConfigPath root = rootIdx < 0 ? null : paths[rootIdx];
+            final Class declarationClass = classes[in.readInt()];
+            final Class declaredType = classes[in.readInt()];
+            final Class valueType = classes[in.readInt()];
+            final List<Type> declaredGenerics = readTypes(in, classes);
+            final List<Type> valueGenerics = readTypes(in, classes);
+            final String path = in.readUTF();
+            final boolean customType = in.readBoolean();
+            final boolean objectDeclaration = in.readBoolean();
+            final boolean nullValue = in.readBoolean();
+            final Class<?> accessorClass = classes[in.readInt()];
+            final boolean fieldAccessor = in.readBoolean();
+            final String accessorName = in.readUTF();
+
+            final Object value = readValue(root == null ? configuration : root.getValue(), valueType, nullValue,
+                    accessor(accessors, accessorClass, accessorName, fieldAccessor));
+            if (value == NOT_VALID) {
+                return null;
+            }
+            paths[i] = new ConfigPath(root, declarationClass, declaredType, valueType,
+                    declaredGenerics, valueGenerics, path, value, customType, objectDeclaration);
+        }
+        for (ConfigPath path : paths) {
+            final List<ConfigPath> children = new ArrayList<>();
+            final int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                children.add(paths[in.readInt()]);
+            }
+            path.setChildren(children);
+        }
+        final List<ConfigPath> unique = new ArrayList<>();
+        final int count = in.readInt();
+        for (int i = 0; i < count; i++) {
+            unique.add(paths[in.readInt()]);
+        }
+        return new ConfigurationTree(rootTypes, new ArrayList<>(Arrays.asList(paths)), unique);
+    }
+
+    /**
+     * @param accessors resolved accessors cache
+     * @param type      accessor declaring class
+     * @param name      field or getter name
+     * @param field     true for field accessor
+     * @return accessible field or getter or null if accessor not found
+     */
+    private AccessibleObject accessor(final Map<String, AccessibleObject> accessors,
+                                      final Class<?> type,
+                                      final String name,
+                                      final boolean field) {
+        return accessors.computeIfAbsent(type.getName() + (field ? '#' : ':') + name, key -> {
+            AccessibleObject res;
+            try {
+                res = field ? type.getDeclaredField(name) : type.getDeclaredMethod(name);
+                res.setAccessible(true);
+            } catch (ReflectiveOperationException | RuntimeException ex) {
+                res = null;
+            }
+            return res;
+        });
+    }
+
+    /**
+     * @param instance  object to read value from (may be null)
+     * @param valueType cached value type
+     * @param nullValue true if cached value was null
+     * @param accessor  accessible field or getter (may be null)
+     * @return value or {@link #NOT_VALID} if value could not be read, value type is not the same as cached or
+     * value nullness changed (children of null value are not introspected)
+     */
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private Object readValue(final Object instance,
+                             final Class valueType,
+                             final boolean nullValue,
+                             final AccessibleObject accessor) {
+        if (accessor == null) {
+            return NOT_VALID;
+        }
+        final Object value;
+        try {
+            value = instance == null ? null : accessor instanceof Field
+                    ? ((Field) accessor).get(instance) : ((Method) accessor).invoke(instance);
+        } catch (Exception ex) {
+            return NOT_VALID;
+        }
+        if (value == null) {
+            return nullValue ? null : NOT_VALID;
+        }
+        // enum constant type could lead to anonymous class (see tree builder)
+        return !nullValue && (value.getClass().equals(valueType) || value.getClass().isAnonymousClass())
+                ? value : NOT_VALID;
+    }
+
+    private int position(final Map<ConfigPath, Integer> positions, final ConfigPath path) {
+        final Integer res = positions.get(path);
+        if (res == null) {
+            throw new IllegalStateException("Path " + path.getPath() + " is not a part of configuration tree");
+        }
+        return res;
+    }
+
+    private int classIndex(final Map<Class, Integer> classes, final Class type) {
+        return classes.computeIfAbsent(type, k -> classes.size());
+    }
+
+    private void writeTypes(final DataOutputStream out,
+                            final List<Type> types,
+                            final Map<Class, Integer> classes) throws IOException {
+        out.writeInt(types.size());
+        for (Type type : types) {
+            writeType(out, type, classes);
+        }
+    }
+
+    private void writeType(final DataOutputStream out,
+                           final Type type,
+                           final Map<Class, Integer> classes) throws IOException {
+        if (type instanceof Class) {
+            out.writeByte(CLASS);
+            out.writeInt(classIndex(classes, (Class) type));
+        } else if (type instanceof ParameterizedType) {
+            final ParameterizedType parameterized = (ParameterizedType) type;
+            out.writeByte(PARAMETERIZED);
+            writeType(out, parameterized.getRawType(), classes);
+            out.writeBoolean(parameterized.getOwnerType() != null);
+            if (parameterized.getOwnerType() != null) {
+                writeType(out, parameterized.getOwnerType(), classes);
+            }
+            writeTypes(out, Arrays.asList(parameterized.getActualTypeArguments()), classes);
+        } else if (type instanceof GenericArrayType) {
+            out.writeByte(ARRAY);
+            writeType(out, ((GenericArrayType) type).getGenericComponentType(), classes);
+        } else if (type instanceof WildcardType) {
+            final WildcardType wildcard = (WildcardType) type;
+            out.writeByte(WILDCARD);
+            writeTypes(out, Arrays.asList(wildcard.getUpperBounds()), classes);
+            writeTypes(out, Arrays.asList(wildcard.getLowerBounds()), classes);
+        } else {
+            throw new IllegalStateException("Unsupported type: " + type);
+        }
+    }
+
+    private List<Type> readTypes(final DataInputStream in, final Class<?>[] classes) throws IOException {
+        final int count = in.readInt();
+        final List<Type> res = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            res.add(readType(in, classes));
+        }
+        return res;
+    }
+
+    private Type readType(final DataInputStream in, final Class<?>[] classes) throws IOException {
+        final byte kind = in.readByte();
+        final Type res;
+        switch (kind) {
+            case CLASS:
+                res = classes[in.readInt()];
+                break;
+            case PARAMETERIZED:
+                final Type raw = readType(in, classes);
+                final Type owner = in.readBoolean() ? readType(in, classes) : null;
+                res = new ParameterizedTypeImpl(raw, readTypes(in, classes).toArray(new Type[0]), owner);
+                break;
+            case ARRAY:
+                res = new GenericArrayTypeImpl(readType(in, classes));
+                break;
+            case WILDCARD:
+                res = new WildcardTypeImpl(readTypes(in, classes).toArray(new Type[0]),
+                        readTypes(in, classes).toArray(new Type[0]));
+                break;
+            default:
+                throw new IllegalStateException("Unknown type kind: " + kind);
+        }
+        return res;
+    }
+
+    private Class<?> loadClass(final String name, final ClassLoader loader) throws ClassNotFoundException {
+        for (Class primitive : Primitives.allPrimitiveTypes()) {
+            if (primitive.getName().equals(name)) {
+                return primitive;
+            }
+        }
+        return Class.forName(name, false, loader);
+    }
+
+    /**
+     * Class fingerprint: for classes from jar - jar size and modification time (checked once per jar), for classes
+     * from directories - class structure (declared fields and getters with generics and annotations, which could
+     * affect configuration introspection). Class files are not accessed.
+     *
+     * @param type    class
+     * @param sources code sources fingerprints cache
+     * @return class fingerprint or 0 for jdk classes
+     */
+    private long classFingerprint(final Class type, final Map<URL, Long> sources) {
+        Class target = type;
+        while (target.isArray()) {
+            target = target.getComponentType();
+        }
+        if (target.isPrimitive() || target.getClassLoader() == null) {
+            return 0;
+        }
+        final CodeSource source = target.getProtectionDomain().getCodeSource();
+        final URL location = source == null ? null : source.getLocation();
+        final long jar = location == null ? 0 : sources.computeIfAbsent(location, this::jarFingerprint);
+        return jar == 0 ? structureFingerprint(target) : member(target.getName(), null) + jar;
+    }
+
+    /**
+     * @param location code source location
+     * @return jar size and modification time hash or 0 if location is not a jar file
+     */
+    private long jarFingerprint(final URL location) {
+        final File file = toFile(location);
+        return file != null && file.isFile()
+                ? member(file.getAbsolutePath() + ':' + file.length() + ':' + file.lastModified(), null) : 0;
+    }
+
+    private long structureFingerprint(final Class type) {
+        long res = member(type.getName(), type.getGenericSuperclass(), type.getDeclaredAnnotations());
+        // sum is independent of members order (reflection order is not guaranteed)
+        for (Field field : type.getDeclaredFields()) {
+            res += member(field.getName(), field.getGenericType(), field.getDeclaredAnnotations());
+        }
+        for (Method method : type.getDeclaredMethods()) {
+            // only getters could be used for serialization
+            if (method.getParameterCount() == 0) {
+                res += member(method.getName() + "()", method.getGenericReturnType(),
+                        method.getDeclaredAnnotations());
+            }
+        }
+        return res;
+    }
+
+    private long member(final String name, final Type type, final Annotation... annotations) {
+        final Hasher hasher = Hashing.murmur3_128().newHasher()
+                .putUnencodedChars(name)
+                .putUnencodedChars(type == null ? "" : type.getTypeName());
+        for (Annotation annotation : annotations) {
+            // annotation's toString is not used because attributes order is not stable
+            hasher.putUnencodedChars(annotation.annotationType().getName());
+            final Method[] attributes = annotation.annotationType().getDeclaredMethods();
+            Arrays.sort(attributes, Comparator.comparing(Method::getName));
+            for (Method attribute : attributes) {
+                hasher.putUnencodedChars(attribute.getName() + '='
+                        + Arrays.deepToString(new Object[]{readAttribute(annotation, attribute)}));
+            }
+        }
+        return hasher.hash().asLong();
+    }
+
+    private Object readAttribute(final Annotation annotation, final Method attribute) {
+        try {
+            attribute.setAccessible(true);
+            return attribute.invoke(annotation);
+        } catch (ReflectiveOperationException | RuntimeException ex) {
+            return ex.getClass().getName();
+        }
+    }
+
+    /**
+     * @param location code source location
+     * @return file or null if location is not a local file
+     */
+    private File toFile(final URL location) {
+        File res = null;
+        if ("file".equals(location.getProtocol())) {
+            try {
+                res = new File(location.toURI());
+            } catch (URISyntaxException | IllegalArgumentException ignored) {
+                // not a local file
+                res = null;
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Configuration source provider wrapper, recording configuration source content hash.
+     */
+    private static final class SourceRecorder implements ConfigurationSourceProvider {
+        private final ConfigurationSourceProvider provider;
+        private volatile String source;
+
+        SourceRecorder(final ConfigurationSourceProvider provider) {
+            this.provider = provider;
+        }
+
+        @Override
+        public InputStream open(final String path) throws IOException {
+            final byte[] content;
+            try (InputStream in = provider.open(path)) {
+                content = ByteStreams.toByteArray(in);
+            }
+            source = Hashing.murmur3_128().hashBytes(content).toString();
+            return new ByteArrayInputStream(content);
+        }
+    }
+}
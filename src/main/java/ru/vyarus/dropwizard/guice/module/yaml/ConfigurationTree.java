@@ -4,6 +4,7 @@ import io.dropwizard.Configuration;
 import ru.vyarus.dropwizard.guice.module.support.ConfigurationTreeAwareModule;
 
 import java.util.*;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -39,10 +40,10 @@ public class ConfigurationTree {
 
     // root configuration class, super classes and interfaces
     private final List<Class> rootTypes;
-    // all visible internal paths
-    private final List<ConfigPath> paths;
-    // unique custom types from paths (could be bound by type - no duplicates)
-    private final List<ConfigPath> uniqueTypePaths;
+    // paths and lookup indexes (null until lazy tree is resolved)
+    private volatile Content content;
+    // lazy tree content provider (null when content resolved)
+    private Supplier<ConfigurationTree> contentProvider;
 
     public ConfigurationTree(final List<Class> rootTypes) {
         this(rootTypes, Collections.emptyList(), Collections.emptyList());
@@ -52,10 +53,30 @@ public class ConfigurationTree {
                              final List<ConfigPath> paths,
                              final List<ConfigPath> uniqueTypePaths) {
         this.rootTypes = rootTypes;
-        this.paths = paths;
-        this.uniqueTypePaths = uniqueTypePaths;
-        // sort by configuration class and path name for predictable order
-        sortContent();
+        this.content = new Content(rootTypes, paths, uniqueTypePaths);
+    }
+
+    /**
+     * Lazy tree: paths are resolved only on first access (root types are always available).
+     *
+     * @param rootTypes       configuration hierarchy classes
+     * @param contentProvider provider of complete tree (called only once)
+     * @see ru.vyarus.dropwizard.guice.GuiceyOptions#LazyConfigurationBindings
+     */
+    public ConfigurationTree(final List<Class> rootTypes,
+                             final Supplier<ConfigurationTree> contentProvider) {
+        this.rootTypes = rootTypes;
+        this.contentProvider = contentProvider;
+    }
+
+    /**
+     * Lazy tree (see {@link ru.vyarus.dropwizard.guice.GuiceyOptions#LazyConfigurationBindings}) is resolved on
+     * first paths access.
+     *
+     * @return true if configuration paths are resolved, false if paths would be resolved on first access
+     */
+    public boolean isResolved() {
+        return content != null;
     }
 
     /**
@@ -77,7 +98,7 @@ public class ConfigurationTree {
      * @return all configuration value paths (including all steps, e.g. "sub", "sub.smth")
      */
     public List<ConfigPath> getPaths() {
-        return new ArrayList<>(paths);
+        return new ArrayList<>(content().paths);
     }
 
     /**
@@ -91,7 +112,7 @@ public class ConfigurationTree {
      * @return list of all configuration value paths, containing unique custom objects
      */
     public List<ConfigPath> getUniqueTypePaths() {
-        return new ArrayList<>(uniqueTypePaths);
+        return new ArrayList<>(content().uniqueTypePaths);
     }
 
 
@@ -104,10 +125,8 @@ public class ConfigurationTree {
      * @return path descriptor or null if not found
      */
     public ConfigPath findByPath(final String path) {
-        return paths.stream()
-                .filter(it -> it.getPath().equalsIgnoreCase(path))
-                .findFirst()
-                .orElse(null);
+        final PathNode node = path == null ? null : content().pathsTrie.find(splitPath(path));
+        return node == null ? null : node.path;
     }
 
     /**
@@ -124,10 +143,24 @@ public class ConfigurationTree {
      * @return all paths with the same or sub type for specified type or empty list
      */
     public List<ConfigPath> findAllByType(final Class<?> type) {
-        return paths.stream()
-                // do not allow search for all booleans or integers (completely meaningless)
-                .filter(it -> it.isCustomType() && type.isAssignableFrom(it.getDeclaredType()))
-                .collect(Collectors.toList());
+        // only custom types are indexed: do not allow search for all booleans or integers (completely meaningless)
+        final Content index = content();
+        if (type == Object.class) {
+            // any custom type is assignable to object (not indexed to not duplicate all custom paths)
+            return index.paths.stream().filter(ConfigPath::isCustomType).collect(Collectors.toList());
+        }
+        final List<ConfigPath> res = new ArrayList<>(index.typeIndex.getOrDefault(type, Collections.emptyList()));
+        boolean merged = false;
+        for (ConfigPath path : index.arrayTypePaths) {
+            if (type.isAssignableFrom(path.getDeclaredType())) {
+                res.add(path);
+                merged = true;
+            }
+        }
+        if (merged) {
+            index.sort(res);
+        }
+        return res;
     }
 
     /**
@@ -143,9 +176,7 @@ public class ConfigurationTree {
      * @return all properties declared in (originated in for sub object paths) required configuration class.
      */
     public List<ConfigPath> findAllFrom(final Class<? extends Configuration> confType) {
-        return paths.stream()
-                .filter(it -> it.getRootDeclarationClass() == confType)
-                .collect(Collectors.toList());
+        return new ArrayList<>(content().rootClassIndex.getOrDefault(confType, Collections.emptyList()));
     }
 
     /**
@@ -155,9 +186,7 @@ public class ConfigurationTree {
      * @see #findAllRootPathsFrom(Class)
      */
     public List<ConfigPath> findAllRootPaths() {
-        return paths.stream()
-                .filter(it -> !it.getPath().contains(DOT))
-                .collect(Collectors.toList());
+        return new ArrayList<>(content().rootPaths);
     }
 
     /**
@@ -169,11 +198,62 @@ public class ConfigurationTree {
      * @see #findAllRootPaths()
      */
     public List<ConfigPath> findAllRootPathsFrom(final Class<? extends Configuration> confType) {
-        return paths.stream()
-                .filter(it -> !it.getPath().contains(DOT) && it.getRootDeclarationClass() == confType)
+        return content().rootPaths.stream()
+                .filter(it -> it.getRootDeclarationClass() == confType)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * <pre>{@code class Config extends Configuration {
+     *      SubConf sub = { // shown instance contents
+     *          String val1
+     *          SubSubConf val2 = {
+     *              String foo
+     *          }
+     *      }
+     * }}</pre>
+     * {@code findSubtree("sub") == [sub, sub.val1, sub.val2, sub.val2.foo]}.
+     *
+     * @param path yaml path (case insensitive)
+     * @return path itself and all its sub paths or empty list if path not found
+     */
+    public List<ConfigPath> findSubtree(final String path) {
+        final Content index = content();
+        final PathNode node = path == null ? null : index.pathsTrie.find(splitPath(path));
+        final List<ConfigPath> res = new ArrayList<>();
+        if (node != null && node.path != null) {
+            node.collect(res);
+            index.sort(res);
+        }
+        return res;
+    }
+
+    /**
+     * Case insensitive path prefix search.
+     * {@code findAllByPrefix("server.gzip")} returns "server.gzip" with all sub paths (and also paths like
+     * "server.gzipFoo" if exists). {@code findAllByPrefix("server.")} returns all "server" sub paths (without "server"
+     * itself). {@code findAllByPrefix("serv")} returns all paths under root properties, starting with "serv".
+     *
+     * @param prefix path prefix (case insensitive)
+     * @return all paths starting with provided prefix or empty list
+     */
+    public List<ConfigPath> findAllByPrefix(final String prefix) {
+        final List<String> segments = splitPath(prefix);
+        final String last = segments.remove(segments.size() - 1);
+        final Content index = content();
+        final PathNode node = index.pathsTrie.find(segments);
+        final List<ConfigPath> res = new ArrayList<>();
+        if (node != null && node.children != null) {
+            for (Map.Entry<String, PathNode> entry : node.children.entrySet()) {
+                if (entry.getKey().regionMatches(true, 0, last, 0, last.length())) {
+                    entry.getValue().collect(res);
+                }
+            }
+            index.sort(res);
+        }
+        return res;
+    }
+
 
     // ---------------------------------------------------------- Value search
 
@@ -239,8 +319,7 @@ public class ConfigurationTree {
      */
     @SuppressWarnings("unchecked")
     public <T, K extends T> K valueByType(final Class<T> type) {
-        final List<ConfigPath> items = findAllByType(type)
-                .stream().filter(Objects::nonNull).collect(Collectors.toList());
+        final List<ConfigPath> items = findAllByType(type);
         return items.isEmpty() ? null : (K) items.get(0).getValue();
     }
 
@@ -269,29 +348,188 @@ public class ConfigurationTree {
      */
     @SuppressWarnings("unchecked")
     public <T, K extends T> K valueByUniqueDeclaredType(final Class<T> type) {
-        return (K) uniqueTypePaths.stream()
-                .filter(it -> type.equals(it.getDeclaredType()))
-                .findFirst()
-                .map(ConfigPath::getValue)
-                .orElse(null);
+        final ConfigPath path = content().uniqueTypeIndex.get(type);
+        return path != null ? (K) path.getValue() : null;
+    }
+
+
+    private Content content() {
+        Content res = content;
+        if (res == null) {
+            synchronized (this) {
+                res = content;
+                if (res == null) {
+                    res = contentProvider.get().content();
+                    content = res;
+                    contentProvider = null;
+                }
+            }
+        }
+        return res;
+    }
+
+    private static List<String> splitPath(final String path) {
+        return new ArrayList<>(Arrays.asList(path.split("\\.", -1)));
+    }
+
+    /**
+     * Configuration paths with lookup indexes (built once, tree is immutable).
+     */
+    private static class Content {
+        // all visible internal paths
+        private final List<ConfigPath> paths;
+        // unique custom types from paths (could be bound by type - no duplicates)
+        private final List<ConfigPath> uniqueTypePaths;
+        // declared type and all its super types (except Object) -> custom type paths (in paths order)
+        private final Map<Class, List<ConfigPath>> typeIndex = new HashMap<>();
+        // custom array type paths (checked directly because of array types covariance)
+        private final List<ConfigPath> arrayTypePaths = new ArrayList<>();
+        private final Map<Class, List<ConfigPath>> rootClassIndex = new HashMap<>();
+        private final Map<Class, ConfigPath> uniqueTypeIndex = new HashMap<>();
+        private final List<ConfigPath> rootPaths = new ArrayList<>();
+        // path segments trie for path, subtree and prefix queries (case insensitive)
+        private final PathNode pathsTrie = new PathNode();
+        // root configuration class, super classes and interfaces (paths order)
+        private final List<Class> rootTypes;
+
+        Content(final List<Class> rootTypes,
+                final List<ConfigPath> paths,
+                final List<ConfigPath> uniqueTypePaths) {
+            this.paths = paths;
+            this.uniqueTypePaths = uniqueTypePaths;
+            this.rootTypes = rootTypes;
+            // sort by configuration class and path name for predictable order
+            sort(paths);
+            sort(uniqueTypePaths);
+            buildIndexes();
+        }
+
+        /**
+         * Sort paths by configuration class and path name. Full path is rebuilt on each {@link ConfigPath#getPath()}
+         * call, so it is resolved once for each item.
+         *
+         * @param list paths to sort
+         */
+        private void sort(final List<ConfigPath> list) {
+            if (list.size() < 2) {
+                return;
+            }
+            final Map<ConfigPath, String> names = new IdentityHashMap<>(list.size());
+            for (ConfigPath path : list) {
+                names.put(path, path.getPath());
+            }
+            list.sort((o1, o2) -> {
+                final int res;
+                final Class rootClass1 = o1.getRootDeclarationClass();
+                final Class rootClass2 = o2.getRootDeclarationClass();
+                // sort by declaring configuration class to show custom properties first
+                if (!rootClass1.equals(rootClass2)) {
+                    res = Integer.compare(rootTypes.indexOf(rootClass1), rootTypes.indexOf(rootClass2));
+                } else {
+                    // under the same class sort by path
+                    res = names.get(o1).compareTo(names.get(o2));
+                }
+                return res;
+            });
+        }
+
+        private void buildIndexes() {
+            for (ConfigPath path : paths) {
+                rootClassIndex.computeIfAbsent(path.getRootDeclarationClass(), k -> new ArrayList<>()).add(path);
+                final String name = path.getPath();
+                if (!name.contains(DOT)) {
+                    rootPaths.add(path);
+                }
+                if (path.isCustomType()) {
+                    indexType(path);
+                }
+                pathsTrie.add(splitPath(name), path);
+            }
+            for (ConfigPath path : uniqueTypePaths) {
+                uniqueTypeIndex.putIfAbsent(path.getDeclaredType(), path);
+            }
+        }
+
+        private void indexType(final ConfigPath path) {
+            final Class<?> type = path.getDeclaredType();
+            if (type.isArray()) {
+                arrayTypePaths.add(path);
+                return;
+            }
+            final Set<Class> types = new LinkedHashSet<>();
+            collectHierarchy(type, types);
+            for (Class key : types) {
+                typeIndex.computeIfAbsent(key, k -> new ArrayList<>()).add(path);
+            }
+        }
+
+        private void collectHierarchy(final Class<?> type, final Set<Class> res) {
+            // object is not indexed: all custom paths are assignable to it
+            if (type != null && type != Object.class && res.add(type)) {
+                collectHierarchy(type.getSuperclass(), res);
+                for (Class<?> iface : type.getInterfaces()) {
+                    collectHierarchy(iface, res);
+                }
+            }
+        }
     }
 
+    /**
+     * Paths trie node. Segments are compared case insensitive, so trie keys are path segments as is (interned,
+     * the same instances as in paths). Sub paths are collected on demand.
+     */
+    private static class PathNode {
+        // null for leaf node
+        private Map<String, PathNode> children;
+        // first path in paths order (case insensitive match)
+        private ConfigPath path;
+        // other paths, different only in case (null when none)
+        private List<ConfigPath> aliases;
 
-    private void sortContent() {
-        final Comparator<ConfigPath> comparator = (o1, o2) -> {
-            final int res;
-            final Class rootClass1 = o1.getRootDeclarationClass();
-            final Class rootClass2 = o2.getRootDeclarationClass();
-            // sort by declaring configuration class to show custom properties first
-            if (!rootClass1.equals(rootClass2)) {
-                res = Integer.compare(rootTypes.indexOf(rootClass1), rootTypes.indexOf(rootClass2));
+        public void add(final List<String> segments, final ConfigPath path) {
+            PathNode node = this;
+            for (String segment : segments) {
+                if (node.children == null) {
+                    node.children = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+                }
+                node = node.children.computeIfAbsent(segment.intern(), k -> new PathNode());
+            }
+            if (node.path == null) {
+                node.path = path;
             } else {
-                // under the same class sort by path
-                res = o1.getPath().compareTo(o2.getPath());
+                if (node.aliases == null) {
+                    node.aliases = new ArrayList<>(1);
+                }
+                node.aliases.add(path);
+            }
+        }
+
+        public PathNode find(final List<String> segments) {
+            PathNode node = this;
+            for (String segment : segments) {
+                node = node.children == null ? null : node.children.get(segment);
+                if (node == null) {
+                    break;
+                }
+            }
+            return node;
+        }
+
+        /**
+         * @param res list to add node's path and all its sub paths to (not ordered)
+         */
+        public void collect(final List<ConfigPath> res) {
+            if (path != null) {
+                res.add(path);
+            }
+            if (aliases != null) {
+                res.addAll(aliases);
+            }
+            if (children != null) {
+                for (PathNode child : children.values()) {
+                    child.collect(res);
+                }
             }
-            return res;
-        };
-        paths.sort(comparator);
-        uniqueTypePaths.sort(comparator);
+        }
     }
 }
@@ -5,8 +5,14 @@ import com.google.inject.Key;
 import com.google.inject.binder.LinkedBindingBuilder;
 import com.google.inject.util.Providers;
 import io.dropwizard.Configuration;
+import io.dropwizard.setup.Bootstrap;
+import ru.vyarus.dropwizard.guice.module.yaml.ConfigTreeBuilder;
 import ru.vyarus.dropwizard.guice.module.yaml.ConfigurationTree;
 import ru.vyarus.dropwizard.guice.module.yaml.ConfigPath;
+import ru.vyarus.dropwizard.guice.module.yaml.reload.ReloadableConfiguration;
+
+import java.util.Set;
+import java.util.TreeSet;
 
 /**
  * Binds configuration constants. Bindings are qualified with {@link Config}.
@@ -24,6 +30,14 @@ import ru.vyarus.dropwizard.guice.module.yaml.ConfigPath;
  * with qualifier only.
  * <p>
  * {@link ConfigurationTree} instance is also bound directly to be used for custom configuration analysis.
+ * <p>
+ * In lazy mode (see {@link ru.vyarus.dropwizard.guice.GuiceyOptions#LazyConfigurationBindings}) only required
+ * (injected) paths are introspected and bound. Unique sub configuration objects are bound only if at least one
+ * of them is injected.
+ * <p>
+ * In reloadable mode (see {@link ru.vyarus.dropwizard.guice.GuiceyOptions#ReloadableConfigBindings}) all
+ * configuration values are bound with providers, reading values from current configuration snapshot
+ * ({@link ReloadableConfiguration}).
  *
  * @author Vyacheslav Rusakov
  * @since 04.05.2018
@@ -32,21 +46,71 @@ import ru.vyarus.dropwizard.guice.module.yaml.ConfigPath;
  */
 public class ConfigBindingModule extends AbstractModule {
 
+    private final Bootstrap bootstrap;
     private final Configuration configuration;
     private final ConfigurationTree tree;
+    // null when all paths must be bound
+    private final Set<Key<?>> requiredKeys;
+    // null when reloadable mode disabled
+    private final ReloadableConfiguration reloadable;
 
     public ConfigBindingModule(final Configuration configuration, final ConfigurationTree tree) {
+        this(null, configuration, tree, null, null);
+    }
+
+    /**
+     * Lazy mode: only required paths are introspected and bound.
+     *
+     * @param bootstrap     bootstrap instance
+     * @param configuration configuration instance
+     * @param tree          configuration tree (lazy)
+     * @param requiredKeys  all injected keys, qualified with {@link Config}
+     * @see ConfigInjectionPoints
+     */
+    public ConfigBindingModule(final Bootstrap bootstrap,
+                               final Configuration configuration,
+                               final ConfigurationTree tree,
+                               final Set<Key<?>> requiredKeys) {
+        this(bootstrap, configuration, tree, requiredKeys, null);
+    }
+
+    /**
+     * @param bootstrap     bootstrap instance (required only for lazy mode)
+     * @param configuration configuration instance
+     * @param tree          configuration tree
+     * @param requiredKeys  all injected keys, qualified with {@link Config} (lazy mode) or null to bind all paths
+     * @param reloadable    reloadable configuration or null to bind configuration values directly
+     */
+    public ConfigBindingModule(final Bootstrap bootstrap,
+                               final Configuration configuration,
+                               final ConfigurationTree tree,
+                               final Set<Key<?>> requiredKeys,
+                               final ReloadableConfiguration reloadable) {
+        this.bootstrap = bootstrap;
         this.configuration = configuration;
         this.tree = tree;
+        this.requiredKeys = requiredKeys;
+        this.reloadable = reloadable;
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     protected void configure() {
-        bind(ConfigurationTree.class).toInstance(tree);
+        if (reloadable == null) {
+            bind(ConfigurationTree.class).toInstance(tree);
+        } else {
+            ((LinkedBindingBuilder) bind(ConfigurationTree.class))
+                    .toProvider(ReloadableConfigProvider.tree(reloadable));
+            bind(ReloadableConfiguration.class).toInstance(reloadable);
+        }
 
         bindRootTypes();
-        bindUniqueSubConfigurations();
-        bindValuePaths();
+        if (requiredKeys == null) {
+            bindUniqueSubConfigurations();
+            bindValuePaths();
+        } else {
+            bindRequiredConfigurations();
+        }
     }
 
 
@@ -60,9 +124,9 @@ public class ConfigBindingModule extends AbstractModule {
             // bind root configuration classes both with and without qualifier
             if (!type.isInterface()) {
                 // bind interface as type only when it's allowed
-                bind(type).toInstance(configuration);
+                toConfiguration(bind(type));
             }
-            bind(type).annotatedWith(Config.class).toInstance(configuration);
+            toConfiguration(bind(type).annotatedWith(Config.class));
         }
     }
 
@@ -75,9 +139,12 @@ public class ConfigBindingModule extends AbstractModule {
     private void bindUniqueSubConfigurations() {
         for (ConfigPath item : tree.getUniqueTypePaths()) {
             // bind only with annotation to avoid clashes with direct bindings
-            toValue(
-                    bind(Key.get(item.getDeclaredTypeWithGenerics(), Config.class)),
-                    item.getValue());
+            final LinkedBindingBuilder binding = bind(Key.get(item.getDeclaredTypeWithGenerics(), Config.class));
+            if (reloadable != null) {
+                binding.toProvider(ReloadableConfigProvider.uniqueType(reloadable, item.getDeclaredType()));
+            } else {
+                toValue(binding, item.getValue());
+            }
         }
     }
 
@@ -85,12 +152,56 @@ public class ConfigBindingModule extends AbstractModule {
      * Bind configuration paths. Available for injection like {@code @Inject @Code("path.sub") Integer conf}.
      * Value may be null because if null values would be avoided, bindings will disappear.
      */
-    @SuppressWarnings({"unchecked", "PMD.AvoidInstantiatingObjectsInLoops"})
     private void bindValuePaths() {
         for (ConfigPath item : tree.getPaths()) {
-            toValue(
-                    bind(Key.get(item.getDeclaredTypeWithGenerics(), new ConfigImpl(item.getPath()))),
-                    item.getValue());
+            bindValuePath(item);
+        }
+    }
+
+    /**
+     * Lazy mode: bind only injected paths (each path introspected separately) and unique sub configuration
+     * objects only when required (because it requires complete introspection).
+     */
+    private void bindRequiredConfigurations() {
+        final Set<String> paths = new TreeSet<>();
+        boolean uniqueRequired = false;
+        for (Key<?> key : requiredKeys) {
+            final String path = ((Config) key.getAnnotation()).value();
+            if (path.isEmpty()) {
+                uniqueRequired |= !tree.getRootTypes().contains(key.getTypeLiteral().getRawType());
+            } else {
+                paths.add(path);
+            }
+        }
+        if (uniqueRequired) {
+            bindUniqueSubConfigurations();
+        }
+        for (String path : paths) {
+            final ConfigPath item = ConfigTreeBuilder.resolvePath(bootstrap, configuration, path);
+            // not existing path will lead to guice error (missed binding), like in normal mode
+            if (item != null) {
+                bindValuePath(item);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void bindValuePath(final ConfigPath item) {
+        final LinkedBindingBuilder binding =
+                bind(Key.get(item.getDeclaredTypeWithGenerics(), new ConfigImpl(item.getPath())));
+        if (reloadable != null) {
+            binding.toProvider(ReloadableConfigProvider.path(reloadable, item.getPath()));
+        } else {
+            toValue(binding, item.getValue());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void toConfiguration(final LinkedBindingBuilder binding) {
+        if (reloadable != null) {
+            binding.toProvider(ReloadableConfigProvider.configuration(reloadable));
+        } else {
+            binding.toInstance(configuration);
         }
     }
 
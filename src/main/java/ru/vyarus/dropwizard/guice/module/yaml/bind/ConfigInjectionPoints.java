@@ -0,0 +1,192 @@
+package ru.vyarus.dropwizard.guice.module.yaml.bind;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.inject.Binding;
+import com.google.inject.ConfigurationException;
+import com.google.inject.ImplementedBy;
+import com.google.inject.Key;
+import com.google.inject.ProvidedBy;
+import com.google.inject.Provider;
+import com.google.inject.TypeLiteral;
+import com.google.inject.spi.Dependency;
+import com.google.inject.spi.Element;
+import com.google.inject.spi.HasDependencies;
+import com.google.inject.spi.InjectionPoint;
+import com.google.inject.spi.InjectionRequest;
+import com.google.inject.spi.LinkedKeyBinding;
+import com.google.inject.spi.MembersInjectorLookup;
+import com.google.inject.spi.PrivateElements;
+import com.google.inject.spi.ProviderKeyBinding;
+import com.google.inject.spi.ProviderLookup;
+import com.google.inject.spi.StaticInjectionRequest;
+import com.google.inject.spi.UntargettedBinding;
+
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Collects configuration injection points (keys qualified with {@link Config}) from guice module elements. Used
+ * for lazy configuration bindings (see {@link ru.vyarus.dropwizard.guice.GuiceyOptions#LazyConfigurationBindings}).
+ * <p>
+ * Analyzed: all bindings (target types, provider methods, instances and providers), injection requests and
+ * private modules elements. Dependencies are analyzed transitively, so injection points in classes created by
+ * guice just-in-time (not bound directly, but injected somewhere) are also detected. Types from java and guice
+ * packages are not analyzed.
+ * <p>
+ * Extensions could be not bound in modules at all (e.g.
+ * {@link ru.vyarus.dropwizard.guice.module.installer.install.binding.LazyBinding} extensions or jersey extensions,
+ * created by guice just-in-time), so all extension classes must be analyzed too.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 17.10.2026
+ */
+public final class ConfigInjectionPoints {
+
+    private static final Set<String> IGNORED_PACKAGES = ImmutableSet.of(
+            "java.", "javax.", "com.google.inject."
+    );
+
+    private final Set<Key<?>> keys = new LinkedHashSet<>();
+    private final Set<TypeLiteral<?>> visited = new HashSet<>();
+    private final Deque<TypeLiteral<?>> queue = new ArrayDeque<>();
+
+    private ConfigInjectionPoints() {
+    }
+
+    /**
+     * @param elements guice modules elements
+     * @return all injected keys, qualified with {@link Config}
+     */
+    public static Set<Key<?>> collect(final List<Element> elements) {
+        return collect(elements, Collections.emptyList());
+    }
+
+    /**
+     * @param elements guice modules elements
+     * @param types    additional types, which could be created by guice just-in-time (e.g. extensions)
+     * @return all injected keys, qualified with {@link Config}
+     */
+    public static Set<Key<?>> collect(final List<Element> elements, final Collection<Class<?>> types) {
+        final ConfigInjectionPoints collector = new ConfigInjectionPoints();
+        collector.processElements(elements);
+        for (Class<?> type : types) {
+            collector.register(TypeLiteral.get(type));
+        }
+        while (!collector.queue.isEmpty()) {
+            collector.processType(collector.queue.poll());
+        }
+        return collector.keys;
+    }
+
+    private void processElements(final List<Element> elements) {
+        for (Element element : elements) {
+            if (element instanceof PrivateElements) {
+                processElements(((PrivateElements) element).getElements());
+            } else if (element instanceof Binding) {
+                processBinding((Binding<?>) element);
+            } else if (element instanceof InjectionRequest) {
+                processInjectionPoints(() -> ((InjectionRequest<?>) element).getInjectionPoints());
+            } else if (element instanceof StaticInjectionRequest) {
+                processInjectionPoints(() -> ((StaticInjectionRequest) element).getInjectionPoints());
+            } else if (element instanceof ProviderLookup) {
+                processKey(((ProviderLookup<?>) element).getKey());
+            } else if (element instanceof MembersInjectorLookup) {
+                register(((MembersInjectorLookup<?>) element).getType());
+            }
+        }
+    }
+
+    private void processBinding(final Binding<?> binding) {
+        if (binding instanceof HasDependencies) {
+            // constructor, instance and provider bindings (including provider methods)
+            processDependencies(((HasDependencies) binding).getDependencies());
+        }
+        if (binding instanceof UntargettedBinding) {
+            register(binding.getKey().getTypeLiteral());
+        } else if (binding instanceof LinkedKeyBinding) {
+            processKey(((LinkedKeyBinding<?>) binding).getLinkedKey());
+        } else if (binding instanceof ProviderKeyBinding) {
+            processKey(((ProviderKeyBinding<?>) binding).getProviderKey());
+        }
+    }
+
+    private void processType(final TypeLiteral<?> type) {
+        final Class<?> raw = type.getRawType();
+        final ImplementedBy implementedBy = raw.getAnnotation(ImplementedBy.class);
+        if (implementedBy != null) {
+            register(TypeLiteral.get(implementedBy.value()));
+        }
+        final ProvidedBy providedBy = raw.getAnnotation(ProvidedBy.class);
+        if (providedBy != null) {
+            register(TypeLiteral.get(providedBy.value()));
+        }
+        if (!raw.isInterface() && !Modifier.isAbstract(raw.getModifiers())) {
+            processInjectionPoints(() -> ImmutableSet.of(InjectionPoint.forConstructorOf(type)));
+        }
+        processInjectionPoints(() -> InjectionPoint.forInstanceMethodsAndFields(type));
+    }
+
+    private void processInjectionPoints(final InjectionPointsSource source) {
+        final Collection<InjectionPoint> points;
+        try {
+            points = source.get();
+        } catch (ConfigurationException ex) {
+            // incorrect type declaration will be reported by guice
+            return;
+        }
+        for (InjectionPoint point : points) {
+            processDependencies(point.getDependencies());
+        }
+    }
+
+    private void processDependencies(final Collection<Dependency<?>> dependencies) {
+        for (Dependency<?> dependency : dependencies) {
+            processKey(dependency.getKey());
+        }
+    }
+
+    private void processKey(final Key<?> key) {
+        if (key.getAnnotationType() == Config.class) {
+            keys.add(key);
+        } else {
+            register(key.getTypeLiteral());
+        }
+    }
+
+    private void register(final TypeLiteral<?> type) {
+        final Class<?> raw = type.getRawType();
+        if ((raw == Provider.class || raw == javax.inject.Provider.class)
+                && type.getType() instanceof ParameterizedType) {
+            // provider injection
+            register(TypeLiteral.get(((ParameterizedType) type.getType()).getActualTypeArguments()[0]));
+        } else if (!raw.isPrimitive() && !raw.isArray() && !isIgnored(raw) && visited.add(type)) {
+            queue.add(type);
+        }
+    }
+
+    private boolean isIgnored(final Class<?> type) {
+        final String name = type.getName();
+        for (String pkg : IGNORED_PACKAGES) {
+            if (name.startsWith(pkg)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Injection points resolution (could fail for incorrect types).
+     */
+    @FunctionalInterface
+    private interface InjectionPointsSource {
+        Collection<InjectionPoint> get();
+    }
+}
@@ -0,0 +1,79 @@
+package ru.vyarus.dropwizard.guice.module.yaml.bind;
+
+import com.google.inject.Provider;
+import ru.vyarus.dropwizard.guice.module.yaml.reload.ReloadableConfiguration;
+
+import java.util.function.Function;
+
+/**
+ * Configuration binding provider for reloadable configuration mode
+ * (see {@link ru.vyarus.dropwizard.guice.GuiceyOptions#ReloadableConfigBindings}): value is always taken from
+ * current configuration snapshot.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 17.10.2026
+ */
+public final class ReloadableConfigProvider implements Provider<Object> {
+
+    private final ReloadableConfiguration configuration;
+    private final Function<ReloadableConfiguration, Object> value;
+    private final String description;
+
+    private ReloadableConfigProvider(final ReloadableConfiguration configuration,
+                                     final Function<ReloadableConfiguration, Object> value,
+                                     final String description) {
+        this.configuration = configuration;
+        this.value = value;
+        this.description = description;
+    }
+
+    @Override
+    public Object get() {
+        return value.apply(configuration);
+    }
+
+    @Override
+    public String toString() {
+        return "reloadable " + description;
+    }
+
+    /**
+     * @param configuration reloadable configuration
+     * @return current configuration provider
+     */
+    public static ReloadableConfigProvider configuration(final ReloadableConfiguration configuration) {
+        return new ReloadableConfigProvider(configuration, ReloadableConfiguration::getConfiguration,
+                "configuration");
+    }
+
+    /**
+     * @param configuration reloadable configuration
+     * @return current configuration tree provider
+     */
+    public static ReloadableConfigProvider tree(final ReloadableConfiguration configuration) {
+        return new ReloadableConfigProvider(configuration, ReloadableConfiguration::getConfigurationTree,
+                "configuration tree");
+    }
+
+    /**
+     * @param configuration reloadable configuration
+     * @param path          configuration path
+     * @return current configuration path value provider
+     */
+    public static ReloadableConfigProvider path(final ReloadableConfiguration configuration, final String path) {
+        return new ReloadableConfigProvider(configuration, it -> it.getConfigurationTree().valueByPath(path),
+                "path " + path);
+    }
+
+    /**
+     * @param configuration reloadable configuration
+     * @param type          unique sub configuration type
+     * @return current unique sub configuration provider
+     */
+    public static ReloadableConfigProvider uniqueType(final ReloadableConfiguration configuration,
+                                                      final Class<?> type) {
+        return new ReloadableConfigProvider(configuration,
+                it -> it.getConfigurationTree().valueByUniqueDeclaredType(type),
+                "unique type " + type.getName());
+    }
+}
@@ -0,0 +1,108 @@
+package ru.vyarus.dropwizard.guice.module.yaml.reload;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import ru.vyarus.dropwizard.guice.module.yaml.ConfigPath;
+import ru.vyarus.dropwizard.guice.module.yaml.ConfigurationTree;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Computes changed configuration paths between two configuration trees.
+ * <p>
+ * Simple value path is changed when value is not equal or declared type changed. Values are compared with equals
+ * and, when not equal, by serialized json form (because configuration objects, like dropwizard factories, usually
+ * does not implement equals). Path with sub paths is changed when declared or value type changed, value become
+ * null (or not null) or any sub path changed. Added and removed paths are also considered as changed.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 17.10.2026
+ */
+public final class ConfigTreeDiff {
+
+    private ConfigTreeDiff() {
+    }
+
+    /**
+     * @param mapper   object mapper, used for configuration values comparison
+     * @param previous previous configuration tree
+     * @param current  current configuration tree
+     * @return changed paths (current tree order, then removed paths) or empty list if no changes
+     */
+    public static List<String> changedPaths(final ObjectMapper mapper,
+                                            final ConfigurationTree previous,
+                                            final ConfigurationTree current) {
+        // paths hash is cached and equality check does not rebuild paths
+        final Set<ConfigPath> changed = new HashSet<>();
+        final List<ConfigPath> paths = current.getPaths();
+        // paths are sorted by path within root class so sub paths are always after parent path
+        for (int i = paths.size() - 1; i >= 0; i--) {
+            final ConfigPath path = paths.get(i);
+            if (isChanged(mapper, find(previous, path.getPath()), path, changed)) {
+                changed.add(path);
+            }
+        }
+        final List<String> res = new ArrayList<>(changed.size());
+        for (ConfigPath path : paths) {
+            if (changed.contains(path)) {
+                res.add(path.getPath());
+            }
+        }
+        for (ConfigPath path : previous.getPaths()) {
+            final String name = path.getPath();
+            if (find(current, name) == null) {
+                res.add(name);
+            }
+        }
+        return res;
+    }
+
+    private static boolean isChanged(final ObjectMapper mapper,
+                                     final ConfigPath previous,
+                                     final ConfigPath current,
+                                     final Set<ConfigPath> changed) {
+        if (previous == null
+                || !previous.getDeclaredTypeWithGenerics().equals(current.getDeclaredTypeWithGenerics())) {
+            return true;
+        }
+        if (previous.getChildren().isEmpty() && current.getChildren().isEmpty()) {
+            return !isEqual(mapper, previous.getValue(), current.getValue());
+        }
+        if (!previous.getValueType().equals(current.getValueType())
+                || (previous.getValue() == null) != (current.getValue() == null)
+                || previous.getChildren().size() != current.getChildren().size()) {
+            return true;
+        }
+        for (ConfigPath child : current.getChildren()) {
+            if (changed.contains(child)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private static boolean isEqual(final ObjectMapper mapper, final Object previous, final Object current) {
+        if (Objects.deepEquals(previous, current)) {
+            return true;
+        }
+        if (previous == null || current == null || !previous.getClass().equals(current.getClass())) {
+            return false;
+        }
+        try {
+            return mapper.valueToTree(previous).equals(mapper.valueToTree(current));
+        } catch (Exception ex) {
+            // value could not be serialized: consider as changed
+            return false;
+        }
+    }
+
+    private static ConfigPath find(final ConfigurationTree tree, final String path) {
+        final ConfigPath res = tree.findByPath(path);
+        // tree search is case insensitive
+        return res != null && res.getPath().equals(path) ? res : null;
+    }
+}
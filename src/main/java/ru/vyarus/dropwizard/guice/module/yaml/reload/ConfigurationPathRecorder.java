@@ -0,0 +1,31 @@
+package ru.vyarus.dropwizard.guice.module.yaml.reload;
+
+import io.dropwizard.configuration.ConfigurationSourceProvider;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Configuration source provider wrapper, remembering configuration file path (used by dropwizard command) in
+ * order to use the same file for configuration reload.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 17.10.2026
+ */
+public class ConfigurationPathRecorder implements ConfigurationSourceProvider {
+
+    private final ConfigurationSourceProvider provider;
+    private final ReloadableConfiguration configuration;
+
+    public ConfigurationPathRecorder(final ConfigurationSourceProvider provider,
+                                     final ReloadableConfiguration configuration) {
+        this.provider = provider;
+        this.configuration = configuration;
+    }
+
+    @Override
+    public InputStream open(final String path) throws IOException {
+        configuration.setConfigurationPath(path);
+        return provider.open(path);
+    }
+}
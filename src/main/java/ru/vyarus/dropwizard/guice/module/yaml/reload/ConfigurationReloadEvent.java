@@ -0,0 +1,86 @@
+package ru.vyarus.dropwizard.guice.module.yaml.reload;
+
+import io.dropwizard.Configuration;
+import ru.vyarus.dropwizard.guice.module.yaml.ConfigurationTree;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Configuration reload event. Contains both previous and new configuration with changed paths.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 17.10.2026
+ */
+public class ConfigurationReloadEvent {
+
+    private final Configuration previousConfiguration;
+    private final ConfigurationTree previousConfigurationTree;
+    private final Configuration configuration;
+    private final ConfigurationTree configurationTree;
+    private final List<String> changedPaths;
+    private final Set<String> changedIndex;
+
+    public ConfigurationReloadEvent(final Configuration previousConfiguration,
+                                    final ConfigurationTree previousConfigurationTree,
+                                    final Configuration configuration,
+                                    final ConfigurationTree configurationTree,
+                                    final List<String> changedPaths) {
+        this.previousConfiguration = previousConfiguration;
+        this.previousConfigurationTree = previousConfigurationTree;
+        this.configuration = configuration;
+        this.configurationTree = configurationTree;
+        this.changedPaths = changedPaths;
+        this.changedIndex = new HashSet<>(changedPaths);
+    }
+
+    /**
+     * @return configuration before reload
+     */
+    public Configuration getPreviousConfiguration() {
+        return previousConfiguration;
+    }
+
+    /**
+     * @return configuration tree before reload
+     */
+    public ConfigurationTree getPreviousConfigurationTree() {
+        return previousConfigurationTree;
+    }
+
+    /**
+     * @return reloaded configuration
+     */
+    public Configuration getConfiguration() {
+        return configuration;
+    }
+
+    /**
+     * @return reloaded configuration tree
+     */
+    public ConfigurationTree getConfigurationTree() {
+        return configurationTree;
+    }
+
+    /**
+     * Changed paths include sub configuration objects paths with changed sub paths (e.g. if "sub.prop" changed then
+     * "sub" is also changed), added and removed paths.
+     *
+     * @return changed paths
+     * @see ConfigTreeDiff
+     */
+    public List<String> getChangedPaths() {
+        return changedPaths;
+    }
+
+    /**
+     * For sub configuration object path true returned when any sub path changed.
+     *
+     * @param path yaml path (case sensitive)
+     * @return true if path value changed
+     */
+    public boolean isChanged(final String path) {
+        return changedIndex.contains(path);
+    }
+}
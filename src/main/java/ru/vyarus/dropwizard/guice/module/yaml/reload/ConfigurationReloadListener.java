@@ -0,0 +1,21 @@
+package ru.vyarus.dropwizard.guice.module.yaml.reload;
+
+/**
+ * Configuration reload listener. Registered with
+ * {@link ReloadableConfiguration#listen(ConfigurationReloadListener, String...)}: listener could be registered for
+ * exact configuration paths to be called only when these paths (or their sub paths) change.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 17.10.2026
+ */
+@FunctionalInterface
+public interface ConfigurationReloadListener {
+
+    /**
+     * Called after configuration reload (only when configuration values changed). At this point configuration
+     * bindings already provide new values.
+     *
+     * @param event reload event
+     */
+    void reloaded(ConfigurationReloadEvent event);
+}
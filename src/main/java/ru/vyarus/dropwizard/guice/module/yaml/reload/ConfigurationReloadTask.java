@@ -0,0 +1,50 @@
+package ru.vyarus.dropwizard.guice.module.yaml.reload;
+
+import io.dropwizard.servlets.tasks.Task;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.PrintWriter;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Admin task to reload configuration ({@code POST /tasks/reload-configuration}). Configuration file used
+ * for application startup is reloaded. Task prints all changed paths.
+ * <p>
+ * Reload errors are only logged: error message (e.g. parse error) may contain configuration file content, which
+ * must not appear in task response.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 17.10.2026
+ * @see ReloadableConfiguration
+ */
+public class ConfigurationReloadTask extends Task {
+
+    private final Logger logger = LoggerFactory.getLogger(ConfigurationReloadTask.class);
+
+    private final ReloadableConfiguration configuration;
+
+    public ConfigurationReloadTask(final ReloadableConfiguration configuration) {
+        super("reload-configuration");
+        this.configuration = configuration;
+    }
+
+    @Override
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    public void execute(final Map<String, List<String>> parameters, final PrintWriter output) throws Exception {
+        final List<String> changed;
+        try {
+            changed = configuration.reload();
+        } catch (Exception ex) {
+            logger.error("Configuration reload failed", ex);
+            throw new IllegalStateException("Configuration reload failed (see application log for details)");
+        }
+        output.println(changed.isEmpty() ? "Configuration not changed"
+                : "Configuration reloaded, changed paths: " + changed.size());
+        for (String path : changed) {
+            output.println("    " + path);
+        }
+        output.flush();
+    }
+}
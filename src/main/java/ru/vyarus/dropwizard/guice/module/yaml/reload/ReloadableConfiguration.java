@@ -0,0 +1,237 @@
+package ru.vyarus.dropwizard.guice.module.yaml.reload;
+
+import com.google.common.base.Preconditions;
+import io.dropwizard.Configuration;
+import io.dropwizard.configuration.ConfigurationFactory;
+import io.dropwizard.configuration.ConfigurationSourceProvider;
+import io.dropwizard.setup.Bootstrap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ru.vyarus.dropwizard.guice.module.yaml.ConfigTreeBuilder;
+import ru.vyarus.dropwizard.guice.module.yaml.ConfigurationTree;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Reloadable configuration (enabled with {@link ru.vyarus.dropwizard.guice.GuiceyOptions#ReloadableConfigBindings}).
+ * Holds current configuration and configuration tree snapshot: configuration bindings read values from current
+ * snapshot, so after reload all new injections (and {@link com.google.inject.Provider} calls) receive new values.
+ * <p>
+ * Reload re-reads configuration file (the same file, used by application startup), introspects it and computes
+ * changed paths with {@link ConfigTreeDiff}. When configuration changes, snapshot is replaced atomically and
+ * registered listeners are notified. Listener could be registered for exact paths to be called only when these paths
+ * change.
+ * <p>
+ * Note that only guice bindings are affected: dropwizard (jetty, jersey, etc.) is still configured with initial
+ * configuration. Singletons, injected with configuration values directly, would also keep initial values (inject
+ * {@link com.google.inject.Provider} or listen for changes to use new values).
+ * <p>
+ * Reload is also available as admin task {@link ConfigurationReloadTask}.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 17.10.2026
+ */
+public class ReloadableConfiguration {
+    private final Logger logger = LoggerFactory.getLogger(ReloadableConfiguration.class);
+
+    private final Bootstrap bootstrap;
+    private final boolean parallel;
+    private final List<Registration> listeners = new CopyOnWriteArrayList<>();
+    private volatile Snapshot snapshot;
+    private volatile String configurationPath;
+    // configuration source provider, installed by guicey (used for startup configuration reading)
+    private volatile ConfigurationSourceProvider sourceProvider;
+
+    /**
+     * @param bootstrap bootstrap instance
+     * @param parallel  true to introspect reloaded configuration in parallel
+     */
+    public ReloadableConfiguration(final Bootstrap bootstrap, final boolean parallel) {
+        this.bootstrap = bootstrap;
+        this.parallel = parallel;
+    }
+
+    /**
+     * Initial configuration, created by dropwizard.
+     *
+     * @param configuration configuration instance
+     * @param tree          configuration tree
+     */
+    public void init(final Configuration configuration, final ConfigurationTree tree) {
+        this.snapshot = new Snapshot(configuration, tree);
+    }
+
+    /**
+     * Called by guicey at the end of initialization phase with configuration source provider (wrapped with
+     * {@link ConfigurationPathRecorder}). Startup configuration could be reloaded only if the same provider is
+     * used for application startup (otherwise configuration file is unknown).
+     *
+     * @param provider configuration source provider, installed by guicey
+     */
+    public void setSourceProvider(final ConfigurationSourceProvider provider) {
+        this.sourceProvider = provider;
+    }
+
+    /**
+     * @return current configuration
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends Configuration> T getConfiguration() {
+        return (T) snapshot().configuration;
+    }
+
+    /**
+     * @return current configuration tree
+     */
+    public ConfigurationTree getConfigurationTree() {
+        return snapshot().tree;
+    }
+
+    /**
+     * @return configuration file path, used for application startup (null if not known)
+     */
+    public String getConfigurationPath() {
+        return configurationPath;
+    }
+
+    /**
+     * Register reload listener. When paths are specified, listener is called only when at least one path changed
+     * (for sub configuration object path, when any sub path changed). Without paths, listener is called on
+     * any configuration change.
+     *
+     * @param listener listener
+     * @param paths    paths to listen changes for (case sensitive)
+     */
+    public void listen(final ConfigurationReloadListener listener, final String... paths) {
+        listeners.add(new Registration(listener, Arrays.asList(paths)));
+    }
+
+    /**
+     * Reload configuration from file, used for application startup. Reload is not possible (to avoid silent
+     * replacement with default configuration) when application was started without configuration file or
+     * configuration source provider was replaced (or wrapped) after guice bundle initialization (configuration file
+     * is unknown).
+     *
+     * @return changed paths or empty list if nothing changed
+     * @throws Exception on configuration read or validation error
+     * @throws IllegalStateException when startup configuration file is unknown
+     */
+    public List<String> reload() throws Exception {
+        Preconditions.checkState(sourceProvider != null
+                        && bootstrap.getConfigurationSourceProvider() == sourceProvider,
+                "Configuration can't be reloaded: configuration source provider was changed after guice bundle "
+                        + "initialization and so startup configuration file is unknown");
+        final String path = configurationPath;
+        Preconditions.checkState(path != null,
+                "Configuration can't be reloaded: application was started without configuration file");
+        return reload(path);
+    }
+
+    /**
+     * Reload configuration from file. Intentionally not available through admin task
+     * ({@link ConfigurationReloadTask} always reloads startup configuration file).
+     *
+     * @param path configuration file path
+     * @return changed paths or empty list if nothing changed
+     * @throws Exception on configuration read or validation error
+     */
+    @SuppressWarnings("unchecked")
+    public List<String> reload(final String path) throws Exception {
+        Preconditions.checkNotNull(path, "Configuration file path required");
+        final ConfigurationFactory<? extends Configuration> factory = bootstrap.getConfigurationFactoryFactory()
+                .create(snapshot().configuration.getClass(), bootstrap.getValidatorFactory().getValidator(),
+                        bootstrap.getObjectMapper(), "dw");
+        return reload(factory.build(bootstrap.getConfigurationSourceProvider(), path));
+    }
+
+    /**
+     * Apply new configuration instance. Configuration is introspected and compared with current configuration.
+     * Current snapshot is replaced only when configuration changed.
+     *
+     * @param configuration new configuration instance
+     * @return changed paths or empty list if nothing changed
+     */
+    public synchronized List<String> reload(final Configuration configuration) {
+        final Snapshot previous = snapshot();
+        final ConfigurationTree tree = ConfigTreeBuilder.build(bootstrap, configuration, true, parallel);
+        final List<String> changed = ConfigTreeDiff.changedPaths(bootstrap.getObjectMapper(), previous.tree, tree);
+        if (changed.isEmpty()) {
+            logger.info("Configuration not changed");
+            return Collections.emptyList();
+        }
+        snapshot = new Snapshot(configuration, tree);
+        logger.info("Configuration reloaded: {} paths changed", changed.size());
+        final ConfigurationReloadEvent event = new ConfigurationReloadEvent(
+                previous.configuration, previous.tree, configuration, tree, changed);
+        for (Registration registration : listeners) {
+            if (registration.isInterested(event)) {
+                notify(registration.listener, event);
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Called by configuration source provider wrapper.
+     *
+     * @param path configuration file path
+     */
+    void setConfigurationPath(final String path) {
+        this.configurationPath = path;
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private void notify(final ConfigurationReloadListener listener, final ConfigurationReloadEvent event) {
+        try {
+            listener.reloaded(event);
+        } catch (Exception ex) {
+            // configuration already reloaded: other listeners must be notified anyway
+            logger.error("Configuration reload listener " + listener.getClass().getName() + " failed", ex);
+        }
+    }
+
+    private Snapshot snapshot() {
+        return Preconditions.checkNotNull(snapshot, "Configuration is not available yet");
+    }
+
+    /**
+     * Configuration with introspected tree (always replaced together).
+     */
+    private static class Snapshot {
+        private final Configuration configuration;
+        private final ConfigurationTree tree;
+
+        Snapshot(final Configuration configuration, final ConfigurationTree tree) {
+            this.configuration = configuration;
+            this.tree = tree;
+        }
+    }
+
+    /**
+     * Listener registration.
+     */
+    private static class Registration {
+        private final ConfigurationReloadListener listener;
+        private final List<String> paths;
+
+        Registration(final ConfigurationReloadListener listener, final List<String> paths) {
+            this.listener = listener;
+            this.paths = paths;
+        }
+
+        public boolean isInterested(final ConfigurationReloadEvent event) {
+            if (paths.isEmpty()) {
+                return true;
+            }
+            for (String path : paths) {
+                if (event.isChanged(path)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package ru.vyarus.dropwizard.guice.module.installer.scanner.index;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.zip.CRC32;
+
+/**
+ * Annotation processor generating guicey class index ({@code ClassIndex}) for classpath scanner.
+ * <p>
+ * Processor is not registered in guicey jar: it is published as a separate artifact (with {@code processor}
+ * classifier) which must be explicitly added to annotation processors path. Processor could be disabled with
+ * {@code -Aguicey.index=false} compiler option. Index could be limited to particular packages with
+ * {@code -Aguicey.index.packages=com.foo,com.bar} (should be the same as scan packages in application
+ * configuration).
+ * <p>
+ * Index records indexed packages and fingerprint of all top-level classes in these packages, so scanner could
+ * detect classes added into jar after indexing (e.g. compiled by other compiler or merged from other jar) and
+ * use live scan instead.
+ * <p>
+ * Processor sees only compiled classes, so on incremental compilation previous index is merged: entries for
+ * classes, which are not resolvable anymore, are removed. Processor is self-contained (depends only on jdk) and
+ * must be kept in sync with {@code ClassIndex} (index format and fingerprint calculation).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 16.10.2026
+ */
+@SupportedAnnotationTypes("*")
+@SupportedOptions({ClassIndexProcessor.ENABLED, ClassIndexProcessor.PACKAGES})
+public class ClassIndexProcessor extends AbstractProcessor {
+
+    /**
+     * Processor activation option (enabled by default, use {@code -Aguicey.index=false} to disable).
+     */
+    public static final String ENABLED = "guicey.index";
+    /**
+     * Comma-separated packages to index (all packages by default).
+     */
+    public static final String PACKAGES = "guicey.index.packages";
+
+    private static final String LOCATION = "META-INF/guicey/classes.idx";
+    private static final String COMMENT = "#";
+    private static final String PACKAGES_HEADER = "#packages=";
+    private static final String FINGERPRINT_HEADER = "#fingerprint=";
+    private static final String INVISIBLE = "!";
+    private static final String INVISIBLE_ANNOTATION =
+            "ru.vyarus.dropwizard.guice.module.installer.scanner.InvisibleForScanner";
+
+    // indexed classes
+    private final Set<String> classes = new TreeSet<>();
+    // indexed classes, invisible for scanner (required only for fingerprint)
+    private final Set<String> invisible = new TreeSet<>();
+    // all classes seen in current compilation (including not indexed)
+    private final Set<String> processed = new HashSet<>();
+    private boolean enabled;
+    private List<String> packages;
+
+    @Override
+    public synchronized void init(final ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        enabled = !"false".equalsIgnoreCase(processingEnv.getOptions().get(ENABLED));
+        packages = new ArrayList<>();
+        final String pkgs = processingEnv.getOptions().get(PACKAGES);
+        if (pkgs != null) {
+            for (String pkg : pkgs.split(",")) {
+                if (!pkg.trim().isEmpty()) {
+                    packages.add(pkg.trim());
+                }
+            }
+        }
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        if (enabled) {
+            if (roundEnv.processingOver()) {
+                writeIndex();
+            } else {
+                for (Element element : roundEnv.getRootElements()) {
+                    collect(element);
+                }
+            }
+        }
+        // never claim annotations
+        return false;
+    }
+
+    private void collect(final Element element) {
+        if (element instanceof TypeElement) {
+            final TypeElement type = (TypeElement) element;
+            final String name = processingEnv.getElementUtils().getBinaryName(type).toString();
+            processed.add(name);
+            // the same exclusions as in classpath scanner
+            if (isIndexed(name) && !isInner(type)) {
+                (isInvisible(type) ? invisible : classes).add(name);
+            }
+            for (Element member : type.getEnclosedElements()) {
+                collect(member);
+            }
+        }
+    }
+
+    private boolean isIndexed(final String name) {
+        boolean res = packages.isEmpty();
+        for (String pkg : packages) {
+            if (name.startsWith(pkg + ".")) {
+                res = true;
+                break;
+            }
+        }
+        return res;
+    }
+
+    private boolean isInner(final TypeElement type) {
+        return type.getNestingKind() != NestingKind.TOP_LEVEL && type.getKind() == ElementKind.CLASS
+                && !type.getModifiers().contains(Modifier.STATIC);
+    }
+
+    private boolean isInvisible(final TypeElement type) {
+        boolean res = false;
+        // annotation is inherited
+        for (AnnotationMirror ann : processingEnv.getElementUtils().getAllAnnotationMirrors(type)) {
+            if (((TypeElement) ann.getAnnotationType().asElement()).getQualifiedName()
+                    .contentEquals(INVISIBLE_ANNOTATION)) {
+                res = true;
+                break;
+            }
+        }
+        return res;
+    }
+
+    private void writeIndex() {
+        readPreviousIndex();
+        final Set<String> all = new TreeSet<>(classes);
+        all.addAll(invisible);
+        try {
+            final FileObject file = processingEnv.getFiler()
+                    .createResource(StandardLocation.CLASS_OUTPUT, "", LOCATION);
+            try (Writer out = new OutputStreamWriter(file.openOutputStream(), StandardCharsets.UTF_8)) {
+                out.write("# Generated by guicey class index processor\n");
+                out.write(PACKAGES_HEADER + String.join(",", packages) + '\n');
+                out.write(FINGERPRINT_HEADER + fingerprint(all) + '\n');
+                for (String name : all) {
+                    out.write(invisible.contains(name) ? INVISIBLE + name : name);
+                    out.write('\n');
+                }
+            }
+        } catch (IOException ex) {
+            // not critical: scanner will use live scan without index
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "Failed to write guicey class index: " + ex.getMessage());
+        }
+    }
+
+    /**
+     * Incremental compilation support: entries of not re-compiled classes are preserved (if classes still exist).
+     */
+    private void readPreviousIndex() {
+        try {
+            final FileObject file = processingEnv.getFiler()
+                    .getResource(StandardLocation.CLASS_OUTPUT, "", LOCATION);
+            try (InputStream in = file.openInputStream()) {
+                final BufferedReader reader =
+                        new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    line = line.trim();
+                    if (line.isEmpty() || line.startsWith(COMMENT)) {
+                        continue;
+                    }
+                    final boolean hidden = line.startsWith(INVISIBLE);
+                    final String name = hidden ? line.substring(1) : line;
+                    if (!processed.contains(name) && isIndexed(name)
+                            && processingEnv.getElementUtils().getTypeElement(name.replace('$', '.')) != null) {
+                        (hidden ? invisible : classes).add(name);
+                    }
+                }
+            }
+        } catch (IOException ignored) {
+            // no previous index
+        }
+    }
+
+    /**
+     * Must be the same as {@code ClassIndex.fingerprint()}.
+     *
+     * @param names indexed class names
+     * @return fingerprint of top-level class names
+     */
+    private static String fingerprint(final Set<String> names) {
+        final CRC32 crc = new CRC32();
+        int count = 0;
+        for (String name : names) {
+            if (!name.contains("$")) {
+                crc.update((name + '\n').getBytes(StandardCharsets.UTF_8));
+                count++;
+            }
+        }
+        return count + ":" + Long.toHexString(crc.getValue());
+    }
+}
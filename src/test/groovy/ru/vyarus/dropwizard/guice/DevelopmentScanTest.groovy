@@ -0,0 +1,127 @@
+package ru.vyarus.dropwizard.guice
+
+import io.dropwizard.Application
+import io.dropwizard.setup.Bootstrap
+import io.dropwizard.setup.Environment
+import org.junit.runners.model.Statement
+import ru.vyarus.dropwizard.guice.module.GuiceyConfigurationInfo
+import ru.vyarus.dropwizard.guice.module.installer.feature.ManagedInstaller
+import ru.vyarus.dropwizard.guice.module.installer.feature.TaskInstaller
+import ru.vyarus.dropwizard.guice.module.installer.feature.jersey.ResourceInstaller
+import ru.vyarus.dropwizard.guice.module.installer.scanner.ClasspathScanner
+import ru.vyarus.dropwizard.guice.module.installer.scanner.SharedScanCache
+import ru.vyarus.dropwizard.guice.module.installer.scanner.util.DirectoryWatchIndex
+import ru.vyarus.dropwizard.guice.support.TestConfiguration
+import ru.vyarus.dropwizard.guice.support.feature.DummyManaged
+import ru.vyarus.dropwizard.guice.support.feature.DummyResource
+import ru.vyarus.dropwizard.guice.support.feature.DummyTask
+import ru.vyarus.dropwizard.guice.support.scan.watch.WatchAnnotated
+import ru.vyarus.dropwizard.guice.support.scan.watch.WatchBase
+import ru.vyarus.dropwizard.guice.support.scan.watch.WatchChild
+import ru.vyarus.dropwizard.guice.support.scan.watch.WatchMarker
+import ru.vyarus.dropwizard.guice.test.GuiceyAppRule
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 17.10.2026
+ */
+class DevelopmentScanTest extends AbstractTest {
+
+    static final String PKG = "ru.vyarus.dropwizard.guice.support.feature"
+
+    void setup() {
+        SharedScanCache.invalidate()
+    }
+
+    void cleanup() {
+        SharedScanCache.invalidate()
+        DirectoryWatchIndex.closeAll()
+    }
+
+    def "Check watched directories restarts"() {
+
+        when: "first start"
+        GuiceyConfigurationInfo info
+        GuiceyConfigurationInfo info2
+        SharedScanCache.Entry entry
+        def installers
+        def recognition
+        boolean reused = false
+        start { GuiceyConfigurationInfo it ->
+            info = it
+            entry = SharedScanCache.get(Thread.currentThread().contextClassLoader, [PKG] as Set, false, false)
+            installers = info.getInstallersOrdered()
+            recognition = entry.getRecognition(installers)
+            // restart without changes (watched directories are still used by the first application)
+            start { info2 = it }
+            reused = entry.getRecognition(installers).is(recognition)
+        }
+        then: "extensions recognized"
+        info.getExtensions(TaskInstaller) == [DummyTask]
+        entry.getRecognitionRevision(installers) > 0
+        and: "the same extensions recognized on restart"
+        info2.getExtensions(TaskInstaller) == [DummyTask]
+        info2.getExtensions(ResourceInstaller) == [DummyResource]
+        info2.getExtensions(ManagedInstaller) == [DummyManaged]
+        and: "recognition results re-used"
+        reused
+        and: "watchers closed after applications shutdown"
+        DirectoryWatchIndex.getActiveCount() == 0
+    }
+
+    def "Check dependent classes considered changed"() {
+
+        setup: "scanner watching directory"
+        String pkg = WatchBase.package.name
+        ClasspathScanner scanner = new ClasspathScanner([pkg] as Set, true, false, null, null, null, true, null)
+        long revision = scanner.getRevision()
+
+        when: "superclass and annotation changed"
+        touch(WatchBase)
+        touch(WatchMarker)
+        Set<String> expected = [WatchBase, WatchChild, WatchMarker, WatchAnnotated]*.name as Set
+        waitFor { scanner.getChangedSince(revision).containsAll([WatchBase.name, WatchMarker.name]) }
+        then: "subclass and annotated class also changed"
+        scanner.getChangedSince(revision) == expected
+
+        when: "scanner closed"
+        scanner.close()
+        then: "watcher closed"
+        DirectoryWatchIndex.getActiveCount() == 0
+    }
+
+    private void start(Closure check) {
+        def rule = new GuiceyAppRule(App, null)
+        rule.apply({ check.call(rule.getBean(GuiceyConfigurationInfo)) } as Statement, null).evaluate()
+    }
+
+    private static void touch(Class type) {
+        File file = new File(type.getResource(type.simpleName + ".class").toURI())
+        file.setLastModified(System.currentTimeMillis() + 5000)
+    }
+
+    private static boolean waitFor(Closure<Boolean> condition) {
+        // watch service events are delivered asynchronously
+        long end = System.currentTimeMillis() + 20000
+        while (!condition.call() && System.currentTimeMillis() < end) {
+            sleep(50)
+        }
+        return condition.call()
+    }
+
+    static class App extends Application<TestConfiguration> {
+
+        @Override
+        void initialize(Bootstrap<TestConfiguration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.<TestConfiguration> builder()
+                    .enableAutoConfig(PKG)
+                    .shareScanResults()
+                    .watchScanDirectories()
+                    .build())
+        }
+
+        @Override
+        void run(TestConfiguration configuration, Environment environment) throws Exception {
+        }
+    }
+}
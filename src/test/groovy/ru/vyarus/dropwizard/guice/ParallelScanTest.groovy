@@ -0,0 +1,81 @@
+package ru.vyarus.dropwizard.guice
+
+import com.google.inject.Inject
+import io.dropwizard.Application
+import io.dropwizard.setup.Bootstrap
+import io.dropwizard.setup.Environment
+import ru.vyarus.dropwizard.guice.module.GuiceyConfigurationInfo
+import ru.vyarus.dropwizard.guice.module.installer.feature.LifeCycleInstaller
+import ru.vyarus.dropwizard.guice.module.installer.feature.ManagedInstaller
+import ru.vyarus.dropwizard.guice.module.installer.feature.TaskInstaller
+import ru.vyarus.dropwizard.guice.module.installer.feature.eager.EagerSingletonInstaller
+import ru.vyarus.dropwizard.guice.module.installer.feature.health.HealthCheckInstaller
+import ru.vyarus.dropwizard.guice.module.installer.feature.jersey.JerseyFeatureInstaller
+import ru.vyarus.dropwizard.guice.module.installer.feature.jersey.ResourceInstaller
+import ru.vyarus.dropwizard.guice.module.installer.feature.jersey.provider.JerseyProviderInstaller
+import ru.vyarus.dropwizard.guice.module.installer.feature.plugin.PluginInstaller
+import ru.vyarus.dropwizard.guice.module.jersey.debug.service.HK2DebugFeature
+import ru.vyarus.dropwizard.guice.support.TestConfiguration
+import ru.vyarus.dropwizard.guice.support.feature.*
+import ru.vyarus.dropwizard.guice.test.spock.UseGuiceyApp
+
+import static ru.vyarus.dropwizard.guice.module.context.stat.Stat.ScanClassesCount
+import static ru.vyarus.dropwizard.guice.module.context.stat.Stat.ScanLoadedClassesCount
+import static ru.vyarus.dropwizard.guice.module.context.stat.Stat.ScanWorkersCount
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 17.10.2026
+ */
+@UseGuiceyApp(App)
+class ParallelScanTest extends AbstractTest {
+
+    @Inject
+    GuiceyConfigurationInfo info
+    @Inject
+    Bootstrap bootstrap
+
+    def "Check parallel scan"() {
+
+        expect: "commands found"
+        bootstrap.getCommands().size() == 2
+        bootstrap.getCommands().find { it.class == DummyCommand }
+
+        and: "extensions recognized the same way as with classes loading"
+        info.getExtensions(TaskInstaller) == [DummyTask]
+        info.getExtensions(ResourceInstaller) == [DummyResource]
+        info.getExtensions(ManagedInstaller) == [DummyManaged]
+        info.getExtensions(LifeCycleInstaller) == [DummyLifeCycle]
+        info.getExtensions(JerseyProviderInstaller) as Set == [DummyExceptionMapper, DummyJerseyProvider, DummyOtherProvider] as Set
+        info.getExtensions(JerseyFeatureInstaller) as Set == [DummyFeature, HK2DebugFeature] as Set
+        info.getExtensions(HealthCheckInstaller) == [DummyHealthCheck]
+        info.getExtensions(EagerSingletonInstaller) == [DummyService]
+        info.getExtensions(PluginInstaller) as Set == [DummyPlugin1, DummyPlugin2, DummyPlugin3, DummyNamedPlugin1, DummyNamedPlugin2] as Set
+
+        and: "extensions registered in scan order (parallel recognition)"
+        List<Class> scanned = info.getExtensionsFromScan()
+        scanned.size() > 10
+        scanned == scanned.sort(false) { it.name }
+
+        and: "parallel scan stats recorded"
+        info.stats.count(ScanWorkersCount) == Runtime.runtime.availableProcessors()
+        info.stats.count(ScanLoadedClassesCount) == info.stats.count(ScanClassesCount)
+    }
+
+    static class App extends Application<TestConfiguration> {
+
+        @Override
+        void initialize(Bootstrap<TestConfiguration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.<TestConfiguration> builder()
+                    .enableAutoConfig("ru.vyarus.dropwizard.guice.support.feature")
+                    .searchCommands()
+                    .parallelScan()
+                    .build()
+            )
+        }
+
+        @Override
+        void run(TestConfiguration configuration, Environment environment) throws Exception {
+        }
+    }
+}
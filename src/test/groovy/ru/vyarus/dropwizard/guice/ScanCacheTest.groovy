@@ -0,0 +1,151 @@
+package ru.vyarus.dropwizard.guice
+
+import io.dropwizard.Application
+import io.dropwizard.setup.Bootstrap
+import io.dropwizard.setup.Environment
+import org.junit.Rule
+import org.junit.rules.TemporaryFolder
+import org.junit.runners.model.Statement
+import ru.vyarus.dropwizard.guice.module.GuiceyConfigurationInfo
+import ru.vyarus.dropwizard.guice.module.installer.feature.ManagedInstaller
+import ru.vyarus.dropwizard.guice.module.installer.feature.TaskInstaller
+import ru.vyarus.dropwizard.guice.module.installer.feature.jersey.ResourceInstaller
+import ru.vyarus.dropwizard.guice.support.TestConfiguration
+import ru.vyarus.dropwizard.guice.support.feature.DummyManaged
+import ru.vyarus.dropwizard.guice.support.feature.DummyResource
+import ru.vyarus.dropwizard.guice.support.feature.DummyTask
+import ru.vyarus.dropwizard.guice.test.GuiceyAppRule
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 17.10.2026
+ */
+class ScanCacheTest extends AbstractTest {
+
+    @Rule
+    TemporaryFolder temp = new TemporaryFolder()
+
+    static String cacheFile
+    static boolean analyzeClassFiles
+    static String[] excludes = new String[0]
+
+    void cleanup() {
+        analyzeClassFiles = false
+        excludes = new String[0]
+    }
+
+    def "Check scan cache"() {
+
+        setup:
+        File file = new File(temp.root, "cache/scan.properties")
+        cacheFile = file.absolutePath
+
+        when: "first start"
+        GuiceyConfigurationInfo info = start()
+        then: "cache stored"
+        file.exists()
+        Properties props = load(file)
+        props.getProperty("extension." + DummyTask.name) == TaskInstaller.name
+        props.getProperty("classes").contains(DummyTask.name)
+        info.getExtensions(TaskInstaller) == [DummyTask]
+
+        when: "start with cache"
+        long modified = file.lastModified()
+        info = start()
+        then: "the same extensions recognized"
+        info.getExtensions(TaskInstaller) == [DummyTask]
+        info.getExtensions(ResourceInstaller) == [DummyResource]
+        info.getExtensions(ManagedInstaller) == [DummyManaged]
+        and: "valid cache not re-written"
+        file.lastModified() == modified
+
+        when: "remove extension from cache"
+        props.remove("extension." + DummyTask.name)
+        file.withOutputStream { props.store(it, null) }
+        info = start()
+        then: "recognition taken from cache"
+        info.getExtensions(TaskInstaller).isEmpty()
+        info.getExtensions(ResourceInstaller) == [DummyResource]
+
+        when: "scan mode changed"
+        analyzeClassFiles = true
+        info = start()
+        then: "cache invalidated"
+        info.getExtensions(TaskInstaller) == [DummyTask]
+        load(file).getProperty("extension." + DummyTask.name) == TaskInstaller.name
+    }
+
+    def "Check corrupted cache"() {
+
+        setup:
+        File file = temp.newFile("scan.properties")
+        file.text = "fingerprint=bad\nclasses=some.NotExisting"
+        cacheFile = file.absolutePath
+
+        when: "starting with outdated cache"
+        GuiceyConfigurationInfo info = start()
+        then: "scan performed"
+        info.getExtensions(TaskInstaller) == [DummyTask]
+        load(file).getProperty("classes").contains(DummyTask.name)
+    }
+
+    def "Check filters change"() {
+
+        setup:
+        File file = temp.newFile("scan.properties")
+        cacheFile = file.absolutePath
+
+        when: "start with excluded task"
+        excludes = ["**.*Task"] as String[]
+        GuiceyConfigurationInfo info = start()
+        then: "task not recognized"
+        info.getExtensions(TaskInstaller).isEmpty()
+        load(file).getProperty("extension." + DummyTask.name) == null
+
+        when: "start without filters with the same cache"
+        excludes = new String[0]
+        info = start()
+        then: "cache invalidated"
+        info.getExtensions(TaskInstaller) == [DummyTask]
+        info.getExtensions(ResourceInstaller) == [DummyResource]
+        load(file).getProperty("extension." + DummyTask.name) == TaskInstaller.name
+
+        when: "start with filter again"
+        excludes = ["**.*Task"] as String[]
+        info = start()
+        then: "cache invalidated"
+        info.getExtensions(TaskInstaller).isEmpty()
+    }
+
+    private GuiceyConfigurationInfo start() {
+        def rule = new GuiceyAppRule(App, null)
+        GuiceyConfigurationInfo info
+        rule.apply({ info = rule.getBean(GuiceyConfigurationInfo) } as Statement, null).evaluate()
+        return info
+    }
+
+    private Properties load(File file) {
+        Properties props = new Properties()
+        file.withInputStream { props.load(it) }
+        return props
+    }
+
+    static class App extends Application<TestConfiguration> {
+
+        @Override
+        void initialize(Bootstrap<TestConfiguration> bootstrap) {
+            def builder = GuiceBundle.<TestConfiguration> builder()
+                    .enableAutoConfig("ru.vyarus.dropwizard.guice.support.feature")
+                    .scanCache(cacheFile)
+                    .scanExcludes(excludes)
+            if (analyzeClassFiles) {
+                builder.analyzeClassFiles()
+            }
+            bootstrap.addBundle(builder.build())
+        }
+
+        @Override
+        void run(TestConfiguration configuration, Environment environment) throws Exception {
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package ru.vyarus.dropwizard.guice
+
+import com.google.inject.Inject
+import io.dropwizard.Application
+import io.dropwizard.setup.Bootstrap
+import io.dropwizard.setup.Environment
+import ru.vyarus.dropwizard.guice.module.GuiceyConfigurationInfo
+import ru.vyarus.dropwizard.guice.module.context.Filters
+import ru.vyarus.dropwizard.guice.module.installer.feature.LifeCycleInstaller
+import ru.vyarus.dropwizard.guice.module.installer.feature.ManagedInstaller
+import ru.vyarus.dropwizard.guice.module.installer.feature.TaskInstaller
+import ru.vyarus.dropwizard.guice.module.installer.feature.jersey.ResourceInstaller
+import ru.vyarus.dropwizard.guice.support.TestConfiguration
+import ru.vyarus.dropwizard.guice.support.feature.DummyLifeCycle
+import ru.vyarus.dropwizard.guice.support.feature.DummyResource
+import ru.vyarus.dropwizard.guice.test.spock.UseGuiceyApp
+
+import static ru.vyarus.dropwizard.guice.module.context.stat.Stat.ScanSkippedClassesCount
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 17.10.2026
+ */
+@UseGuiceyApp(App)
+class ScanFiltersTest extends AbstractTest {
+
+    @Inject
+    GuiceyConfigurationInfo info
+
+    def "Check scan filters"() {
+
+        expect: "excluded classes not recognized"
+        info.getExtensions(TaskInstaller).isEmpty()
+        info.getExtensions(ManagedInstaller).isEmpty()
+        info.getExtensions(ResourceInstaller) == [DummyResource]
+        info.getExtensions(LifeCycleInstaller) == [DummyLifeCycle]
+
+        and: "skipped classes counted (not included and 2 excluded)"
+        info.stats.count(ScanSkippedClassesCount) == 18
+        !info.data.getItems(Filters.fromScan()).find { !it.simpleName.startsWith("Dummy") }
+    }
+
+    static class App extends Application<TestConfiguration> {
+
+        @Override
+        void initialize(Bootstrap<TestConfiguration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.<TestConfiguration> builder()
+                    .enableAutoConfig("ru.vyarus.dropwizard.guice.support.feature")
+                    .scanIncludes("**.Dummy*")
+                    .scanExcludes("**.*Task", "regex:.*\\.DummyManaged")
+                    .build()
+            )
+        }
+
+        @Override
+        void run(TestConfiguration configuration, Environment environment) throws Exception {
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package ru.vyarus.dropwizard.guice
+
+import io.dropwizard.Application
+import io.dropwizard.setup.Bootstrap
+import io.dropwizard.setup.Environment
+import org.junit.runners.model.Statement
+import ru.vyarus.dropwizard.guice.module.GuiceyConfigurationInfo
+import ru.vyarus.dropwizard.guice.module.installer.feature.ManagedInstaller
+import ru.vyarus.dropwizard.guice.module.installer.feature.TaskInstaller
+import ru.vyarus.dropwizard.guice.module.installer.feature.jersey.ResourceInstaller
+import ru.vyarus.dropwizard.guice.module.installer.scanner.SharedScanCache
+import ru.vyarus.dropwizard.guice.support.TestConfiguration
+import ru.vyarus.dropwizard.guice.support.feature.DummyManaged
+import ru.vyarus.dropwizard.guice.support.feature.DummyResource
+import ru.vyarus.dropwizard.guice.support.feature.DummyTask
+import ru.vyarus.dropwizard.guice.test.GuiceyAppRule
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 17.10.2026
+ */
+class SharedScanCacheTest extends AbstractTest {
+
+    static final String PKG = "ru.vyarus.dropwizard.guice.support.feature"
+
+    void setup() {
+        SharedScanCache.invalidate()
+    }
+
+    static String[] excludes = new String[0]
+
+    void cleanup() {
+        SharedScanCache.invalidate()
+        excludes = new String[0]
+    }
+
+    def "Check shared scan results"() {
+
+        when: "first start"
+        GuiceyConfigurationInfo info = start()
+        SharedScanCache.Entry entry = SharedScanCache.get(Thread.currentThread().contextClassLoader,
+                [PKG] as Set, false, false)
+        then: "results shared"
+        entry.classNames.contains(DummyTask.name)
+        def recognition = entry.getRecognition(info.getInstallersOrdered())
+        recognition[DummyTask.name] == TaskInstaller.name
+        info.getExtensions(TaskInstaller) == [DummyTask]
+
+        when: "second start"
+        info = start()
+        then: "the same extensions recognized"
+        info.getExtensions(TaskInstaller) == [DummyTask]
+        info.getExtensions(ResourceInstaller) == [DummyResource]
+        info.getExtensions(ManagedInstaller) == [DummyManaged]
+        and: "shared results used"
+        entry.getRecognition(info.getInstallersOrdered()).is(recognition)
+
+        when: "cache invalidated"
+        SharedScanCache.invalidate(Thread.currentThread().contextClassLoader)
+        then: "results removed"
+        SharedScanCache.get(Thread.currentThread().contextClassLoader, [PKG] as Set, false, false)
+                .classNames == null
+    }
+
+    def "Check recognition replay"() {
+
+        setup: "shared results without task"
+        GuiceyConfigurationInfo info = start()
+        SharedScanCache.invalidate()
+        SharedScanCache.Entry entry = SharedScanCache.get(Thread.currentThread().contextClassLoader, [PKG] as Set, false, false)
+        entry.setClassNames([DummyTask.name, DummyResource.name])
+        entry.setRecognition(info.getInstallersOrdered(), [(DummyResource.name): ResourceInstaller.name], 0)
+
+        when: "starting with shared results"
+        info = start()
+        then: "shared results used"
+        info.getExtensions(TaskInstaller).isEmpty()
+        info.getExtensions(ResourceInstaller) == [DummyResource]
+        info.getExtensions(ManagedInstaller).isEmpty()
+    }
+
+    def "Check filters change"() {
+
+        when: "start with excluded task"
+        excludes = ["**.*Task"] as String[]
+        GuiceyConfigurationInfo info = start()
+        then: "task not recognized"
+        info.getExtensions(TaskInstaller).isEmpty()
+        info.getExtensions(ResourceInstaller) == [DummyResource]
+
+        when: "start without filters"
+        excludes = new String[0]
+        info = start()
+        then: "results of filtered scan not used"
+        info.getExtensions(TaskInstaller) == [DummyTask]
+        info.getExtensions(ResourceInstaller) == [DummyResource]
+    }
+
+    private GuiceyConfigurationInfo start() {
+        def rule = new GuiceyAppRule(App, null)
+        GuiceyConfigurationInfo info
+        rule.apply({ info = rule.getBean(GuiceyConfigurationInfo) } as Statement, null).evaluate()
+        return info
+    }
+
+    static class App extends Application<TestConfiguration> {
+
+        @Override
+        void initialize(Bootstrap<TestConfiguration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.<TestConfiguration> builder()
+                    .enableAutoConfig(PKG)
+                    .shareScanResults()
+                    .scanExcludes(excludes)
+                    .build())
+        }
+
+        @Override
+        void run(TestConfiguration configuration, Environment environment) throws Exception {
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package ru.vyarus.dropwizard.guice.bundles
+
+import com.google.inject.AbstractModule
+import io.dropwizard.Application
+import io.dropwizard.setup.Bootstrap
+import io.dropwizard.setup.Environment
+import org.junit.runners.model.Statement
+import ru.vyarus.dropwizard.guice.AbstractTest
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.GuiceyOptions
+import ru.vyarus.dropwizard.guice.module.GuiceyConfigurationInfo
+import ru.vyarus.dropwizard.guice.module.installer.bundle.GuiceyBundle
+import ru.vyarus.dropwizard.guice.module.installer.bundle.GuiceyEnvironment
+import ru.vyarus.dropwizard.guice.module.installer.bundle.ParallelRunBundle
+import ru.vyarus.dropwizard.guice.support.TestConfiguration
+import ru.vyarus.dropwizard.guice.test.GuiceyAppRule
+
+import java.util.concurrent.CopyOnWriteArrayList
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 17.10.2026
+ */
+class ParallelBundlesRunTest extends AbstractTest {
+
+    static List<String> events = new CopyOnWriteArrayList<>()
+
+    void setup() {
+        events.clear()
+    }
+
+    def "Check parallel bundles run"() {
+
+        when: "starting app with parallel bundles"
+        GuiceyConfigurationInfo info = start(App)
+        List<Class> modules = info.getModules()
+
+        then: "independent bundles run concurrently"
+        events.indexOf("start A") < events.indexOf("end B")
+        events.indexOf("start B") < events.indexOf("end A")
+        and: "dependent bundle waits"
+        events.indexOf("start C") > events.indexOf("end A")
+        and: "sequential bundle run on main thread"
+        events.contains("S main")
+
+        and: "registrations merged in bundles registration order (A, B, S, C)"
+        modules.indexOf(AMod) < modules.indexOf(BMod)
+        modules.indexOf(BMod) < modules.indexOf(SMod)
+        modules.indexOf(SMod) < modules.indexOf(CMod)
+
+        and: "bundle times tracked"
+        info.stats.bundleRunTime(ABundle) >= 100
+        info.stats.bundleRunTime(CBundle) < info.stats.bundleRunTime(ABundle) + info.stats.bundleRunTime(BBundle)
+    }
+
+    def "Check registrations order with mixed bundles"() {
+
+        when: "starting app with sequential bundles around parallel"
+        List<Class> modules = start(OrderApp).getModules()
+
+        then: "modules registered in bundles order"
+        modules.indexOf(SMod) < modules.indexOf(BMod)
+        modules.indexOf(BMod) < modules.indexOf(S2Mod)
+        modules.indexOf(S2Mod) < modules.indexOf(AMod)
+    }
+
+    def "Check dependencies cycle"() {
+
+        when: "starting app with cycle"
+        start(CycleApp)
+
+        then: "cycle detected"
+        def ex = thrown(IllegalStateException)
+        ex.cause.message == "Bundles run dependencies cycle detected: XBundle -> YBundle -> XBundle"
+    }
+
+    def "Check bundle failure"() {
+
+        when: "starting app with failed bundle"
+        start(FailApp)
+
+        then: "bundle error propagated"
+        def ex = thrown(IllegalStateException)
+        ex.cause instanceof IllegalArgumentException
+        ex.cause.message == "bundle failed"
+    }
+
+    private static GuiceyConfigurationInfo start(Class<? extends Application> app) {
+        def rule = new GuiceyAppRule(app, null)
+        GuiceyConfigurationInfo info
+        rule.apply({ info = rule.getBean(GuiceyConfigurationInfo) } as Statement, null).evaluate()
+        return info
+    }
+
+    static class App extends Application<TestConfiguration> {
+
+        @Override
+        void initialize(Bootstrap<TestConfiguration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.<TestConfiguration> builder()
+                    .bundles(new ABundle(), new BBundle(), new SBundle(), new CBundle())
+                    .option(GuiceyOptions.BundlesRunThreads, 4)
+                    .build())
+        }
+
+        @Override
+        void run(TestConfiguration configuration, Environment environment) throws Exception {
+        }
+    }
+
+    static class OrderApp extends Application<TestConfiguration> {
+
+        @Override
+        void initialize(Bootstrap<TestConfiguration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.<TestConfiguration> builder()
+                    .bundles(new SBundle(), new BBundle(), new S2Bundle(), new ABundle())
+                    .build())
+        }
+
+        @Override
+        void run(TestConfiguration configuration, Environment environment) throws Exception {
+        }
+    }
+
+    static class CycleApp extends Application<TestConfiguration> {
+
+        @Override
+        void initialize(Bootstrap<TestConfiguration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.<TestConfiguration> builder()
+                    .bundles(new XBundle(), new YBundle())
+                    .build())
+        }
+
+        @Override
+        void run(TestConfiguration configuration, Environment environment) throws Exception {
+        }
+    }
+
+    static class FailApp extends Application<TestConfiguration> {
+
+        @Override
+        void initialize(Bootstrap<TestConfiguration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.<TestConfiguration> builder()
+                    .bundles(new FailBundle(), new CBundle(), new ABundle())
+                    .build())
+        }
+
+        @Override
+        void run(TestConfiguration configuration, Environment environment) throws Exception {
+        }
+    }
+
+    static class ABundle implements ParallelRunBundle {
+        @Override
+        void run(GuiceyEnvironment environment) {
+            events.add("start A")
+            sleep(200)
+            environment.modules(new AMod())
+            events.add("end A")
+        }
+    }
+
+    static class BBundle implements ParallelRunBundle {
+        @Override
+        void run(GuiceyEnvironment environment) {
+            events.add("start B")
+            sleep(200)
+            environment.modules(new BMod())
+            events.add("end B")
+        }
+    }
+
+    static class CBundle implements ParallelRunBundle {
+        @Override
+        List<Class<? extends GuiceyBundle>> getRunDependencies() {
+            return [ABundle]
+        }
+
+        @Override
+        void run(GuiceyEnvironment environment) {
+            events.add("start C")
+            environment.modules(new CMod())
+        }
+    }
+
+    static class SBundle implements GuiceyBundle {
+        @Override
+        void run(GuiceyEnvironment environment) {
+            if (!Thread.currentThread().name.startsWith("guicey-bundles-run")) {
+                events.add("S main")
+            }
+            environment.modules(new SMod())
+        }
+    }
+
+    static class S2Bundle implements GuiceyBundle {
+        @Override
+        void run(GuiceyEnvironment environment) {
+            environment.modules(new S2Mod())
+        }
+    }
+
+    static class XBundle implements ParallelRunBundle {
+        @Override
+        List<Class<? extends GuiceyBundle>> getRunDependencies() {
+            return [YBundle]
+        }
+    }
+
+    static class YBundle implements ParallelRunBundle {
+        @Override
+        List<Class<? extends GuiceyBundle>> getRunDependencies() {
+            return [XBundle]
+        }
+    }
+
+    static class FailBundle implements ParallelRunBundle {
+        @Override
+        void run(GuiceyEnvironment environment) {
+            throw new IllegalArgumentException("bundle failed")
+        }
+    }
+
+    static class AMod extends AbstractModule {}
+
+    static class BMod extends AbstractModule {}
+
+    static class CMod extends AbstractModule {}
+
+    static class SMod extends AbstractModule {}
+
+    static class S2Mod extends AbstractModule {}
+}
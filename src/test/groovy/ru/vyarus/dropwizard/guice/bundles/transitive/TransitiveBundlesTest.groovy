@@ -6,6 +6,7 @@ import ru.vyarus.dropwizard.guice.bundles.transitive.support.Bundle2
 import ru.vyarus.dropwizard.guice.bundles.transitive.support.Bundle3
 import ru.vyarus.dropwizard.guice.bundles.transitive.support.TransitiveBundlesApp
 import ru.vyarus.dropwizard.guice.module.GuiceyConfigurationInfo
+import ru.vyarus.dropwizard.guice.module.context.info.BundleItemInfo
 import ru.vyarus.dropwizard.guice.test.spock.UseGuiceyApp
 
 import javax.inject.Inject
@@ -29,4 +30,16 @@ class TransitiveBundlesTest extends AbstractTest {
         info.bundles.containsAll([Bundle1, Bundle2, Bundle3])
 
     }
+
+    def "Check bundles graph"() {
+
+        expect: 'registered bundles tracked'
+        BundleItemInfo bundle1 = info.data.getInfo(Bundle1)
+        bundle1.registeredBundles == [Bundle2] as Set
+        BundleItemInfo bundle2 = info.data.getInfo(Bundle2)
+        bundle2.registeredBundles == [Bundle3] as Set
+        bundle2.registeredBy == [Bundle1] as Set
+        BundleItemInfo bundle3 = info.data.getInfo(Bundle3)
+        bundle3.registeredBundles.isEmpty()
+    }
 }
\ No newline at end of file
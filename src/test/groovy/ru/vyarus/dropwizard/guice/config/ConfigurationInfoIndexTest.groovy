@@ -0,0 +1,88 @@
+package ru.vyarus.dropwizard.guice.config
+
+import com.google.inject.Inject
+import io.dropwizard.Application
+import io.dropwizard.setup.Bootstrap
+import io.dropwizard.setup.Environment
+import ru.vyarus.dropwizard.guice.AbstractTest
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.module.GuiceyConfigurationInfo
+import ru.vyarus.dropwizard.guice.module.context.ConfigItem
+import ru.vyarus.dropwizard.guice.module.context.ConfigurationInfo
+import ru.vyarus.dropwizard.guice.module.context.Filters
+import ru.vyarus.dropwizard.guice.module.installer.FeatureInstaller
+import ru.vyarus.dropwizard.guice.module.installer.bundle.GuiceyBootstrap
+import ru.vyarus.dropwizard.guice.module.installer.bundle.GuiceyBundle
+import ru.vyarus.dropwizard.guice.support.TestConfiguration
+import ru.vyarus.dropwizard.guice.support.feature.DummyManaged
+import ru.vyarus.dropwizard.guice.support.feature.DummyTask
+import ru.vyarus.dropwizard.guice.test.spock.UseGuiceyApp
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 17.10.2026
+ */
+@UseGuiceyApp(App)
+class ConfigurationInfoIndexTest extends AbstractTest {
+
+    @Inject
+    GuiceyConfigurationInfo info
+
+    def "Check indexed queries"() {
+
+        setup:
+        ConfigurationInfo data = info.data
+
+        expect: "configuration frozen after startup"
+        data.isFrozen()
+
+        and: "indexed queries are the same as filtered"
+        ConfigItem.values().each {
+            assert data.getEnabledItems(it) == data.getItems(it, Filters.enabled())
+            assert data.getDisabledItems(it) == data.getItems(it, Filters.enabled().negate())
+            assert data.getItemsFromScan(it) == data.getItems(it, Filters.enabled().and(Filters.fromScan()))
+        }
+        info.activeScopes.each {
+            assert data.getItemsByScope(it) == data.getItems(Filters.enabled().and(Filters.registeredBy(it)))
+            assert data.getItemsDisabledBy(it) == data.getItems(Filters.disabledBy(it))
+        }
+        info.installers.each {
+            assert data.getExtensionsInstalledBy(it as Class<FeatureInstaller>) ==
+                    data.getItems(ConfigItem.Extension, Filters.installedBy(it as Class<FeatureInstaller>))
+        }
+        info.getActiveScopes(false) == data.getItems { true }.collectMany { data.getInfo(it).registeredBy } as Set
+
+        and: "expected results"
+        info.getItemsByScope(XBundle).contains(DummyTask)
+        data.getItemsDisabledBy(Application) == [DummyManaged]
+        info.getExtensionsDisabled() == [DummyManaged]
+
+        when: "modifying indexed list"
+        info.getExtensions().add(Object)
+        then: "not allowed"
+        thrown(UnsupportedOperationException)
+    }
+
+    static class App extends Application<TestConfiguration> {
+
+        @Override
+        void initialize(Bootstrap<TestConfiguration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.<TestConfiguration> builder()
+                    .enableAutoConfig("ru.vyarus.dropwizard.guice.support.feature")
+                    .bundles(new XBundle())
+                    .disableExtensions(DummyManaged)
+                    .build())
+        }
+
+        @Override
+        void run(TestConfiguration configuration, Environment environment) throws Exception {
+        }
+    }
+
+    static class XBundle implements GuiceyBundle {
+        @Override
+        void initialize(GuiceyBootstrap bootstrap) {
+            bootstrap.extensions(DummyTask)
+        }
+    }
+}
@@ -44,8 +44,19 @@ class OptionsRendererTest extends Specification {
     Guicey                    (r.v.dropwizard.guice.GuiceyOptions)
         ScanPackages                   = [com.foo, com.bat]             *CUSTOM
         SearchCommands                 = false
+        AnalyzeClassFiles              = false
+        ParallelScan                   = false
+        ScanCacheFile                  = null
+        ShareScanResults               = false
+        WatchScanDirectories           = false
+        ScanIncludes                   = []
+        ScanExcludes                   = []
         UseCoreInstallers              = true
         BindConfigurationByPath        = true
+        LazyConfigurationBindings      = false
+        ParallelConfigIntrospection    = false
+        ConfigTreeCacheFile            = null
+        ReloadableConfigBindings       = false
         InjectorStage                  = PRODUCTION
         GuiceFilterRegistration        = [REQUEST]
         UseHkBridge                    = false
@@ -77,8 +88,19 @@ class OptionsRendererTest extends Specification {
     Guicey                    (r.v.dropwizard.guice.GuiceyOptions)
         ScanPackages                   = [com.foo, com.bat]             *CUSTOM
         SearchCommands                 = false
+        AnalyzeClassFiles              = false
+        ParallelScan                   = false
+        ScanCacheFile                  = null
+        ShareScanResults               = false
+        WatchScanDirectories           = false
+        ScanIncludes                   = []
+        ScanExcludes                   = []
         UseCoreInstallers              = true
         BindConfigurationByPath        = true
+        LazyConfigurationBindings      = false
+        ParallelConfigIntrospection    = false
+        ConfigTreeCacheFile            = null
+        ReloadableConfigBindings       = false
         InjectorStage                  = PRODUCTION
         GuiceFilterRegistration        = [REQUEST]
         UseHkBridge                    = false
@@ -129,8 +151,19 @@ class OptionsRendererTest extends Specification {
     Guicey                    (r.v.dropwizard.guice.GuiceyOptions)
         ScanPackages                   = [com.foo, com.bat]             *CUSTOM
         SearchCommands                 = false
+        AnalyzeClassFiles              = false
+        ParallelScan                   = false
+        ScanCacheFile                  = null
+        ShareScanResults               = false
+        WatchScanDirectories           = false
+        ScanIncludes                   = []
+        ScanExcludes                   = []
         UseCoreInstallers              = true
         BindConfigurationByPath        = true
+        LazyConfigurationBindings      = false
+        ParallelConfigIntrospection    = false
+        ConfigTreeCacheFile            = null
+        ReloadableConfigBindings       = false
         InjectorStage                  = PRODUCTION
         UseHkBridge                    = false
 
@@ -0,0 +1,124 @@
+package ru.vyarus.dropwizard.guice.config.unique
+
+import com.google.inject.AbstractModule
+import com.google.inject.Inject
+import io.dropwizard.Application
+import io.dropwizard.Configuration
+import io.dropwizard.setup.Bootstrap
+import io.dropwizard.setup.Environment
+import ru.vyarus.dropwizard.guice.AbstractTest
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.module.GuiceyConfigurationInfo
+import ru.vyarus.dropwizard.guice.module.context.info.ModuleItemInfo
+import ru.vyarus.dropwizard.guice.module.context.unique.EqualDuplicatesDetector
+import ru.vyarus.dropwizard.guice.module.installer.bundle.GuiceyBootstrap
+import ru.vyarus.dropwizard.guice.module.installer.bundle.GuiceyBundle
+import ru.vyarus.dropwizard.guice.test.spock.UseGuiceyApp
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 17.10.2026
+ */
+@UseGuiceyApp(App)
+class IndexedDuplicatesTest extends AbstractTest {
+
+    static final int COUNT = 500
+
+    @Inject
+    GuiceyConfigurationInfo info
+
+    def "Check indexed duplicates detection"() {
+
+        expect: "all unique instances registered"
+        ModuleItemInfo mod = info.data.getInfo(ParamMod)
+        with(mod) {
+            getRegistrationsByScope(Application).size() == COUNT
+            getDuplicatesByScope(Application).size() == 0
+
+            getRegistrationsByScope(MiddleBundle).size() == 1
+            getDuplicatesByScope(MiddleBundle).size() == COUNT
+        }
+
+        and: "equals-only module still detected"
+        ModuleItemInfo emod = info.data.getInfo(EqualsMod)
+        with(emod) {
+            getRegistrationsByScope(Application).size() == 2
+            getDuplicatesByScope(MiddleBundle).size() == 2
+        }
+    }
+
+    def "Check identity key resolution"() {
+
+        setup:
+        def detector = new EqualDuplicatesDetector()
+
+        expect: "default equals indexed"
+        def mod = new PlainMod()
+        detector.getIdentityKey(null, mod).is(mod)
+        and: "equals with hash code indexed"
+        def pmod = new ParamMod(1)
+        detector.getIdentityKey(null, pmod).is(pmod)
+        and: "equals without hash code not indexed"
+        detector.getIdentityKey(null, new EqualsMod(1)) == null
+    }
+
+    static class App extends Application<Configuration> {
+
+        @Override
+        void initialize(Bootstrap<Configuration> bootstrap) {
+            def modules = (0..<COUNT).collect { new ParamMod(it) }
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .modules(modules as AbstractModule[])
+                    .modules(new EqualsMod(1), new EqualsMod(2))
+                    .bundles(new MiddleBundle())
+                    .build()
+            );
+        }
+
+        @Override
+        void run(Configuration configuration, Environment environment) throws Exception {
+        }
+    }
+
+    static class MiddleBundle implements GuiceyBundle {
+        @Override
+        void initialize(GuiceyBootstrap bootstrap) {
+            // all duplicates except one
+            bootstrap.modules((0..COUNT).collect { new ParamMod(it) } as AbstractModule[])
+            bootstrap.modules(new EqualsMod(1), new EqualsMod(2))
+        }
+    }
+
+    static class PlainMod extends AbstractModule {}
+
+    static class ParamMod extends AbstractModule {
+        int param
+
+        ParamMod(int param) {
+            this.param = param
+        }
+
+        @Override
+        boolean equals(Object obj) {
+            return obj instanceof ParamMod && param == obj.param
+        }
+
+        @Override
+        int hashCode() {
+            return param
+        }
+    }
+
+    static class EqualsMod extends AbstractModule {
+        int param
+
+        EqualsMod(int param) {
+            this.param = param
+        }
+
+        @Override
+        boolean equals(Object obj) {
+            return obj instanceof EqualsMod && param == obj.param
+        }
+    }
+}
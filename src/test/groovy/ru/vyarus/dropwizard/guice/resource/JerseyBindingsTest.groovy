@@ -5,6 +5,7 @@ import io.dropwizard.Application
 import io.dropwizard.Configuration
 import io.dropwizard.setup.Bootstrap
 import io.dropwizard.setup.Environment
+import org.glassfish.hk2.api.ProxyCtl
 import org.glassfish.jersey.server.AsyncContext
 import org.glassfish.jersey.server.ContainerRequest
 import org.glassfish.jersey.server.internal.inject.MultivaluedParameterExtractorProvider
@@ -16,6 +17,7 @@ import javax.inject.Inject
 import javax.ws.rs.GET
 import javax.ws.rs.Path
 import javax.ws.rs.container.ResourceInfo
+import javax.ws.rs.core.Context
 import javax.ws.rs.core.HttpHeaders
 import javax.ws.rs.core.Request
 import javax.ws.rs.core.SecurityContext
@@ -35,6 +37,16 @@ class JerseyBindingsTest extends AbstractTest {
         new URL("http://localhost:8080/sample/").getText() == 'ok'
     }
 
+    def "Check request scoped instances"() {
+
+        when: "calling twice"
+        new URL("http://localhost:8080/sample/uri?q=1").getText()
+        def first = SampleResource.lastRequest
+        new URL("http://localhost:8080/sample/uri?q=2").getText()
+        then: "different instances, not proxies"
+        !first.is(SampleResource.lastRequest)
+    }
+
     static class App extends Application<Configuration> {
 
         @Override
@@ -51,6 +63,8 @@ class JerseyBindingsTest extends AbstractTest {
 
     @Path("/sample")
     static class SampleResource {
+        static ContainerRequest lastRequest
+
         @Inject
         Injector injector
 
@@ -72,5 +86,17 @@ class JerseyBindingsTest extends AbstractTest {
 
             return "ok"
         }
+
+        @GET
+        @Path("/uri")
+        String uri(@Context UriInfo info) {
+            [UriInfo, HttpHeaders, SecurityContext, Request, ContainerRequest].each {
+                assert !(injector.getInstance(it) instanceof ProxyCtl)
+            }
+            lastRequest = injector.getInstance(ContainerRequest)
+            assert injector.getInstance(UriInfo).requestUri == info.requestUri
+            assert lastRequest.requestUri == info.requestUri
+            return "ok"
+        }
     }
 }
\ No newline at end of file
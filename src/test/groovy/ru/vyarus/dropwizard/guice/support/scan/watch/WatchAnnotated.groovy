@@ -0,0 +1,9 @@
+package ru.vyarus.dropwizard.guice.support.scan.watch
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 17.10.2026
+ */
+@WatchMarker
+class WatchAnnotated {
+}
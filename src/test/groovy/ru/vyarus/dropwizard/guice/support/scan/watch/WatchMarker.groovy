@@ -0,0 +1,12 @@
+package ru.vyarus.dropwizard.guice.support.scan.watch
+
+import java.lang.annotation.Retention
+import java.lang.annotation.RetentionPolicy
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 17.10.2026
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@interface WatchMarker {
+}
@@ -7,6 +7,7 @@ import io.dropwizard.setup.Bootstrap
 import io.dropwizard.setup.Environment
 import ru.vyarus.dropwizard.guice.AbstractTest
 import ru.vyarus.dropwizard.guice.admin.AdminRestBundle
+import ru.vyarus.dropwizard.guice.module.context.ConfigurationContext
 import ru.vyarus.dropwizard.guice.module.installer.CoreInstallersBundle
 import ru.vyarus.dropwizard.guice.module.installer.bundle.GuiceyBootstrap
 import ru.vyarus.dropwizard.guice.module.installer.bundle.GuiceyBundle
@@ -68,6 +69,78 @@ class BundleSupportTest extends AbstractTest {
         res*.class == [CoreInstallersBundle, HK2DebugBundle, SampleConfiguredBundle]
     }
 
+    def "Check bundles initialization order"() {
+
+        setup: "context with transitive bundles"
+        List<String> order = []
+        ConfigurationContext context = new ConfigurationContext()
+        context.registerBundles(
+                new ABundle(order, new A1Bundle(order, new XBundle(order)), new A2Bundle(order)),
+                new XBundle(order),
+                new BBundle(order, new B1Bundle(order), new A1Bundle(order)))
+        context.disableBundle([XBundle] as Class[])
+
+        when: "initializing bundles"
+        BundleSupport.initBundles(context)
+
+        then: "bundles initialized by levels, only first instance of type"
+        order == ["ABundle", "BBundle", "A1Bundle", "A2Bundle", "B1Bundle"]
+    }
+
+    static abstract class OrderBundle implements GuiceyBundle {
+        List<String> order
+        GuiceyBundle[] children
+
+        OrderBundle(List<String> order, GuiceyBundle... children) {
+            this.order = order
+            this.children = children
+        }
+
+        @Override
+        void initialize(GuiceyBootstrap bootstrap) {
+            order.add(getClass().simpleName)
+            if (children.length > 0) {
+                bootstrap.bundles(children)
+            }
+        }
+    }
+
+    static class ABundle extends OrderBundle {
+        ABundle(List<String> order, GuiceyBundle... children) {
+            super(order, children)
+        }
+    }
+
+    static class A1Bundle extends OrderBundle {
+        A1Bundle(List<String> order, GuiceyBundle... children) {
+            super(order, children)
+        }
+    }
+
+    static class A2Bundle extends OrderBundle {
+        A2Bundle(List<String> order, GuiceyBundle... children) {
+            super(order, children)
+        }
+    }
+
+    static class BBundle extends OrderBundle {
+        BBundle(List<String> order, GuiceyBundle... children) {
+            super(order, children)
+        }
+    }
+
+    static class B1Bundle extends OrderBundle {
+        B1Bundle(List<String> order, GuiceyBundle... children) {
+            super(order, children)
+        }
+    }
+
+    static class XBundle extends OrderBundle {
+        XBundle(List<String> order, GuiceyBundle... children) {
+            super(order, children)
+        }
+    }
+
     static class SampleBundle implements ConfiguredBundle<Configuration>, GuiceyBundle {
         @Override
         void initialize(Bootstrap<?> bootstrap) {
@@ -0,0 +1,148 @@
+package ru.vyarus.dropwizard.guice.unit
+
+import org.junit.Rule
+import org.junit.rules.TemporaryFolder
+import ru.vyarus.dropwizard.guice.module.installer.scanner.InvisibleForScanner
+import ru.vyarus.dropwizard.guice.module.installer.scanner.index.ClassIndex
+import ru.vyarus.dropwizard.guice.module.installer.scanner.util.OReflectionHelper
+import spock.lang.Specification
+
+import javax.tools.ToolProvider
+import java.util.jar.JarEntry
+import java.util.jar.JarOutputStream
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 16.10.2026
+ */
+class ClassIndexTest extends Specification {
+
+    // processor is not available at compile time
+    static final String PROCESSOR = 'ru.vyarus.dropwizard.guice.module.installer.scanner.index.ClassIndexProcessor'
+
+    @Rule
+    TemporaryFolder temp = new TemporaryFolder()
+
+    def "Check index generation"() {
+
+        when: "compiling with index"
+        File out = compile()
+        File index = new File(out, ClassIndex.LOCATION)
+        List<ClassIndex.Section> sections = index.withInputStream { ClassIndex.parse(it) }
+
+        then: "index generated"
+        sections.size() == 1
+        sections[0].packages.isEmpty()
+        sections[0].classes as List == ['com.foo.Ext', 'com.foo.Ext$Nested', 'com.foo.sub.Other']
+        sections[0].invisible as List == ['com.foo.Inv']
+        sections[0].fingerprint == ClassIndex.fingerprint(['com.foo.Ext', 'com.foo.Inv', 'com.foo.sub.Other'])
+    }
+
+    def "Check index disabled"() {
+
+        when: "compiling with disabled index"
+        File out = compile('-Aguicey.index=false')
+
+        then: "no index"
+        !new File(out, ClassIndex.LOCATION).exists()
+    }
+
+    def "Check index used for jar scan"() {
+
+        setup: "jar with index"
+        File jar = jar(compile())
+
+        expect: "invisible class not found (filtered by index, not by loaded class check)"
+        scan(jar, 'com.foo') == ['com.foo.Ext', 'com.foo.sub.Other']
+        scan(jar, 'com.foo.sub') == ['com.foo.sub.Other']
+    }
+
+    def "Check not indexed package scanned"() {
+
+        setup: "jar with index for sub package only"
+        File jar = jar(compile('-Aguicey.index.packages=com.foo.sub'))
+
+        expect: "index used only for indexed package"
+        scan(jar, 'com.foo.sub') == ['com.foo.sub.Other']
+        scan(jar, 'com.foo') as Set == ['com.foo.Ext', 'com.foo.Inv', 'com.foo.sub.Other'] as Set
+    }
+
+    def "Check class added after indexing"() {
+
+        setup: "jar with index and not indexed class"
+        File out = compile()
+        new File(out, 'com/foo/Added.class').bytes = new File(out, 'com/foo/Ext.class').bytes
+        File jar = jar(out)
+
+        expect: "jar traversed"
+        scan(jar, 'com.foo') as Set == ['com.foo.Added', 'com.foo.Ext', 'com.foo.Inv', 'com.foo.sub.Other'] as Set
+        scan(jar, 'com.foo.sub') == ['com.foo.sub.Other']
+    }
+
+    def "Check stale index ignored"() {
+
+        setup: "jar with index, referencing not existing class"
+        File out = compile()
+        assert new File(out, 'com/foo/sub/Other.class').delete()
+        File jar = jar(out)
+
+        expect: "jar traversed"
+        scan(jar, 'com.foo') as Set == ['com.foo.Ext', 'com.foo.Inv'] as Set
+    }
+
+    def "Check merged index"() {
+
+        setup: "jar with merged index of two modules"
+        File out = compile('-Aguicey.index.packages=com.foo.sub')
+        File other = compile('-Aguicey.index.packages=com.foo')
+        File index = new File(out, ClassIndex.LOCATION)
+        index << new File(other, ClassIndex.LOCATION).text
+        File jar = jar(out)
+
+        expect: "index used"
+        index.withInputStream { ClassIndex.parse(it) }.size() == 2
+        scan(jar, 'com.foo') as Set == ['com.foo.Ext', 'com.foo.sub.Other'] as Set
+    }
+
+    private List<String> scan(File jar, String pkg) {
+        return OReflectionHelper.getClassNamesFor(pkg,
+                new URLClassLoader([jar.toURI().toURL()] as URL[], (ClassLoader) null))
+    }
+
+    private File compile(String... options) {
+        File src = temp.newFolder()
+        File out = temp.newFolder()
+        source(src, 'com/foo/Ext.java', 'package com.foo; public class Ext { public static class Nested {} public class Inner {} }')
+        source(src, 'com/foo/Inv.java', "package com.foo; @${InvisibleForScanner.name} public class Inv {}")
+        source(src, 'com/foo/sub/Other.java', 'package com.foo.sub; public interface Other {}')
+        List<String> args = ['-d', out.absolutePath, '-cp', System.getProperty('java.class.path'),
+                             '-processor', PROCESSOR]
+        args.addAll(options)
+        src.eachFileRecurse { if (it.name.endsWith('.java')) { args.add(it.absolutePath) } }
+        assert ToolProvider.systemJavaCompiler.run(null, null, null, args as String[]) == 0
+        return out
+    }
+
+    private void source(File root, String path, String content) {
+        File file = new File(root, path)
+        file.parentFile.mkdirs()
+        file.text = content
+    }
+
+    private File jar(File dir) {
+        File jar = temp.newFile()
+        new JarOutputStream(new FileOutputStream(jar)).withCloseable { out ->
+            dir.eachFileRecurse {
+                String name = dir.toPath().relativize(it.toPath()).toString().replace('\\', '/')
+                if (it.directory) {
+                    out.putNextEntry(new JarEntry(name + '/'))
+                } else {
+                    out.putNextEntry(new JarEntry(name))
+                    out.write(it.bytes)
+                }
+                out.closeEntry()
+            }
+        }
+        return jar
+    }
+}
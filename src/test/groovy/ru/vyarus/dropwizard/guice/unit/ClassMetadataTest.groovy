@@ -0,0 +1,101 @@
+package ru.vyarus.dropwizard.guice.unit
+
+import io.dropwizard.lifecycle.Managed
+import ru.vyarus.dropwizard.guice.module.installer.feature.eager.EagerSingleton
+import ru.vyarus.dropwizard.guice.module.installer.feature.plugin.Plugin
+import ru.vyarus.dropwizard.guice.module.installer.scanner.InvisibleForScanner
+import ru.vyarus.dropwizard.guice.module.installer.scanner.util.ClassMetadataReader
+import ru.vyarus.dropwizard.guice.support.feature.DummyManaged
+import ru.vyarus.dropwizard.guice.support.feature.DummyNamedPlugin1
+import ru.vyarus.dropwizard.guice.support.feature.DummyService
+import ru.vyarus.dropwizard.guice.support.feature.InvisibleResource
+import ru.vyarus.dropwizard.guice.support.feature.abstr.AbstractManaged
+import spock.lang.Specification
+
+import javax.ws.rs.Path
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 16.10.2026
+ */
+class ClassMetadataTest extends Specification {
+
+    ClassMetadataReader reader = new ClassMetadataReader(getClass().getClassLoader())
+
+    def "Check class header reading"() {
+
+        when: "reading class"
+        def meta = reader.read(DummyManaged.name)
+
+        then: "header read"
+        meta.name == DummyManaged.name
+        meta.superclassName == null
+        meta.interfaceNames.containsAll(DummyManaged.interfaces*.name)
+        !meta.abstract
+        !meta.interface
+        !meta.inner
+        meta.is(Managed)
+        !meta.is(Runnable)
+    }
+
+    def "Check annotations"() {
+
+        expect: "annotations resolved"
+        reader.read(DummyService.name).hasAnnotation(EagerSingleton)
+        !reader.read(DummyManaged.name).hasAnnotation(EagerSingleton)
+        reader.read(DummyNamedPlugin1.name).hasAnnotatedAnnotation(Plugin)
+        reader.read(InvisibleResource.name).isAnnotationPresent(InvisibleForScanner)
+        reader.read(Iface.name).isInterface()
+        reader.read(IfaceImpl.name).hasAnnotatedInterface(Path)
+        !reader.read(DummyManaged.name).hasAnnotatedInterface(Path)
+    }
+
+    def "Check abstract and inner classes"() {
+
+        expect: "abstract class is not matched"
+        reader.read(AbstractManaged.name).abstract
+        !reader.read(AbstractManaged.name).is(Managed)
+
+        and: "inner class detected"
+        reader.read(Inner.name).inner
+        !reader.read(IfaceImpl.name).inner
+    }
+
+    def "Check not existing class"() {
+
+        expect: "null for unknown class"
+        reader.read("not.existing.Clazz") == null
+    }
+
+    def "Check not readable super class"() {
+
+        setup: "reader not able to read super class"
+        def hiding = new ClassLoader(getClass().getClassLoader()) {
+            @Override
+            InputStream getResourceAsStream(String name) {
+                name == Base.name.replace('.', '/') + '.class' ? null : super.getResourceAsStream(name)
+            }
+        }
+        def meta = new ClassMetadataReader(hiding).read(Child.name)
+
+        expect: "hierarchy incomplete and inherited annotation assumed"
+        meta.superclassHierarchyIncomplete
+        meta.isAnnotationPresent(InvisibleForScanner)
+
+        and: "readable hierarchy is complete"
+        !reader.read(Child.name).superclassHierarchyIncomplete
+        !reader.read(Child.name).isAnnotationPresent(InvisibleForScanner)
+        !reader.read(DummyManaged.name).superclassHierarchyIncomplete
+    }
+
+    @Path("/")
+    static interface Iface {}
+
+    static class IfaceImpl implements Iface {}
+
+    class Inner {}
+
+    static class Base {}
+
+    static class Child extends Base {}
+}
@@ -0,0 +1,52 @@
+package ru.vyarus.dropwizard.guice.unit
+
+import ru.vyarus.dropwizard.guice.module.installer.scanner.ClassNameFilter
+import spock.lang.Specification
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 17.10.2026
+ */
+class ClassNameFilterTest extends Specification {
+
+    def "Check glob patterns"() {
+
+        expect:
+        ClassNameFilter.compile(pattern).matcher(name).matches() == res
+
+        where:
+        pattern            | name                        | res
+        "**.dto.**"        | "com.foo.dto.Bean"          | true
+        "**.dto.**"        | "com.foo.dto.sub.Bean"      | true
+        "**.dto.**"        | "com.foo.dtos.Bean"         | false
+        "**Test*"          | "com.foo.SomeTestCase"      | true
+        "**.*Test*"        | "com.foo.SomeTestCase"      | true
+        "**.*Test*"        | "com.footest.Bean"          | false
+        "com.foo.*"        | "com.foo.Bean"              | true
+        "com.foo.*"        | "com.foo.sub.Bean"          | false
+        "com.foo.Bea?"     | "com.foo.Bean"              | true
+        "com.foo.Bean"     | "com.fooxBean"              | false
+        "regex:.*\\.Be.n"  | "com.foo.Bean"              | true
+        "regex:.*\\.Be.n"  | "com.foo.Beans"             | false
+    }
+
+    def "Check filter"() {
+
+        when: "filter with includes and excludes"
+        def filter = new ClassNameFilter(["com.foo.**"] as String[], ["**.dto.**"] as String[])
+        then: "filtered"
+        filter.active
+        filter.filter(["com.foo.Bean", "com.foo.dto.Bean", "com.bar.Bean"]) == ["com.foo.Bean"]
+
+        when: "only excludes"
+        filter = new ClassNameFilter([] as String[], ["**.dto.**"] as String[])
+        then: "filtered"
+        filter.filter(["com.foo.Bean", "com.foo.dto.Bean", "com.bar.Bean"]) == ["com.foo.Bean", "com.bar.Bean"]
+
+        when: "empty filter"
+        filter = new ClassNameFilter([] as String[], [] as String[])
+        then: "not active"
+        !filter.active
+        filter.filter(["com.foo.Bean"]) == ["com.foo.Bean"]
+    }
+}
@@ -0,0 +1,82 @@
+package ru.vyarus.dropwizard.guice.unit
+
+import com.google.inject.AbstractModule
+import ru.vyarus.dropwizard.guice.module.context.ConfigurationContext
+import ru.vyarus.dropwizard.guice.support.feature.DummyManaged
+import ru.vyarus.dropwizard.guice.support.feature.DummyResource
+import ru.vyarus.dropwizard.guice.support.feature.DummyTask
+import spock.lang.Specification
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 17.10.2026
+ */
+class ContextItemsViewTest extends Specification {
+
+    def "Check enabled and disabled views"() {
+
+        setup:
+        ConfigurationContext context = new ConfigurationContext()
+
+        when: "registering extensions"
+        context.registerExtensions(DummyTask, DummyResource, DummyManaged)
+        def enabled = context.getEnabledExtensions()
+        then: "all enabled in registration order"
+        enabled == [DummyTask, DummyResource, DummyManaged]
+        context.getDisabledExtensions().isEmpty()
+        and: "snapshot reused"
+        context.getEnabledExtensions().is(enabled)
+
+        when: "modifying snapshot"
+        enabled.add(Object)
+        then: "not allowed"
+        thrown(UnsupportedOperationException)
+
+        when: "disabling registered extension"
+        context.disableExtensions([DummyResource] as Class[])
+        then: "views updated"
+        !context.getEnabledExtensions().is(enabled)
+        context.getEnabledExtensions() == [DummyTask, DummyManaged]
+        context.getDisabledExtensions() == [DummyResource]
+        !context.isExtensionEnabled(DummyResource)
+
+        when: "disabled extension registered again"
+        context.registerExtensions(DummyResource)
+        then: "still disabled"
+        context.getEnabledExtensions() == [DummyTask, DummyManaged]
+        context.getDisabledExtensions() == [DummyResource]
+    }
+
+    def "Check instance items views"() {
+
+        setup:
+        ConfigurationContext context = new ConfigurationContext()
+
+        when: "registering modules"
+        def mod = new Mod()
+        def mod2 = new Mod()
+        def other = new OtherMod()
+        context.registerModules(mod, other, mod2)
+        then: "all instances enabled"
+        context.getEnabledModules() == [mod, other, mod2]
+
+        when: "disabling module type"
+        context.disableModules([Mod] as Class[])
+        then: "all instances disabled"
+        context.getEnabledModules() == [other]
+        context.getDisabledModules() == [mod, mod2]
+
+        when: "disabling not registered module"
+        context.disableModules([NotRegisteredMod] as Class[])
+        context.finalizeConfiguration()
+        then: "disabled type appear after finalization"
+        context.getEnabledModules() == [other]
+        context.getDisabledModules() == [mod, mod2, NotRegisteredMod]
+    }
+
+    static class Mod extends AbstractModule {}
+
+    static class OtherMod extends AbstractModule {}
+
+    static class NotRegisteredMod extends AbstractModule {}
+}
@@ -0,0 +1,87 @@
+package ru.vyarus.dropwizard.guice.unit
+
+import org.junit.Rule
+import org.junit.rules.TemporaryFolder
+import ru.vyarus.dropwizard.guice.module.installer.scanner.util.DirectoryWatchIndex
+import spock.lang.Specification
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 17.10.2026
+ */
+class DirectoryWatchIndexTest extends Specification {
+
+    @Rule
+    TemporaryFolder temp = new TemporaryFolder()
+
+    void cleanup() {
+        DirectoryWatchIndex.closeAll()
+    }
+
+    def "Check directory index"() {
+
+        setup:
+        File root = temp.newFolder("com", "foo")
+        new File(root, "One.class").createNewFile()
+        new File(root, "sub").mkdir()
+        new File(root, "sub/Two.class").createNewFile()
+        new File(root, "sub/.hidden").mkdir()
+        new File(root, "sub/.hidden/Three.class").createNewFile()
+
+        when: "indexing directory"
+        DirectoryWatchIndex index = DirectoryWatchIndex.get(root, "com.foo")
+        List<String> names = []
+        long revision = DirectoryWatchIndex.collectClassNames([index], names)
+        then: "classes found"
+        names == ["com.foo.One", "com.foo.sub.Two"]
+        index.getChangedSince(revision).isEmpty()
+        index.getChangedSince(revision - 1) == null
+        DirectoryWatchIndex.get(root, "com.foo").is(index)
+
+        when: "class added"
+        new File(root, "sub/Four.class").createNewFile()
+        then: "index updated"
+        waitFor { index.classNames.contains("com.foo.sub.Four") }
+        index.getChangedSince(revision) == ["com.foo.sub.Four"] as Set
+
+        when: "directory added"
+        File other = new File(root, "other")
+        other.mkdir()
+        new File(other, "Five.class").createNewFile()
+        then: "index updated"
+        waitFor { index.classNames.contains("com.foo.other.Five") }
+
+        when: "class removed"
+        names = []
+        revision = DirectoryWatchIndex.collectClassNames([index], names)
+        new File(root, "One.class").delete()
+        then: "index updated"
+        waitFor { !index.classNames.contains("com.foo.One") }
+        index.getChangedSince(revision) == ["com.foo.One"] as Set
+
+        when: "directory removed"
+        new File(other, "Five.class").delete()
+        other.delete()
+        then: "index updated"
+        waitFor { index.classNames == ["com.foo.sub.Four", "com.foo.sub.Two"] }
+
+        when: "index released by all users"
+        DirectoryWatchIndex.release([index])
+        then: "index still used"
+        DirectoryWatchIndex.getActiveCount() == 1
+        when: "last user released"
+        DirectoryWatchIndex.release([index])
+        then: "index closed"
+        DirectoryWatchIndex.getActiveCount() == 0
+        !DirectoryWatchIndex.get(root, "com.foo").is(index)
+    }
+
+    private static boolean waitFor(Closure<Boolean> condition) {
+        // watch service events are delivered asynchronously
+        long end = System.currentTimeMillis() + 20000
+        while (!condition.call() && System.currentTimeMillis() < end) {
+            sleep(50)
+        }
+        return condition.call()
+    }
+}
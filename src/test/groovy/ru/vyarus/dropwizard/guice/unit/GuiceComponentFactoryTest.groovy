@@ -0,0 +1,93 @@
+package ru.vyarus.dropwizard.guice.unit
+
+import com.google.inject.AbstractModule
+import com.google.inject.Guice
+import com.google.inject.Injector
+import ru.vyarus.dropwizard.guice.module.jersey.support.GuiceComponentFactory
+import ru.vyarus.dropwizard.guice.module.jersey.support.LazyGuiceFactory
+import spock.lang.Specification
+
+import javax.inject.Singleton
+import java.util.function.Supplier
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 17.10.2026
+ */
+class GuiceComponentFactoryTest extends Specification {
+
+    def "Check guice provider resolved once"() {
+
+        setup:
+        Injector real = Guice.createInjector(new AbstractModule() {
+            @Override
+            protected void configure() {
+                bind(Explicit).in(Singleton)
+            }
+        })
+        Injector injector = Mock(Injector)
+
+        when: "prototype bean"
+        def factory = new GuiceComponentFactory(injector, Prototype)
+        def first = factory.get()
+        then: "new instance each time"
+        !factory.get().is(first)
+        !factory.get().is(first)
+        1 * injector.getBinding(Prototype) >> real.getBinding(Prototype)
+        0 * injector._
+
+        when: "singleton bean"
+        factory = new GuiceComponentFactory(injector, Single)
+        first = factory.get()
+        then: "the same instance"
+        factory.get().is(first)
+        first.is(real.getInstance(Single))
+        1 * injector.getBinding(Single) >> real.getBinding(Single)
+
+        when: "singleton scoped binding"
+        factory = new GuiceComponentFactory(injector, Explicit)
+        first = factory.get()
+        then: "the same instance"
+        factory.get().is(first)
+        first.is(real.getInstance(Explicit))
+        1 * injector.getBinding(Explicit) >> real.getBinding(Explicit)
+    }
+
+    def "Check lazy factory"() {
+
+        setup:
+        Injector injector = Guice.createInjector()
+
+        when: "prototype factory"
+        def factory = new LazyGuiceFactory(injector, PrototypeFactory)
+        then: "factory called each time"
+        factory.get() == 1
+        factory.get() == 1
+
+        when: "singleton factory"
+        factory = new LazyGuiceFactory(injector, SingletonFactory)
+        then: "factory called each time"
+        factory.get() == 1
+        factory.get() == 2
+        factory.toString() == "LazyGuiceFactory for class $SingletonFactory.name"
+    }
+
+    static class Prototype {}
+
+    @Singleton
+    static class Single {}
+
+    static class Explicit {}
+
+    static class PrototypeFactory implements Supplier<Integer> {
+        int cnt
+
+        @Override
+        Integer get() {
+            return ++cnt
+        }
+    }
+
+    @Singleton
+    static class SingletonFactory extends PrototypeFactory {}
+}
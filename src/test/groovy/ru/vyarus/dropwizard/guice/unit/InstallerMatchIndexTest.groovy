@@ -0,0 +1,129 @@
+package ru.vyarus.dropwizard.guice.unit
+
+import ru.vyarus.dropwizard.guice.AbstractTest
+import ru.vyarus.dropwizard.guice.module.installer.FeatureInstaller
+import ru.vyarus.dropwizard.guice.module.installer.feature.LifeCycleInstaller
+import ru.vyarus.dropwizard.guice.module.installer.feature.ManagedInstaller
+import ru.vyarus.dropwizard.guice.module.installer.feature.TaskInstaller
+import ru.vyarus.dropwizard.guice.module.installer.feature.eager.EagerSingletonInstaller
+import ru.vyarus.dropwizard.guice.module.installer.feature.health.HealthCheckInstaller
+import ru.vyarus.dropwizard.guice.module.installer.feature.jersey.JerseyFeatureInstaller
+import ru.vyarus.dropwizard.guice.module.installer.feature.jersey.ResourceInstaller
+import ru.vyarus.dropwizard.guice.module.installer.feature.jersey.provider.JerseyProviderInstaller
+import ru.vyarus.dropwizard.guice.module.installer.feature.plugin.PluginInstaller
+import ru.vyarus.dropwizard.guice.module.installer.feature.web.WebFilterInstaller
+import ru.vyarus.dropwizard.guice.module.installer.feature.web.WebServletInstaller
+import ru.vyarus.dropwizard.guice.module.installer.feature.web.listener.WebListenerInstaller
+import ru.vyarus.dropwizard.guice.module.installer.internal.InstallerMatchIndex
+import ru.vyarus.dropwizard.guice.module.installer.order.OrderComparator
+import ru.vyarus.dropwizard.guice.module.installer.scanner.ClassVisitor
+import ru.vyarus.dropwizard.guice.module.installer.scanner.ClasspathScanner
+import ru.vyarus.dropwizard.guice.module.installer.scanner.DeclarativeMatcher
+import ru.vyarus.dropwizard.guice.module.installer.scanner.MatchCriteria
+import ru.vyarus.dropwizard.guice.support.feature.DummyManaged
+import ru.vyarus.dropwizard.guice.support.feature.DummyPlugin1
+import ru.vyarus.dropwizard.guice.support.feature.DummyTask
+import ru.vyarus.dropwizard.guice.support.feature.abstr.AbstractManaged
+import spock.lang.Shared
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 17.10.2026
+ */
+class InstallerMatchIndexTest extends AbstractTest {
+
+    @Shared
+    List<Class<?>> classes = []
+
+    void setupSpec() {
+        new ClasspathScanner(["ru.vyarus.dropwizard.guice.support"] as Set).scan(new ClassVisitor() {
+            @Override
+            void visit(Class<?> type) {
+                classes.add(type)
+            }
+        })
+    }
+
+    def "Check criteria consistent with installers"() {
+
+        when: "checking all classes with installer and criteria"
+        FeatureInstaller inst = installer.newInstance()
+        MatchCriteria criteria = ((DeclarativeMatcher) inst).getMatchCriteria()
+        then: "results are the same"
+        classes.size() > 100
+        classes.findAll { inst.matches(it) } == classes.findAll { criteria.matches(it) }
+        classes.any { criteria.matches(it) }
+
+        where:
+        installer << [TaskInstaller, ManagedInstaller, LifeCycleInstaller, JerseyProviderInstaller,
+                      JerseyFeatureInstaller, HealthCheckInstaller, EagerSingletonInstaller, PluginInstaller,
+                      WebFilterInstaller, WebServletInstaller]
+    }
+
+    def "Check index consistent with installers order"() {
+
+        setup: "core installers"
+        List<Class<? extends FeatureInstaller>> types = [TaskInstaller, ManagedInstaller, LifeCycleInstaller,
+                                                         JerseyProviderInstaller, ResourceInstaller,
+                                                         JerseyFeatureInstaller, HealthCheckInstaller,
+                                                         EagerSingletonInstaller, PluginInstaller, WebFilterInstaller,
+                                                         WebServletInstaller, WebListenerInstaller]
+        types.sort(new OrderComparator())
+        List<FeatureInstaller> installers = types.collect { it.newInstance() }
+        InstallerMatchIndex index = new InstallerMatchIndex(installers)
+
+        expect: "index resolves the same installers as direct matching"
+        classes.each { type ->
+            assert index.findInstaller(type) == installers.find { it.matches(type) }
+        }
+        index.findInstaller(DummyTask) instanceof TaskInstaller
+        index.findInstaller(DummyManaged) instanceof ManagedInstaller
+        index.findInstaller(DummyPlugin1) instanceof PluginInstaller
+        index.findInstaller(AbstractManaged) == null
+    }
+
+    def "Check installers with overridden matches"() {
+
+        setup: "core installers subclasses, changing recognition"
+        List<FeatureInstaller> installers = [new NarrowedManagedInstaller(), new WidenedResourceInstaller(),
+                                             new WidenedTaskInstaller()]
+        InstallerMatchIndex index = new InstallerMatchIndex(installers)
+
+        expect: "matches method used instead of declared criteria"
+        index.findInstaller(DummyManaged) instanceof WidenedResourceInstaller
+        index.findInstaller(DummyPlugin1) instanceof WidenedTaskInstaller
+        index.findInstaller(DummyTask) instanceof WidenedTaskInstaller
+        classes.each { type ->
+            assert index.findInstaller(type) == installers.find { it.matches(type) }
+        }
+    }
+
+    def "Check empty criteria"() {
+
+        when: "building criteria without conditions"
+        MatchCriteria.builder().build()
+        then: "error"
+        thrown(IllegalStateException)
+    }
+
+    static class NarrowedManagedInstaller extends ManagedInstaller {
+        @Override
+        boolean matches(Class<?> type) {
+            type != DummyManaged && super.matches(type)
+        }
+    }
+
+    static class WidenedResourceInstaller extends ResourceInstaller {
+        @Override
+        boolean matches(Class<?> type) {
+            type == DummyManaged || super.matches(type)
+        }
+    }
+
+    static class WidenedTaskInstaller extends TaskInstaller {
+        @Override
+        boolean matches(Class<?> type) {
+            type == DummyPlugin1 || super.matches(type)
+        }
+    }
+}
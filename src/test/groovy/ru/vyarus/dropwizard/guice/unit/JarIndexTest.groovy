@@ -0,0 +1,96 @@
+package ru.vyarus.dropwizard.guice.unit
+
+import io.dropwizard.cli.Command
+import org.junit.Rule
+import org.junit.rules.TemporaryFolder
+import ru.vyarus.dropwizard.guice.module.installer.scanner.util.JarIndex
+import ru.vyarus.dropwizard.guice.module.installer.scanner.util.OReflectionHelper
+import spock.lang.Specification
+
+import java.util.jar.JarEntry
+import java.util.jar.JarOutputStream
+import java.util.zip.CRC32
+import java.util.zip.ZipEntry
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 17.10.2026
+ */
+class JarIndexTest extends Specification {
+
+    @Rule
+    TemporaryFolder temp = new TemporaryFolder()
+
+    def "Check jar index"() {
+
+        setup: "jar with classes"
+        File jar = temp.newFile('test.jar')
+        jar.bytes = jarContent(['com/foo/', 'com/foo/A.class', 'com/foo/A$1.class', 'com/foo/sub/B.class',
+                         'com/foobar/C.class', 'com/foo/res.txt'])
+
+        when: "indexing jar"
+        JarIndex index = JarIndex.open(jar)
+
+        then: "package classes found"
+        index.findClasses('com.foo') == ['com.foo.A', 'com.foo.sub.B']
+        index.findClasses('com.foo.sub') == ['com.foo.sub.B']
+        index.findClasses('com.bar') == []
+        index.contains('com/foo/res.txt')
+        !index.contains('com/foo/D.class')
+    }
+
+    def "Check real jar indexing"() {
+
+        setup: "dropwizard jar"
+        URL res = Command.getResource('Command.class')
+        File jar = new File(new URL(res.file.substring(0, res.file.indexOf('!/'))).toURI())
+
+        expect: "the same classes found as with jar traversal"
+        JarIndex.open(jar).findClasses('io.dropwizard.cli') as Set ==
+                OReflectionHelper.findJarClasses(new URL(res.toString().replace('/Command.class', '')), 'io.dropwizard.cli') as Set
+    }
+
+    def "Check nested jar"() {
+
+        setup: "fat jar with stored and compressed nested jars"
+        byte[] inner = jarContent(['com/foo/A.class', 'com/foo/B.class'])
+        File jar = temp.newFile('fat.jar')
+        new JarOutputStream(new FileOutputStream(jar)).withCloseable { out ->
+            ZipEntry stored = new JarEntry('lib/stored.jar')
+            stored.method = ZipEntry.STORED
+            stored.size = inner.length
+            CRC32 crc = new CRC32()
+            crc.update(inner)
+            stored.crc = crc.value
+            out.putNextEntry(stored)
+            out.write(inner)
+            out.closeEntry()
+            out.putNextEntry(new JarEntry('lib/compressed.jar'))
+            out.write(inner)
+            out.closeEntry()
+        }
+        JarIndex index = JarIndex.open(jar)
+
+        expect: "nested jars indexed"
+        index.nested('lib/stored.jar').findClasses('com.foo') == ['com.foo.A', 'com.foo.B']
+        index.nested('lib/compressed.jar').findClasses('com.foo') == ['com.foo.A', 'com.foo.B']
+
+        and: "nested jar url resolved"
+        OReflectionHelper.findJarClasses(new URL("jar:${jar.toURI()}!/lib/stored.jar!/com/foo"), 'com.foo', [:]) ==
+                ['com.foo.A', 'com.foo.B']
+    }
+
+    private byte[] jarContent(List<String> entries) {
+        ByteArrayOutputStream res = new ByteArrayOutputStream()
+        new JarOutputStream(res).withCloseable { out ->
+            entries.each {
+                out.putNextEntry(new JarEntry(it))
+                if (!it.endsWith('/')) {
+                    out.write(1)
+                }
+                out.closeEntry()
+            }
+        }
+        return res.toByteArray()
+    }
+}
@@ -0,0 +1,55 @@
+package ru.vyarus.dropwizard.guice.unit
+
+import ru.vyarus.dropwizard.guice.module.installer.scanner.util.ClassMetadataReader
+import ru.vyarus.dropwizard.guice.module.installer.scanner.util.OReflectionHelper
+import ru.vyarus.dropwizard.guice.module.installer.scanner.util.ParallelClassFinder
+import spock.lang.Specification
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 17.10.2026
+ */
+class ParallelClassFinderTest extends Specification {
+
+    ClassLoader loader = Thread.currentThread().getContextClassLoader()
+
+    def "Check parallel scan result is the same as sequential"() {
+
+        setup:
+        List<String> packages = ['ru.vyarus.dropwizard.guice.support.feature', 'io.dropwizard.cli']
+        ParallelClassFinder finder = new ParallelClassFinder(4)
+
+        when: "scanning directory and jar packages"
+        List<String> res = finder.findClassNames(packages, loader)
+        List<String> expected = packages.collectMany { OReflectionHelper.getClassNamesFor(it, loader) }
+
+        then: "the same classes found in sorted order"
+        res == expected.unique().sort()
+
+        when: "loading classes"
+        List<Class> classes = finder.loadClasses(res, loader)
+
+        then: "loaded in the same order"
+        classes*.name == res
+
+        cleanup:
+        finder.close()
+    }
+
+    def "Check parallel metadata reading"() {
+
+        setup:
+        ParallelClassFinder finder = new ParallelClassFinder(4)
+        ClassMetadataReader reader = new ClassMetadataReader(loader)
+        List<String> names = finder.findClassNames(['ru.vyarus.dropwizard.guice.support.feature'], loader)
+
+        when: "reading metadata"
+        finder.readMetadata(names, reader)
+
+        then: "all classes read"
+        names.every { reader.read(it) != null }
+
+        cleanup:
+        finder.close()
+    }
+}
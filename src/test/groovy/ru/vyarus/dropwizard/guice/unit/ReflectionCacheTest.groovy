@@ -0,0 +1,148 @@
+package ru.vyarus.dropwizard.guice.unit
+
+import io.dropwizard.setup.Bootstrap
+import org.junit.runners.model.Statement
+import ru.vyarus.dropwizard.guice.module.installer.feature.plugin.Plugin
+import ru.vyarus.dropwizard.guice.module.installer.order.Order
+import ru.vyarus.dropwizard.guice.module.installer.util.FeatureUtils
+import ru.vyarus.dropwizard.guice.module.installer.util.ReflectionCache
+import ru.vyarus.dropwizard.guice.support.AutoScanApplication
+import ru.vyarus.dropwizard.guice.support.feature.DummyPlugin
+import ru.vyarus.dropwizard.guice.support.feature.DummyPluginKey
+import ru.vyarus.dropwizard.guice.test.GuiceyAppRule
+import spock.lang.Specification
+
+import javax.inject.Singleton
+import java.util.function.Supplier
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 17.10.2026
+ */
+class ReflectionCacheTest extends Specification {
+
+    void setup() {
+        // other tests may not complete startup
+        releaseAll()
+    }
+
+    void cleanup() {
+        releaseAll()
+    }
+
+    def "Check cache activation"() {
+
+        expect: "not cached when inactive"
+        !ReflectionCache.isActive()
+        !ReflectionCache.get(Base).is(ReflectionCache.get(Base))
+
+        when: "cache activated"
+        ReflectionCache.activate()
+        then: "metadata cached"
+        ReflectionCache.isActive()
+        ReflectionCache.get(Base).is(ReflectionCache.get(Base))
+
+        when: "cache released"
+        ReflectionCache.release()
+        then: "not cached"
+        !ReflectionCache.isActive()
+        !ReflectionCache.get(Base).is(ReflectionCache.get(Base))
+    }
+
+    def "Check nested activations"() {
+
+        when: "cache activated twice (e.g. two applications starting)"
+        ReflectionCache.activate()
+        ReflectionCache.activate()
+        ReflectionCache.release()
+        then: "cache still active"
+        ReflectionCache.isActive()
+
+        when: "all activations released"
+        ReflectionCache.release()
+        then: "cache released"
+        !ReflectionCache.isActive()
+
+        when: "not balanced release"
+        ReflectionCache.release()
+        ReflectionCache.activate()
+        then: "cache active"
+        ReflectionCache.isActive()
+    }
+
+    def "Check metadata"() {
+
+        setup:
+        ReflectionCache.activate()
+
+        expect: "annotations resolved from hierarchy"
+        ReflectionCache.get(Base).getOrder() == 5
+        ReflectionCache.get(Child).getOrder() == 5
+        ReflectionCache.get(Overridden).getOrder() == 1
+        ReflectionCache.get(Abstract).getOrder() == Integer.MAX_VALUE
+        ReflectionCache.get(Object).getOrder() == Integer.MAX_VALUE
+        FeatureUtils.getAnnotation(Child, Order).value() == 5
+        FeatureUtils.getAnnotation(Abstract, Order) == null
+        FeatureUtils.getAnnotatedAnnotation(Child, Plugin) instanceof DummyPlugin
+
+        and: "scope annotations checked only on class"
+        ReflectionCache.get(JavaxScoped).hasScopeAnnotation(false)
+        ReflectionCache.get(JavaxScoped).hasScopeAnnotation(true)
+        !ReflectionCache.get(GuiceScoped).hasScopeAnnotation(false)
+        ReflectionCache.get(GuiceScoped).hasScopeAnnotation(true)
+        !ReflectionCache.get(Child).hasScopeAnnotation(true)
+
+        and: "generics resolved"
+        ReflectionCache.get(Sup).getGenerics().type(Supplier).generic(0) == String
+    }
+
+    def "Check cache released after startup"() {
+
+        when: "application started"
+        boolean active
+        def rule = new GuiceyAppRule(AutoScanApplication, null)
+        rule.apply({ active = ReflectionCache.isActive() } as Statement, null).evaluate()
+        then: "cache released"
+        !active
+    }
+
+    def "Check cache released without environment run"() {
+
+        when: "only bootstrap phase performed (like in check command)"
+        def app = new AutoScanApplication()
+        app.initialize(new Bootstrap(app))
+        then: "cache released"
+        !ReflectionCache.isActive()
+    }
+
+    private void releaseAll() {
+        while (ReflectionCache.isActive()) {
+            ReflectionCache.release()
+        }
+    }
+
+    @Order(5)
+    @DummyPlugin(DummyPluginKey.ONE)
+    static class Base {}
+
+    static class Child extends Base {}
+
+    @Order(1)
+    static class Overridden extends Base {}
+
+    @Order(2)
+    static abstract class Abstract {}
+
+    @Singleton
+    static class JavaxScoped {}
+
+    @com.google.inject.Singleton
+    static class GuiceScoped {}
+
+    static class Sup implements Supplier<String> {
+        @Override
+        String get() {
+            return null
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package ru.vyarus.dropwizard.guice.yaml
+
+import io.dropwizard.Application
+import io.dropwizard.Configuration
+import io.dropwizard.setup.Bootstrap
+import io.dropwizard.setup.Environment
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.module.yaml.ConfigPath
+import ru.vyarus.dropwizard.guice.module.yaml.ConfigTreeBuilder
+import ru.vyarus.dropwizard.guice.module.yaml.ConfigurationTree
+import ru.vyarus.dropwizard.guice.test.spock.UseGuiceyApp
+import ru.vyarus.dropwizard.guice.yaml.support.NotUniqueSubConfig
+import spock.lang.Specification
+
+import javax.inject.Inject
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 17.10.2026
+ */
+@UseGuiceyApp(App)
+class CompactConfigPathTest extends Specification {
+
+    @Inject
+    Bootstrap bootstrap
+
+    def "Check compact paths representation"() {
+
+        when: "building tree"
+        ConfigurationTree tree = ConfigTreeBuilder.build(bootstrap, bootstrap.configurationFactoryFactory
+                .create(NotUniqueSubConfig, bootstrap.validatorFactory.validator, bootstrap.objectMapper, "dw")
+                .build())
+        ConfigPath sub = tree.findByPath("sub1.sub")
+        then: "paths rebuilt from roots"
+        sub.path == "sub1.sub"
+        sub.lastPathLevel == "sub"
+        sub.root.path == "sub1"
+        sub != tree.findByPath("sub2.sub")
+        sub.hashCode() == "sub1.sub".hashCode()
+
+        and: "generics lists shared"
+        def lists = tree.paths.findAll { it.declaredTypeGenerics == [String] }*.declaredTypeGenerics
+        lists.size() > 1
+        lists.every { it.is(lists[0]) }
+        tree.paths.every {
+            it.declaredTypeGenerics != it.valueTypeGenerics || it.declaredTypeGenerics.is(it.valueTypeGenerics)
+        }
+
+        and: "children immutable"
+        tree.findByPath("sub1").children == [sub]
+        sub.children.isEmpty()
+
+        when: "modifying children"
+        tree.findByPath("sub1").children.add(sub)
+        then: "not allowed"
+        thrown(UnsupportedOperationException)
+    }
+
+    def "Check not relative path"() {
+
+        when: "creating path not matching root path"
+        def root = new ConfigPath(null, Object, Object, Object, [], [], "root", null, true, false)
+        def path = new ConfigPath(root, Object, String, String, [], [], "other.path", null, false, false)
+        then: "path preserved"
+        path.path == "other.path"
+        path.lastPathLevel == "path"
+        path.toString().contains("other.path")
+    }
+
+    def "Check synthetic tree retained memory"() {
+
+        when: "building large synthetic tree"
+        long before = usedMemory()
+        ConfigurationTree tree = syntheticTree(100, 10, 10)
+        long retained = usedMemory() - before
+        int count = tree.paths.size()
+        // whole tree retained size: paths with all lookup indexes
+        println "Synthetic tree of $count paths retains ${(retained / 1024) as long} KB " +
+                "(${(retained / count) as long} bytes per path)"
+        then: "tree is compact"
+        count == 11100
+        tree.findByPath("ROOT99.sub9.value9").path == "root99.sub9.value9"
+        tree.findAllByType(SubConf).size() == 1100
+        retained / count < 512
+    }
+
+    private ConfigurationTree syntheticTree(int roots, int subs, int values) {
+        List<ConfigPath> paths = []
+        roots.times { i ->
+            def root = new ConfigPath(null, Configuration, SubConf, SubConf, [], [], "root$i", null, true, false)
+            paths << root
+            List<ConfigPath> rootChildren = []
+            subs.times { j ->
+                def sub = new ConfigPath(root, SubConf, SubConf, SubConf, [], [],
+                        "root${i}.sub$j", null, true, false)
+                rootChildren << sub
+                List<ConfigPath> subChildren = []
+                values.times { k ->
+                    subChildren << new ConfigPath(sub, SubConf, List, ArrayList, [String], [String],
+                            "root${i}.sub${j}.value$k", null, false, false)
+                }
+                sub.setChildren(subChildren)
+                paths.addAll(subChildren)
+            }
+            root.setChildren(rootChildren)
+            paths.addAll(rootChildren)
+        }
+        new ConfigurationTree([Configuration], paths, [])
+    }
+
+    private long usedMemory() {
+        Runtime runtime = Runtime.getRuntime()
+        3.times {
+            System.gc()
+            sleep(50)
+        }
+        runtime.totalMemory() - runtime.freeMemory()
+    }
+
+    static class SubConf {
+    }
+
+    static class App extends Application<Configuration> {
+
+        @Override
+        void initialize(Bootstrap<Configuration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder().build())
+        }
+
+        @Override
+        void run(Configuration configuration, Environment environment) throws Exception {
+        }
+    }
+}
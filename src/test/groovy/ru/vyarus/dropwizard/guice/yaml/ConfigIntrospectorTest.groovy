@@ -0,0 +1,100 @@
+package ru.vyarus.dropwizard.guice.yaml
+
+import com.fasterxml.jackson.annotation.JsonIgnore
+import io.dropwizard.Application
+import io.dropwizard.Configuration
+import io.dropwizard.setup.Bootstrap
+import io.dropwizard.setup.Environment
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.module.yaml.ConfigIntrospector
+import ru.vyarus.dropwizard.guice.module.yaml.ConfigPath
+import ru.vyarus.dropwizard.guice.module.yaml.ConfigTreeBuilder
+import ru.vyarus.dropwizard.guice.module.yaml.ConfigurationTree
+import ru.vyarus.dropwizard.guice.test.spock.UseGuiceyApp
+import ru.vyarus.dropwizard.guice.yaml.support.ComplexConfig
+import ru.vyarus.dropwizard.guice.yaml.support.FailedGetterConfig
+import spock.lang.Specification
+
+import javax.inject.Inject
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 17.10.2026
+ */
+@UseGuiceyApp(App)
+class ConfigIntrospectorTest extends Specification {
+
+    @Inject
+    Bootstrap bootstrap
+
+    def "Check introspection model cached"() {
+
+        when: "introspecting type"
+        def introspector = new ConfigIntrospector(bootstrap.objectMapper.serializationConfig)
+        def props = introspector.getProperties(ComplexConfig)
+        then: "model reused"
+        introspector.getProperties(ComplexConfig).is(props)
+        new ConfigIntrospector(bootstrap.objectMapper.serializationConfig).getProperties(ComplexConfig).is(props)
+        introspector.getProperty(ComplexConfig, "sub").is(props.find { it.name == "sub" })
+        introspector.getProperty(ComplexConfig, "none") == null
+        !props.any { it.name == "metaClass" }
+
+        when: "different mapper configuration"
+        def mapper = bootstrap.objectMapper.copy().addMixIn(ComplexConfig, Mixin)
+        def other = new ConfigIntrospector(mapper.serializationConfig).getProperties(ComplexConfig)
+        then: "different model"
+        !other.is(props)
+        props.any { it.name == "sub" }
+        !other.any { it.name == "sub" }
+    }
+
+    def "Check tree is the same with cached model"() {
+
+        when: "building tree with clear and warm cache"
+        ConfigIntrospector.clearCache()
+        def config = create(ComplexConfig)
+        config.sub = new ComplexConfig.SubConfig(sub: "foo")
+        ConfigurationTree cold = ConfigTreeBuilder.build(bootstrap, config)
+        ConfigurationTree warm = ConfigTreeBuilder.build(bootstrap, config)
+        then: "trees are the same"
+        render(cold.paths) == render(warm.paths)
+        warm.valueByPath("sub.sub") == "foo"
+    }
+
+    def "Check failed getter ignored"() {
+
+        when: "introspecting config with failing getter"
+        ConfigurationTree res = ConfigTreeBuilder.build(bootstrap, new FailedGetterConfig())
+        then: "path skipped"
+        res.findByPath("sample") == null
+        res.findByPath("sub.sample") == null
+        res.findByPath("sub") != null
+        ConfigTreeBuilder.resolvePath(bootstrap, new FailedGetterConfig(), "sub.sample") == null
+    }
+
+    private String render(List<ConfigPath> paths) {
+        paths.collect { it.toString() }.join("\n")
+    }
+
+    private <T extends Configuration> T create(Class<T> type) {
+        bootstrap.configurationFactoryFactory
+                .create(type, bootstrap.validatorFactory.validator, bootstrap.objectMapper, "dw").build()
+    }
+
+    static abstract class Mixin {
+        @JsonIgnore
+        abstract ComplexConfig.SubConfig getSub()
+    }
+
+    static class App extends Application<Configuration> {
+
+        @Override
+        void initialize(Bootstrap<Configuration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder().build())
+        }
+
+        @Override
+        void run(Configuration configuration, Environment environment) throws Exception {
+        }
+    }
+}
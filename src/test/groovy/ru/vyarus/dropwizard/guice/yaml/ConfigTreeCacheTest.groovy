@@ -0,0 +1,304 @@
+package ru.vyarus.dropwizard.guice.yaml
+
+import com.fasterxml.jackson.databind.JavaType
+import com.fasterxml.jackson.databind.ObjectMapper
+import com.fasterxml.jackson.databind.SerializationConfig
+import com.fasterxml.jackson.databind.introspect.BasicBeanDescription
+import com.fasterxml.jackson.databind.introspect.BasicClassIntrospector
+import com.fasterxml.jackson.databind.introspect.ClassIntrospector
+import io.dropwizard.Application
+import io.dropwizard.Configuration
+import io.dropwizard.configuration.FileConfigurationSourceProvider
+import io.dropwizard.setup.Bootstrap
+import io.dropwizard.setup.Environment
+import org.junit.Rule
+import org.junit.rules.TemporaryFolder
+import org.junit.runners.model.Statement
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.GuiceyOptions
+import ru.vyarus.dropwizard.guice.module.yaml.ConfigIntrospector
+import ru.vyarus.dropwizard.guice.module.yaml.ConfigPath
+import ru.vyarus.dropwizard.guice.module.yaml.ConfigTreeBuilder
+import ru.vyarus.dropwizard.guice.module.yaml.ConfigTreeCache
+import ru.vyarus.dropwizard.guice.module.yaml.ConfigurationTree
+import ru.vyarus.dropwizard.guice.test.GuiceyAppRule
+import ru.vyarus.dropwizard.guice.test.spock.UseGuiceyApp
+import ru.vyarus.dropwizard.guice.yaml.support.ComplexConfig
+import ru.vyarus.dropwizard.guice.yaml.support.ComplexGenericCase
+import ru.vyarus.dropwizard.guice.yaml.support.FailedGetterConfig
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import javax.inject.Inject
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 17.10.2026
+ */
+@UseGuiceyApp(App)
+class ConfigTreeCacheTest extends Specification {
+
+    @Rule
+    TemporaryFolder temp = new TemporaryFolder()
+
+    @Inject
+    Bootstrap bootstrap
+
+    static String cacheFile
+    static boolean replaceProvider
+
+    @Unroll
+    def "Check tree restored from cache for #type.simpleName"() {
+
+        setup:
+        File file = new File(temp.root, "cache/tree.bin")
+        def config = create(type)
+        ConfigurationTree tree = ConfigTreeBuilder.build(bootstrap, config)
+
+        when: "first build"
+        ConfigurationTree res = ConfigTreeBuilder.build(bootstrap, config, true, false, new ConfigTreeCache(file))
+        then: "cache stored"
+        file.exists()
+        render(res) == render(tree)
+
+        when: "restoring from cache"
+        long modified = file.lastModified()
+        res = new ConfigTreeCache(file).load(bootstrap, config, tree.rootTypes)
+        then: "tree restored"
+        res != null
+        render(res) == render(tree)
+        res.paths.collect { render(it.children) } == tree.paths.collect { render(it.children) }
+        res.paths.collect { it.root?.path } == tree.paths.collect { it.root?.path }
+        res.paths.every { it.value == tree.findByPath(it.path).value }
+        res.paths.findAll { it.customType }.every { it.value.is(tree.findByPath(it.path).value) }
+        res.uniqueTypePaths*.path == tree.uniqueTypePaths*.path
+
+        and: "valid cache not re-written"
+        ConfigTreeBuilder.build(bootstrap, config, true, false, new ConfigTreeCache(file))
+        file.lastModified() == modified
+
+        where:
+        type << [Configuration, ComplexConfig, ComplexGenericCase]
+    }
+
+    def "Check cache invalidation"() {
+
+        setup:
+        File file = temp.newFile("tree.bin")
+        def config = create(ComplexConfig)
+        List<Class> roots = ConfigTreeBuilder.build(bootstrap, config, false).rootTypes
+
+        when: "corrupted cache"
+        file.text = "corrupted"
+        ConfigTreeCache cache = new ConfigTreeCache(file)
+        then: "cache ignored"
+        cache.load(bootstrap, config, roots) == null
+
+        when: "storing tree"
+        ConfigTreeBuilder.build(bootstrap, config, true, false, new ConfigTreeCache(file))
+        then: "cache valid"
+        new ConfigTreeCache(file).load(bootstrap, config, roots) != null
+
+        when: "configuration changed"
+        config.sub = new ComplexConfig.SubConfig(sub: "changed")
+        then: "cache outdated"
+        new ConfigTreeCache(file).load(bootstrap, config, roots) == null
+        ConfigTreeBuilder.build(bootstrap, config, true, false, new ConfigTreeCache(file))
+                .valueByPath("sub.sub") == "changed"
+        new ConfigTreeCache(file).load(bootstrap, config, roots).valueByPath("sub.sub") == "changed"
+    }
+
+    def "Check not serializable configuration"() {
+
+        setup:
+        File file = new File(temp.root, "tree.bin")
+        def config = new FailedGetterConfig()
+
+        when: "building tree"
+        ConfigurationTree res = ConfigTreeBuilder.build(bootstrap, config, true, false, new ConfigTreeCache(file))
+        then: "cache not used"
+        !file.exists()
+        res.findByPath("sub") != null
+    }
+
+    def "Check cache option"() {
+
+        setup:
+        File file = new File(temp.root, "app/tree.bin")
+        cacheFile = file.absolutePath
+
+        when: "starting application"
+        ConfigurationTree tree = start()
+        then: "cache stored"
+        file.exists()
+
+        when: "restarting application"
+        long modified = file.lastModified()
+        ConfigurationTree res = start()
+        then: "tree restored"
+        file.lastModified() == modified
+        // values are different instances
+        res.paths.collect { it.path + it.toStringDeclaredType() + it.toStringType() } ==
+                tree.paths.collect { it.path + it.toStringDeclaredType() + it.toStringType() }
+    }
+
+    def "Check configuration source change"() {
+
+        setup:
+        File file = new File(temp.root, "app/tree.bin")
+        cacheFile = file.absolutePath
+        File config = temp.newFile("config.yml")
+        config.text = "sub:\n  sub: first\n"
+
+        when: "starting application"
+        start(config)
+        then: "cache stored"
+        file.exists()
+
+        when: "restarting application"
+        long modified = file.lastModified()
+        ConfigurationTree res = start(config)
+        then: "tree restored"
+        file.lastModified() == modified
+        res.valueByPath("sub.sub") == "first"
+
+        when: "configuration file changed"
+        config.text = "sub:\n  sub: second\n"
+        file.setLastModified(modified - 10000)
+        res = start(config)
+        then: "cache re-written"
+        file.lastModified() != modified - 10000
+        res.valueByPath("sub.sub") == "second"
+        and: "no temp files left"
+        file.parentFile.list() as List == ["tree.bin"]
+    }
+
+    def "Check configuration source provider changed after bundle registration"() {
+
+        setup:
+        File file = new File(temp.root, "app/tree.bin")
+        cacheFile = file.absolutePath
+        replaceProvider = true
+        File config = temp.newFile("config.yml")
+        config.text = "sub:\n  sub: first\n"
+
+        when: "starting application"
+        ConfigurationTree res = start(config)
+        then: "cache not used"
+        !file.exists()
+        res.valueByPath("sub.sub") == "first"
+
+        cleanup:
+        replaceProvider = false
+    }
+
+    def "Check cache hit does not introspect configuration"() {
+
+        setup:
+        File file = new File(temp.root, "tree.bin")
+        def config = create(ComplexGenericCase)
+        List<Class> roots = ConfigTreeBuilder.build(bootstrap, config, false).rootTypes
+        ConfigTreeBuilder.build(bootstrap, config, true, false, new ConfigTreeCache(file))
+        ObjectMapper mapper = bootstrap.objectMapper
+        CountingIntrospector counter = new CountingIntrospector()
+        bootstrap.objectMapper = mapper.copy().setConfig(mapper.serializationConfig.with(counter))
+
+        when: "restoring from cache"
+        ConfigIntrospector.clearCache()
+        ConfigurationTree res = new ConfigTreeCache(file).load(bootstrap, config, roots)
+        then: "jackson introspection not used"
+        res != null
+        counter.count == 0
+
+        when: "introspecting configuration"
+        ConfigTreeBuilder.build(bootstrap, config)
+        then: "jackson introspection used"
+        counter.count > 0
+
+        when: "comparing cold introspection with cache hit"
+        long introspection = measure {
+            ConfigIntrospector.clearCache()
+            ConfigTreeBuilder.build(bootstrap, config)
+        }
+        long hit = measure {
+            ConfigIntrospector.clearCache()
+            new ConfigTreeCache(file).load(bootstrap, config, roots)
+        }
+        println "Configuration tree: introspection ${introspection / 1000} µs, cache hit ${hit / 1000} µs"
+        then: "measured"
+        introspection > 0 && hit > 0
+
+        cleanup:
+        bootstrap.objectMapper = mapper
+    }
+
+    private long measure(Closure action) {
+        // warm up and take the best time (least affected by other processes)
+        20.times { action.call() }
+        return (1..20).collect {
+            long start = System.nanoTime()
+            action.call()
+            System.nanoTime() - start
+        }.min()
+    }
+
+    private ConfigurationTree start(File config = null) {
+        def rule = new GuiceyAppRule(CachedApp, config?.absolutePath)
+        ConfigurationTree tree
+        rule.apply({ tree = rule.getBean(ConfigurationTree) } as Statement, null).evaluate()
+        return tree
+    }
+
+    private String render(ConfigurationTree tree) {
+        render(tree.paths)
+    }
+
+    private String render(List<ConfigPath> paths) {
+        paths.collect { it.toString() + " " + it.toStringType() }.join("\n")
+    }
+
+    private <T extends Configuration> T create(Class<T> type) {
+        bootstrap.configurationFactoryFactory
+                .create(type, bootstrap.validatorFactory.validator, bootstrap.objectMapper, "dw").build()
+    }
+
+    static class CountingIntrospector extends BasicClassIntrospector {
+        int count
+
+        @Override
+        BasicBeanDescription forSerialization(SerializationConfig cfg, JavaType type,
+                                              ClassIntrospector.MixInResolver r) {
+            count++
+            return super.forSerialization(cfg, type, r)
+        }
+    }
+
+    static class App extends Application<Configuration> {
+
+        @Override
+        void initialize(Bootstrap<Configuration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder().build())
+        }
+
+        @Override
+        void run(Configuration configuration, Environment environment) throws Exception {
+        }
+    }
+
+    static class CachedApp extends Application<ComplexConfig> {
+
+        @Override
+        void initialize(Bootstrap<ComplexConfig> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .option(GuiceyOptions.ConfigTreeCacheFile, cacheFile)
+                    .build())
+            if (replaceProvider) {
+                bootstrap.setConfigurationSourceProvider(new FileConfigurationSourceProvider())
+            }
+        }
+
+        @Override
+        void run(ComplexConfig configuration, Environment environment) throws Exception {
+        }
+    }
+}
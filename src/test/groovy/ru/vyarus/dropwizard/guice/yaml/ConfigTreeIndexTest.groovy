@@ -0,0 +1,93 @@
+package ru.vyarus.dropwizard.guice.yaml
+
+import io.dropwizard.Application
+import io.dropwizard.Configuration
+import io.dropwizard.server.ServerFactory
+import io.dropwizard.setup.Bootstrap
+import io.dropwizard.setup.Environment
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.module.yaml.ConfigTreeBuilder
+import ru.vyarus.dropwizard.guice.module.yaml.ConfigurationTree
+import ru.vyarus.dropwizard.guice.test.spock.UseGuiceyApp
+import ru.vyarus.dropwizard.guice.yaml.support.ComplexConfig
+import ru.vyarus.dropwizard.guice.yaml.support.NotUniqueSubConfig
+import spock.lang.Specification
+
+import javax.inject.Inject
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 17.10.2026
+ */
+@UseGuiceyApp(App)
+class ConfigTreeIndexTest extends Specification {
+
+    @Inject
+    Bootstrap bootstrap
+
+    def "Check indexed lookups consistency"() {
+
+        when:
+        def config = create(ComplexConfig)
+        config.sub = new ComplexConfig.SubConfig(sub: "foo")
+        ConfigurationTree res = ConfigTreeBuilder.build(bootstrap, config)
+        then: "path lookup is case insensitive"
+        res.paths.every { res.findByPath(it.path).is(it) && res.findByPath(it.path.toUpperCase()).is(it) }
+        res.findByPath("not.exists") == null
+        res.valueByPath("SUB.sub") == "foo"
+
+        and: "type lookups are the same as direct search"
+        [ComplexConfig.SubConfig, ComplexConfig.Parametrized, ServerFactory, Object, Serializable, String].every {
+            type ->
+                res.findAllByType(type) == res.paths.findAll {
+                    it.customType && type.isAssignableFrom(it.declaredType)
+                }
+        }
+        res.valueByType(ComplexConfig.SubConfig).is(config.sub)
+        res.valueByUniqueDeclaredType(ComplexConfig.SubConfig).is(config.sub)
+
+        and: "root lookups are the same as direct search"
+        res.findAllRootPaths() == res.paths.findAll { !it.path.contains('.') }
+        res.findAllFrom(ComplexConfig) == res.paths.findAll { it.rootDeclarationClass == ComplexConfig }
+        res.findAllRootPathsFrom(Configuration) == res.findAllRootPaths().findAll {
+            it.rootDeclarationClass == Configuration
+        }
+    }
+
+    def "Check subtree and prefix queries"() {
+
+        when:
+        def res = ConfigTreeBuilder.build(bootstrap, create(NotUniqueSubConfig))
+        then: "subtree"
+        res.findSubtree("sub1").collect { it.path } == ["sub1", "sub1.sub"]
+        res.findSubtree("SUB1.sub").collect { it.path } == ["sub1.sub"]
+        res.findSubtree("sub1.su").isEmpty()
+        res.findSubtree("server") == res.paths.findAll { it.path == "server" || it.path.startsWith("server.") }
+
+        and: "prefix"
+        res.findAllByPrefix("sub").collect { it.path } == ["sub1", "sub1.sub", "sub2", "sub2.sub", "sub3", "sub3.sub"]
+        res.findAllByPrefix("sub2.").collect { it.path } == ["sub2.sub"]
+        res.findAllByPrefix("Sub3.s").collect { it.path } == ["sub3.sub"]
+        res.findAllByPrefix("server.gz") == res.paths.findAll { it.path.startsWith("server.gz") }
+        res.findAllByPrefix("") == res.paths
+        res.findAllByPrefix("none").isEmpty()
+        res.findAllByPrefix("none.sub").isEmpty()
+    }
+
+    private <T extends Configuration> T create(Class<T> type) {
+        bootstrap.configurationFactoryFactory
+                .create(type, bootstrap.validatorFactory.validator, bootstrap.objectMapper, "dw").build()
+    }
+
+    static class App extends Application<Configuration> {
+
+        @Override
+        void initialize(Bootstrap<Configuration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder().build())
+        }
+
+        @Override
+        void run(Configuration configuration, Environment environment) throws Exception {
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package ru.vyarus.dropwizard.guice.yaml
+
+import com.google.inject.AbstractModule
+import com.google.inject.Injector
+import com.google.inject.Key
+import com.google.inject.Provides
+import com.google.inject.name.Names
+import io.dropwizard.Application
+import io.dropwizard.Configuration
+import io.dropwizard.lifecycle.Managed
+import io.dropwizard.setup.Bootstrap
+import io.dropwizard.setup.Environment
+import org.junit.runners.model.Statement
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.GuiceyOptions
+import ru.vyarus.dropwizard.guice.module.installer.install.binding.LazyBinding
+import ru.vyarus.dropwizard.guice.module.yaml.ConfigurationTree
+import ru.vyarus.dropwizard.guice.module.yaml.bind.Config
+import ru.vyarus.dropwizard.guice.module.yaml.bind.ConfigImpl
+import ru.vyarus.dropwizard.guice.support.util.GuiceRestrictedConfigBundle
+import ru.vyarus.dropwizard.guice.test.GuiceyAppRule
+import spock.lang.Specification
+
+import javax.inject.Inject
+import javax.inject.Named
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 17.10.2026
+ */
+class LazyConfigBindingsTest extends Specification {
+
+    def "Check only injected paths bound"() {
+
+        when: "starting app with lazy config bindings"
+        Injector injector = start(App)
+        then: "injected values bound"
+        Service service = injector.getInstance(Service)
+        service.value == "sample"
+        service.dep.num == 12
+        service.dep.list == [1, 2]
+        injector.getInstance(Key.get(String, Names.named("combined"))) == "sample-12"
+
+        and: "not used paths not bound"
+        injector.getExistingBinding(Key.get(String, new ConfigImpl("sub.sub"))) != null
+        injector.getExistingBinding(Key.get(String, new ConfigImpl("sub.other"))) == null
+        injector.getExistingBinding(Key.get(AppConfig.SubConfig, Config)) == null
+        injector.getExistingBinding(Key.get(AppConfig, Config)) != null
+
+        and: "tree not introspected"
+        ConfigurationTree tree = injector.getInstance(ConfigurationTree)
+        !tree.resolved
+        tree.rootTypes.contains(AppConfig)
+
+        and: "tree resolved on demand"
+        tree.findByPath("sub.other").value == "other"
+        tree.resolved
+    }
+
+    def "Check unique sub configuration injection"() {
+
+        when: "starting app with unique sub configuration injection"
+        Injector injector = start(UniqueApp)
+        then: "unique configuration bound"
+        injector.getInstance(UniqueService).config.sub == "sample"
+        injector.getInstance(ConfigurationTree).resolved
+        injector.getExistingBinding(Key.get(String, new ConfigImpl("sub.other"))) == null
+    }
+
+    def "Check lazy extension injection"() {
+
+        when: "starting app with lazy extension (not bound in modules)"
+        Injector injector = start(ExtensionApp)
+        then: "extension injections bound"
+        injector.getInstance(LazyManaged).value == "other"
+        injector.getExistingBinding(Key.get(String, new ConfigImpl("sub.other"))) != null
+        injector.getExistingBinding(Key.get(String, new ConfigImpl("sub.sub"))) == null
+    }
+
+    private Injector start(Class<? extends Application> app) {
+        def rule = new GuiceyAppRule(app, null)
+        Injector injector
+        rule.apply({ injector = rule.getInjector() } as Statement, null).evaluate()
+        return injector
+    }
+
+    static class App extends Application<AppConfig> {
+
+        @Override
+        void initialize(Bootstrap<AppConfig> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .option(GuiceyOptions.LazyConfigurationBindings, true)
+                    .modules(new Module())
+                    // just-in-time bindings required
+                    .disableBundles(GuiceRestrictedConfigBundle)
+                    .build())
+        }
+
+        @Override
+        void run(AppConfig configuration, Environment environment) throws Exception {
+        }
+    }
+
+    static class UniqueApp extends Application<AppConfig> {
+
+        @Override
+        void initialize(Bootstrap<AppConfig> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .option(GuiceyOptions.LazyConfigurationBindings, true)
+                    .modules(new AbstractModule() {
+                        @Override
+                        protected void configure() {
+                            bind(UniqueService)
+                        }
+                    })
+                    .build())
+        }
+
+        @Override
+        void run(AppConfig configuration, Environment environment) throws Exception {
+        }
+    }
+
+    static class ExtensionApp extends Application<AppConfig> {
+
+        @Override
+        void initialize(Bootstrap<AppConfig> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .option(GuiceyOptions.LazyConfigurationBindings, true)
+                    .extensions(LazyManaged)
+                    // just-in-time bindings required
+                    .disableBundles(GuiceRestrictedConfigBundle)
+                    .build())
+        }
+
+        @Override
+        void run(AppConfig configuration, Environment environment) throws Exception {
+        }
+    }
+
+    @LazyBinding
+    static class LazyManaged implements Managed {
+        @Inject
+        @Config("sub.other")
+        String value
+
+        @Override
+        void start() throws Exception {
+        }
+
+        @Override
+        void stop() throws Exception {
+        }
+    }
+
+    static class Module extends AbstractModule {
+
+        @Override
+        protected void configure() {
+            bind(Service)
+        }
+
+        @Provides
+        @Named("combined")
+        String value(@Config("sub.sub") String sub, @Config("sub.num") Integer num) {
+            return sub + "-" + num
+        }
+    }
+
+    static class Service {
+        @Inject
+        @Config("sub.sub")
+        String value
+        // not bound directly (just-in-time binding)
+        @Inject
+        Dependency dep
+    }
+
+    static class Dependency {
+        Integer num
+        List<Integer> list
+
+        @Inject
+        Dependency(@Config("sub.num") Integer num, @Config("sub.list") List<Integer> list) {
+            this.num = num
+            this.list = list
+        }
+    }
+
+    static class UniqueService {
+        @Inject
+        @Config
+        AppConfig.SubConfig config
+    }
+
+    static class AppConfig extends Configuration {
+
+        SubConfig sub = new SubConfig()
+
+        static class SubConfig {
+            String sub = 'sample'
+            String other = 'other'
+            Integer num = 12
+            List<Integer> list = [1, 2]
+        }
+    }
+}
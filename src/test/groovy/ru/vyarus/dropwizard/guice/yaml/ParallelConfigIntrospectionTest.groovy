@@ -0,0 +1,88 @@
+package ru.vyarus.dropwizard.guice.yaml
+
+import io.dropwizard.Application
+import io.dropwizard.Configuration
+import io.dropwizard.setup.Bootstrap
+import io.dropwizard.setup.Environment
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.GuiceyOptions
+import ru.vyarus.dropwizard.guice.module.context.stat.Stat
+import ru.vyarus.dropwizard.guice.module.context.stat.StatsInfo
+import ru.vyarus.dropwizard.guice.module.yaml.ConfigPath
+import ru.vyarus.dropwizard.guice.module.yaml.ConfigTreeBuilder
+import ru.vyarus.dropwizard.guice.module.yaml.ConfigurationTree
+import ru.vyarus.dropwizard.guice.test.spock.UseGuiceyApp
+import ru.vyarus.dropwizard.guice.yaml.support.ComplexConfig
+import ru.vyarus.dropwizard.guice.yaml.support.ComplexGenericCase
+import ru.vyarus.dropwizard.guice.yaml.support.NotUniqueSubConfig
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import javax.inject.Inject
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 17.10.2026
+ */
+@UseGuiceyApp(App)
+class ParallelConfigIntrospectionTest extends Specification {
+
+    @Inject
+    Bootstrap bootstrap
+    @Inject
+    ConfigurationTree tree
+    @Inject
+    StatsInfo stats
+
+    @Unroll
+    def "Check parallel introspection result is the same for #type.simpleName"() {
+
+        when: "building tree sequentially and in parallel"
+        def config = create(type)
+        ConfigurationTree seq = ConfigTreeBuilder.build(bootstrap, config, true, false)
+        ConfigurationTree par = ConfigTreeBuilder.build(bootstrap, config, true, true)
+        then: "trees are the same"
+        render(par.paths) == render(seq.paths)
+        render(par.uniqueTypePaths) == render(seq.uniqueTypePaths)
+        par.paths.collect { render(it.children) } == seq.paths.collect { render(it.children) }
+        par.paths.collect { it.root?.path } == seq.paths.collect { it.root?.path }
+
+        where:
+        type << [Configuration, ComplexConfig, ComplexGenericCase, NotUniqueSubConfig]
+    }
+
+    def "Check parallel introspection in application"() {
+
+        expect: "tree introspected"
+        tree.resolved
+        tree.findByPath("server") != null
+        tree.paths.collect { it.path + it.toStringDeclaredType() } ==
+                ConfigTreeBuilder.build(bootstrap, create(Configuration)).paths
+                        .collect { it.path + it.toStringDeclaredType() }
+        and: "time tracked"
+        stats.humanTime(Stat.ConfigTreeTime) != null
+    }
+
+    private String render(List<ConfigPath> paths) {
+        paths.collect { it.toString() }.join("\n")
+    }
+
+    private <T extends Configuration> T create(Class<T> type) {
+        bootstrap.configurationFactoryFactory
+                .create(type, bootstrap.validatorFactory.validator, bootstrap.objectMapper, "dw").build()
+    }
+
+    static class App extends Application<Configuration> {
+
+        @Override
+        void initialize(Bootstrap<Configuration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .option(GuiceyOptions.ParallelConfigIntrospection, true)
+                    .build())
+        }
+
+        @Override
+        void run(Configuration configuration, Environment environment) throws Exception {
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package ru.vyarus.dropwizard.guice.yaml
+
+import com.google.inject.AbstractModule
+import com.google.inject.Injector
+import com.google.inject.Key
+import com.google.inject.Provider
+import com.google.inject.util.Types
+import io.dropwizard.Application
+import io.dropwizard.Configuration
+import io.dropwizard.configuration.FileConfigurationSourceProvider
+import io.dropwizard.setup.Bootstrap
+import io.dropwizard.setup.Environment
+import org.junit.Rule
+import org.junit.rules.TemporaryFolder
+import org.junit.runners.model.Statement
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.GuiceyOptions
+import ru.vyarus.dropwizard.guice.module.yaml.ConfigurationTree
+import ru.vyarus.dropwizard.guice.module.yaml.bind.Config
+import ru.vyarus.dropwizard.guice.module.yaml.bind.ConfigImpl
+import ru.vyarus.dropwizard.guice.module.yaml.reload.ConfigTreeDiff
+import ru.vyarus.dropwizard.guice.module.yaml.reload.ConfigurationReloadEvent
+import ru.vyarus.dropwizard.guice.module.yaml.reload.ConfigurationReloadTask
+import ru.vyarus.dropwizard.guice.module.yaml.reload.ReloadableConfiguration
+import ru.vyarus.dropwizard.guice.support.util.GuiceRestrictedConfigBundle
+import ru.vyarus.dropwizard.guice.test.GuiceyAppRule
+import spock.lang.Specification
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 17.10.2026
+ */
+class ReloadableConfigurationTest extends Specification {
+
+    @Rule
+    TemporaryFolder temp = new TemporaryFolder()
+
+    static boolean lazy
+
+    void cleanup() {
+        lazy = false
+    }
+
+    def "Check configuration reload"() {
+
+        setup:
+        File file = temp.newFile("config.yml")
+        file.text = config("sample", 1)
+
+        expect: "reload works"
+        run(file) { Injector injector ->
+            ReloadableConfiguration reloadable = injector.getInstance(ReloadableConfiguration)
+            Provider<String> value = injector.getProvider(Key.get(String, new ConfigImpl("sub.value")))
+            Provider<Integer> num = injector.getProvider(Key.get(Integer, new ConfigImpl("sub.num")))
+            Provider<AppConfig.Sub> sub = injector.getProvider(Key.get(AppConfig.Sub, Config))
+            List<ConfigurationReloadEvent> valueEvents = []
+            List<ConfigurationReloadEvent> subEvents = []
+            List<ConfigurationReloadEvent> otherEvents = []
+            reloadable.listen({ valueEvents << it }, "sub.value")
+            reloadable.listen({ subEvents << it }, "sub")
+            reloadable.listen({ otherEvents << it }, "other")
+
+            assert reloadable.configurationPath == file.absolutePath
+            assert value.get() == "sample"
+            assert num.get() == 1
+
+            // same config
+            assert reloadable.reload().isEmpty()
+            assert valueEvents.isEmpty()
+
+            // change value
+            def old = injector.getInstance(AppConfig)
+            file.text = config("changed", 1)
+            assert reloadable.reload() == ["sub", "sub.value"]
+            assert value.get() == "changed"
+            assert num.get() == 1
+            assert sub.get().value == "changed"
+            assert !injector.getInstance(AppConfig).is(old)
+            assert injector.getInstance(Key.get(AppConfig, Config)).sub.value == "changed"
+            assert injector.getInstance(ConfigurationTree).valueByPath("sub.value") == "changed"
+            assert valueEvents.size() == 1
+            assert valueEvents[0].changedPaths == ["sub", "sub.value"]
+            assert valueEvents[0].previousConfiguration.is(old)
+            assert valueEvents[0].previousConfigurationTree.valueByPath("sub.value") == "sample"
+            assert subEvents.size() == 1
+            assert otherEvents.isEmpty()
+
+            // change other value with task
+            file.text = config("changed", 2)
+            def out = new StringWriter()
+            new ConfigurationReloadTask(reloadable).execute([:], new PrintWriter(out))
+            assert out.toString().contains("changed paths: 2")
+            assert out.toString().contains("sub.num")
+            assert num.get() == 2
+            assert valueEvents.size() == 1
+            assert subEvents.size() == 2
+
+            // file parameter not supported
+            File other = temp.newFile("other.yml")
+            other.text = config("other", 3)
+            out = new StringWriter()
+            new ConfigurationReloadTask(reloadable).execute([file: [other.absolutePath]], new PrintWriter(out))
+            assert out.toString().contains("Configuration not changed")
+            assert value.get() == "changed"
+
+            // error details not shown
+            file.text = "sub: [secret"
+            try {
+                new ConfigurationReloadTask(reloadable).execute([:], new PrintWriter(new StringWriter()))
+                assert false
+            } catch (IllegalStateException ex) {
+                assert ex.message == "Configuration reload failed (see application log for details)"
+                assert ex.cause == null
+            }
+            assert value.get() == "changed"
+            true
+        }
+    }
+
+    def "Check lazy mode reload"() {
+
+        setup:
+        lazy = true
+        File file = temp.newFile("config.yml")
+        file.text = config("sample", 1)
+
+        expect: "reload works"
+        run(file) { Injector injector ->
+            ReloadableConfiguration reloadable = injector.getInstance(ReloadableConfiguration)
+            Service service = injector.getInstance(Service)
+            assert service.value.get() == "sample"
+            assert injector.getExistingBinding(Key.get(Integer, new ConfigImpl("sub.num"))) == null
+
+            file.text = config("changed", 1)
+            assert reloadable.reload() == ["sub", "sub.value"]
+            assert service.value.get() == "changed"
+            true
+        }
+    }
+
+    def "Check changes detection"() {
+
+        setup:
+        File file = temp.newFile("config.yml")
+        file.text = config("sample", 1, ["a", "b"])
+
+        expect: "changes detected"
+        run(file) { Injector injector ->
+            ReloadableConfiguration reloadable = injector.getInstance(ReloadableConfiguration)
+            ConfigurationTree tree = reloadable.configurationTree
+            assert ConfigTreeDiff.changedPaths(injector.getInstance(Bootstrap).objectMapper, tree, tree).isEmpty()
+
+            file.text = config("sample", 1, ["a", "c"])
+            assert reloadable.reload() == ["list"]
+            assert injector.getInstance(Key.get(Types.listOf(String), new ConfigImpl("list"))) ==
+                    ["a", "c"]
+
+            file.text = config("sample", 1, ["a", "c"]).replace("sub:\n  value: sample\n  num: 1\n", "")
+            assert reloadable.reload() == ["sub", "sub.num", "sub.value"]
+            assert injector.getInstance(Key.get(AppConfig.Sub, Config)) == null
+            true
+        }
+    }
+
+    def "Check reload with changed source provider"() {
+
+        setup:
+        File file = temp.newFile("config.yml")
+        file.text = config("sample", 1)
+
+        expect: "reload fails instead of default configuration usage"
+        run(file) { Injector injector ->
+            ReloadableConfiguration reloadable = injector.getInstance(ReloadableConfiguration)
+            injector.getInstance(Bootstrap).setConfigurationSourceProvider(new FileConfigurationSourceProvider())
+            file.text = config("changed", 1)
+            try {
+                reloadable.reload()
+                assert false
+            } catch (IllegalStateException ex) {
+                assert ex.message.startsWith("Configuration can't be reloaded: configuration source provider " +
+                        "was changed")
+            }
+            assert reloadable.configurationTree.valueByPath("sub.value") == "sample"
+            true
+        }
+    }
+
+    def "Check reload without configuration file"() {
+
+        expect: "reload fails instead of default configuration usage"
+        run(null) { Injector injector ->
+            ReloadableConfiguration reloadable = injector.getInstance(ReloadableConfiguration)
+            assert reloadable.configurationPath == null
+            try {
+                reloadable.reload()
+                assert false
+            } catch (IllegalStateException ex) {
+                assert ex.message == "Configuration can't be reloaded: application was started without " +
+                        "configuration file"
+            }
+            true
+        }
+    }
+
+    private void run(File file, Closure<Boolean> check) {
+        def rule = new GuiceyAppRule(App, file?.absolutePath)
+        boolean res = false
+        rule.apply({ res = check.call(rule.getInjector()) } as Statement, null).evaluate()
+        assert res
+    }
+
+    private String config(String value, int num, List<String> list = []) {
+        """sub:
+  value: $value
+  num: $num
+list: [${list.join(', ')}]
+"""
+    }
+
+    static class App extends Application<AppConfig> {
+
+        @Override
+        void initialize(Bootstrap<AppConfig> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .option(GuiceyOptions.ReloadableConfigBindings, true)
+                    .option(GuiceyOptions.LazyConfigurationBindings, lazy)
+                    .modules(new AbstractModule() {
+                        @Override
+                        protected void configure() {
+                            bind(Service)
+                        }
+                    })
+                    // just-in-time bindings required
+                    .disableBundles(GuiceRestrictedConfigBundle)
+                    .build())
+        }
+
+        @Override
+        void run(AppConfig configuration, Environment environment) throws Exception {
+        }
+    }
+
+    static class Service {
+        @javax.inject.Inject
+        @Config("sub.value")
+        Provider<String> value
+    }
+
+    static class AppConfig extends Configuration {
+        Sub sub
+        List<String> list
+        String other
+
+        static class Sub {
+            String value
+            Integer num
+        }
+    }
+}